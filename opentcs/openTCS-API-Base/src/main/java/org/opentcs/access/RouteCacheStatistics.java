@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access;
+
+import java.io.Serializable;
+
+/**
+ * Represents the current state of a router's route cache.
+ *
+ * @author agent (agent@local)
+ */
+public class RouteCacheStatistics
+    implements Serializable {
+
+  /**
+   * The number of route lookups answered from the cache.
+   */
+  private final long hitCount;
+  /**
+   * The number of route lookups that required the route to be computed.
+   */
+  private final long missCount;
+  /**
+   * The number of routes currently in the cache.
+   */
+  private final int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param hitCount The number of route lookups answered from the cache.
+   * @param missCount The number of route lookups that required the route to be computed.
+   * @param size The number of routes currently in the cache.
+   */
+  public RouteCacheStatistics(long hitCount, long missCount, int size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.size = size;
+  }
+
+  /**
+   * Returns the number of route lookups answered from the cache.
+   *
+   * @return The number of route lookups answered from the cache.
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of route lookups that required the route to be computed.
+   *
+   * @return The number of route lookups that required the route to be computed.
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of routes currently in the cache.
+   *
+   * @return The number of routes currently in the cache.
+   */
+  public int getSize() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "RouteCacheStatistics{"
+        + "hitCount=" + hitCount
+        + ", missCount=" + missCount
+        + ", size=" + size
+        + '}';
+  }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.access;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nonnull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * A histogram of the times allocations had to wait for a resource.
+ * <p>
+ * Waiting times are counted in buckets with fixed upper bounds (exclusive, in ms), plus one bucket
+ * for waiting times exceeding the greatest bound.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class WaitingTimeHistogram
+    implements Serializable {
+
+  /**
+   * The upper bounds (exclusive, in ms) of the buckets.
+   */
+  private final long[] bucketUpperBounds;
+  /**
+   * The number of waiting times per bucket.
+   */
+  private final long[] bucketCounts;
+  /**
+   * The total of all waiting times (in ms).
+   */
+  private final long totalWaitingTime;
+  /**
+   * The longest waiting time (in ms).
+   */
+  private final long maxWaitingTime;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param bucketUpperBounds The upper bounds (exclusive, in ms) of the buckets, not including the
+   * last bucket, which has no upper bound.
+   * @param bucketCounts The number of waiting times per bucket. Must have one element more than
+   * the upper bounds.
+   * @param totalWaitingTime The total of all waiting times (in ms).
+   * @param maxWaitingTime The longest waiting time (in ms).
+   */
+  public WaitingTimeHistogram(@Nonnull long[] bucketUpperBounds,
+                              @Nonnull long[] bucketCounts,
+                              long totalWaitingTime,
+                              long maxWaitingTime) {
+    requireNonNull(bucketUpperBounds, "bucketUpperBounds");
+    requireNonNull(bucketCounts, "bucketCounts");
+    checkArgument(bucketCounts.length == bucketUpperBounds.length + 1,
+                  "%s bucket counts for %s upper bounds",
+                  bucketCounts.length,
+                  bucketUpperBounds.length);
+
+    this.bucketUpperBounds = Arrays.copyOf(bucketUpperBounds, bucketUpperBounds.length);
+    this.bucketCounts = Arrays.copyOf(bucketCounts, bucketCounts.length);
+    this.totalWaitingTime = totalWaitingTime;
+    this.maxWaitingTime = maxWaitingTime;
+  }
+
+  /**
+   * Returns the upper bounds (exclusive, in ms) of the buckets.
+   * The last bucket, which has no upper bound, is not included.
+   *
+   * @return The upper bounds of the buckets.
+   */
+  @Nonnull
+  public long[] getBucketUpperBounds() {
+    return Arrays.copyOf(bucketUpperBounds, bucketUpperBounds.length);
+  }
+
+  /**
+   * Returns the number of waiting times recorded per bucket.
+   *
+   * @return The number of waiting times recorded per bucket.
+   */
+  @Nonnull
+  public long[] getBucketCounts() {
+    return Arrays.copyOf(bucketCounts, bucketCounts.length);
+  }
+
+  /**
+   * Returns the number of waiting times recorded.
+   *
+   * @return The number of waiting times recorded.
+   */
+  public long getCount() {
+    return Arrays.stream(bucketCounts).sum();
+  }
+
+  /**
+   * Returns the mean waiting time (in ms).
+   *
+   * @return The mean waiting time, or 0, if no waiting times have been recorded.
+   */
+  public long getMeanWaitingTime() {
+    long count = getCount();
+    return count == 0 ? 0 : totalWaitingTime / count;
+  }
+
+  /**
+   * Returns the longest waiting time (in ms).
+   *
+   * @return The longest waiting time.
+   */
+  public long getMaxWaitingTime() {
+    return maxWaitingTime;
+  }
+
+  @Override
+  public String toString() {
+    return "WaitingTimeHistogram{"
+        + "bucketUpperBounds=" + Arrays.toString(bucketUpperBounds)
+        + ", bucketCounts=" + Arrays.toString(bucketCounts)
+        + ", meanWaitingTime=" + getMeanWaitingTime()
+        + ", maxWaitingTime=" + maxWaitingTime
+        + '}';
+  }
+}
@@ -9,6 +9,8 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.Map;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.data.TCSObjectReference;
@@ -38,4 +40,10 @@ public interface RemoteRouterService
 
   public void updateRoutingTopology(ClientID clientId)
       throws RemoteException;
+
+  public RouteCacheStatistics fetchRouteCacheStatistics(ClientID clientId)
+      throws RemoteException;
+
+  public Map<Integer, Long> fetchRoutingTableCreationTimes(ClientID clientId)
+      throws RemoteException;
 }
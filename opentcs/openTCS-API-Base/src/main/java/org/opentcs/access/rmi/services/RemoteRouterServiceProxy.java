@@ -8,7 +8,9 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.Map;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.components.kernel.services.RouterService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
@@ -49,4 +51,30 @@ class RemoteRouterServiceProxy
       throw findSuitableExceptionFor(ex);
     }
   }
+
+  @Override
+  public RouteCacheStatistics fetchRouteCacheStatistics()
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchRouteCacheStatistics(getClientId());
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public Map<Integer, Long> fetchRoutingTableCreationTimes()
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchRoutingTableCreationTimes(getClientId());
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
 }
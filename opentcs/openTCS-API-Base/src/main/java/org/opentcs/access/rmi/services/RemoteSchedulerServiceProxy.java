@@ -8,8 +8,10 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.Map;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SchedulerAllocationState;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.components.kernel.services.SchedulerService;
 
 /**
@@ -34,4 +36,17 @@ class RemoteSchedulerServiceProxy
       throw findSuitableExceptionFor(ex);
     }
   }
+
+  @Override
+  public Map<String, WaitingTimeHistogram> fetchWaitingTimeHistograms()
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchWaitingTimeHistograms(getClientId());
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
 }
@@ -12,6 +12,7 @@ import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
@@ -51,6 +52,22 @@ public interface RemoteTCSObjectService
                                                Predicate<? super T> predicate)
       throws RemoteException;
 
+  <T extends TCSObject<T>, K> Set<T> fetchObjects(ClientID clientId,
+                                                  ObjectIndex<T, K> index,
+                                                  K key)
+      throws RemoteException;
+
+  /**
+   * Returns all objects of a consistent snapshot.
+   *
+   * @param clientId The calling client's ID.
+   * @return All objects of a consistent snapshot.
+   * @throws RemoteException If there was an RMI-related problem.
+   * @see TCSObjectService#fetchSnapshot()
+   */
+  Set<TCSObject<?>> fetchSnapshot(ClientID clientId)
+      throws RemoteException;
+
   void updateObjectProperty(ClientID clientId,
                             TCSObjectReference<?> ref,
                             String key,
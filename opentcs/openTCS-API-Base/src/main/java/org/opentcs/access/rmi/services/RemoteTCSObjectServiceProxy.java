@@ -8,10 +8,16 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
@@ -80,6 +86,37 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjects(ObjectIndex<T, K> index, K key)
+      throws KernelRuntimeException {
+    requireNonNull(index, "index");
+    // Key functions are never sent to the kernel. Queries for other indexes are answered here.
+    if (!ObjectIndex.isStandardIndex(index)) {
+      return TCSObjectService.super.fetchObjects(index, key);
+    }
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchObjects(getClientId(), index, key);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
+  @Override
+  public TCSObjectSnapshot fetchSnapshot()
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return new TransferredSnapshot(getRemoteService().fetchSnapshot(getClientId()));
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref, String key, String value)
@@ -93,4 +130,62 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
       throw findSuitableExceptionFor(ex);
     }
   }
+
+  /**
+   * A snapshot of the objects transferred from the remote service.
+   * As these objects are copies that are used by nothing else, they are not copied again.
+   */
+  private static class TransferredSnapshot
+      implements TCSObjectSnapshot {
+
+    /**
+     * The transferred objects, mapped by their names.
+     */
+    private final Map<String, TCSObject<?>> objectsByName = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param objects The transferred objects.
+     */
+    TransferredSnapshot(Set<TCSObject<?>> objects) {
+      for (TCSObject<?> object : objects) {
+        objectsByName.put(object.getName(), object);
+      }
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T getObjectOrNull(Class<T> clazz, TCSObjectReference<T> ref) {
+      requireNonNull(ref, "ref");
+
+      return getObjectOrNull(clazz, ref.getName());
+    }
+
+    @Override
+    public <T extends TCSObject<T>> T getObjectOrNull(Class<T> clazz, String name) {
+      requireNonNull(clazz, "clazz");
+      requireNonNull(name, "name");
+
+      TCSObject<?> result = objectsByName.get(name);
+      return clazz.isInstance(result) ? clazz.cast(result) : null;
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> getObjects(Class<T> clazz) {
+      return getObjects(clazz, object -> true);
+    }
+
+    @Override
+    public <T extends TCSObject<T>> Set<T> getObjects(Class<T> clazz,
+                                                      Predicate<? super T> predicate) {
+      requireNonNull(clazz, "clazz");
+      requireNonNull(predicate, "predicate");
+
+      return objectsByName.values().stream()
+          .filter(object -> clazz.isInstance(object))
+          .map(object -> clazz.cast(object))
+          .filter(predicate)
+          .collect(Collectors.toSet());
+    }
+  }
 }
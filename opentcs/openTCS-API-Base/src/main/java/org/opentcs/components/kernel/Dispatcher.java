@@ -7,8 +7,10 @@
  */
 package org.opentcs.components.kernel;
 
+import java.util.Set;
 import javax.annotation.Nonnull;
 import org.opentcs.components.Lifecycle;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.annotations.ScheduledApiChange;
@@ -162,6 +164,18 @@ public interface Dispatcher
   @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
   default void topologyChanged() {
   }
+
+  /**
+   * Notifies the dispatcher of changes to the given paths, e.g. of their lock states.
+   * <p>
+   * Dispatchers may use this to limit rerouting to vehicles affected by the changes.
+   * </p>
+   *
+   * @param paths The changed paths, in their current state.
+   */
+  default void topologyChanged(@Nonnull Set<Path> paths) {
+    topologyChanged();
+  }
   
   /**
    * Returns a human readable text describing this dispatcher's internal state.
@@ -7,15 +7,18 @@
  */
 package org.opentcs.components.kernel;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
@@ -52,6 +55,19 @@ public interface Router
     updateRoutingTables();
   }
 
+  /**
+   * Notifies the router of changes to the given paths, e.g. of their lock states.
+   * <p>
+   * Routers may use this to update their routing tables incrementally instead of recomputing them
+   * completely.
+   * </p>
+   *
+   * @param paths The changed paths, in their current state.
+   */
+  default void topologyChanged(@Nonnull Set<Path> paths) {
+    topologyChanged();
+  }
+
   /**
    * Notifies the router of changes in the topology and triggers an update of its routing tables.
    *
@@ -91,6 +107,60 @@ public interface Router
                                       @Nonnull Point sourcePoint,
                                       @Nonnull TransportOrder transportOrder);
 
+  /**
+   * Returns complete routes for a given vehicle that starts on a specified point, one for each of
+   * the given transport orders.
+   * <p>
+   * This is equivalent to calling {@link #getRoute(Vehicle, Point, TransportOrder)} for each of
+   * the transport orders, but allows implementations to compute the routes in a batch, e.g. with
+   * a single search from the source point to all of the orders' first destinations.
+   * </p>
+   *
+   * @param vehicle The vehicle for which the calculated routes must be passable.
+   * @param sourcePoint The position at which the vehicle would start processing the transport
+   * orders (i.e. the vehicle's current position).
+   * @param transportOrders The transport orders to be processed by the vehicle.
+   * @return The routes, mapped by transport order. For every transport order, the drive orders
+   * containing the complete calculated route, or the empty optional, if no such route exists.
+   */
+  @Nonnull
+  default Map<TransportOrder, Optional<List<DriveOrder>>> getRoutes(
+      @Nonnull Vehicle vehicle,
+      @Nonnull Point sourcePoint,
+      @Nonnull Set<TransportOrder> transportOrders) {
+    Map<TransportOrder, Optional<List<DriveOrder>>> result = new HashMap<>();
+    for (TransportOrder transportOrder : transportOrders) {
+      result.put(transportOrder, getRoute(vehicle, sourcePoint, transportOrder));
+    }
+    return result;
+  }
+
+  /**
+   * Returns complete routes for processing a given transport order, one for each of the given
+   * vehicles starting on the respective specified point.
+   * <p>
+   * This is equivalent to calling {@link #getRoute(Vehicle, Point, TransportOrder)} for each of
+   * the vehicles, but allows implementations to compute the routes in a batch, e.g. with a single
+   * search from the order's first destination to all of the vehicles' positions.
+   * </p>
+   *
+   * @param sourcePoints The positions at which the vehicles would start processing the transport
+   * order (i.e. the vehicles' current positions), mapped by vehicle.
+   * @param transportOrder The transport order to be processed.
+   * @return The routes, mapped by vehicle. For every vehicle, the drive orders containing the
+   * complete calculated route, or the empty optional, if no such route exists.
+   */
+  @Nonnull
+  default Map<Vehicle, Optional<List<DriveOrder>>> getRoutes(
+      @Nonnull Map<Vehicle, Point> sourcePoints,
+      @Nonnull TransportOrder transportOrder) {
+    Map<Vehicle, Optional<List<DriveOrder>>> result = new HashMap<>();
+    for (Map.Entry<Vehicle, Point> entry : sourcePoints.entrySet()) {
+      result.put(entry.getKey(), getRoute(entry.getKey(), entry.getValue(), transportOrder));
+    }
+    return result;
+  }
+
   /**
    * Returns a route from one point to another, passable for a given vehicle.
    *
@@ -175,6 +245,33 @@ public interface Router
   @Nonnull
   Set<Point> getTargetedPoints();
 
+  /**
+   * Returns statistics about this router's route cache.
+   * <p>
+   * Routers that do not cache routes return statistics with all values set to zero.
+   * </p>
+   *
+   * @return Statistics about this router's route cache.
+   */
+  @Nonnull
+  default RouteCacheStatistics getRouteCacheStatistics() {
+    return new RouteCacheStatistics(0, 0, 0);
+  }
+
+  /**
+   * Returns the times it took to create the routing tables for the individual routing groups
+   * when the routing topology was last updated completely.
+   * <p>
+   * Routers that do not keep track of these times return an empty map.
+   * </p>
+   *
+   * @return The times (in ms), mapped by routing group.
+   */
+  @Nonnull
+  default Map<Integer, Long> getRoutingTableCreationTimes() {
+    return new HashMap<>();
+  }
+
   /**
    * Returns a human readable text describing this router's internal state.
    *
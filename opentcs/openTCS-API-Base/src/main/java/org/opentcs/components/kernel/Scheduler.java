@@ -7,10 +7,12 @@
  */
 package org.opentcs.components.kernel;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.util.annotations.ScheduledApiChange;
@@ -113,6 +115,19 @@ public interface Scheduler
   @Nonnull
   Map<String, Set<TCSResource<?>>> getAllocations();
 
+  /**
+   * Returns histograms of the times allocations had to wait for resources.
+   * <p>
+   * Schedulers that do not record waiting times return an empty map.
+   * </p>
+   *
+   * @return The waiting time histograms, mapped by resource name.
+   */
+  @Nonnull
+  default Map<String, WaitingTimeHistogram> getWaitingTimeHistograms() {
+    return new HashMap<>();
+  }
+
   /**
    * Informs the scheduler that a set of resources was successfully prepared in order of allocating
    * them to a client.
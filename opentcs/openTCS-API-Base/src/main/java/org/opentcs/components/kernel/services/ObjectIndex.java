@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Defines a secondary index over objects of a class, grouping them by the value of an attribute.
+ * <p>
+ * An object service may maintain the index and answer queries for a key in time proportional to
+ * the number of matching objects instead of the number of all objects.
+ * Two indexes are equal only if they are the same instance, as their key functions cannot be
+ * compared.
+ * </p>
+ * <p>
+ * Remote services only answer queries for the standard indexes defined here.
+ * Only these indexes can be serialized, and only their names are transferred, so key functions
+ * are never sent to or run by a remote service.
+ * Queries for other indexes are answered on the client side.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @param <T> The type of the indexed objects.
+ * @param <K> The type of the keys.
+ */
+public final class ObjectIndex<T extends TCSObject<T>, K>
+    implements Serializable {
+
+  /**
+   * Groups transport orders by their states.
+   */
+  public static final ObjectIndex<TransportOrder, TransportOrder.State> TRANSPORT_ORDERS_BY_STATE
+      = new ObjectIndex<>("transportOrdersByState",
+                          TransportOrder.class,
+                          TransportOrder::getState);
+  /**
+   * Groups transport orders by their intended vehicles.
+   */
+  public static final ObjectIndex<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDERS_BY_INTENDED_VEHICLE
+      = new ObjectIndex<>("transportOrdersByIntendedVehicle",
+                          TransportOrder.class,
+                          TransportOrder::getIntendedVehicle);
+  /**
+   * Groups transport orders by their wrapping sequences.
+   */
+  public static final ObjectIndex<TransportOrder, TCSObjectReference<OrderSequence>>
+      TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE
+      = new ObjectIndex<>("transportOrdersByWrappingSequence",
+                          TransportOrder.class,
+                          TransportOrder::getWrappingSequence);
+  /**
+   * Groups vehicles by their processing states.
+   */
+  public static final ObjectIndex<Vehicle, Vehicle.ProcState> VEHICLES_BY_PROC_STATE
+      = new ObjectIndex<>("vehiclesByProcState", Vehicle.class, Vehicle::getProcState);
+  /**
+   * The standard indexes, mapped by their names.
+   */
+  private static final Map<String, ObjectIndex<?, ?>> STANDARD_INDEXES
+      = standardIndexes(TRANSPORT_ORDERS_BY_STATE,
+                        TRANSPORT_ORDERS_BY_INTENDED_VEHICLE,
+                        TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE,
+                        VEHICLES_BY_PROC_STATE);
+  /**
+   * The name of this index.
+   */
+  private final String name;
+  /**
+   * The class of the indexed objects.
+   */
+  private final Class<T> objectClass;
+  /**
+   * Extracts the key from an indexed object.
+   */
+  private final transient Function<? super T, ? extends K> keyFunction;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of this index.
+   * @param objectClass The class of the indexed objects.
+   * @param keyFunction Extracts the key from an indexed object. Keys may be <code>null</code>.
+   */
+  public ObjectIndex(@Nonnull String name,
+                     @Nonnull Class<T> objectClass,
+                     @Nonnull Function<? super T, ? extends K> keyFunction) {
+    this.name = requireNonNull(name, "name");
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.keyFunction = requireNonNull(keyFunction, "keyFunction");
+  }
+
+  /**
+   * Returns the name of this index.
+   *
+   * @return The name of this index.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the class of the indexed objects.
+   *
+   * @return The class of the indexed objects.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the key of the given object in this index.
+   *
+   * @param object The object.
+   * @return The key of the given object in this index.
+   */
+  @Nullable
+  public K getKey(@Nonnull T object) {
+    requireNonNull(object, "object");
+
+    return keyFunction.apply(object);
+  }
+
+  @Override
+  public String toString() {
+    return "ObjectIndex{" + "name=" + name + ", objectClass=" + objectClass.getName() + '}';
+  }
+
+  /**
+   * Returns the standard index with the given name.
+   *
+   * @param name The index's name.
+   * @return The standard index with the given name, or <code>null</code>, if there is no such
+   * index.
+   */
+  @Nullable
+  public static ObjectIndex<?, ?> getStandardIndex(@Nonnull String name) {
+    requireNonNull(name, "name");
+
+    return STANDARD_INDEXES.get(name);
+  }
+
+  /**
+   * Checks whether the given index is one of the standard indexes.
+   *
+   * @param index The index.
+   * @return <code>true</code> if, and only if, the given index is one of the standard indexes.
+   */
+  public static boolean isStandardIndex(@Nonnull ObjectIndex<?, ?> index) {
+    requireNonNull(index, "index");
+
+    return STANDARD_INDEXES.get(index.getName()) == index;
+  }
+
+  private Object writeReplace()
+      throws ObjectStreamException {
+    if (!isStandardIndex(this)) {
+      throw new NotSerializableException("Not a standard index: " + name);
+    }
+    return new SerializedForm(name);
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialized form required");
+  }
+
+  private static Map<String, ObjectIndex<?, ?>> standardIndexes(ObjectIndex<?, ?>... indexes) {
+    Map<String, ObjectIndex<?, ?>> result = new HashMap<>();
+    for (ObjectIndex<?, ?> index : indexes) {
+      result.put(index.getName(), index);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * The serialized form of a standard index, which is resolved to the index by its name.
+   */
+  private static final class SerializedForm
+      implements Serializable {
+
+    /**
+     * The name of the index.
+     */
+    private final String name;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name The name of the index.
+     */
+    SerializedForm(String name) {
+      this.name = name;
+    }
+
+    private Object readResolve()
+        throws ObjectStreamException {
+      ObjectIndex<?, ?> index = name == null ? null : getStandardIndex(name);
+      if (index == null) {
+        throw new InvalidObjectException("Not a standard index: " + name);
+      }
+      return index;
+    }
+  }
+}
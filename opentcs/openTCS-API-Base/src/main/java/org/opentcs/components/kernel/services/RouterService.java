@@ -7,11 +7,15 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.Collections;
+import java.util.Map;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning the {@link Router}.
@@ -22,6 +26,8 @@ public interface RouterService {
 
   /**
    * Updates a path's lock state.
+   * If the kernel is in operating state, the router and dispatcher are notified about the changed
+   * path, so there is no need to call {@link #updateRoutingTopology()} afterwards.
    *
    * @param ref A reference to the path to be updated.
    * @param locked Indicates whether the path is to be locked ({@code true}) or unlocked
@@ -40,4 +46,35 @@ public interface RouterService {
    */
   void updateRoutingTopology()
       throws KernelRuntimeException;
+
+  /**
+   * Returns statistics about the router's route cache.
+   * <p>
+   * The default implementation returns statistics with all values set to zero.
+   * </p>
+   *
+   * @return Statistics about the router's route cache.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default RouteCacheStatistics fetchRouteCacheStatistics()
+      throws KernelRuntimeException {
+    return new RouteCacheStatistics(0, 0, 0);
+  }
+
+  /**
+   * Returns the times it took the router to create the routing tables for the individual routing
+   * groups when the routing topology was last updated completely.
+   * <p>
+   * The default implementation returns an empty map.
+   * </p>
+   *
+   * @return The times (in ms), mapped by routing group.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Map<Integer, Long> fetchRoutingTableCreationTimes()
+      throws KernelRuntimeException {
+    return Collections.emptyMap();
+  }
 }
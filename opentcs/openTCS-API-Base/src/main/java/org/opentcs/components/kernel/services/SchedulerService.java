@@ -7,9 +7,13 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.Collections;
+import java.util.Map;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.SchedulerAllocationState;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning the {@link Scheduler}.
@@ -26,4 +30,19 @@ public interface SchedulerService {
    */
   SchedulerAllocationState fetchSchedulerAllocations()
       throws KernelRuntimeException;
+
+  /**
+   * Returns histograms of the times allocations had to wait for resources.
+   * <p>
+   * The default implementation returns an empty map.
+   * </p>
+   *
+   * @return The waiting time histograms, mapped by resource name.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default Map<String, WaitingTimeHistogram> fetchWaitingTimeHistograms()
+      throws KernelRuntimeException {
+    return Collections.emptyMap();
+  }
 }
@@ -7,6 +7,9 @@
  */
 package org.opentcs.components.kernel.services;
 
+import java.util.HashSet;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
@@ -15,6 +18,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Provides methods concerning {@link TCSObject}s.
@@ -74,7 +78,81 @@ public interface TCSObjectService {
   <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
                                                @Nonnull Predicate<? super T> predicate)
       throws KernelRuntimeException;
-  
+
+  /**
+   * Returns all existing {@link TCSObject}s that have the given key in the given index.
+   * <p>
+   * Implementations maintaining the given index answer this in time proportional to the number of
+   * returned objects. The default implementation filters all objects of the index's class.
+   * </p>
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param <K> The type of the index's keys.
+   * @param index The index.
+   * @param key The key. May be <code>null</code>.
+   * @return Copies of all existing objects that have the given key in the given index. If no such
+   * objects exist, the returned set will be empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default <T extends TCSObject<T>, K> Set<T> fetchObjects(@Nonnull ObjectIndex<T, K> index,
+                                                          @Nullable K key)
+      throws KernelRuntimeException {
+    requireNonNull(index, "index");
+
+    Set<T> result = new HashSet<>();
+    for (T object : fetchObjects(index.getObjectClass())) {
+      if (Objects.equals(index.getKey(object), key)) {
+        result.add(object);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a read-only view of all existing {@link TCSObject}s that is consistent across multiple
+   * objects, i.e. it does not reflect a modification of multiple objects only partly.
+   * <p>
+   * The objects provided by the snapshot are not necessarily copies and must not be modified.
+   * This makes the snapshot the cheaper choice for callers that only read objects.
+   * </p>
+   * <p>
+   * The default implementation returns a view that forwards to this service's
+   * {@code fetchObject()} and {@code fetchObjects()} methods and is therefore not consistent
+   * across multiple objects.
+   * </p>
+   *
+   * @return A read-only view of all existing objects.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  @ScheduledApiChange(when = "5.0", details = "Default implementation will be removed.")
+  default TCSObjectSnapshot fetchSnapshot()
+      throws KernelRuntimeException {
+    return new TCSObjectSnapshot() {
+      @Override
+      public <T extends TCSObject<T>> T getObjectOrNull(Class<T> clazz,
+                                                        TCSObjectReference<T> ref) {
+        return fetchObject(clazz, ref);
+      }
+
+      @Override
+      public <T extends TCSObject<T>> T getObjectOrNull(Class<T> clazz, String name) {
+        return fetchObject(clazz, name);
+      }
+
+      @Override
+      public <T extends TCSObject<T>> Set<T> getObjects(Class<T> clazz) {
+        return fetchObjects(clazz);
+      }
+
+      @Override
+      public <T extends TCSObject<T>> Set<T> getObjects(Class<T> clazz,
+                                                        Predicate<? super T> predicate) {
+        return fetchObjects(clazz, predicate);
+      }
+    };
+  }
+
   /**
    * Updates an {@link TCSObject}'s property.
    *
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * A read-only view of the {@link TCSObject}s provided by a {@link TCSObjectService}.
+ * <p>
+ * Unlike the objects returned by the service's {@code fetchObject()} and {@code fetchObjects()}
+ * methods, the objects returned by a snapshot are not necessarily copies and may be shared with
+ * the service and other readers.
+ * They must therefore never be modified, not even by using their deprecated in-place mutators.
+ * </p>
+ *
+ * @author agent (agent@local)
+ * @see TCSObjectService#fetchSnapshot()
+ */
+public interface TCSObjectSnapshot {
+
+  /**
+   * Returns a single {@link TCSObject} of the given class.
+   *
+   * @param <T> The TCSObject's actual type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or {@code null} if no such object exists or if an object exists
+   * but is not an instance of the given class.
+   */
+  @Nullable
+  <T extends TCSObject<T>> T getObjectOrNull(@Nonnull Class<T> clazz,
+                                             @Nonnull TCSObjectReference<T> ref);
+
+  /**
+   * Returns a single {@link TCSObject} of the given class.
+   *
+   * @param <T> The TCSObject's actual type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or {@code null} if no such object exists or if an object exists but
+   * is not an instance of the given class.
+   */
+  @Nullable
+  <T extends TCSObject<T>> T getObjectOrNull(@Nonnull Class<T> clazz, @Nonnull String name);
+
+  /**
+   * Returns all {@link TCSObject}s of the given class.
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @return All objects of the given class.
+   */
+  @Nonnull
+  <T extends TCSObject<T>> Set<T> getObjects(@Nonnull Class<T> clazz);
+
+  /**
+   * Returns all {@link TCSObject}s of the given class for which the given predicate is true.
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return All objects of the given class for which the given predicate is true.
+   */
+  @Nonnull
+  <T extends TCSObject<T>> Set<T> getObjects(@Nonnull Class<T> clazz,
+                                             @Nonnull Predicate<? super T> predicate);
+}
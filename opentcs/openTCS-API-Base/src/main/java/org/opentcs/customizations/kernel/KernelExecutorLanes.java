@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.customizations.kernel;
+
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.Nonnull;
+
+/**
+ * Provides executors that allow kernel work to be processed concurrently while preserving the
+ * order of tasks where it matters.
+ * <p>
+ * In addition to the single-threaded executor marked with {@link KernelExecutor}, which keeps
+ * executing all tasks submitted to it one after another, the kernel provides:
+ * </p>
+ * <ul>
+ * <li>one serial lane per vehicle, for work related to that vehicle (e.g. resource allocation),
+ * </li>
+ * <li>one serial lane for dispatching, and</li>
+ * <li>a shared pool for read-only queries.</li>
+ * </ul>
+ * <p>
+ * Tasks submitted to the same lane are executed one after another, in the order in which they
+ * were submitted.
+ * Tasks submitted to different lanes may be executed concurrently, so they must not share state
+ * that is not thread-safe.
+ * Unless configured otherwise, however, the kernel executor itself serves as every vehicle lane
+ * and as the dispatcher lane, so tasks submitted to them are executed one after another together
+ * with all other tasks of the kernel executor.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public interface KernelExecutorLanes {
+
+  /**
+   * Returns the serial lane for work related to the vehicle with the given name.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @return The serial lane for work related to the vehicle.
+   */
+  @Nonnull
+  Executor getVehicleLane(@Nonnull String vehicleName);
+
+  /**
+   * Returns the serial lane for dispatching.
+   *
+   * @return The serial lane for dispatching.
+   */
+  @Nonnull
+  ScheduledExecutorService getDispatcherLane();
+
+  /**
+   * Returns the shared pool for read-only queries.
+   * Tasks submitted to it may be executed concurrently with each other and with tasks in any
+   * lane.
+   *
+   * @return The shared pool for read-only queries.
+   */
+  @Nonnull
+  ExecutorService getQueryPool();
+
+  /**
+   * Returns lanes that are all served by the given executor, as is the query pool.
+   * Tasks submitted to them are thus executed the way the executor executes tasks - one after
+   * another, in case of the kernel executor.
+   *
+   * @param executor The executor.
+   * @return Lanes that are all served by the given executor.
+   */
+  @Nonnull
+  static KernelExecutorLanes of(@Nonnull ScheduledExecutorService executor) {
+    requireNonNull(executor, "executor");
+
+    return new KernelExecutorLanes() {
+      @Override
+      public Executor getVehicleLane(String vehicleName) {
+        requireNonNull(vehicleName, "vehicleName");
+        return executor;
+      }
+
+      @Override
+      public ScheduledExecutorService getDispatcherLane() {
+        return executor;
+      }
+
+      @Override
+      public ExecutorService getQueryPool() {
+        return executor;
+      }
+    };
+  }
+}
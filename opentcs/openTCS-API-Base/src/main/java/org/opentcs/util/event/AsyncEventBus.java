@@ -0,0 +1,575 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An event bus delivering events to its subscribers asynchronously.
+ * <p>
+ * Every subscriber has a bounded buffer of pending events and a dedicated thread delivering them,
+ * so slow subscribers do not delay the publisher or other subscribers.
+ * Each subscriber receives events in the order in which they were published.
+ * What happens when a subscriber's buffer is full is determined by the {@link OverflowPolicy}.
+ * Events announcing the creation or removal of objects are never dropped or merged, though.
+ * </p>
+ * <p>
+ * Subscribers implementing {@link SynchronousEventHandler} are exempt from this: they receive
+ * every event directly in the publisher's thread, before it is handed to any other subscriber.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class AsyncEventBus
+    implements EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEventBus.class);
+  /**
+   * Counts the threads created for delivering events, for naming them.
+   */
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  /**
+   * The maximum number of pending events per subscriber.
+   */
+  private final int capacity;
+  /**
+   * What happens when a subscriber's buffer is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The subscribers receiving events directly in the publisher's thread.
+   */
+  private final List<SynchronousEventHandler> synchronousHandlers = new CopyOnWriteArrayList<>();
+  /**
+   * The subscriptions.
+   */
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of pending events per subscriber.
+   * @param overflowPolicy What happens when a subscriber's buffer is full.
+   */
+  public AsyncEventBus(int capacity, OverflowPolicy overflowPolicy) {
+    checkArgument(capacity > 0, "capacity <= 0: %s", capacity);
+    this.capacity = capacity;
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    requireNonNull(event, "event");
+
+    for (SynchronousEventHandler handler : synchronousHandlers) {
+      try {
+        handler.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler", exc);
+      }
+    }
+    for (Subscription subscription : subscriptions) {
+      subscription.enqueue(event);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (listener instanceof SynchronousEventHandler) {
+      if (!synchronousHandlers.contains(listener)) {
+        synchronousHandlers.add((SynchronousEventHandler) listener);
+      }
+      return;
+    }
+    if (findSubscription(listener) != null) {
+      return;
+    }
+    Subscription subscription = new Subscription(listener);
+    subscriptions.add(subscription);
+    subscription.start();
+  }
+
+  @Override
+  public synchronized void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (listener instanceof SynchronousEventHandler) {
+      synchronousHandlers.remove(listener);
+      return;
+    }
+    Subscription subscription = findSubscription(listener);
+    if (subscription == null) {
+      return;
+    }
+    subscriptions.remove(subscription);
+    subscription.stop();
+  }
+
+  /**
+   * Returns the current metrics of all subscribers receiving events asynchronously.
+   *
+   * @return The current metrics, mapped by subscriber.
+   */
+  public Map<EventHandler, SubscriberMetrics> getSubscriberMetrics() {
+    Map<EventHandler, SubscriberMetrics> result = new HashMap<>();
+    for (Subscription subscription : subscriptions) {
+      result.put(subscription.handler, subscription.getMetrics());
+    }
+    return result;
+  }
+
+  private Subscription findSubscription(EventHandler listener) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.handler == listener) {
+        return subscription;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the key by which pending events are coalesced, or <code>null</code>, if the given event
+   * cannot be coalesced with others.
+   *
+   * @param event The event.
+   * @return The key, or <code>null</code>.
+   */
+  private static Object coalescingKey(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return null;
+    }
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    if (objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return null;
+    }
+    return objectEvent.getCurrentObjectState().getReference();
+  }
+
+  /**
+   * Checks whether the given event may be dropped when a subscriber's buffer is full.
+   * Only modification events may be dropped, as subscribers would lose track of the existing
+   * objects if they missed their creation or removal.
+   *
+   * @param event The event.
+   * @return <code>true</code> if, and only if, the event may be dropped.
+   */
+  private static boolean isDroppable(Object event) {
+    return event instanceof TCSObjectEvent
+        && ((TCSObjectEvent) event).getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
+  /**
+   * Defines what happens when an event is published while a subscriber's buffer is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * If a modification event for the same object is pending, the new event is merged into it,
+     * keeping the pending event's previous object state and the new event's current object state.
+     * Otherwise, the oldest pending modification event is dropped.
+     */
+    COALESCE,
+    /**
+     * The oldest pending modification event is dropped.
+     */
+    DROP_OLDEST,
+    /**
+     * The publisher is blocked until the subscriber has processed an event.
+     */
+    BLOCK;
+  }
+
+  /**
+   * A snapshot of a subscriber's metrics.
+   */
+  public static class SubscriberMetrics {
+
+    /**
+     * The number of events pending.
+     */
+    private final int pendingEvents;
+    /**
+     * The number of events delivered.
+     */
+    private final long deliveredEvents;
+    /**
+     * The number of events dropped.
+     */
+    private final long droppedEvents;
+    /**
+     * The number of events merged into pending ones.
+     */
+    private final long coalescedEvents;
+    /**
+     * The time (in ms) the oldest pending event has been waiting.
+     */
+    private final long currentLag;
+    /**
+     * The longest time (in ms) an event had to wait before being delivered.
+     */
+    private final long maxLag;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pendingEvents The number of events pending.
+     * @param deliveredEvents The number of events delivered.
+     * @param droppedEvents The number of events dropped.
+     * @param coalescedEvents The number of events merged into pending ones.
+     * @param currentLag The time (in ms) the oldest pending event has been waiting.
+     * @param maxLag The longest time (in ms) an event had to wait before being delivered.
+     */
+    SubscriberMetrics(int pendingEvents,
+                      long deliveredEvents,
+                      long droppedEvents,
+                      long coalescedEvents,
+                      long currentLag,
+                      long maxLag) {
+      this.pendingEvents = pendingEvents;
+      this.deliveredEvents = deliveredEvents;
+      this.droppedEvents = droppedEvents;
+      this.coalescedEvents = coalescedEvents;
+      this.currentLag = currentLag;
+      this.maxLag = maxLag;
+    }
+
+    /**
+     * Returns the number of events pending.
+     *
+     * @return The number of events pending.
+     */
+    public int getPendingEvents() {
+      return pendingEvents;
+    }
+
+    /**
+     * Returns the number of events delivered.
+     *
+     * @return The number of events delivered.
+     */
+    public long getDeliveredEvents() {
+      return deliveredEvents;
+    }
+
+    /**
+     * Returns the number of events dropped because the subscriber's buffer was full.
+     *
+     * @return The number of events dropped.
+     */
+    public long getDroppedEvents() {
+      return droppedEvents;
+    }
+
+    /**
+     * Returns the number of events merged into pending ones because the subscriber's buffer was
+     * full.
+     *
+     * @return The number of events merged into pending ones.
+     */
+    public long getCoalescedEvents() {
+      return coalescedEvents;
+    }
+
+    /**
+     * Returns the time (in ms) the oldest pending event has been waiting.
+     *
+     * @return The time the oldest pending event has been waiting, or 0, if no events are pending.
+     */
+    public long getCurrentLag() {
+      return currentLag;
+    }
+
+    /**
+     * Returns the longest time (in ms) an event had to wait before being delivered.
+     *
+     * @return The longest time an event had to wait before being delivered.
+     */
+    public long getMaxLag() {
+      return maxLag;
+    }
+
+    @Override
+    public String toString() {
+      return "SubscriberMetrics{"
+          + "pendingEvents=" + pendingEvents
+          + ", deliveredEvents=" + deliveredEvents
+          + ", droppedEvents=" + droppedEvents
+          + ", coalescedEvents=" + coalescedEvents
+          + ", currentLag=" + currentLag
+          + ", maxLag=" + maxLag
+          + '}';
+    }
+  }
+
+  /**
+   * An event waiting to be delivered.
+   */
+  private static final class PendingEvent {
+
+    /**
+     * The event.
+     */
+    private Object event;
+    /**
+     * The point of time at which the event was published.
+     */
+    private final long publishedAt;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param event The event.
+     * @param publishedAt The point of time at which the event was published.
+     */
+    PendingEvent(Object event, long publishedAt) {
+      this.event = event;
+      this.publishedAt = publishedAt;
+    }
+  }
+
+  /**
+   * The buffer and delivery thread of a subscriber.
+   */
+  private final class Subscription
+      implements Runnable {
+
+    /**
+     * The subscriber.
+     */
+    private final EventHandler handler;
+    /**
+     * The events waiting to be delivered.
+     */
+    private final ArrayDeque<PendingEvent> pendingEvents = new ArrayDeque<>();
+    /**
+     * The pending events that can be coalesced with others, mapped by their coalescing keys.
+     */
+    private final Map<Object, PendingEvent> pendingEventsByKey = new HashMap<>();
+    /**
+     * Guards the pending events and the counters.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Signalled when an event has been added.
+     */
+    private final Condition notEmpty = lock.newCondition();
+    /**
+     * Signalled when an event has been removed.
+     */
+    private final Condition notFull = lock.newCondition();
+    /**
+     * The thread delivering the events.
+     */
+    private final Thread thread;
+    /**
+     * Whether this subscription is still active.
+     */
+    private boolean active = true;
+    /**
+     * The number of events delivered.
+     */
+    private long deliveredEvents;
+    /**
+     * The number of events dropped.
+     */
+    private long droppedEvents;
+    /**
+     * The number of events merged into pending ones.
+     */
+    private long coalescedEvents;
+    /**
+     * The longest time (in ms) an event had to wait before being delivered.
+     */
+    private long maxLag;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param handler The subscriber.
+     */
+    Subscription(EventHandler handler) {
+      this.handler = handler;
+      this.thread = new Thread(this, "eventBusDelivery-" + THREAD_COUNT.incrementAndGet());
+      this.thread.setDaemon(true);
+    }
+
+    void start() {
+      thread.start();
+    }
+
+    void stop() {
+      lock.lock();
+      try {
+        active = false;
+        pendingEvents.clear();
+        pendingEventsByKey.clear();
+        notEmpty.signalAll();
+        notFull.signalAll();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    void enqueue(Object event) {
+      Object key = coalescingKey(event);
+      lock.lock();
+      try {
+        if (pendingEvents.size() >= capacity && !makeRoomFor(event, key)) {
+          return;
+        }
+        if (!active) {
+          return;
+        }
+        PendingEvent pendingEvent = new PendingEvent(event, System.currentTimeMillis());
+        pendingEvents.addLast(pendingEvent);
+        if (key != null) {
+          pendingEventsByKey.put(key, pendingEvent);
+        }
+        notEmpty.signal();
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Handles an overflow according to the overflow policy.
+     *
+     * @param event The event to be added.
+     * @param key The event's coalescing key, or <code>null</code>.
+     * @return <code>true</code> if the event still needs to be added, <code>false</code> if it has
+     * been merged into a pending one.
+     */
+    private boolean makeRoomFor(Object event, Object key) {
+      switch (overflowPolicy) {
+        case COALESCE:
+          PendingEvent pendingEvent = key == null ? null : pendingEventsByKey.get(key);
+          if (pendingEvent != null) {
+            TCSObjectEvent previousEvent = (TCSObjectEvent) pendingEvent.event;
+            pendingEvent.event
+                = new TCSObjectEvent(((TCSObjectEvent) event).getCurrentObjectState(),
+                                     previousEvent.getPreviousObjectState(),
+                                     TCSObjectEvent.Type.OBJECT_MODIFIED);
+            coalescedEvents++;
+            return false;
+          }
+          dropOldest();
+          return true;
+        case DROP_OLDEST:
+          dropOldest();
+          return true;
+        case BLOCK:
+          while (active && pendingEvents.size() >= capacity) {
+            notFull.awaitUninterruptibly();
+          }
+          return true;
+        default:
+          throw new IllegalStateException("Unhandled overflow policy: " + overflowPolicy);
+      }
+    }
+
+    /**
+     * Drops the oldest pending event that may be dropped.
+     * If there is no such event, none is dropped, and the buffer temporarily exceeds its capacity.
+     */
+    private void dropOldest() {
+      Iterator<PendingEvent> iter = pendingEvents.iterator();
+      while (iter.hasNext()) {
+        PendingEvent pendingEvent = iter.next();
+        if (isDroppable(pendingEvent.event)) {
+          iter.remove();
+          forgetKey(pendingEvent);
+          notFull.signal();
+          droppedEvents++;
+          return;
+        }
+      }
+    }
+
+    private PendingEvent removeFirst() {
+      PendingEvent pendingEvent = pendingEvents.pollFirst();
+      forgetKey(pendingEvent);
+      notFull.signal();
+      return pendingEvent;
+    }
+
+    private void forgetKey(PendingEvent pendingEvent) {
+      Object key = coalescingKey(pendingEvent.event);
+      if (key != null && pendingEventsByKey.get(key) == pendingEvent) {
+        pendingEventsByKey.remove(key);
+      }
+    }
+
+    SubscriberMetrics getMetrics() {
+      lock.lock();
+      try {
+        PendingEvent oldest = pendingEvents.peekFirst();
+        return new SubscriberMetrics(pendingEvents.size(),
+                                     deliveredEvents,
+                                     droppedEvents,
+                                     coalescedEvents,
+                                     oldest == null
+                                         ? 0
+                                         : System.currentTimeMillis() - oldest.publishedAt,
+                                     maxLag);
+      }
+      finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        PendingEvent pendingEvent;
+        lock.lock();
+        try {
+          while (active && pendingEvents.isEmpty()) {
+            notEmpty.awaitUninterruptibly();
+          }
+          if (!active) {
+            return;
+          }
+          pendingEvent = removeFirst();
+          deliveredEvents++;
+          maxLag = Math.max(maxLag, System.currentTimeMillis() - pendingEvent.publishedAt);
+        }
+        finally {
+          lock.unlock();
+        }
+
+        try {
+          handler.onEvent(pendingEvent.event);
+        }
+        catch (Exception exc) {
+          LOG.warn("Exception thrown by event handler", exc);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+/**
+ * Marks an {@link EventHandler} that needs to receive every event directly from the publisher.
+ * <p>
+ * Event buses that deliver events asynchronously, like {@link AsyncEventBus}, deliver events to
+ * such handlers in the publisher's thread, and they never drop or merge any of them.
+ * Handlers should therefore return quickly and not do any blocking work.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public interface SynchronousEventHandler
+    extends EventHandler {
+}
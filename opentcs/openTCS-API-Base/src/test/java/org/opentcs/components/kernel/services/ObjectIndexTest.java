@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.components.kernel.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.*;
+import static org.junit.Assert.assertSame;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Tests for the serialization of {@link ObjectIndex}.
+ *
+ * @author agent (agent@local)
+ */
+public class ObjectIndexTest {
+
+  @Test
+  public void shouldDeserializeStandardIndexToSameInstance()
+      throws Exception {
+    assertSame(ObjectIndex.TRANSPORT_ORDERS_BY_STATE,
+               deserialize(serialize(ObjectIndex.TRANSPORT_ORDERS_BY_STATE)));
+  }
+
+  @Test(expected = NotSerializableException.class)
+  public void shouldNotSerializeCustomIndex()
+      throws Exception {
+    serialize(new ObjectIndex<>("transportOrdersByState",
+                                TransportOrder.class,
+                                TransportOrder::getState));
+  }
+
+  private byte[] serialize(Object object)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+
+  private Object deserialize(byte[] bytes)
+      throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+}
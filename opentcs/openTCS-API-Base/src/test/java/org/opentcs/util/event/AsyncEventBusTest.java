@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.util.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Test cases for the {@link AsyncEventBus}.
+ *
+ * @author agent (agent@local)
+ */
+public class AsyncEventBusTest {
+
+  /**
+   * Releases the blocking subscriber.
+   */
+  private CountDownLatch release;
+  /**
+   * Counted down when the blocking subscriber has received its first event.
+   */
+  private CountDownLatch blocked;
+  /**
+   * The events received by the blocking subscriber.
+   */
+  private List<Object> receivedEvents;
+  /**
+   * A subscriber that blocks on its first event until released.
+   */
+  private EventHandler blockingSubscriber;
+
+  @Before
+  public void setUp() {
+    release = new CountDownLatch(1);
+    blocked = new CountDownLatch(1);
+    receivedEvents = Collections.synchronizedList(new ArrayList<>());
+    blockingSubscriber = event -> {
+      receivedEvents.add(event);
+      blocked.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  @Test
+  public void deliverEventsInPublishingOrder()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(100, AsyncEventBus.OverflowPolicy.BLOCK);
+    List<Object> events = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(50);
+    eventBus.subscribe(event -> {
+      events.add(event);
+      done.countDown();
+    });
+
+    List<Object> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      expected.add(i);
+      eventBus.onEvent(i);
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(expected, events);
+  }
+
+  @Test
+  public void notDelayPublisherBySlowSubscriber()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(2, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    eventBus.subscribe(blockingSubscriber);
+
+    eventBus.onEvent("first");
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      Point point = new Point("Point-" + i);
+      eventBus.onEvent(modification(point, point));
+    }
+
+    AsyncEventBus.SubscriberMetrics metrics
+        = eventBus.getSubscriberMetrics().get(blockingSubscriber);
+    assertEquals(2, metrics.getPendingEvents());
+    assertEquals(8, metrics.getDroppedEvents());
+
+    CountDownLatch done = new CountDownLatch(1);
+    eventBus.subscribe(event -> done.countDown());
+    eventBus.onEvent("last");
+    release.countDown();
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void coalesceModificationEventsOnOverflow()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(2, AsyncEventBus.OverflowPolicy.COALESCE);
+    eventBus.subscribe(blockingSubscriber);
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointA1 = pointA.withProperty("key", "1");
+    Point pointA2 = pointA.withProperty("key", "2");
+
+    eventBus.onEvent("first");
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    eventBus.onEvent(modification(pointA1, pointA));
+    eventBus.onEvent(modification(pointB, pointB));
+    eventBus.onEvent(modification(pointA2, pointA1));
+
+    AsyncEventBus.SubscriberMetrics metrics
+        = eventBus.getSubscriberMetrics().get(blockingSubscriber);
+    assertEquals(2, metrics.getPendingEvents());
+    assertEquals(1, metrics.getCoalescedEvents());
+    assertEquals(0, metrics.getDroppedEvents());
+
+    release.countDown();
+    waitForEvents(3);
+
+    // The coalesced event spans both modifications of point A.
+    assertEquals(3, receivedEvents.size());
+    TCSObjectEvent coalesced = (TCSObjectEvent) receivedEvents.get(1);
+    assertSame(pointA2, coalesced.getCurrentObjectState());
+    assertSame(pointA, coalesced.getPreviousObjectState());
+    assertSame(pointB, ((TCSObjectEvent) receivedEvents.get(2)).getCurrentObjectState());
+  }
+
+  @Test
+  public void neverDropCreationOrRemovalEvents()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(2, AsyncEventBus.OverflowPolicy.COALESCE);
+    eventBus.subscribe(blockingSubscriber);
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+
+    eventBus.onEvent("first");
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    eventBus.onEvent(new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    eventBus.onEvent(modification(pointB, pointB));
+    eventBus.onEvent(new TCSObjectEvent(null, pointC, TCSObjectEvent.Type.OBJECT_REMOVED));
+    eventBus.onEvent(new TCSObjectEvent(pointC, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    AsyncEventBus.SubscriberMetrics metrics
+        = eventBus.getSubscriberMetrics().get(blockingSubscriber);
+    // Only the modification event could be dropped to make room.
+    assertEquals(3, metrics.getPendingEvents());
+    assertEquals(1, metrics.getDroppedEvents());
+
+    release.countDown();
+    waitForEvents(4);
+
+    assertEquals(4, receivedEvents.size());
+    assertEquals(TCSObjectEvent.Type.OBJECT_CREATED,
+                 ((TCSObjectEvent) receivedEvents.get(1)).getType());
+    assertEquals(TCSObjectEvent.Type.OBJECT_REMOVED,
+                 ((TCSObjectEvent) receivedEvents.get(2)).getType());
+    assertEquals(TCSObjectEvent.Type.OBJECT_CREATED,
+                 ((TCSObjectEvent) receivedEvents.get(3)).getType());
+  }
+
+  @Test
+  public void deliverEventsToSynchronousHandlersInPublishingThread()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(1, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+    eventBus.subscribe(blockingSubscriber);
+    List<Thread> threads = new ArrayList<>();
+    SynchronousEventHandler synchronousHandler = event -> threads.add(Thread.currentThread());
+    eventBus.subscribe(synchronousHandler);
+
+    eventBus.onEvent("first");
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      Point point = new Point("Point-" + i);
+      eventBus.onEvent(modification(point, point));
+    }
+
+    assertEquals(11, threads.size());
+    assertTrue(threads.stream().allMatch(thread -> thread == Thread.currentThread()));
+    assertFalse(eventBus.getSubscriberMetrics().containsKey(synchronousHandler));
+    release.countDown();
+  }
+
+  @Test
+  public void stopDeliveringAfterUnsubscribing()
+      throws InterruptedException {
+    AsyncEventBus eventBus = new AsyncEventBus(10, AsyncEventBus.OverflowPolicy.BLOCK);
+    eventBus.subscribe(blockingSubscriber);
+
+    eventBus.onEvent("first");
+    assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    eventBus.onEvent("second");
+    eventBus.unsubscribe(blockingSubscriber);
+    release.countDown();
+
+    assertTrue(eventBus.getSubscriberMetrics().isEmpty());
+    Thread.sleep(100);
+    assertEquals(Arrays.asList("first"), receivedEvents);
+  }
+
+  private TCSObjectEvent modification(Point current, Point previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  private void waitForEvents(int count)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (receivedEvents.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
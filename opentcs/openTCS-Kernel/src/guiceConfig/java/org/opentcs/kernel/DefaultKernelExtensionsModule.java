@@ -24,6 +24,7 @@ import org.opentcs.kernel.extensions.rmi.StandardRemoteKernel;
 import org.opentcs.kernel.extensions.rmi.StandardRemoteKernelClientPortal;
 import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApi;
 import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.StatusEventStream;
 import org.opentcs.kernel.extensions.statistics.StatisticsCollector;
 import org.opentcs.kernel.extensions.statistics.StatisticsCollectorConfiguration;
 import org.opentcs.kernel.extensions.xmlhost.XMLHostInterfaceConfiguration;
@@ -88,6 +89,8 @@ public class DefaultKernelExtensionsModule
 
     bind(ServiceWebApiConfiguration.class)
         .toInstance(configuration);
+    bind(StatusEventStream.class)
+        .in(Singleton.class);
 
     extensionsBinderOperating().addBinding()
         .to(ServiceWebApi.class)
@@ -37,6 +37,7 @@ import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
@@ -52,6 +53,7 @@ import org.opentcs.kernel.extensions.rmi.StandardRemoteTransportOrderService;
 import org.opentcs.kernel.extensions.rmi.StandardRemoteVehicleService;
 import org.opentcs.kernel.extensions.rmi.UserManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.persistence.OrderPoolJournal;
 import org.opentcs.kernel.persistence.XMLFileModelPersister;
 import org.opentcs.kernel.persistence.XMLModel002Builder;
 import org.opentcs.kernel.persistence.XMLModelReader;
@@ -64,6 +66,7 @@ import org.opentcs.kernel.services.StandardSchedulerService;
 import org.opentcs.kernel.services.StandardTCSObjectService;
 import org.opentcs.kernel.services.StandardTransportOrderService;
 import org.opentcs.kernel.services.StandardVehicleService;
+import org.opentcs.kernel.util.DefaultKernelExecutorLanes;
 import org.opentcs.kernel.util.RegistryProvider;
 import org.opentcs.kernel.vehicles.DefaultVehicleControllerPool;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
@@ -73,6 +76,7 @@ import org.opentcs.kernel.workingset.Model;
 import org.opentcs.kernel.workingset.NotificationBuffer;
 import org.opentcs.kernel.workingset.TCSObjectPool;
 import org.opentcs.kernel.workingset.TransportOrderPool;
+import org.opentcs.util.event.AsyncEventBus;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
@@ -196,11 +200,22 @@ public class DefaultKernelInjectionModule
     bind(ModelPersister.class).to(XMLFileModelPersister.class);
     bind(XMLModelReader.class).to(XMLModel002Builder.class);
     bind(XMLModelWriter.class).to(XMLModel002Builder.class);
+    bind(OrderPoolJournal.class).in(Singleton.class);
   }
 
   @SuppressWarnings("deprecation")
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+    EventBus newEventBus;
+    if (configuration.asyncEventBus()) {
+      newEventBus = new AsyncEventBus(configuration.asyncEventBusCapacity(),
+                                      configuration.asyncEventBusOverflowPolicy());
+    }
+    else {
+      newEventBus = new SimpleEventBus();
+    }
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -308,5 +323,19 @@ public class DefaultKernelInjectionModule
     bind(Executor.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
+
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(KernelApplicationConfiguration.PREFIX,
+                                         KernelApplicationConfiguration.class);
+    int poolSize = configuration.executorPoolSize() > 0
+        ? configuration.executorPoolSize()
+        : Runtime.getRuntime().availableProcessors();
+    DefaultKernelExecutorLanes executorLanes = configuration.concurrentExecutorLanes()
+        ? new DefaultKernelExecutorLanes(poolSize)
+        : new DefaultKernelExecutorLanes(executor, poolSize);
+    bind(DefaultKernelExecutorLanes.class)
+        .toInstance(executorLanes);
+    bind(KernelExecutorLanes.class)
+        .toInstance(executorLanes);
   }
 }
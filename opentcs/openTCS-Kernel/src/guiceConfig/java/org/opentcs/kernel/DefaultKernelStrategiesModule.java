@@ -20,6 +20,7 @@ import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcher;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.SuccessorRoutePool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderSelectionVeto;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.parking.DefaultParkingPositionSupplier;
@@ -46,7 +47,9 @@ import org.opentcs.strategies.basic.recovery.DefaultRecoveryEvaluatorConfigurati
 import org.opentcs.strategies.basic.routing.DefaultRouter;
 import org.opentcs.strategies.basic.routing.DefaultRouterConfiguration;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.AstarPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.EdgeEvaluator;
@@ -114,6 +117,10 @@ public class DefaultKernelStrategiesModule
         bind(PointRouterFactory.class)
             .to(DijkstraPointRouterFactory.class);
         break;
+      case ASTAR:
+        bind(PointRouterFactory.class)
+            .to(AstarPointRouterFactory.class);
+        break;
       case BELLMAN_FORD:
         bind(PointRouterFactory.class)
             .to(BellmanFordPointRouterFactory.class);
@@ -122,6 +129,10 @@ public class DefaultKernelStrategiesModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case CONTRACTION_HIERARCHY:
+        bind(PointRouterFactory.class)
+            .to(ContractionHierarchyPointRouterFactory.class);
+        break;
       default:
         LOG.warn("Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
                  spConfiguration.algorithm());
@@ -169,6 +180,8 @@ public class DefaultKernelStrategiesModule
 
     bind(OrderReservationPool.class)
         .in(Singleton.class);
+    bind(SuccessorRoutePool.class)
+        .in(Singleton.class);
 
     bind(org.opentcs.components.kernel.ParkingPositionSupplier.class)
         .to(DefaultParkingPositionSupplier.class)
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Measures the costs of modifying objects in the pool and emitting the corresponding object
+ * events.
+ * <p>
+ * Run with <code>gradlew :openTCS-Kernel:jmh</code>, which includes the GC profiler to report
+ * the allocation rate per operation.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectEventBenchmark {
+
+  private Model model;
+
+  private TransportOrderPool orderPool;
+
+  private TCSObjectReference<Vehicle> vehicleRef;
+
+  private TCSObjectReference<Point> pointRefA;
+
+  private TCSObjectReference<Point> pointRefB;
+
+  private TCSObjectReference<TransportOrder> orderRef;
+
+  private boolean toggle;
+
+  @Setup
+  public void setUp()
+      throws Exception {
+    TCSObjectPool objectPool = new TCSObjectPool(new SimpleEventBus());
+    model = new Model(objectPool);
+    orderPool = new TransportOrderPool(objectPool);
+
+    pointRefA = model.createPoint(new PointCreationTO("Point-A")).getReference();
+    pointRefB = model.createPoint(new PointCreationTO("Point-B")).getReference();
+    vehicleRef = model.createVehicle(new VehicleCreationTO("Vehicle-1")).getReference();
+    orderRef = orderPool.createTransportOrder(
+        new TransportOrderCreationTO("TOrder-1",
+                                     Arrays.asList(new DestinationCreationTO("Point-A",
+                                                                             "NOP"))))
+        .getReference();
+  }
+
+  @Benchmark
+  public Vehicle setVehiclePosition() {
+    toggle = !toggle;
+    return model.setVehiclePosition(vehicleRef, toggle ? pointRefA : pointRefB);
+  }
+
+  @Benchmark
+  public TransportOrder setTransportOrderState() {
+    toggle = !toggle;
+    return orderPool.setTransportOrderState(orderRef,
+                                            toggle
+                                                ? TransportOrder.State.DISPATCHABLE
+                                                : TransportOrder.State.BEING_PROCESSED);
+  }
+}
@@ -9,6 +9,7 @@ package org.opentcs.kernel;
 
 import org.opentcs.util.configuration.ConfigurationEntry;
 import org.opentcs.util.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.AsyncEventBus;
 
 /**
  * Provides common kernel configuration entries.
@@ -43,7 +44,54 @@ public interface KernelApplicationConfiguration {
 
   @ConfigurationEntry(
       type = "Boolean",
-      description = "Whether to implicitly update the router's topology when a path is (un)locked.",
+      description = {
+        "Whether to implicitly update the router's topology when a path is (un)locked via the",
+        "deprecated kernel interface. The router service always updates it."},
       orderKey = "3_topologyUpdate")
   boolean updateRoutingTopologyOnPathLockChange();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to execute scheduling and dispatching tasks in lanes running concurrently to the",
+        "kernel executor. If false, the kernel executor executes these tasks one after another."},
+      orderKey = "4_executor_0")
+  boolean concurrentExecutorLanes();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The number of threads executing vehicle-related tasks and read-only queries, each.",
+        "If 0, the number of available processors is used."},
+      orderKey = "4_executor_1")
+  int executorPoolSize();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to deliver application events to each subscriber asynchronously.",
+        "If enabled, every subscriber gets a bounded buffer of pending events and a thread of its",
+        "own."},
+      orderKey = "5_eventBus_0")
+  boolean asyncEventBus();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of pending events per subscriber of the asynchronous bus.",
+      orderKey = "5_eventBus_1")
+  int asyncEventBusCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "What happens when a subscriber's buffer of the asynchronous event bus is full.",
+        "Possible values:",
+        "COALESCE: Modification events for the same object are merged, or else the oldest",
+        "modification event is dropped.",
+        "DROP_OLDEST: The oldest modification event is dropped.",
+        "BLOCK: The publisher waits until the subscriber has processed an event.",
+        "Object creation and removal events are never dropped, and kernel-internal subscribers",
+        "always receive all events directly."},
+      orderKey = "5_eventBus_2")
+  AsyncEventBus.OverflowPolicy asyncEventBusOverflowPolicy();
 }
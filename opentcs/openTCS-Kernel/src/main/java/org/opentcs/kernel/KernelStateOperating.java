@@ -202,6 +202,15 @@ class KernelStateOperating
       setVehicleOrderSequence(curVehicle.getReference(), null);
     }
 
+    // Restore orders from the journal and reassign vehicles to the order sequences they were
+    // processing before any order is dispatched.
+    orderPool.openJournal();
+    for (OrderSequence curSequence : orderPool.getOrderSequences(seq -> !seq.isFinished())) {
+      if (curSequence.getProcessingVehicle() != null) {
+        setVehicleOrderSequence(curSequence.getProcessingVehicle(), curSequence.getReference());
+      }
+    }
+
     LOG.debug("Initializing scheduler '{}'...", scheduler);
     scheduler.initialize();
     LOG.debug("Initializing router '{}'...", router);
@@ -261,6 +270,9 @@ class KernelStateOperating
     cleanerTaskFuture.cancel(false);
     cleanerTaskFuture = null;
 
+    // Stop journaling, so orders are restored in the state they had before terminating.
+    orderPool.closeJournal();
+
     // Terminate strategies.
     recoveryEvaluator.terminate();
     LOG.debug("Terminating dispatcher '{}'...", dispatcher);
@@ -361,9 +373,9 @@ class KernelStateOperating
                             boolean locked)
       throws ObjectUnknownException {
     synchronized (getGlobalSyncObject()) {
-      getModel().setPathLocked(ref, locked);
+      Path path = getModel().setPathLocked(ref, locked);
       if (configuration.updateRoutingTopologyOnPathLockChange()) {
-        updateRoutingTopology();
+        router.topologyChanged(Collections.singleton(path));
       }
     }
   }
@@ -11,7 +11,7 @@ import org.opentcs.util.configuration.ConfigurationEntry;
 import org.opentcs.util.configuration.ConfigurationPrefix;
 
 /**
- * Provides methods to configure the {@link OrderCleanerTask}.
+ * Provides methods to configure the {@link OrderCleanerTask} and the order pool journal.
  *
  * @author Martin Grzenia (Fraunhofer IML)
  */
@@ -32,4 +32,16 @@ public interface OrderPoolConfiguration {
       type = "Integer",
       description = "The minimum age of orders to remove in a sweep (in ms).")
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to journal transport orders and order sequences in the kernel's data directory",
+        "and restore them when the kernel enters operating mode."})
+  boolean journalEnabled();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The journal size (in bytes) after which a snapshot of all orders is written.")
+  int journalCompactionSize();
 }
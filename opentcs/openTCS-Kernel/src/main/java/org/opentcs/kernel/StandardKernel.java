@@ -60,6 +60,7 @@ import org.opentcs.data.order.Rejection;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.kernel.util.DefaultKernelExecutorLanes;
 import org.opentcs.util.event.EventBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,6 +108,10 @@ final class StandardKernel
    * Our executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The lanes executing kernel tasks concurrently.
+   */
+  private final DefaultKernelExecutorLanes executorLanes;
   /**
    * This kernel's order receivers.
    */
@@ -129,6 +134,7 @@ final class StandardKernel
    *
    * @param eventHub The central event hub to be used.
    * @param kernelExecutor An executor for this kernel's tasks.
+   * @param executorLanes The lanes executing kernel tasks concurrently.
    * @param stateProviders The state map to be used.
    */
   @Inject
@@ -137,10 +143,12 @@ final class StandardKernel
       @org.opentcs.customizations.kernel.CentralEventHub org.opentcs.util.eventsystem.EventHub<org.opentcs.util.eventsystem.TCSEvent> eventHub,
       @ApplicationEventBus EventBus eventBus,
       @KernelExecutor ScheduledExecutorService kernelExecutor,
+      DefaultKernelExecutorLanes executorLanes,
       Map<Kernel.State, Provider<KernelState>> stateProviders) {
     this.eventHub = requireNonNull(eventHub, "eventHub");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.executorLanes = requireNonNull(executorLanes, "executorLanes");
     this.stateProviders = requireNonNull(stateProviders, "stateProviders");
   }
 
@@ -195,6 +203,7 @@ final class StandardKernel
       extension.terminate();
     }
     kernelExecutor.shutdown();
+    executorLanes.shutdown();
     LOG.info("Kernel thread finished.");
   }
 
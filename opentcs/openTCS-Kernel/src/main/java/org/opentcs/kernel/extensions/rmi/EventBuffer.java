@@ -7,17 +7,37 @@
  */
 package org.opentcs.kernel.extensions.rmi;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import static org.opentcs.util.Assertions.checkArgument;
 import org.opentcs.util.annotations.ScheduledApiChange;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * The number of buffered events is bounded by the buffer's capacity, with the given overflow
+ * policy deciding what happens when an event arrives while the buffer is full.
+ * To keep the number of buffered events low, an event reporting the modification of an object
+ * replaces any modification event for the same object that has not been fetched, yet.
+ * The replacing event is appended to the end of the buffer and reports the modification from the
+ * object's state before the replaced event to its latest state.
+ * </p>
+ * <p>
+ * Only modification events are ever discarded on an overflow, as a client can still catch up with
+ * an object's state from a later event for it.
+ * If no modification event can be discarded, the buffer is considered overflowed and its client
+ * needs to resynchronize, i.e. to log in again and to start from a consistent state.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -25,9 +45,33 @@ public class EventBuffer
     implements EventHandler {
 
   /**
-   * The buffered events.
+   * The buffered events, mapped by their (buffer-internal) sequence numbers.
    */
-  private final List<Object> events = new LinkedList<>();
+  private final Map<Long, Object> events = new LinkedHashMap<>();
+  /**
+   * The sequence numbers of buffered modification events, mapped by the modified objects.
+   */
+  private final Map<TCSObjectReference<?>, Long> pendingModifications = new HashMap<>();
+  /**
+   * The maximum number of buffered events.
+   */
+  private final int capacity;
+  /**
+   * What to do when an event arrives while the buffer is full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The sequence number for the next event to be buffered.
+   */
+  private long nextSequenceNo;
+  /**
+   * The number of events discarded due to overflows.
+   */
+  private long droppedEventCount;
+  /**
+   * Whether this buffer has overflowed and its client needs to resynchronize.
+   */
+  private boolean overflowed;
   /**
    * This buffer's event filter.
    */
@@ -38,12 +82,28 @@ public class EventBuffer
   private boolean waitingClient;
 
   /**
-   * Creates a new instance
+   * Creates a new instance with unlimited capacity.
    *
    * @param eventFilter This buffer's initial event filter.
    */
   public EventBuffer(@Nonnull Predicate<Object> eventFilter) {
+    this(eventFilter, Integer.MAX_VALUE, OverflowPolicy.DROP_OLDEST);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param capacity The maximum number of buffered events.
+   * @param overflowPolicy What to do when an event arrives while the buffer is full.
+   */
+  public EventBuffer(@Nonnull Predicate<Object> eventFilter,
+                     int capacity,
+                     @Nonnull OverflowPolicy overflowPolicy) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    checkArgument(capacity > 0, "capacity <= 0: %s", capacity);
+    this.capacity = capacity;
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
   }
 
   // Methods declared in interface EventListener start here
@@ -51,13 +111,22 @@ public class EventBuffer
   public void onEvent(Object event) {
     requireNonNull(event, "event");
     synchronized (events) {
-      if (eventFilter.test(event)) {
-        events.add(event);
-        // If the client is waiting for an event, wake it up, since there is one
-        // now.
-        if (waitingClient) {
-          events.notify();
-        }
+      if (overflowed || !eventFilter.test(event)) {
+        return;
+      }
+      Object eventToAdd = coalesceWithPendingModification(event);
+      if (events.size() >= capacity && !handleOverflow(eventToAdd)) {
+        return;
+      }
+      long sequenceNo = nextSequenceNo++;
+      events.put(sequenceNo, eventToAdd);
+      if (isModification(eventToAdd)) {
+        pendingModifications.put(objectReference(eventToAdd), sequenceNo);
+      }
+      // If the client is waiting for an event, wake it up, since there is one
+      // now.
+      if (waitingClient) {
+        events.notify();
       }
     }
   }
@@ -91,8 +160,9 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new LinkedList<>(events);
+      List<Object> result = new ArrayList<>(events.values());
       events.clear();
+      pendingModifications.clear();
       return result;
     }
   }
@@ -110,6 +180,40 @@ public class EventBuffer
     }
   }
 
+  /**
+   * Returns the number of events currently stored in this buffer.
+   *
+   * @return The number of events currently stored in this buffer.
+   */
+  public int getSize() {
+    synchronized (events) {
+      return events.size();
+    }
+  }
+
+  /**
+   * Returns the number of events discarded so far because this buffer was full.
+   *
+   * @return The number of events discarded so far because this buffer was full.
+   */
+  public long getDroppedEventCount() {
+    synchronized (events) {
+      return droppedEventCount;
+    }
+  }
+
+  /**
+   * Checks whether this buffer has overflowed in a way that its client cannot catch up with, i.e.
+   * whether its client should be disconnected to make it resynchronize.
+   *
+   * @return <code>true</code> if, and only if, this buffer has overflowed.
+   */
+  public boolean isOverflowed() {
+    synchronized (events) {
+      return overflowed;
+    }
+  }
+
   /**
    * Sets this buffer's event filter.
    *
@@ -138,4 +242,109 @@ public class EventBuffer
       this.eventFilter = requireNonNull(eventFilter);
     }
   }
+
+  /**
+   * Removes any pending modification event for the same object from the buffer and returns an
+   * event replacing both, or returns the given event as it is.
+   *
+   * @param event The event that just arrived.
+   * @return The event to be added to the buffer.
+   */
+  private Object coalesceWithPendingModification(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return event;
+    }
+    // Any other event for the object ends the sequence of modifications that may be merged.
+    Long pendingSequenceNo = pendingModifications.remove(objectReference(event));
+    if (pendingSequenceNo == null || !isModification(event)) {
+      return event;
+    }
+    TCSObjectEvent pendingEvent = (TCSObjectEvent) events.remove(pendingSequenceNo);
+    return new TCSObjectEvent(((TCSObjectEvent) event).getCurrentObjectState(),
+                              pendingEvent.getPreviousObjectState(),
+                              TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
+  /**
+   * Makes room for a new event according to the overflow policy.
+   *
+   * @param event The event that just arrived.
+   * @return <code>true</code> if, and only if, the new event is to be added to the buffer.
+   */
+  private boolean handleOverflow(Object event) {
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        if (dropOldestModification()) {
+          return true;
+        }
+        break;
+      case DROP_NEWEST:
+        if (isModification(event)) {
+          droppedEventCount++;
+          return false;
+        }
+        break;
+      case DISCONNECT_CLIENT:
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled overflow policy: " + overflowPolicy);
+    }
+    droppedEventCount += events.size() + 1;
+    events.clear();
+    pendingModifications.clear();
+    overflowed = true;
+    // Wake up a waiting client so it learns about the disconnection soon.
+    if (waitingClient) {
+      events.notify();
+    }
+    return false;
+  }
+
+  /**
+   * Removes the oldest buffered modification event, if there is any.
+   *
+   * @return <code>true</code> if, and only if, an event was removed.
+   */
+  private boolean dropOldestModification() {
+    for (Iterator<Object> iter = events.values().iterator(); iter.hasNext();) {
+      Object bufferedEvent = iter.next();
+      if (isModification(bufferedEvent)) {
+        iter.remove();
+        pendingModifications.remove(objectReference(bufferedEvent));
+        droppedEventCount++;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isModification(Object event) {
+    return event instanceof TCSObjectEvent
+        && ((TCSObjectEvent) event).getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
+  private static TCSObjectReference<?> objectReference(Object event) {
+    return ((TCSObjectEvent) event).getCurrentOrPreviousObjectState().getReference();
+  }
+
+  /**
+   * Defines what happens when an event arrives while a buffer is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The oldest buffered modification event is discarded.
+     * If there is none, the client is disconnected as with {@link #DISCONNECT_CLIENT}.
+     */
+    DROP_OLDEST,
+    /**
+     * The arriving event is discarded if it is a modification event.
+     * If it is not, the client is disconnected as with {@link #DISCONNECT_CLIENT}.
+     */
+    DROP_NEWEST,
+    /**
+     * All buffered events are discarded and the client is disconnected, forcing it to log in again
+     * and to start from a consistent state.
+     */
+    DISCONNECT_CLIENT;
+  }
 }
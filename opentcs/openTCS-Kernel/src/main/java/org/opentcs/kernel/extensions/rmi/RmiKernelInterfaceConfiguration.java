@@ -102,6 +102,23 @@ public interface RmiKernelInterfaceConfiguration {
       orderKey = "2_sweeping")
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of events buffered for a client between two polls.",
+      orderKey = "3_events_0")
+  int clientEventBufferCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {"What to do when an event arrives for a client whose event buffer is full:",
+                     "'DROP_OLDEST' to discard the oldest buffered object modification event,",
+                     "'DROP_NEWEST' to discard the arriving event if it is an object modification,",
+                     "'DISCONNECT_CLIENT' to discard all events and disconnect the client.",
+                     "If no modification event can be discarded, the client is disconnected and",
+                     "has to log in again to resynchronize."},
+      orderKey = "3_events_1")
+  EventBuffer.OverflowPolicy clientEventBufferOverflowPolicy();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -184,7 +184,7 @@ public class StandardRemoteKernelClientPortal
       // Generate a new ID for the client.
       ClientID clientId = new ClientID(userName);
       // Add an entry for the newly connected client.
-      ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+      ClientEntry clientEntry = userManager.createClientEntry(userName, account.getPermissions());
       clientEntry.getEventBuffer().setEventFilter(eventFilter);
       userManager.getKnownClients().put(clientId, clientEntry);
       LOG.debug("New client named {} logged in", clientId.getClientName());
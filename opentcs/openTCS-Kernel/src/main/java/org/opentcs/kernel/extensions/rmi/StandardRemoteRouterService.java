@@ -11,10 +11,12 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
@@ -175,4 +177,18 @@ public class StandardRemoteRouterService
       throw findSuitableExceptionFor(exc);
     }
   }
+
+  @Override
+  public RouteCacheStatistics fetchRouteCacheStatistics(ClientID clientId) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return routerService.fetchRouteCacheStatistics();
+  }
+
+  @Override
+  public Map<Integer, Long> fetchRoutingTableCreationTimes(ClientID clientId) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return routerService.fetchRoutingTableCreationTimes();
+  }
 }
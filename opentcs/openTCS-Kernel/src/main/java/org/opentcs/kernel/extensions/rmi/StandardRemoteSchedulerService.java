@@ -11,9 +11,11 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.access.SchedulerAllocationState;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
@@ -147,4 +149,11 @@ public class StandardRemoteSchedulerService
 
     return schedulerService.fetchSchedulerAllocations();
   }
+
+  @Override
+  public Map<String, WaitingTimeHistogram> fetchWaitingTimeHistograms(ClientID clientId) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return schedulerService.fetchWaitingTimeHistograms();
+  }
 }
@@ -8,6 +8,7 @@
 package org.opentcs.kernel.extensions.rmi;
 
 import static java.util.Objects.requireNonNull;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -15,10 +16,12 @@ import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.services.RemoteTCSObjectService;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import static org.opentcs.util.Assertions.checkArgument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,6 +97,25 @@ public abstract class StandardRemoteTCSObjectService
     return objectService.fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjects(ClientID clientId,
+                                                         ObjectIndex<T, K> index,
+                                                         K key) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+    checkArgument(ObjectIndex.isStandardIndex(index), "Not a standard index: %s", index);
+
+    return objectService.fetchObjects(index, key);
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Set<TCSObject<?>> fetchSnapshot(ClientID clientId) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    // The objects are serialized for the transfer, so there's no need to copy them here.
+    return new HashSet<>(objectService.fetchSnapshot().getObjects((Class) TCSObject.class));
+  }
+
   @Override
   public void updateObjectProperty(ClientID clientId,
                                    TCSObjectReference<?> ref,
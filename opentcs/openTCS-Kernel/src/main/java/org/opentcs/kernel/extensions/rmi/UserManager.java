@@ -30,8 +30,8 @@ import org.opentcs.customizations.ApplicationHome;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkInRange;
-import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
+import org.opentcs.util.event.SynchronousEventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +41,7 @@ import org.slf4j.LoggerFactory;
  * @author Martin Grzenia (Fraunhofer IML)
  */
 public class UserManager
-    implements EventHandler,
+    implements SynchronousEventHandler,
                Lifecycle {
 
   /**
@@ -169,12 +169,51 @@ public class UserManager
   public void onEvent(Object event) {
     // Forward the event to all clients' event buffers.
     synchronized (getKnownClients()) {
-      for (ClientEntry curEntry : getKnownClients().values()) {
-        curEntry.getEventBuffer().onEvent(event);
+      Iterator<Map.Entry<ClientID, ClientEntry>> clientIter
+          = getKnownClients().entrySet().iterator();
+      while (clientIter.hasNext()) {
+        Map.Entry<ClientID, ClientEntry> curEntry = clientIter.next();
+        EventBuffer eventBuffer = curEntry.getValue().getEventBuffer();
+        eventBuffer.onEvent(event);
+        if (eventBuffer.isOverflowed()) {
+          LOG.warn("Event buffer of client {} overflowed, disconnecting client to resynchronize.",
+                   curEntry.getKey().getClientName());
+          clientIter.remove();
+        }
       }
     }
   }
 
+  /**
+   * Creates an entry for a client with an event buffer as configured.
+   *
+   * @param userName The name of the user that connected with the client.
+   * @param permissions The client's permissions.
+   * @return The client entry.
+   */
+  public ClientEntry createClientEntry(String userName, Set<UserPermission> permissions) {
+    return new ClientEntry(userName,
+                           permissions,
+                           new EventBuffer(event -> false,
+                                           configuration.clientEventBufferCapacity(),
+                                           configuration.clientEventBufferOverflowPolicy()));
+  }
+
+  /**
+   * Returns the number of events currently buffered for each known client.
+   *
+   * @return The number of events currently buffered, mapped by client ID.
+   */
+  public Map<ClientID, Integer> getEventBufferDepths() {
+    synchronized (getKnownClients()) {
+      Map<ClientID, Integer> result = new HashMap<>();
+      for (Map.Entry<ClientID, ClientEntry> curEntry : getKnownClients().entrySet()) {
+        result.put(curEntry.getKey(), curEntry.getValue().getEventBuffer().getSize());
+      }
+      return result;
+    }
+  }
+
   /**
    * Returns the directory of users allowed to connect/operate with the kernel.
    *
@@ -230,6 +269,11 @@ public class UserManager
     }
     // Get events or wait for one to arrive if none is currently there.
     List<Object> events = eventBuffer.getEvents(timeout);
+    // If events had to be discarded that the client cannot catch up with, make it log in again to
+    // resynchronize.
+    if (eventBuffer.isOverflowed()) {
+      throw new CredentialsException("Event buffer overflowed, client needs to log in again.");
+    }
     // Set the client's 'alive' flag.
     synchronized (getKnownClients()) {
       clientEntry.setAlive(true);
@@ -304,7 +348,7 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
     /**
      * The client's alive flag.
      */
@@ -317,8 +361,20 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, new EventBuffer(event -> false));
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param eventBuffer The client's event buffer.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, EventBuffer eventBuffer) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      this.eventBuffer = requireNonNull(eventBuffer, "eventBuffer");
     }
 
     /**
@@ -372,6 +428,10 @@ public class UserManager
         while (clientIter.hasNext()) {
           Map.Entry<ClientID, ClientEntry> curEntry = clientIter.next();
           ClientEntry clientEntry = curEntry.getValue();
+          LOG.debug("Client {}: {} buffered events, {} events dropped",
+                    curEntry.getKey().getClientName(),
+                    clientEntry.getEventBuffer().getSize(),
+                    clientEntry.getEventBuffer().getDroppedEventCount());
           // Only touch the entry if the buffer not currently in use by a
           // client.
           if (!clientEntry.getEventBuffer().hasWaitingClient()) {
@@ -12,6 +12,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.data.ObjectExistsException;
@@ -19,9 +21,12 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.OrderHandler;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.NamedTransport;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Transport;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.TransportResult;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.RequestStatusHandler;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.StatusEventDispatcher;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.StatusEventStream;
 import spark.QueryParamsMap;
 import spark.Request;
 import spark.Response;
@@ -46,6 +51,10 @@ public class V1RequestHandler
    * Collects interesting events and provides them for client requests.
    */
   private final StatusEventDispatcher statusEventDispatcher;
+  /**
+   * Pushes the collected events to subscribed clients.
+   */
+  private final StatusEventStream statusEventStream;
   /**
    * Creates transport orders.
    */
@@ -59,9 +68,11 @@ public class V1RequestHandler
 
   @Inject
   public V1RequestHandler(StatusEventDispatcher statusEventDispatcher,
+                          StatusEventStream statusEventStream,
                           OrderHandler orderHandler,
                           RequestStatusHandler requestHandler) {
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+    this.statusEventStream = requireNonNull(statusEventStream, "statusEventStream");
     this.orderHandler = requireNonNull(orderHandler, "orderHandler");
     this.statusInformationProvider = requireNonNull(requestHandler, "requestHandler");
   }
@@ -97,6 +108,8 @@ public class V1RequestHandler
   public void addRoutes(Service service) {
     requireNonNull(service, "service");
 
+    service.get("/events/stream",
+                this::handleGetEventStream);
     service.get("/events",
                 this::handleGetEvents);
     service.put("/vehicles/:NAME/integrationLevel",
@@ -111,10 +124,14 @@ public class V1RequestHandler
                  this::handlePostWithdrawalByOrder);
     service.post("/transportOrders/:NAME",
                  this::handlePostTransportOrder);
+    service.post("/transportOrders",
+                 this::handlePostTransportOrders);
     service.get("/transportOrders/:NAME",
                 this::handleGetTransportOrderByName);
     service.get("/transportOrders",
                 this::handleGetTransportOrders);
+    service.get("/rmiClients",
+                this::handleGetRmiClients);
   }
 
   private Object handleGetEvents(Request request, Response response)
@@ -125,6 +142,13 @@ public class V1RequestHandler
                                                     timeout(request)));
   }
 
+  private Object handleGetEventStream(Request request, Response response)
+      throws IllegalArgumentException, IOException {
+    statusEventStream.subscribe(request.raw(), response.raw(), resumeSequenceNo(request));
+    // The response is already committed, so Spark does not write anything else to it.
+    return "";
+  }
+
   private Object handlePostTransportOrder(Request request, Response response)
       throws ObjectUnknownException,
              ObjectExistsException,
@@ -135,6 +159,16 @@ public class V1RequestHandler
     return "";
   }
 
+  private Object handlePostTransportOrders(Request request, Response response)
+      throws IllegalArgumentException,
+             IllegalStateException {
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(fromJson(request.body(),
+                                                           NamedTransport[].class)));
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(results);
+  }
+
   private Object handlePostWithdrawalByOrder(Request request, Response response)
       throws ObjectUnknownException {
     orderHandler.withdrawByTransportOrder(request.params(":NAME"),
@@ -182,6 +216,11 @@ public class V1RequestHandler
     return toJson(statusInformationProvider.getVehicleStateByName(request.params(":NAME")));
   }
 
+  private Object handleGetRmiClients(Request request, Response response) {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return toJson(statusInformationProvider.getRmiClientsState());
+  }
+
   private Object handlePutVehicleIntegrationLevel(Request request, Response response)
       throws ObjectUnknownException, IllegalArgumentException {
     statusInformationProvider.putVehicleIntegrationLevel(
@@ -234,6 +273,21 @@ public class V1RequestHandler
     }
   }
 
+  private long resumeSequenceNo(Request request)
+      throws IllegalArgumentException {
+    // Clients reconnecting to an event stream report the last event they received.
+    String lastEventId = request.headers("Last-Event-ID");
+    if (lastEventId == null) {
+      return minSequenceNo(request);
+    }
+    try {
+      return Long.parseLong(lastEventId) + 1;
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed Last-Event-ID: " + lastEventId);
+    }
+  }
+
   private long maxSequenceNo(Request request)
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("maxSequenceNo", String.valueOf(Long.MAX_VALUE));
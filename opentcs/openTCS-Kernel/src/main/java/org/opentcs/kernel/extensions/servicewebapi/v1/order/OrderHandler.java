@@ -9,11 +9,14 @@ package org.opentcs.kernel.extensions.servicewebapi.v1.order;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
@@ -26,11 +29,14 @@ import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.NamedTransport;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Property;
 import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Transport;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.TransportResult;
 
 /**
  * Handles requests for creating or withdrawing transport orders.
@@ -83,12 +89,7 @@ public class OrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(new HashSet<>(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = creationTO(name, order);
 
     try {
       kernelExecutor.submit(() -> {
@@ -107,6 +108,77 @@ public class OrderHandler {
     }
   }
 
+  /**
+   * Creates a batch of transport orders.
+   * <p>
+   * All transport orders, including their references to other objects, are validated before any of
+   * them is created.
+   * The valid ones are then created in a single task on the kernel executor, and a single dispatch
+   * run is triggered for all of them.
+   * Transport orders that are invalid or whose creation fails do not affect the others, and the
+   * outcome is reported for every one of them.
+   * </p>
+   *
+   * @param orders The transport orders to be created.
+   * @return The results, in the order of the given transport orders.
+   * @throws KernelRuntimeException If creating the transport orders failed unexpectedly.
+   * @throws IllegalStateException If interrupted while waiting for the transport orders to be
+   * created.
+   */
+  public List<TransportResult> createOrders(List<NamedTransport> orders)
+      throws KernelRuntimeException,
+             IllegalStateException {
+    requireNonNull(orders, "orders");
+
+    TransportResult[] results = new TransportResult[orders.size()];
+    Map<Integer, TransportOrderCreationTO> validOrders = new LinkedHashMap<>();
+    Set<String> names = new HashSet<>();
+    Set<String> validNames = new HashSet<>();
+    for (int i = 0; i < orders.size(); i++) {
+      NamedTransport order = orders.get(i);
+      String error = validationError(order, names, validNames);
+      if (error == null) {
+        validOrders.put(i, creationTO(order.getName(), order));
+        validNames.add(order.getName());
+      }
+      else {
+        results[i] = TransportResult.failed(order == null ? "" : String.valueOf(order.getName()),
+                                            error);
+      }
+    }
+
+    if (!validOrders.isEmpty()) {
+      try {
+        kernelExecutor.submit(() -> {
+          for (Map.Entry<Integer, TransportOrderCreationTO> entry : validOrders.entrySet()) {
+            String name = entry.getValue().getName();
+            try {
+              orderService.createTransportOrder(entry.getValue());
+              results[entry.getKey()] = TransportResult.created(name);
+            }
+            catch (RuntimeException exc) {
+              // Report the failure for this transport order only and go on with the others, which
+              // may have been created already and still need to be dispatched.
+              results[entry.getKey()] = TransportResult.failed(name, errorMessage(exc));
+            }
+          }
+          dispatcherService.dispatch();
+        }).get();
+      }
+      catch (InterruptedException exc) {
+        throw new IllegalStateException("Unexpectedly interrupted");
+      }
+      catch (ExecutionException exc) {
+        if (exc.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) exc.getCause();
+        }
+        throw new KernelRuntimeException(exc.getCause());
+      }
+    }
+
+    return Arrays.asList(results);
+  }
+
   public void withdrawByTransportOrder(String name, boolean immediate, boolean disableVehicle)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
@@ -145,6 +217,104 @@ public class OrderHandler {
     });
   }
 
+  /**
+   * Checks the given transport order for problems that would prevent its creation.
+   *
+   * @param order The transport order.
+   * @param names The names of the transport orders in the batch checked so far. The name of the
+   * given transport order is added to it.
+   * @param validNames The names of the transport orders in the batch found to be valid so far.
+   * @return A description of the problem found, or <code>null</code>, if none was found.
+   */
+  private String validationError(NamedTransport order, Set<String> names, Set<String> validNames) {
+    if (order == null) {
+      return "Missing transport order";
+    }
+    if (isBlank(order.getName())) {
+      return "Missing transport order name";
+    }
+    if (!names.add(order.getName())) {
+      return "Duplicate transport order name in batch: " + order.getName();
+    }
+    if (orderService.fetchObject(TransportOrder.class, order.getName()) != null) {
+      return "Transport order already exists: " + order.getName();
+    }
+    if (order.getDestinations() == null || order.getDestinations().isEmpty()) {
+      return "Missing destinations";
+    }
+    for (Destination dest : order.getDestinations()) {
+      if (dest == null || isBlank(dest.getLocationName())) {
+        return "Missing destination location name";
+      }
+      if (dest.getOperation() == null) {
+        return "Missing destination operation";
+      }
+      if (orderService.fetchObject(Location.class, dest.getLocationName()) == null) {
+        return "Unknown location: " + dest.getLocationName();
+      }
+      String error = propertiesError(dest.getProperties());
+      if (error != null) {
+        return error;
+      }
+    }
+    if (order.getIntendedVehicle() != null) {
+      if (isBlank(order.getIntendedVehicle())) {
+        return "Missing intended vehicle name";
+      }
+      if (orderService.fetchObject(Vehicle.class, order.getIntendedVehicle()) == null) {
+        return "Unknown vehicle: " + order.getIntendedVehicle();
+      }
+    }
+    if (order.getDependencies() == null) {
+      return "Missing dependencies";
+    }
+    for (String dependency : order.getDependencies()) {
+      if (isBlank(dependency)) {
+        return "Missing dependency name";
+      }
+      // Dependencies may also refer to valid transport orders preceding this one in the batch.
+      if (!validNames.contains(dependency)
+          && orderService.fetchObject(TransportOrder.class, dependency) == null) {
+        return "Unknown dependency: " + dependency;
+      }
+    }
+    return propertiesError(order.getProperties());
+  }
+
+  /**
+   * Checks the given properties for problems that would prevent the creation of a transport order.
+   *
+   * @param properties The properties.
+   * @return A description of the problem found, or <code>null</code>, if none was found.
+   */
+  private String propertiesError(List<Property> properties) {
+    if (properties == null) {
+      return "Missing properties";
+    }
+    for (Property prop : properties) {
+      if (prop == null || prop.getKey() == null || prop.getValue() == null) {
+        return "Incomplete property";
+      }
+    }
+    return null;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.trim().isEmpty();
+  }
+
+  private static String errorMessage(RuntimeException exc) {
+    return exc.getMessage() == null ? exc.getClass().getSimpleName() : exc.getMessage();
+  }
+
+  private TransportOrderCreationTO creationTO(String name, Transport order) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(new HashSet<>(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withProperties(properties(order.getProperties()));
+  }
+
   private List<DestinationCreationTO> destinations(Transport order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
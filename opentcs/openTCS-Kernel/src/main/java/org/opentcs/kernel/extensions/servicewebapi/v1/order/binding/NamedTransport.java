@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.order.binding;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+/**
+ * A transport order to be processed by the kernel, including its name, as part of a batch.
+ *
+ * @author agent (agent@local)
+ */
+public class NamedTransport
+    extends Transport {
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("The name of the transport order")
+  private String name = "";
+
+  /**
+   * Creates a new instance.
+   */
+  public NamedTransport() {
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+}
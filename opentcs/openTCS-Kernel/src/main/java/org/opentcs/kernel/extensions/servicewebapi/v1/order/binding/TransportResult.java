@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.order.binding;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The result of creating a transport order as part of a batch.
+ *
+ * @author agent (agent@local)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransportResult {
+
+  @JsonPropertyDescription("The name of the transport order")
+  private String name = "";
+
+  @JsonPropertyDescription("Whether the transport order was created")
+  private boolean created;
+
+  @JsonPropertyDescription("The reason why the transport order was not created, if it was not")
+  private String error;
+
+  /**
+   * Creates a new instance.
+   */
+  public TransportResult() {
+  }
+
+  /**
+   * Returns a result for a transport order that was created.
+   *
+   * @param name The name of the transport order.
+   * @return A result for a transport order that was created.
+   */
+  public static TransportResult created(String name) {
+    TransportResult result = new TransportResult();
+    result.setName(requireNonNull(name, "name"));
+    result.setCreated(true);
+    return result;
+  }
+
+  /**
+   * Returns a result for a transport order that was not created.
+   *
+   * @param name The name of the transport order.
+   * @param error The reason why the transport order was not created.
+   * @return A result for a transport order that was not created.
+   */
+  public static TransportResult failed(String name, String error) {
+    TransportResult result = new TransportResult();
+    result.setName(requireNonNull(name, "name"));
+    result.setError(requireNonNull(error, "error"));
+    return result;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public boolean isCreated() {
+    return created;
+  }
+
+  public void setCreated(boolean created) {
+    this.created = created;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+}
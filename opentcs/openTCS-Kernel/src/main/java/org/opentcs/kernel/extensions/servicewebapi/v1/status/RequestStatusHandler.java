@@ -7,18 +7,22 @@
  */
 package org.opentcs.kernel.extensions.servicewebapi.v1.status;
 
+import java.util.Comparator;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.rmi.UserManager;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.RmiClientState;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.TransportOrderState;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.VehicleState;
 import org.opentcs.kernel.extensions.servicewebapi.v1.status.filter.TransportOrderFilter;
@@ -43,6 +47,10 @@ public class RequestStatusHandler {
    * The kernel's executor service.
    */
   private final ExecutorService kernelExecutor;
+  /**
+   * Keeps track of the clients logged in via the RMI interface.
+   */
+  private final UserManager userManager;
 
   /**
    * Creates a new instance.
@@ -50,14 +58,17 @@ public class RequestStatusHandler {
    * @param orderService The service we use to get the transport orders.
    * @param vehicleService Used to update vehicle instances.
    * @param kernelExecutor The kernel's executor service.
+   * @param userManager Keeps track of the clients logged in via the RMI interface.
    */
   @Inject
   public RequestStatusHandler(TransportOrderService orderService,
                               VehicleService vehicleService,
-                              @KernelExecutor ExecutorService kernelExecutor) {
+                              @KernelExecutor ExecutorService kernelExecutor,
+                              UserManager userManager) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.userManager = requireNonNull(userManager, "userManager");
   }
 
   /**
@@ -69,15 +80,16 @@ public class RequestStatusHandler {
    * @return A list of transport orders that match the filter.
    */
   public List<TransportOrderState> getTransportOrdersState(@Nullable String intendedVehicle) {
+    // The objects are only read, so there's no need to copy them.
+    TCSObjectSnapshot snapshot = orderService.fetchSnapshot();
     if (intendedVehicle != null) {
-      Vehicle vehicle = orderService.fetchObject(Vehicle.class, intendedVehicle);
+      Vehicle vehicle = snapshot.getObjectOrNull(Vehicle.class, intendedVehicle);
       if (vehicle == null) {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
     }
 
-    return orderService.fetchObjects(TransportOrder.class,
-                                     new TransportOrderFilter(intendedVehicle))
+    return snapshot.getObjects(TransportOrder.class, new TransportOrderFilter(intendedVehicle))
         .stream()
         .map(order -> TransportOrderState.fromTransportOrder(order))
         .collect(Collectors.toList());
@@ -94,12 +106,11 @@ public class RequestStatusHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return orderService.fetchObjects(TransportOrder.class,
-                                     t -> t.getName().equals(name))
-        .stream()
-        .map(t -> TransportOrderState.fromTransportOrder(t))
-        .findAny()
-        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
+    TransportOrder order = orderService.fetchSnapshot().getObjectOrNull(TransportOrder.class, name);
+    if (order == null) {
+      throw new ObjectUnknownException("Unknown transport order: " + name);
+    }
+    return TransportOrderState.fromTransportOrder(order);
   }
 
   /**
@@ -110,8 +121,8 @@ public class RequestStatusHandler {
    * @return A list of vehicles, that match the filter.
    */
   public List<VehicleState> getVehiclesState(@Nullable String procState) {
-    List<VehicleState> vehicles = orderService.fetchObjects(Vehicle.class,
-                                                            new VehicleFilter(procState))
+    List<VehicleState> vehicles = orderService.fetchSnapshot()
+        .getObjects(Vehicle.class, new VehicleFilter(procState))
         .stream()
         .map(vehicle -> VehicleState.fromVehicle(vehicle))
         .collect(Collectors.toList());
@@ -129,11 +140,11 @@ public class RequestStatusHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return orderService.fetchObjects(Vehicle.class, v -> v.getName().equals(name))
-        .stream()
-        .map(v -> VehicleState.fromVehicle(v))
-        .findAny()
-        .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
+    Vehicle vehicle = orderService.fetchSnapshot().getObjectOrNull(Vehicle.class, name);
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + name);
+    }
+    return VehicleState.fromVehicle(vehicle);
   }
 
   public void putVehicleIntegrationLevel(String name, String value)
@@ -153,4 +164,21 @@ public class RequestStatusHandler {
     );
   }
 
+  /**
+   * Returns the states of all clients logged in via the RMI interface.
+   *
+   * @return The states of all clients logged in via the RMI interface, sorted by client name.
+   */
+  public List<RmiClientState> getRmiClientsState() {
+    return userManager.getEventBufferDepths().entrySet().stream()
+        .map(entry -> {
+          RmiClientState state = new RmiClientState();
+          state.setClientName(entry.getKey().getClientName());
+          state.setBufferedEvents(entry.getValue());
+          return state;
+        })
+        .sorted(Comparator.comparing(RmiClientState::getClientName))
+        .collect(Collectors.toList());
+  }
+
 }
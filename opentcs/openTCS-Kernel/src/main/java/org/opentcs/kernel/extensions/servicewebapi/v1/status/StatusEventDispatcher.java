@@ -44,6 +44,10 @@ public class StatusEventDispatcher
    * Where we register for application events.
    */
   private final EventSource eventSource;
+  /**
+   * Pushes the events collected to subscribed clients.
+   */
+  private final StatusEventStream eventStream;
   /**
    * The events collected.
    */
@@ -59,9 +63,11 @@ public class StatusEventDispatcher
 
   @Inject
   public StatusEventDispatcher(ServiceWebApiConfiguration configuration,
-                               @ApplicationEventBus EventSource eventSource) {
+                               @ApplicationEventBus EventSource eventSource,
+                               StatusEventStream eventStream) {
     this.configuration = requireNonNull(configuration, "configuration");
     this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.eventStream = requireNonNull(eventStream, "eventStream");
   }
 
   @Override
@@ -75,6 +81,7 @@ public class StatusEventDispatcher
       events.clear();
     }
 
+    eventStream.initialize();
     eventSource.subscribe(this);
 
     initialized = true;
@@ -92,6 +99,7 @@ public class StatusEventDispatcher
     }
 
     eventSource.unsubscribe(this);
+    eventStream.terminate();
 
     initialized = false;
   }
@@ -102,9 +110,10 @@ public class StatusEventDispatcher
       return;
     }
     TCSObject<?> object = ((TCSObjectEvent) event).getCurrentOrPreviousObjectState();
+    StatusMessage message;
     if (object instanceof TransportOrder) {
       synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
+        message = addOrderStatusMessage((TransportOrder) object, eventCount);
         eventCount++;
         cleanUpEvents();
         events.notifyAll();
@@ -112,12 +121,19 @@ public class StatusEventDispatcher
     }
     else if (object instanceof Vehicle) {
       synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
+        message = addVehicleStatusMessage((Vehicle) object, eventCount);
         eventCount++;
         cleanUpEvents();
         events.notifyAll();
       }
     }
+    else {
+      return;
+    }
+    // Publish without holding the lock to avoid stalling clients fetching events. Events are
+    // delivered to this handler one at a time, so messages are still published in the order of
+    // their sequence numbers.
+    eventStream.publish(message);
   }
 
   /**
@@ -152,12 +168,17 @@ public class StatusEventDispatcher
     return result;
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(sequenceNumber, OrderStatusMessage.fromTransportOrder(order, sequenceNumber));
+  private StatusMessage addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
+    return addStatusMessage(OrderStatusMessage.fromTransportOrder(order, sequenceNumber));
+  }
+
+  private StatusMessage addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
+    return addStatusMessage(VehicleStatusMessage.fromVehicle(vehicle, sequenceNumber));
   }
 
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(sequenceNumber, VehicleStatusMessage.fromVehicle(vehicle, sequenceNumber));
+  private StatusMessage addStatusMessage(StatusMessage message) {
+    events.put(message.getSequenceNumber(), message);
+    return message;
   }
 
   private void cleanUpEvents() {
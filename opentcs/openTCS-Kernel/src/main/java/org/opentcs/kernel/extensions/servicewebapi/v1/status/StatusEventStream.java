@@ -0,0 +1,402 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.status;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.StatusMessage;
+import static org.opentcs.util.Assertions.checkInRange;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes status messages to any number of subscribers as a stream of server-sent events.
+ * <p>
+ * Each status message is serialized only once, into a frame that is kept in a ring buffer shared
+ * by all subscribers.
+ * Every subscriber keeps track of the sequence number of the next frame to be written to it, so
+ * clients may resume a stream after reconnecting as long as the frames they missed are still in
+ * the buffer.
+ * Serializing status messages and writing frames happens on a separate thread, so the publishing
+ * thread is never delayed by it.
+ * Frames are written using non-blocking I/O, so slow subscribers neither block that thread nor
+ * occupy a server thread each.
+ * A subscriber that falls behind by more than the buffer's capacity skips the frames it missed.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class StatusEventStream
+    implements Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(StatusEventStream.class);
+  /**
+   * The content type of event streams.
+   */
+  private static final String CONTENT_TYPE_EVENT_STREAM_UTF8 = "text/event-stream; charset=utf-8";
+  /**
+   * The interface configuration.
+   */
+  private final ServiceWebApiConfiguration configuration;
+  /**
+   * Serializes published status messages and writes frames to subscribers, one task at a time.
+   */
+  private final Executor publishingExecutor;
+  /**
+   * Maps between objects and their JSON representations.
+   */
+  private final ObjectMapper objectMapper
+      = new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  /**
+   * The current subscribers.
+   */
+  private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+  /**
+   * The most recently published frames, indexed by their sequence numbers modulo the capacity.
+   */
+  private Frame[] frames = new Frame[0];
+  /**
+   * The sequence number of the most recently published frame, or -1, if there is none.
+   */
+  private long latestSequenceNo = -1;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  @Inject
+  public StatusEventStream(ServiceWebApiConfiguration configuration) {
+    this(configuration, new LoggingScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "statusEventStreamPublisher");
+      thread.setDaemon(true);
+      thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      return thread;
+    }));
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The interface configuration.
+   * @param publishingExecutor Serializes published status messages and writes frames to
+   * subscribers. Must execute its tasks one at a time and in the order of their submission.
+   */
+  StatusEventStream(ServiceWebApiConfiguration configuration, Executor publishingExecutor) {
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.publishingExecutor = requireNonNull(publishingExecutor, "publishingExecutor");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    synchronized (this) {
+      frames = new Frame[Math.max(1, configuration.statusEventsCapacity())];
+      latestSequenceNo = -1;
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    for (Subscriber subscriber : subscribers) {
+      subscriber.close();
+    }
+
+    initialized = false;
+  }
+
+  /**
+   * Publishes the given status message to all subscribers.
+   * Messages are expected to be published in the order of their sequence numbers.
+   * The message is serialized and written to the subscribers asynchronously, so it must not be
+   * modified after being published.
+   *
+   * @param message The status message.
+   */
+  public void publish(StatusMessage message) {
+    requireNonNull(message, "message");
+
+    publishingExecutor.execute(() -> writeToSubscribers(message));
+  }
+
+  /**
+   * Serializes the given status message and writes any pending frames to all subscribers.
+   *
+   * @param message The status message.
+   */
+  private void writeToSubscribers(StatusMessage message) {
+    Frame frame;
+    try {
+      frame = new Frame(message.getSequenceNumber(),
+                        ("id: " + message.getSequenceNumber() + "\n"
+                         + "data: " + objectMapper.writeValueAsString(message) + "\n\n")
+                            .getBytes(StandardCharsets.UTF_8));
+    }
+    catch (JsonProcessingException exc) {
+      LOG.warn("Could not serialize status message {}", message.getSequenceNumber(), exc);
+      return;
+    }
+
+    synchronized (this) {
+      frames[(int) (frame.sequenceNo % frames.length)] = frame;
+      latestSequenceNo = frame.sequenceNo;
+    }
+
+    for (Subscriber subscriber : subscribers) {
+      subscriber.writeFrames();
+    }
+  }
+
+  /**
+   * Subscribes the client of the given request to the stream.
+   * The response is committed and the request is put into asynchronous mode, so it is kept open
+   * after the calling request handler returns.
+   *
+   * @param request The client's request.
+   * @param response The response to the client's request.
+   * @param minSequenceNo The sequence number of the first frame to be written to the client.
+   * Frames with this or a greater sequence number that are still buffered are written first.
+   * @throws IOException If the response could not be committed.
+   */
+  public void subscribe(HttpServletRequest request,
+                        HttpServletResponse response,
+                        long minSequenceNo)
+      throws IOException {
+    requireNonNull(request, "request");
+    requireNonNull(response, "response");
+    checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
+
+    response.setContentType(CONTENT_TYPE_EVENT_STREAM_UTF8);
+    response.setHeader("Cache-Control", "no-cache");
+    response.flushBuffer();
+
+    AsyncContext context = request.startAsync();
+    context.setTimeout(0);
+    Subscriber subscriber = new Subscriber(context, response.getOutputStream(), minSequenceNo);
+    context.addListener(subscriber);
+    subscribers.add(subscriber);
+    // Registering the write listener lets the container call it as soon as writing is possible.
+    subscriber.output.setWriteListener(subscriber);
+  }
+
+  /**
+   * Returns the number of current subscribers.
+   *
+   * @return The number of current subscribers.
+   */
+  public int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  /**
+   * Returns the buffered frame with the smallest sequence number not less than the given one.
+   *
+   * @param minSequenceNo The minimum sequence number.
+   * @return The buffered frame, or <code>null</code>, if there is none.
+   */
+  @Nullable
+  private synchronized Frame frameFrom(long minSequenceNo) {
+    if (minSequenceNo > latestSequenceNo) {
+      return null;
+    }
+    long sequenceNo = Math.max(minSequenceNo, latestSequenceNo - frames.length + 1);
+    for (; sequenceNo <= latestSequenceNo; sequenceNo++) {
+      Frame frame = frames[(int) (sequenceNo % frames.length)];
+      if (frame != null && frame.sequenceNo == sequenceNo) {
+        return frame;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A serialized status message.
+   */
+  private static final class Frame {
+
+    /**
+     * The sequence number of the status message.
+     */
+    private final long sequenceNo;
+    /**
+     * The serialized event.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sequenceNo The sequence number of the status message.
+     * @param bytes The serialized event.
+     */
+    Frame(long sequenceNo, byte[] bytes) {
+      this.sequenceNo = sequenceNo;
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * A client receiving the stream.
+   */
+  private final class Subscriber
+      implements WriteListener,
+                 AsyncListener {
+
+    /**
+     * The asynchronous context of the client's request.
+     */
+    private final AsyncContext context;
+    /**
+     * The stream to write frames to.
+     */
+    private final ServletOutputStream output;
+    /**
+     * The sequence number of the next frame to be written.
+     */
+    private long nextSequenceNo;
+    /**
+     * Whether frames have been written since the output was last flushed.
+     */
+    private boolean unflushed;
+    /**
+     * Whether this subscriber has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param context The asynchronous context of the client's request.
+     * @param output The stream to write frames to.
+     * @param nextSequenceNo The sequence number of the next frame to be written.
+     */
+    Subscriber(AsyncContext context, ServletOutputStream output, long nextSequenceNo) {
+      this.context = requireNonNull(context, "context");
+      this.output = requireNonNull(output, "output");
+      this.nextSequenceNo = nextSequenceNo;
+    }
+
+    @Override
+    public synchronized void onWritePossible()
+        throws IOException {
+      // Write as much as possible without blocking. If the output is not ready, the container
+      // calls this method again as soon as it is.
+      while (!closed && output.isReady()) {
+        Frame frame = frameFrom(nextSequenceNo);
+        if (frame == null) {
+          if (!unflushed) {
+            return;
+          }
+          unflushed = false;
+          output.flush();
+        }
+        else {
+          output.write(frame.bytes);
+          unflushed = true;
+          nextSequenceNo = frame.sequenceNo + 1;
+        }
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      LOG.debug("Error writing to event stream subscriber", t);
+      close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      subscribers.remove(this);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    /**
+     * Writes any pending frames, if the output is ready.
+     */
+    public void writeFrames() {
+      try {
+        onWritePossible();
+      }
+      catch (IOException | IllegalStateException exc) {
+        LOG.debug("Error writing to event stream subscriber", exc);
+        close();
+      }
+    }
+
+    /**
+     * Closes the connection to the client.
+     */
+    public void close() {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      subscribers.remove(this);
+      try {
+        context.complete();
+      }
+      catch (IllegalStateException exc) {
+        LOG.debug("Event stream subscriber already completed", exc);
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.status.binding;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The state of a client logged in via the kernel's RMI interface.
+ *
+ * @author agent (agent@local)
+ */
+public class RmiClientState {
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("The name of the client")
+  private String clientName = "";
+
+  @JsonProperty(required = true)
+  @JsonPropertyDescription("The number of events currently buffered for the client")
+  private int bufferedEvents;
+
+  public RmiClientState() {
+  }
+
+  public String getClientName() {
+    return clientName;
+  }
+
+  public void setClientName(String clientName) {
+    this.clientName = requireNonNull(clientName, "clientName");
+  }
+
+  public int getBufferedEvents() {
+    return bufferedEvents;
+  }
+
+  public void setBufferedEvents(int bufferedEvents) {
+    this.bufferedEvents = bufferedEvents;
+  }
+}
@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.zip.CRC32;
+import javax.inject.Inject;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.TCSObject;
+import org.opentcs.kernel.OrderPoolConfiguration;
+import static org.opentcs.util.Assertions.checkState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only journal of the states of transport orders and order sequences, allowing the
+ * contents of the transport order pool to be restored after a restart or crash of the kernel.
+ * <p>
+ * Every modification is appended to a memory-mapped journal file as a record containing either the
+ * complete serialized state of the modified object or the name of a removed object.
+ * As the records are written to memory shared with the operating system's file cache, they survive
+ * a crash of the kernel process without being synced to disk one by one.
+ * Once the journal has grown beyond the configured size, it is compacted by writing a snapshot of
+ * all journaled objects and then starting a new generation of records at the beginning of the
+ * journal file.
+ * Records are tagged with their generation, so records of previous generations that were not
+ * overwritten are recognized and ignored when the journal is read.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class OrderPoolJournal {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderPoolJournal.class);
+  /**
+   * The name of the snapshot file in the data directory.
+   */
+  private static final String SNAPSHOT_FILE_NAME = "orderpool.snapshot";
+  /**
+   * The name of the journal file in the data directory.
+   */
+  private static final String JOURNAL_FILE_NAME = "orderpool.journal";
+  /**
+   * The minimum size of a region of the journal file mapped into memory at once.
+   */
+  private static final int MAPPED_REGION_SIZE = 4 * 1024 * 1024;
+  /**
+   * The size of a record's header: the payload's length, the generation and the payload's checksum.
+   */
+  private static final int RECORD_HEADER_SIZE = 4 + 8 + 8;
+  /**
+   * Marks a record containing an object's state.
+   */
+  private static final byte RECORD_TYPE_UPDATE = 1;
+  /**
+   * Marks a record containing the name of a removed object.
+   */
+  private static final byte RECORD_TYPE_REMOVAL = 2;
+  /**
+   * The directory containing the snapshot and journal files.
+   */
+  private final File dataDirectory;
+  /**
+   * Whether journaling is enabled.
+   */
+  private final boolean enabled;
+  /**
+   * The size of the journal (in bytes) after which it is compacted.
+   */
+  private final long compactionSize;
+  /**
+   * The channel to the journal file, or <code>null</code>, if this journal is not open.
+   */
+  private FileChannel journalChannel;
+  /**
+   * The region of the journal file that records are currently appended to.
+   */
+  private MappedByteBuffer mappedRegion;
+  /**
+   * The offset of the mapped region in the journal file.
+   */
+  private long mappedRegionOffset;
+  /**
+   * The generation of the records currently appended.
+   */
+  private long generation;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param homeDirectory The application's home directory.
+   * @param configuration The order pool's configuration.
+   */
+  @Inject
+  public OrderPoolJournal(@ApplicationHome File homeDirectory,
+                          OrderPoolConfiguration configuration) {
+    requireNonNull(configuration, "configuration");
+    this.dataDirectory = new File(requireNonNull(homeDirectory, "homeDirectory"), "data");
+    this.enabled = configuration.journalEnabled();
+    this.compactionSize = configuration.journalCompactionSize();
+  }
+
+  /**
+   * Indicates whether journaling is enabled.
+   *
+   * @return <code>true</code> if, and only if, journaling is enabled.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Indicates whether this journal is open, i.e. whether records are currently appended to it.
+   *
+   * @return <code>true</code> if, and only if, this journal is open.
+   */
+  public synchronized boolean isOpen() {
+    return journalChannel != null;
+  }
+
+  /**
+   * Opens this journal, reading the latest snapshot and replaying the records appended since.
+   * Replaying stops at the first incomplete or corrupted record, which is overwritten by the next
+   * record appended.
+   *
+   * @return The journaled objects, in the order in which they were first journaled.
+   * @throws IllegalStateException If journaling is disabled, if this journal is already open or if
+   * the journal could not be read.
+   */
+  public synchronized List<TCSObject<?>> open()
+      throws IllegalStateException {
+    checkState(enabled, "Journaling is disabled.");
+    checkState(!isOpen(), "Journal is already open.");
+    checkState(dataDirectory.isDirectory() || dataDirectory.mkdirs(),
+               "%s is not an existing directory and could not be created, either.",
+               dataDirectory.getPath());
+
+    Map<String, TCSObject<?>> objects = new LinkedHashMap<>();
+    try {
+      generation = readSnapshot(objects);
+      journalChannel = FileChannel.open(new File(dataDirectory, JOURNAL_FILE_NAME).toPath(),
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+      long journalSize = replayJournal(objects);
+      mapRegion(journalSize, MAPPED_REGION_SIZE);
+    }
+    catch (IOException | ClassNotFoundException exc) {
+      close();
+      throw new IllegalStateException("Could not read order pool journal", exc);
+    }
+
+    LOG.debug("Read {} objects from order pool journal (generation {}).",
+              objects.size(),
+              generation);
+    return new ArrayList<>(objects.values());
+  }
+
+  /**
+   * Closes this journal, forcing all records appended to it to be written to disk.
+   * Does nothing if this journal is not open.
+   */
+  public synchronized void close() {
+    if (!isOpen()) {
+      return;
+    }
+
+    try {
+      if (mappedRegion != null) {
+        mappedRegion.force();
+      }
+      journalChannel.close();
+    }
+    catch (IOException exc) {
+      LOG.warn("Exception closing order pool journal", exc);
+    }
+    journalChannel = null;
+    mappedRegion = null;
+  }
+
+  /**
+   * Appends a record containing the given object's current state.
+   * Does nothing if this journal is not open.
+   *
+   * @param object The object.
+   */
+  public synchronized void recordUpdate(TCSObject<?> object) {
+    requireNonNull(object, "object");
+    if (!isOpen()) {
+      return;
+    }
+
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      bytes.write(RECORD_TYPE_UPDATE);
+      try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+        output.writeObject(object);
+      }
+      appendRecord(bytes.toByteArray());
+    }
+    catch (IOException exc) {
+      LOG.error("Could not journal state of {}", object.getName(), exc);
+    }
+  }
+
+  /**
+   * Appends a record containing the removal of the given object.
+   * Does nothing if this journal is not open.
+   *
+   * @param object The object.
+   */
+  public synchronized void recordRemoval(TCSObject<?> object) {
+    requireNonNull(object, "object");
+    if (!isOpen()) {
+      return;
+    }
+
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      bytes.write(RECORD_TYPE_REMOVAL);
+      bytes.write(object.getName().getBytes(StandardCharsets.UTF_8));
+      appendRecord(bytes.toByteArray());
+    }
+    catch (IOException exc) {
+      LOG.error("Could not journal removal of {}", object.getName(), exc);
+    }
+  }
+
+  /**
+   * Indicates whether the journal has grown beyond the configured size and should be compacted.
+   *
+   * @return <code>true</code> if, and only if, this journal is open and should be compacted.
+   */
+  public synchronized boolean isCompactionDue() {
+    return isOpen() && getJournalSize() >= compactionSize;
+  }
+
+  /**
+   * Compacts the journal by writing a snapshot of the given objects and discarding all records
+   * appended before.
+   * The given objects are expected to be all objects currently journaled.
+   * Does nothing if this journal is not open.
+   *
+   * @param objects The objects to be written to the snapshot.
+   */
+  public synchronized void compact(Collection<? extends TCSObject<?>> objects) {
+    requireNonNull(objects, "objects");
+    if (!isOpen()) {
+      return;
+    }
+
+    long startTime = System.currentTimeMillis();
+    try {
+      writeSnapshot(generation + 1, objects);
+      // The snapshot supersedes all records of the current generation, so they may be overwritten.
+      generation++;
+      mapRegion(0, MAPPED_REGION_SIZE);
+    }
+    catch (IOException exc) {
+      LOG.error("Could not compact order pool journal", exc);
+      return;
+    }
+    LOG.debug("Compacted order pool journal with {} objects in {} ms.",
+              objects.size(),
+              System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Returns the size of the records of the current generation (in bytes).
+   *
+   * @return The size of the records of the current generation.
+   */
+  public synchronized long getJournalSize() {
+    return mappedRegion == null ? 0 : mappedRegionOffset + mappedRegion.position();
+  }
+
+  private long readSnapshot(Map<String, TCSObject<?>> objects)
+      throws IOException, ClassNotFoundException {
+    File snapshotFile = new File(dataDirectory, SNAPSHOT_FILE_NAME);
+    if (!snapshotFile.isFile()) {
+      return 0;
+    }
+
+    try (InputStream fileInput = Files.newInputStream(snapshotFile.toPath());
+         ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(fileInput))) {
+      long snapshotGeneration = input.readLong();
+      int objectCount = input.readInt();
+      for (int i = 0; i < objectCount; i++) {
+        TCSObject<?> object = (TCSObject<?>) input.readObject();
+        objects.put(object.getName(), object);
+      }
+      return snapshotGeneration;
+    }
+  }
+
+  private void writeSnapshot(long snapshotGeneration, Collection<? extends TCSObject<?>> objects)
+      throws IOException {
+    File snapshotFile = new File(dataDirectory, SNAPSHOT_FILE_NAME);
+    File tempFile = new File(dataDirectory, SNAPSHOT_FILE_NAME + ".tmp");
+    try (FileOutputStream fileOutput = new FileOutputStream(tempFile)) {
+      ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(fileOutput));
+      output.writeLong(snapshotGeneration);
+      output.writeInt(objects.size());
+      for (TCSObject<?> object : objects) {
+        output.writeObject(object);
+      }
+      output.flush();
+      fileOutput.getFD().sync();
+    }
+    // Replace the previous snapshot only once the new one is complete.
+    Files.move(tempFile.toPath(),
+               snapshotFile.toPath(),
+               StandardCopyOption.REPLACE_EXISTING,
+               StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Replays the records of the current generation onto the given objects.
+   *
+   * @param objects The objects to replay the records onto, mapped by their names.
+   * @return The size of the valid records replayed (in bytes).
+   */
+  private long replayJournal(Map<String, TCSObject<?>> objects)
+      throws IOException, ClassNotFoundException {
+    long journalSize = journalChannel.size();
+    long position = 0;
+    long recordCount = 0;
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(
+        new File(dataDirectory, JOURNAL_FILE_NAME).toPath()))) {
+      byte[] header = new byte[RECORD_HEADER_SIZE];
+      while (readFully(input, header)) {
+        ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+        int payloadLength = headerBuffer.getInt();
+        long recordGeneration = headerBuffer.getLong();
+        long checksum = headerBuffer.getLong();
+        if (payloadLength <= 0 || recordGeneration != generation) {
+          break;
+        }
+        // Do not trust a corrupted header to allocate more than what is left of the journal.
+        if (payloadLength > journalSize - position - RECORD_HEADER_SIZE) {
+          LOG.warn("Discarding record with invalid length at end of order pool journal.");
+          break;
+        }
+        byte[] payload = new byte[payloadLength];
+        if (!readFully(input, payload) || checksum(recordGeneration, payload) != checksum) {
+          LOG.warn("Discarding incomplete or corrupted record at end of order pool journal.");
+          break;
+        }
+        applyRecord(payload, objects);
+        position += RECORD_HEADER_SIZE + payloadLength;
+        recordCount++;
+      }
+    }
+    LOG.debug("Replayed {} records from order pool journal.", recordCount);
+    return position;
+  }
+
+  private void applyRecord(byte[] payload, Map<String, TCSObject<?>> objects)
+      throws IOException, ClassNotFoundException {
+    switch (payload[0]) {
+      case RECORD_TYPE_UPDATE:
+        try (ObjectInputStream input
+            = new ObjectInputStream(new ByteArrayInputStream(payload, 1, payload.length - 1))) {
+          TCSObject<?> object = (TCSObject<?>) input.readObject();
+          objects.put(object.getName(), object);
+        }
+        break;
+      case RECORD_TYPE_REMOVAL:
+        objects.remove(new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8));
+        break;
+      default:
+        throw new IOException("Unknown record type " + payload[0]);
+    }
+  }
+
+  private void appendRecord(byte[] payload)
+      throws IOException {
+    int recordSize = RECORD_HEADER_SIZE + payload.length;
+    if (mappedRegion.remaining() < recordSize) {
+      mapRegion(getJournalSize(), Math.max(MAPPED_REGION_SIZE, recordSize));
+    }
+    mappedRegion.putInt(payload.length);
+    mappedRegion.putLong(generation);
+    mappedRegion.putLong(checksum(generation, payload));
+    mappedRegion.put(payload);
+  }
+
+  /**
+   * Maps a region of the journal file into memory, extending the file if necessary.
+   *
+   * @param offset The region's offset in the journal file.
+   * @param size The region's size.
+   */
+  private void mapRegion(long offset, int size)
+      throws IOException {
+    if (mappedRegion != null) {
+      mappedRegion.force();
+    }
+    mappedRegion = journalChannel.map(FileChannel.MapMode.READ_WRITE, offset, size);
+    mappedRegionOffset = offset;
+  }
+
+  private static long checksum(long recordGeneration, byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(ByteBuffer.allocate(8).putLong(recordGeneration).array());
+    crc.update(payload);
+    return crc.getValue();
+  }
+
+  private static boolean readFully(InputStream input, byte[] buffer)
+      throws IOException {
+    int offset = 0;
+    while (offset < buffer.length) {
+      int count = input.read(buffer, offset, buffer.length - offset);
+      if (count < 0) {
+        return false;
+      }
+      offset += count;
+    }
+    return true;
+  }
+}
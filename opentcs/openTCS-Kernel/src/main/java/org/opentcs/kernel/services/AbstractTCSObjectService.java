@@ -13,7 +13,9 @@ import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opentcs.access.CredentialsException;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
@@ -65,6 +67,19 @@ public abstract class AbstractTCSObjectService
     return getObjectService().fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjects(@Nonnull ObjectIndex<T, K> index,
+                                                         @Nullable K key)
+      throws CredentialsException {
+    return getObjectService().fetchObjects(index, key);
+  }
+
+  @Override
+  public TCSObjectSnapshot fetchSnapshot()
+      throws CredentialsException {
+    return getObjectService().fetchSnapshot();
+  }
+
   @Override
   public void updateObjectProperty(TCSObjectReference<?> ref,
                                    String key,
@@ -7,10 +7,13 @@
  */
 package org.opentcs.kernel.services;
 
+import java.util.Collections;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.RouterService;
@@ -18,7 +21,6 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.kernel.GlobalKernelSync;
-import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.workingset.Model;
 
 /**
@@ -49,10 +51,6 @@ public class StandardRouterService
    * The model facade to the object pool.
    */
   private final Model model;
-  /**
-   * The kernel application's configuration.
-   */
-  private final KernelApplicationConfiguration configuration;
 
   /**
    * Creates a new instance.
@@ -62,31 +60,30 @@ public class StandardRouterService
    * @param router The scheduler.
    * @param dispatcher The dispatcher.
    * @param model The model to be used.
-   * @param configuration The kernel application's configuration.
    */
   @Inject
   public StandardRouterService(@GlobalKernelSync Object globalSyncObject,
                                LocalKernel kernel,
                                Router router,
                                Dispatcher dispatcher,
-                               Model model,
-                               KernelApplicationConfiguration configuration) {
+                               Model model) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.kernel = requireNonNull(kernel, "kernel");
     this.router = requireNonNull(router, "router");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
     this.model = requireNonNull(model, "model");
-    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
   public void updatePathLock(TCSObjectReference<Path> ref, boolean locked)
       throws ObjectUnknownException {
     synchronized (globalSyncObject) {
-      model.setPathLocked(ref, locked);
-      if (kernel.getState() == Kernel.State.OPERATING
-          && configuration.updateRoutingTopologyOnPathLockChange()) {
-        updateRoutingTopology();
+      Path path = model.setPathLocked(ref, locked);
+      // Clients rely on the lock taking effect, so the change is always applied - incrementally,
+      // which is cheap compared to a full topology update.
+      if (kernel.getState() == Kernel.State.OPERATING) {
+        router.topologyChanged(Collections.singleton(path));
+        dispatcher.topologyChanged(Collections.singleton(path));
       }
     }
   }
@@ -98,4 +95,18 @@ public class StandardRouterService
       dispatcher.topologyChanged();
     }
   }
+
+  @Override
+  public RouteCacheStatistics fetchRouteCacheStatistics() {
+    synchronized (globalSyncObject) {
+      return router.getRouteCacheStatistics();
+    }
+  }
+
+  @Override
+  public Map<Integer, Long> fetchRoutingTableCreationTimes() {
+    synchronized (globalSyncObject) {
+      return router.getRoutingTableCreationTimes();
+    }
+  }
 }
@@ -7,9 +7,11 @@
  */
 package org.opentcs.kernel.services;
 
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.access.SchedulerAllocationState;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.SchedulerService;
 import org.opentcs.kernel.GlobalKernelSync;
@@ -50,4 +52,11 @@ public class StandardSchedulerService
       return new SchedulerAllocationState(scheduler.getAllocations());
     }
   }
+
+  @Override
+  public Map<String, WaitingTimeHistogram> fetchWaitingTimeHistograms() {
+    synchronized (globalSyncObject) {
+      return scheduler.getWaitingTimeHistograms();
+    }
+  }
 }
@@ -8,22 +8,33 @@
 package org.opentcs.kernel.services;
 
 import java.util.HashSet;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.kernel.GlobalKernelSync;
 import org.opentcs.kernel.workingset.TCSObjectPool;
+import org.opentcs.kernel.workingset.TCSObjectPoolSnapshot;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * Objects are read without locking, directly from the pool's class buckets and indexes.
+ * As callers may still modify them using their deprecated in-place mutators, copies of them are
+ * returned.
+ * Every returned object is a complete state of it, but a set of objects may reflect a
+ * modification of multiple objects that is still in progress.
+ * Callers that only read objects, or that need a consistent view of multiple objects, should use
+ * {@link #fetchSnapshot()}, which provides the pool's instances without copying them.
+ * </p>
  *
  * @author Martin Grzenia (Fraunhofer IML)
  */
@@ -53,44 +64,53 @@ public class StandardTCSObjectService
   }
 
   @Override
-  @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
-    synchronized (getGlobalSyncObject()) {
-      T result = getGlobalObjectPool().getObjectOrNull(clazz, ref);
-      return result == null ? null : clazz.cast(result.clone());
-    }
+    return copyOf(clazz, getGlobalObjectPool().getObjectOrNull(clazz, ref));
   }
 
   @Override
-  @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
-    synchronized (getGlobalSyncObject()) {
-      T result = getGlobalObjectPool().getObjectOrNull(clazz, name);
-      return result == null ? null : clazz.cast(result.clone());
-    }
+    return copyOf(clazz, getGlobalObjectPool().getObjectOrNull(clazz, name));
   }
 
   @Override
-  @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
-    synchronized (getGlobalSyncObject()) {
-      Set<T> objects = getGlobalObjectPool().getObjects(clazz);
-      Set<T> copies = new HashSet<>();
-      for (T object : objects) {
-        copies.add(clazz.cast(object.clone()));
-      }
-      return copies;
-    }
+    return copiesOf(clazz, getGlobalObjectPool().getObjects(clazz));
   }
 
   @Override
-  @SuppressWarnings("deprecation")
   public <T extends TCSObject<T>> Set<T> fetchObjects(@Nonnull Class<T> clazz,
                                                       @Nonnull Predicate<? super T> predicate) {
+    return copiesOf(clazz, getGlobalObjectPool().getObjects(clazz, predicate));
+  }
+
+  @Override
+  public <T extends TCSObject<T>, K> Set<T> fetchObjects(@Nonnull ObjectIndex<T, K> index,
+                                                         @Nullable K key) {
+    if (!getGlobalObjectPool().containsIndex(index)) {
+      return fetchObjects(index.getObjectClass(),
+                          object -> Objects.equals(index.getKey(object), key));
+    }
+    return copiesOf(index.getObjectClass(), getGlobalObjectPool().getObjects(index, key));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * As long as no modification happened since the last snapshot was created, the snapshot is
+   * returned without locking.
+   * Otherwise, a new snapshot is created while holding the global synchronization object.
+   * </p>
+   */
+  @Override
+  @Nonnull
+  public TCSObjectPoolSnapshot fetchSnapshot() {
+    TCSObjectPoolSnapshot snapshot = getGlobalObjectPool().getCurrentSnapshot();
+    if (snapshot != null) {
+      return snapshot;
+    }
     synchronized (getGlobalSyncObject()) {
-      return getGlobalObjectPool().getObjects(clazz, predicate).stream()
-          .map(obj -> clazz.cast(obj.clone()))
-          .collect(Collectors.toSet());
+      return getGlobalObjectPool().createSnapshot();
     }
   }
 
@@ -102,6 +122,20 @@ public class StandardTCSObjectService
     }
   }
 
+  @SuppressWarnings("deprecation")
+  private static <T extends TCSObject<T>> T copyOf(Class<T> clazz, @Nullable T object) {
+    return object == null ? null : clazz.cast(object.clone());
+  }
+
+  @SuppressWarnings("deprecation")
+  private static <T extends TCSObject<T>> Set<T> copiesOf(Class<T> clazz, Set<T> objects) {
+    Set<T> copies = new HashSet<>();
+    for (T object : objects) {
+      copies.add(clazz.cast(object.clone()));
+    }
+    return copies;
+  }
+
   protected Object getGlobalSyncObject() {
     return globalSyncObject;
   }
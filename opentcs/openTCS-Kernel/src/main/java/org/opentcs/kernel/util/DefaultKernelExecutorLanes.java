@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.util;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+
+/**
+ * The default implementation of {@link KernelExecutorLanes}.
+ * <p>
+ * With concurrent lanes, the vehicle lanes do not have threads of their own, but share a pool of
+ * worker threads.
+ * A lane hands over to the pool only one of its tasks at a time, so tasks of the same lane are
+ * executed one after another while tasks of different lanes are executed concurrently.
+ * </p>
+ * <p>
+ * Without concurrent lanes, all vehicle lanes and the dispatcher lane are the kernel executor, so
+ * their tasks are executed one after another together with all other tasks of the kernel executor.
+ * Only the query pool has threads of its own.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class DefaultKernelExecutorLanes
+    implements KernelExecutorLanes {
+
+  /**
+   * The worker threads executing the tasks of the vehicle lanes, or <code>null</code>, if the
+   * vehicle lanes are the kernel executor.
+   */
+  @Nullable
+  private final ExecutorService laneWorkers;
+  /**
+   * The kernel executor, or <code>null</code>, if the lanes are executed concurrently to it.
+   */
+  @Nullable
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The serial lane for dispatching.
+   */
+  private final ScheduledExecutorService dispatcherLane;
+  /**
+   * The shared pool for read-only queries.
+   */
+  private final ExecutorService queryPool;
+  /**
+   * The vehicle lanes, mapped by vehicle name.
+   */
+  private final Map<String, SerialLane> vehicleLanes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance with lanes executing their tasks concurrently to each other and to the
+   * kernel executor.
+   *
+   * @param poolSize The number of worker threads for the vehicle lanes and for the query pool,
+   * each.
+   */
+  public DefaultKernelExecutorLanes(int poolSize) {
+    checkArgument(poolSize > 0, "poolSize <= 0: %s", poolSize);
+
+    this.laneWorkers = new LoggingScheduledThreadPoolExecutor(poolSize,
+                                                              threadFactory("kernelLaneWorker"));
+    this.kernelExecutor = null;
+    this.dispatcherLane = new LoggingScheduledThreadPoolExecutor(1,
+                                                                 threadFactory("dispatcherLane"));
+    this.queryPool = new LoggingScheduledThreadPoolExecutor(poolSize,
+                                                            threadFactory("kernelQueryWorker"));
+  }
+
+  /**
+   * Creates a new instance with the kernel executor serving as all vehicle lanes and as the
+   * dispatcher lane.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param poolSize The number of worker threads for the query pool.
+   */
+  public DefaultKernelExecutorLanes(@Nonnull ScheduledExecutorService kernelExecutor,
+                                    int poolSize) {
+    checkArgument(poolSize > 0, "poolSize <= 0: %s", poolSize);
+
+    this.laneWorkers = null;
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcherLane = kernelExecutor;
+    this.queryPool = new LoggingScheduledThreadPoolExecutor(poolSize,
+                                                            threadFactory("kernelQueryWorker"));
+  }
+
+  @Override
+  @Nonnull
+  public Executor getVehicleLane(@Nonnull String vehicleName) {
+    requireNonNull(vehicleName, "vehicleName");
+
+    if (kernelExecutor != null) {
+      return kernelExecutor;
+    }
+    return vehicleLanes.computeIfAbsent(vehicleName, name -> new SerialLane(laneWorkers));
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledExecutorService getDispatcherLane() {
+    return dispatcherLane;
+  }
+
+  @Override
+  @Nonnull
+  public ExecutorService getQueryPool() {
+    return queryPool;
+  }
+
+  /**
+   * Shuts down all lanes and the query pool.
+   * Tasks already submitted are still executed, but no new tasks are accepted.
+   * The kernel executor, if it serves as the lanes, is not shut down.
+   */
+  public void shutdown() {
+    queryPool.shutdown();
+    if (kernelExecutor == null) {
+      dispatcherLane.shutdown();
+      laneWorkers.shutdown();
+    }
+  }
+
+  private static ThreadFactory threadFactory(String namePrefix) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return (runnable) -> {
+      Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+      thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      return thread;
+    };
+  }
+
+  /**
+   * An executor that executes its tasks one after another, using the threads of another executor.
+   */
+  private static final class SerialLane
+      implements Executor {
+
+    /**
+     * The executor actually executing the tasks.
+     */
+    private final Executor workers;
+    /**
+     * The tasks waiting to be executed.
+     */
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    /**
+     * The task currently handed over to the workers, if any.
+     */
+    private Runnable activeTask;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param workers The executor actually executing the tasks.
+     */
+    SerialLane(Executor workers) {
+      this.workers = requireNonNull(workers, "workers");
+    }
+
+    @Override
+    public synchronized void execute(Runnable command) {
+      requireNonNull(command, "command");
+
+      tasks.add(() -> {
+        try {
+          command.run();
+        }
+        finally {
+          scheduleNext();
+        }
+      });
+      if (activeTask == null) {
+        scheduleNext();
+      }
+    }
+
+    private synchronized void scheduleNext() {
+      activeTask = tasks.poll();
+      if (activeTask != null) {
+        workers.execute(activeTask);
+      }
+    }
+  }
+}
@@ -88,6 +88,11 @@ public class Model {
    * This model's properties.
    */
   private Map<String, String> properties = new HashMap<>();
+  /**
+   * The members of all blocks a resource is a member of, mapped by the resource.
+   * <code>null</code> if the index needs to be rebuilt because blocks have been changed.
+   */
+  private Map<TCSResourceReference<?>, Set<TCSResourceReference<?>>> blockMembersByResource;
 
   /**
    * Creates a new model.
@@ -171,6 +176,7 @@ public class Model {
                                    TCSObjectEvent.Type.OBJECT_REMOVED);
       }
     }
+    blockMembersByResource = null;
   }
 
   /**
@@ -240,7 +246,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newLayout.clone(),
+    objectPool.emitObjectEvent(newLayout,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created layout.
@@ -276,7 +282,7 @@ public class Model {
       newLayout.getLayoutElements().add(shape);
     }
     objectPool.addObject(newLayout);
-    objectPool.emitObjectEvent(newLayout.clone(),
+    objectPool.emitObjectEvent(newLayout,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created layout.
@@ -303,9 +309,10 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = objectPool.replaceObject(layout.clone());
     layout.setScaleX(scaleX);
-    objectPool.emitObjectEvent(layout.clone(),
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -331,9 +338,10 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = objectPool.replaceObject(layout.clone());
     layout.setScaleY(scaleY);
-    objectPool.emitObjectEvent(layout.clone(),
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -359,9 +367,10 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = objectPool.replaceObject(layout.clone());
     layout.setColors(colors);
-    objectPool.emitObjectEvent(layout.clone(),
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -387,9 +396,10 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = objectPool.replaceObject(layout.clone());
     layout.setLayoutElements(elements);
-    objectPool.emitObjectEvent(layout.clone(),
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -415,9 +425,10 @@ public class Model {
     if (layout == null) {
       throw new ObjectUnknownException(ref);
     }
-    VisualLayout previousState = layout.clone();
+    VisualLayout previousState = layout;
+    layout = objectPool.replaceObject(layout.clone());
     layout.setViewBookmarks(bookmarks);
-    objectPool.emitObjectEvent(layout.clone(),
+    objectPool.emitObjectEvent(layout,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return layout;
@@ -448,7 +459,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newPoint.clone(),
+    objectPool.emitObjectEvent(newPoint,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
@@ -473,7 +484,7 @@ public class Model {
         .withVehicleOrientationAngle(to.getVehicleOrientationAngle())
         .withProperties(to.getProperties());
     objectPool.addObject(newPoint);
-    objectPool.emitObjectEvent(newPoint.clone(), null, TCSObjectEvent.Type.OBJECT_CREATED);
+    objectPool.emitObjectEvent(newPoint, null, TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
     return newPoint;
   }
@@ -541,9 +552,10 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = objectPool.replaceObject(point.clone());
     point.setPosition(position);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -567,9 +579,10 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = objectPool.replaceObject(point.clone());
     point.setVehicleOrientationAngle(angle);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -595,9 +608,10 @@ public class Model {
     if (point == null) {
       throw new ObjectUnknownException(ref);
     }
-    Point previousState = point.clone();
+    Point previousState = point;
+    point = objectPool.replaceObject(point.clone());
     point.setType(newType);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -624,11 +638,11 @@ public class Model {
       throw new IllegalArgumentException(
           "Point is not the path's destination.");
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> incomingPaths = new HashSet<>(point.getIncomingPaths());
     incomingPaths.add(path.getReference());
     point = objectPool.replaceObject(point.withIncomingPaths(incomingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -650,11 +664,11 @@ public class Model {
     LOG.debug("method entry");
     Point point = objectPool.getObject(Point.class, pointRef);
     Path path = objectPool.getObject(Path.class, pathRef);
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> incomingPaths = new HashSet<>(point.getIncomingPaths());
     incomingPaths.remove(path.getReference());
     point = objectPool.replaceObject(point.withIncomingPaths(incomingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -680,11 +694,11 @@ public class Model {
     if (!path.getSourcePoint().equals(point.getReference())) {
       throw new IllegalArgumentException("Point is not the path's source.");
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> outgoingPaths = new HashSet<>(point.getOutgoingPaths());
     outgoingPaths.add(path.getReference());
     point = objectPool.replaceObject(point.withOutgoingPaths(outgoingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -706,11 +720,11 @@ public class Model {
     LOG.debug("method entry");
     Point point = objectPool.getObject(Point.class, pointRef);
     Path path = objectPool.getObject(Path.class, pathRef);
-    Path previousState = path.clone();
+    Path previousState = path;
     Set<TCSObjectReference<Path>> outgoingPaths = new HashSet<>(point.getOutgoingPaths());
     outgoingPaths.remove(path.getReference());
     point = objectPool.replaceObject(point.withOutgoingPaths(outgoingPaths));
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return point;
@@ -748,7 +762,7 @@ public class Model {
     // Remove the point.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               point.clone(),
+                               point,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return point;
   }
@@ -794,7 +808,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newPath.clone(),
+    objectPool.emitObjectEvent(newPath,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     addPointOutgoingPath(srcRef, newPath.getReference());
@@ -831,7 +845,7 @@ public class Model {
     // Store the instance in the global object pool.
     objectPool.addObject(newPath);
 
-    objectPool.emitObjectEvent(newPath.clone(),
+    objectPool.emitObjectEvent(newPath,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
 
@@ -904,9 +918,10 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = objectPool.replaceObject(path.clone());
     path.setLength(newLength);
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -929,9 +944,10 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = objectPool.replaceObject(path.clone());
     path.setRoutingCost(newCost);
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -954,9 +970,10 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = objectPool.replaceObject(path.clone());
     path.setMaxVelocity(newVelocity);
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -980,9 +997,10 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
+    path = objectPool.replaceObject(path.clone());
     path.setMaxReverseVelocity(newVelocity);
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -1002,9 +1020,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Path path = objectPool.getObject(Path.class, ref);
-    Path previousState = path.clone();
+    Path previousState = path;
     path = objectPool.replaceObject(path.withLocked(newLocked));
-    objectPool.emitObjectEvent(path.clone(),
+    objectPool.emitObjectEvent(path,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return path;
@@ -1026,7 +1044,7 @@ public class Model {
     if (path == null) {
       throw new ObjectUnknownException(ref);
     }
-    Path previousState = path.clone();
+    Path previousState = path;
     removePointOutgoingPath(path.getSourcePoint(), ref);
     removePointIncomingPath(path.getDestinationPoint(), ref);
     objectPool.removeObject(ref);
@@ -1060,7 +1078,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newType.clone(),
+    objectPool.emitObjectEvent(newType,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newType;
@@ -1081,7 +1099,7 @@ public class Model {
         .withAllowedOperations(to.getAllowedOperations())
         .withProperties(to.getProperties());
     objectPool.addObject(newType);
-    objectPool.emitObjectEvent(newType.clone(),
+    objectPool.emitObjectEvent(newType,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newType;
@@ -1155,9 +1173,10 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(ref);
     }
-    LocationType previousState = type.clone();
+    LocationType previousState = type;
+    type = objectPool.replaceObject(type.clone());
     type.addAllowedOperation(operation);
-    objectPool.emitObjectEvent(type.clone(),
+    objectPool.emitObjectEvent(type,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return type;
@@ -1183,9 +1202,10 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(ref);
     }
-    LocationType previousState = type.clone();
+    LocationType previousState = type;
+    type = objectPool.replaceObject(type.clone());
     type.removeAllowedOperation(operation);
-    objectPool.emitObjectEvent(type.clone(),
+    objectPool.emitObjectEvent(type,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return type;
@@ -1211,7 +1231,7 @@ public class Model {
     // XXX Check if any locations of this type still exist, first.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               type.clone(),
+                               type,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return type;
   }
@@ -1251,7 +1271,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newLocation.clone(),
+    objectPool.emitObjectEvent(newLocation,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created point.
@@ -1285,7 +1305,7 @@ public class Model {
     newLocation = newLocation.withAttachedLinks(locationLinks);
 
     objectPool.addObject(newLocation);
-    objectPool.emitObjectEvent(newLocation.clone(),
+    objectPool.emitObjectEvent(newLocation,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
 
@@ -1296,10 +1316,10 @@ public class Model {
       Set<Location.Link> pointLinks = new HashSet<>(point.getAttachedLinks());
       pointLinks.add(link);
 
-      Point previousPointState = point.clone();
+      Point previousPointState = point;
       point = objectPool.replaceObject(point.withAttachedLinks(pointLinks));
 
-      objectPool.emitObjectEvent(point.clone(),
+      objectPool.emitObjectEvent(point,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
@@ -1371,9 +1391,10 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(ref);
     }
-    Location previousState = location.clone();
+    Location previousState = location;
+    location = objectPool.replaceObject(location.clone());
     location.setPosition(position);
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1402,9 +1423,10 @@ public class Model {
     if (type == null) {
       throw new ObjectUnknownException(typeRef);
     }
-    Location previousState = location.clone();
+    Location previousState = location;
+    location = objectPool.replaceObject(location.clone());
     location.setType(type.getReference());
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1429,20 +1451,22 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
+    Location previousLocationState = location;
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
+    Point previousPointState = point;
+    location = objectPool.replaceObject(location.clone());
+    point = objectPool.replaceObject(point.clone());
     Location.Link newLink
         = new Location.Link(location.getReference(), point.getReference());
     location.attachLink(newLink);
     point.attachLink(newLink);
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousLocationState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousPointState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1467,18 +1491,20 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
+    Location previousLocationState = location;
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
+    Point previousPointState = point;
+    location = objectPool.replaceObject(location.clone());
+    point = objectPool.replaceObject(point.clone());
     location.detachLink(point.getReference());
     point.detachLink(location.getReference());
-    objectPool.emitObjectEvent(location.clone(),
+    objectPool.emitObjectEvent(location,
                                previousLocationState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
+    objectPool.emitObjectEvent(point,
                                previousPointState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return location;
@@ -1504,12 +1530,10 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
     // Get the link between the point and location, if any exists.
     Location.Link referredLink = null;
     for (Location.Link curLink : location.getAttachedLinks()) {
@@ -1521,14 +1545,9 @@ public class Model {
     if (referredLink == null) {
       throw new ObjectUnknownException("Described link not in this model");
     }
-    referredLink.addAllowedOperation(operation);
-    // Emit an event for both the location and the point end of the link.
-    objectPool.emitObjectEvent(location.clone(),
-                               previousLocationState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
-                               previousPointState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    Set<String> allowedOperations = new HashSet<>(referredLink.getAllowedOperations());
+    allowedOperations.add(operation);
+    replaceLocationLink(location, point, referredLink.withAllowedOperations(allowedOperations));
     // XXX Do we want to return anything here?
   }
 
@@ -1552,12 +1571,10 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
     // Get the link between the point and location, if any exists.
     Location.Link referredLink = null;
     for (Location.Link curLink : location.getAttachedLinks()) {
@@ -1569,13 +1586,9 @@ public class Model {
     if (referredLink == null) {
       throw new ObjectUnknownException("Described link not in this model");
     }
-    // Emit an event for both the location and the point end of the link.
-    objectPool.emitObjectEvent(location.clone(),
-                               previousLocationState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
-                               previousPointState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    Set<String> allowedOperations = new HashSet<>(referredLink.getAllowedOperations());
+    allowedOperations.remove(operation);
+    replaceLocationLink(location, point, referredLink.withAllowedOperations(allowedOperations));
     // XXX Do we want to return anything here?
   }
 
@@ -1598,12 +1611,10 @@ public class Model {
     if (location == null) {
       throw new ObjectUnknownException(locRef);
     }
-    Location previousLocationState = location.clone();
     Point point = objectPool.getObjectOrNull(Point.class, pointRef);
     if (point == null) {
       throw new ObjectUnknownException(pointRef);
     }
-    Point previousPointState = point.clone();
     // Get the link between the point and location, if any exists.
     Location.Link referredLink = null;
     for (Location.Link curLink : location.getAttachedLinks()) {
@@ -1615,17 +1626,35 @@ public class Model {
     if (referredLink == null) {
       throw new ObjectUnknownException("Described link not in this model");
     }
-    referredLink.clearAllowedOperations();
-    // Emit an event for both the location and the point end of the link.
-    objectPool.emitObjectEvent(location.clone(),
-                               previousLocationState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
-    objectPool.emitObjectEvent(point.clone(),
-                               previousPointState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    replaceLocationLink(location, point, referredLink.withAllowedOperations(new HashSet<>()));
     // XXX Do we want to return anything here?
   }
 
+  /**
+   * Replaces the link between the given location and point with the given one.
+   * Both ends of the link are replaced in the pool with copies holding the new link, so that
+   * previously published instances and their links remain unchanged.
+   *
+   * @param location The location end of the link.
+   * @param point The point end of the link.
+   * @param newLink The link replacing the existing one.
+   */
+  private void replaceLocationLink(Location location, Point point, Location.Link newLink) {
+    Set<Location.Link> locationLinks = new HashSet<>(location.getAttachedLinks());
+    locationLinks.remove(newLink);
+    locationLinks.add(newLink);
+    Location newLocation = objectPool.replaceObject(location.withAttachedLinks(locationLinks));
+
+    Set<Location.Link> pointLinks = new HashSet<>(point.getAttachedLinks());
+    pointLinks.remove(newLink);
+    pointLinks.add(newLink);
+    Point newPoint = objectPool.replaceObject(point.withAttachedLinks(pointLinks));
+
+    // Emit an event for both the location and the point end of the link.
+    objectPool.emitObjectEvent(newLocation, location, TCSObjectEvent.Type.OBJECT_MODIFIED);
+    objectPool.emitObjectEvent(newPoint, point, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+
   /**
    * Removes a location.
    *
@@ -1645,7 +1674,7 @@ public class Model {
     // XXX Check if there are links pointing to this location, first.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               location.clone(),
+                               location,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return location;
   }
@@ -1677,7 +1706,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newVehicle.clone(),
+    objectPool.emitObjectEvent(newVehicle,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newVehicle;
@@ -1702,7 +1731,7 @@ public class Model {
         .withMaxReverseVelocity(to.getMaxReverseVelocity())
         .withProperties(to.getProperties());
     objectPool.addObject(newVehicle);
-    objectPool.emitObjectEvent(newVehicle.clone(),
+    objectPool.emitObjectEvent(newVehicle,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     return newVehicle;
@@ -1771,9 +1800,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevel(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1797,9 +1826,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevelCritical(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1823,9 +1852,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withEnergyLevelGood(energyLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1845,9 +1874,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withRechargeOperation(rechargeOperation));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1867,9 +1896,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withLoadHandlingDevices(devices));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1893,9 +1922,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withMaxVelocity(velocity));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1919,9 +1948,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withMaxReverseVelocity(velocity));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1941,9 +1970,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1962,9 +1991,9 @@ public class Model {
                                             Vehicle.IntegrationLevel integrationLevel)
       throws ObjectUnknownException {
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withIntegrationLevel(integrationLevel));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -1984,9 +2013,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withProcState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2011,9 +2040,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withAdapterState(newState));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2036,9 +2065,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withLength(length));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2052,9 +2081,9 @@ public class Model {
     if (vehicle == null) {
       throw new ObjectUnknownException(ref);
     }
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withProcessableCategories(processableCategories));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2074,27 +2103,27 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousVehicleState = vehicle.clone();
+    Vehicle previousVehicleState = vehicle;
     // If the vehicle was occupying a point before, clear it and send an event.
     if (vehicle.getCurrentPosition() != null) {
       Point oldVehiclePos = objectPool.getObject(Point.class, vehicle.getCurrentPosition());
-      Point previousPointState = oldVehiclePos.clone();
+      Point previousPointState = oldVehiclePos;
       oldVehiclePos = objectPool.replaceObject(oldVehiclePos.withOccupyingVehicle(null));
-      objectPool.emitObjectEvent(oldVehiclePos.clone(),
+      objectPool.emitObjectEvent(oldVehiclePos,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
     // If the vehicle is occupying a point now, set that and send an event.
     if (newPosRef != null) {
       Point newVehiclePos = objectPool.getObject(Point.class, newPosRef);
-      Point previousPointState = newVehiclePos.clone();
+      Point previousPointState = newVehiclePos;
       newVehiclePos = objectPool.replaceObject(newVehiclePos.withOccupyingVehicle(ref));
-      objectPool.emitObjectEvent(newVehiclePos.clone(),
+      objectPool.emitObjectEvent(newVehiclePos,
                                  previousPointState,
                                  TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
     vehicle = objectPool.replaceObject(vehicle.withCurrentPosition(newPosRef));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousVehicleState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
 
@@ -2116,9 +2145,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withNextPosition(newPosition));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2138,9 +2167,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withPrecisePosition(newPosition));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2160,9 +2189,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, ref);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withOrientationAngle(angle));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2182,7 +2211,7 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     if (orderRef == null) {
       vehicle = objectPool.replaceObject(vehicle.withTransportOrder(null));
     }
@@ -2190,7 +2219,7 @@ public class Model {
       TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
       vehicle = objectPool.replaceObject(vehicle.withTransportOrder(order.getReference()));
     }
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2210,7 +2239,7 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     if (seqRef == null) {
       vehicle = objectPool.replaceObject(vehicle.withOrderSequence(null));
     }
@@ -2218,7 +2247,7 @@ public class Model {
       OrderSequence seq = objectPool.getObject(OrderSequence.class, seqRef);
       vehicle = objectPool.replaceObject(vehicle.withOrderSequence(seq.getReference()));
     }
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2239,9 +2268,9 @@ public class Model {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
-    Vehicle previousState = vehicle.clone();
+    Vehicle previousState = vehicle;
     vehicle = objectPool.replaceObject(vehicle.withRouteProgressIndex(index));
-    objectPool.emitObjectEvent(vehicle.clone(),
+    objectPool.emitObjectEvent(vehicle,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return vehicle;
@@ -2265,7 +2294,7 @@ public class Model {
     }
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               vehicle.clone(),
+                               vehicle,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return vehicle;
   }
@@ -2295,7 +2324,8 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newBlock.clone(),
+    blockMembersByResource = null;
+    objectPool.emitObjectEvent(newBlock,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created block.
@@ -2326,7 +2356,8 @@ public class Model {
         .withMembers(members)
         .withProperties(to.getProperties());
     objectPool.addObject(newBlock);
-    objectPool.emitObjectEvent(newBlock.clone(),
+    blockMembersByResource = null;
+    objectPool.emitObjectEvent(newBlock,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created block.
@@ -2397,14 +2428,16 @@ public class Model {
     if (block == null) {
       throw new ObjectUnknownException(ref);
     }
-    Block previousState = block.clone();
+    Block previousState = block;
+    block = objectPool.replaceObject(block.clone());
     TCSObject<?> object = objectPool.getObjectOrNull(newMemberRef);
     if (!(object instanceof TCSResource)) {
       throw new ObjectUnknownException(ref);
     }
     TCSResourceReference<?> memberRef = ((TCSResource) object).getReference();
     block.addMember(memberRef);
-    objectPool.emitObjectEvent(block.clone(),
+    blockMembersByResource = null;
+    objectPool.emitObjectEvent(block,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return block;
@@ -2427,9 +2460,11 @@ public class Model {
     if (block == null) {
       throw new ObjectUnknownException(ref);
     }
-    Block previousState = block.clone();
+    Block previousState = block;
+    block = objectPool.replaceObject(block.clone());
     block.removeMember(rmMemberRef);
-    objectPool.emitObjectEvent(block.clone(),
+    blockMembersByResource = null;
+    objectPool.emitObjectEvent(block,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return block;
@@ -2453,8 +2488,9 @@ public class Model {
     }
     // Remove the block.
     objectPool.removeObject(ref);
+    blockMembersByResource = null;
     objectPool.emitObjectEvent(null,
-                               block.clone(),
+                               block,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return block;
   }
@@ -2484,7 +2520,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newGroup.clone(),
+    objectPool.emitObjectEvent(newGroup,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created group.
@@ -2515,7 +2551,7 @@ public class Model {
         .withMembers(members)
         .withProperties(to.getProperties());
     objectPool.addObject(newGroup);
-    objectPool.emitObjectEvent(newGroup.clone(),
+    objectPool.emitObjectEvent(newGroup,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created group.
@@ -2556,13 +2592,14 @@ public class Model {
     if (group == null) {
       throw new ObjectUnknownException(ref);
     }
-    Group previousState = group.clone();
+    Group previousState = group;
+    group = objectPool.replaceObject(group.clone());
     TCSObject<?> object = objectPool.getObjectOrNull(newMemberRef);
     if (object == null) {
       throw new ObjectUnknownException(newMemberRef);
     }
     group.addMember(object.getReference());
-    objectPool.emitObjectEvent(group.clone(),
+    objectPool.emitObjectEvent(group,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return group;
@@ -2585,9 +2622,10 @@ public class Model {
     if (group == null) {
       throw new ObjectUnknownException(ref);
     }
-    Group previousState = group.clone();
+    Group previousState = group;
+    group = objectPool.replaceObject(group.clone());
     group.removeMember(rmMemberRef);
-    objectPool.emitObjectEvent(group.clone(),
+    objectPool.emitObjectEvent(group,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return group;
@@ -2612,7 +2650,7 @@ public class Model {
     // Remove the block.
     objectPool.removeObject(ref);
     objectPool.emitObjectEvent(null,
-                               group.clone(),
+                               group,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return group;
   }
@@ -2643,7 +2681,7 @@ public class Model {
       throw new IllegalStateException(
           "Allegedly unique object ID/name already exists", exc);
     }
-    objectPool.emitObjectEvent(newRoute.clone(),
+    objectPool.emitObjectEvent(newRoute,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created route.
@@ -2677,7 +2715,7 @@ public class Model {
             .withHops(hops)
             .withProperties(to.getProperties());
     objectPool.addObject(newRoute);
-    objectPool.emitObjectEvent(newRoute.clone(),
+    objectPool.emitObjectEvent(newRoute,
                                null,
                                TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created route.
@@ -2750,13 +2788,14 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(routeRef);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
+    route = objectPool.replaceObject(route.clone());
     Point point = objectPool.getObjectOrNull(Point.class, newHopRef);
     if (point == null) {
       throw new ObjectUnknownException(newHopRef);
     }
     route.addHop(point.getReference());
-    objectPool.emitObjectEvent(route.clone(),
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return route;
@@ -2782,9 +2821,10 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(routeRef);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
+    route = objectPool.replaceObject(route.clone());
     route.clearHops();
-    objectPool.emitObjectEvent(route.clone(),
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_MODIFIED);
     return route;
@@ -2809,10 +2849,10 @@ public class Model {
     if (route == null) {
       throw new ObjectUnknownException(ref);
     }
-    org.opentcs.data.model.StaticRoute previousState = route.clone();
+    org.opentcs.data.model.StaticRoute previousState = route;
     // Remove the block.
     objectPool.removeObject(ref);
-    objectPool.emitObjectEvent(route.clone(),
+    objectPool.emitObjectEvent(route,
                                previousState,
                                TCSObjectEvent.Type.OBJECT_REMOVED);
     return route;
@@ -2832,26 +2872,45 @@ public class Model {
   public Set<TCSResource<?>> expandResources(Set<TCSResourceReference<?>> resources)
       throws ObjectUnknownException {
     LOG.debug("method entry");
+    Map<TCSResourceReference<?>, Set<TCSResourceReference<?>>> blockMembers
+        = getBlockMembersByResource();
     Set<TCSResource<?>> result = new HashSet<>();
-    Set<Block> blocks = getBlocks(null);
     for (TCSResourceReference<?> curRef : resources) {
       TCSObject<?> object = objectPool.getObject(curRef);
       TCSResource<?> resource = (TCSResource<?>) object;
       result.add(resource);
-      for (Block curBlock : blocks) {
-        // If the current block contains the resource, add all of the block's
-        // members to the result.
-        if (curBlock.getMembers().contains(resource.getReference())) {
-          for (TCSResourceReference<?> curResRef : curBlock.getMembers()) {
-            TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
-            result.add(member);
-          }
+      // If the resource is a member of any blocks, add all of the blocks' members to the result.
+      Set<TCSResourceReference<?>> members = blockMembers.get(resource.getReference());
+      if (members != null) {
+        for (TCSResourceReference<?> curResRef : members) {
+          TCSResource<?> member = (TCSResource<?>) objectPool.getObject(curResRef);
+          result.add(member);
         }
       }
     }
     return result;
   }
 
+  /**
+   * Returns the index of block members by resource, rebuilding it if blocks have been changed since
+   * it was built last.
+   *
+   * @return The members of all blocks a resource is a member of, mapped by the resource.
+   */
+  private Map<TCSResourceReference<?>, Set<TCSResourceReference<?>>> getBlockMembersByResource() {
+    if (blockMembersByResource == null) {
+      Map<TCSResourceReference<?>, Set<TCSResourceReference<?>>> index = new HashMap<>();
+      for (Block curBlock : objectPool.getObjects(Block.class)) {
+        for (TCSResourceReference<?> curMember : curBlock.getMembers()) {
+          index.computeIfAbsent(curMember, member -> new HashSet<>())
+              .addAll(curBlock.getMembers());
+        }
+      }
+      blockMembersByResource = index;
+    }
+    return blockMembersByResource;
+  }
+
   /**
    * Returns an informational string describing this model's topology.
    *
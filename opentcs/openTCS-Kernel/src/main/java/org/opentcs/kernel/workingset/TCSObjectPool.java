@@ -7,19 +7,25 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -37,6 +43,25 @@ import org.slf4j.LoggerFactory;
  * A container for <code>TCSObject</code>s belonging together.
  * It keeps all basic data objects (model data, transport order data and system
  * messages) and ensures these objects have unique IDs and names.
+ * <p>
+ * Objects in this pool are treated as immutable: A modification replaces the object with a
+ * modified copy instead of changing it in place.
+ * This allows object events to carry the pool's instances of the previous and current states
+ * without copying them.
+ * </p>
+ * <p>
+ * Every modification of the pool's contents increments its version.
+ * For queries that need a consistent view of multiple objects, the pool provides immutable
+ * snapshots of its contents, which are shared by all readers until the next modification.
+ * </p>
+ * <p>
+ * The pool keeps its objects grouped by their classes and maintains secondary indexes (see
+ * {@link ObjectIndex}), so that queries for objects of a class or with a specific key take time
+ * proportional to the number of matching objects.
+ * These queries do not block and may be run concurrently with a modification.
+ * A replaced object is added to the class buckets and indexes before its previous state is
+ * removed from them, so such a query never misses an object that exists in the pool.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -50,6 +75,15 @@ public class TCSObjectPool {
    * The objects contained in this pool, mapped by their names.
    */
   private final Map<String, TCSObject<?>> objectsByName = new ConcurrentHashMap<>();
+  /**
+   * The objects contained in this pool, grouped by their classes and mapped by their names.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objectsByClass
+      = new ConcurrentHashMap<>();
+  /**
+   * The secondary indexes maintained for the objects in this pool.
+   */
+  private final Map<ObjectIndex<?, ?>, IndexedObjects<?, ?>> indexes = new ConcurrentHashMap<>();
   /**
    * A set of bits representing the IDs used in this object pool. Each bit in
    * the set represents the ID equivalent to the bit's index.
@@ -59,6 +93,14 @@ public class TCSObjectPool {
    * The generator providing unique names for objects in this pool.
    */
   private final UniqueStringGenerator<?> objectNameGenerator = new UniqueStringGenerator<>();
+  /**
+   * The version of this pool's contents, incremented with every modification.
+   */
+  private final AtomicLong version = new AtomicLong();
+  /**
+   * The most recently created snapshot of this pool's contents.
+   */
+  private volatile TCSObjectPoolSnapshot snapshot;
   /**
    * A handler we should emit object events to.
    */
@@ -72,6 +114,31 @@ public class TCSObjectPool {
   @Inject
   public TCSObjectPool(@ApplicationEventBus EventHandler eventHandler) {
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+
+    addIndex(ObjectIndex.TRANSPORT_ORDERS_BY_STATE);
+    addIndex(ObjectIndex.TRANSPORT_ORDERS_BY_INTENDED_VEHICLE);
+    addIndex(ObjectIndex.TRANSPORT_ORDERS_BY_WRAPPING_SEQUENCE);
+    addIndex(ObjectIndex.VEHICLES_BY_PROC_STATE);
+  }
+
+  /**
+   * Adds a secondary index to be maintained for the objects in this pool.
+   * Adding an index that is already maintained has no effect.
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index's keys.
+   * @param index The index.
+   */
+  public <T extends TCSObject<T>, K> void addIndex(@Nonnull ObjectIndex<T, K> index) {
+    requireNonNull(index, "index");
+
+    indexes.computeIfAbsent(index, idx -> {
+      IndexedObjects<T, K> indexedObjects = new IndexedObjects<>(index);
+      for (TCSObject<?> object : getObjectsOfClass(index.getObjectClass())) {
+        indexedObjects.add(object);
+      }
+      return indexedObjects;
+    });
   }
 
   /**
@@ -88,18 +155,31 @@ public class TCSObjectPool {
     if (objectsByName.containsKey(newObject.getName())) {
       throw new ObjectExistsException("Object name " + newObject.getName() + " already exists.");
     }
-    objectsByName.put(newObject.getName(), newObject);
+    putObject(newObject);
     idBits.set(extractId(newObject.getReference()));
     objectNameGenerator.addString(newObject.getName());
   }
 
+  /**
+   * Replaces the object with the same name in this pool.
+   * <p>
+   * The replaced instance is left unchanged, so it may still be referred to as the previous
+   * state of the object, e.g. in an object event.
+   * Callers that need to modify an object in place must replace it with a copy of itself first.
+   * </p>
+   *
+   * @param <E> The object's type.
+   * @param object The object replacing the one with the same name.
+   * @return The given object.
+   * @throws IllegalArgumentException If there is no object with the same name in this pool.
+   */
   public <E extends TCSObject<E>> E replaceObject(E object) {
     requireNonNull(object, "object");
     checkArgument(objectsByName.containsKey(object.getName()),
                   "Object named '%s' does not exist",
                   object.getName());
 
-    objectsByName.put(object.getName(), object);
+    putObject(object);
     return object;
   }
 
@@ -304,10 +384,8 @@ public class TCSObjectPool {
     requireNonNull(clazz, "clazz");
 
     Set<T> result = new HashSet<>();
-    for (TCSObject<?> curObject : objectsByName.values()) {
-      if (clazz.isInstance(curObject)
-          && (regexp == null
-              || regexp.matcher(curObject.getName()).matches())) {
+    for (TCSObject<?> curObject : getObjectsOfClass(clazz)) {
+      if (regexp == null || regexp.matcher(curObject.getName()).matches()) {
         result.add(clazz.cast(curObject));
       }
     }
@@ -328,13 +406,96 @@ public class TCSObjectPool {
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
-    return objectsByName.values().stream()
-        .filter(obj -> clazz.isInstance(obj))
+    return getObjectsOfClass(clazz).stream()
         .map(obj -> clazz.cast(obj))
         .filter(predicate)
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Checks whether the given index is maintained by this pool.
+   *
+   * @param index The index.
+   * @return <code>true</code> if, and only if, the given index is maintained by this pool.
+   */
+  public boolean containsIndex(@Nonnull ObjectIndex<?, ?> index) {
+    requireNonNull(index, "index");
+
+    return indexes.containsKey(index);
+  }
+
+  /**
+   * Returns the objects that have the given key in the given index.
+   * This takes time proportional to the number of returned objects.
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index's keys.
+   * @param index The index. Must be maintained by this pool.
+   * @param key The key. May be <code>null</code>.
+   * @return The objects that have the given key in the given index. If no such objects exist, the
+   * returned set is empty.
+   * @throws IllegalArgumentException If the given index is not maintained by this pool.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, K> Set<T> getObjects(@Nonnull ObjectIndex<T, K> index,
+                                                       @Nullable K key)
+      throws IllegalArgumentException {
+    requireNonNull(index, "index");
+
+    IndexedObjects<?, ?> indexedObjects = indexes.get(index);
+    checkArgument(indexedObjects != null, "Index not maintained by this pool: %s", index);
+    Set<T> result = new HashSet<>();
+    for (TCSObject<?> object : indexedObjects.getObjects(key)) {
+      result.add(index.getObjectClass().cast(object));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the version of this pool's contents.
+   * The version is incremented with every modification of the pool's contents.
+   *
+   * @return The version of this pool's contents.
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Returns the most recently created snapshot of this pool's contents, if it is still up to date.
+   * <p>
+   * This method does not block.
+   * </p>
+   *
+   * @return The most recently created snapshot, or <code>null</code>, if no snapshot was created
+   * yet or if the pool's contents were modified since.
+   */
+  @Nullable
+  public TCSObjectPoolSnapshot getCurrentSnapshot() {
+    TCSObjectPoolSnapshot result = snapshot;
+    return (result != null && result.getVersion() == version.get()) ? result : null;
+  }
+
+  /**
+   * Returns a snapshot of this pool's contents, creating a new one if the most recently created
+   * snapshot is not up to date any more.
+   * <p>
+   * To get a consistent snapshot, callers must make sure the pool's contents are not modified
+   * while this method is running, e.g. by holding the lock that modifications are done with.
+   * </p>
+   *
+   * @return A snapshot of this pool's contents.
+   */
+  @Nonnull
+  public TCSObjectPoolSnapshot createSnapshot() {
+    TCSObjectPoolSnapshot result = getCurrentSnapshot();
+    if (result == null) {
+      result = new TCSObjectPoolSnapshot(version.get(), objectsByName.values());
+      snapshot = result;
+    }
+    return result;
+  }
+
   /**
    * Renames an object.
    *
@@ -356,7 +517,7 @@ public class TCSObjectPool {
       throw new ObjectUnknownException("No such object in this pool.");
     }
     // Remember the previous state.
-    TCSObject<?> previousState = object.clone();
+    TCSObject<?> previousState = object;
     // Check if there is not already an object with the given name. Make an
     // exception for objects being reassigned their current names.
     if (!object.getName().equals(newName)
@@ -365,14 +526,15 @@ public class TCSObjectPool {
           + "', new name: '" + newName + "'");
     }
     // Perform the renaming.
-    objectsByName.remove(object.getName());
+    takeObject(object.getName());
     objectNameGenerator.removeString(object.getName());
+    object = object.clone();
     object.setName(newName);
-    objectsByName.put(newName, object);
+    putObject(object);
     objectNameGenerator.addString(newName);
 
     // Emit an event for the modified object.
-    emitObjectEvent(object.clone(),
+    emitObjectEvent(object,
                     previousState,
                     TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -402,7 +564,7 @@ public class TCSObjectPool {
       throws ObjectUnknownException {
     requireNonNull(ref, "ref");
 
-    TCSObject<?> rmObject = objectsByName.remove(ref.getName());
+    TCSObject<?> rmObject = takeObject(ref.getName());
     if (rmObject == null) {
       throw new ObjectUnknownException(ref);
     }
@@ -423,7 +585,7 @@ public class TCSObjectPool {
 
     Set<TCSObject<?>> result = new HashSet<>();
     for (String curName : objectNames) {
-      TCSObject<?> removedObject = objectsByName.remove(curName);
+      TCSObject<?> removedObject = takeObject(curName);
       if (removedObject != null) {
         result.add(removedObject);
         idBits.clear(extractId(removedObject.getReference()));
@@ -451,14 +613,14 @@ public class TCSObjectPool {
     if (object == null) {
       throw new ObjectUnknownException("No object with name " + ref.getName());
     }
-    TCSObject<?> previousState = object.clone();
+    TCSObject<?> previousState = object;
     LOG.debug("Setting property on object named '{}': key='{}', value='{}'",
               ref.getName(),
               key,
               value);
     object = object.withProperty(key, value);
-    objectsByName.put(object.getName(), object);
-    emitObjectEvent(object.clone(),
+    putObject(object);
+    emitObjectEvent(object,
                     previousState,
                     TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -478,10 +640,10 @@ public class TCSObjectPool {
     if (object == null) {
       throw new ObjectUnknownException("No object with name " + ref.getName());
     }
-    TCSObject<?> previousState = object.clone();
+    TCSObject<?> previousState = object;
     object = object.withProperties(new HashMap<>());
-    objectsByName.put(object.getName(), object);
-    emitObjectEvent(object.clone(),
+    putObject(object);
+    emitObjectEvent(object,
                     previousState,
                     TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -551,8 +713,159 @@ public class TCSObjectPool {
     eventHandler.onEvent(new TCSObjectEvent(currentObjectState, previousObjectState, evtType));
   }
 
+  /**
+   * Puts the given object into this pool, replacing an object with the same name, if any.
+   *
+   * @param object The object.
+   */
+  private void putObject(TCSObject<?> object) {
+    TCSObject<?> previousObject = objectsByName.put(object.getName(), object);
+    indexObject(object);
+    if (previousObject != null) {
+      unindexObject(previousObject);
+    }
+    version.incrementAndGet();
+  }
+
+  /**
+   * Takes the object with the given name out of this pool.
+   *
+   * @param name The object's name.
+   * @return The object taken out of this pool, or <code>null</code>, if there was no such object.
+   */
+  @Nullable
+  private TCSObject<?> takeObject(String name) {
+    TCSObject<?> object = objectsByName.remove(name);
+    if (object != null) {
+      unindexObject(object);
+      version.incrementAndGet();
+    }
+    return object;
+  }
+
+  private void indexObject(TCSObject<?> object) {
+    objectsByClass.computeIfAbsent(object.getClass(), clazz -> new ConcurrentHashMap<>())
+        .put(object.getName(), object);
+    for (IndexedObjects<?, ?> indexedObjects : indexes.values()) {
+      indexedObjects.add(object);
+    }
+  }
+
+  private void unindexObject(TCSObject<?> object) {
+    Map<String, TCSObject<?>> objects = objectsByClass.get(object.getClass());
+    if (objects != null) {
+      removeInstance(objects, object);
+    }
+    for (IndexedObjects<?, ?> indexedObjects : indexes.values()) {
+      indexedObjects.remove(object);
+    }
+  }
+
+  /**
+   * Returns the objects in this pool that are instances of the given class.
+   *
+   * @param clazz The class.
+   * @return The objects in this pool that are instances of the given class.
+   */
+  private Collection<TCSObject<?>> getObjectsOfClass(Class<?> clazz) {
+    List<TCSObject<?>> result = new ArrayList<>();
+    for (Map.Entry<Class<?>, Map<String, TCSObject<?>>> entry : objectsByClass.entrySet()) {
+      if (clazz.isAssignableFrom(entry.getKey())) {
+        result.addAll(entry.getValue().values());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Removes the given instance from the given map, leaving any other state of the same object
+   * (which is equal to the instance) in place.
+   *
+   * @param objects The objects, mapped by their names.
+   * @param object The instance to be removed.
+   */
+  private static void removeInstance(Map<String, TCSObject<?>> objects, TCSObject<?> object) {
+    objects.computeIfPresent(object.getName(),
+                             (name, curObject) -> curObject == object ? null : curObject);
+  }
+
   @SuppressWarnings("deprecation")
   private int extractId(TCSObjectReference<?> ref) {
     return ref.getId();
   }
+
+  /**
+   * The objects having a specific key in a secondary index, grouped by the keys.
+   *
+   * @param <T> The type of the indexed objects.
+   * @param <K> The type of the index's keys.
+   */
+  private static final class IndexedObjects<T extends TCSObject<T>, K> {
+
+    /**
+     * Represents the <code>null</code> key, which the map does not support.
+     */
+    private static final Object NULL_KEY = new Object();
+    /**
+     * The index.
+     */
+    private final ObjectIndex<T, K> index;
+    /**
+     * The indexed objects, grouped by their keys and mapped by their names.
+     */
+    private final Map<Object, Map<String, TCSObject<?>>> objectsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param index The index.
+     */
+    IndexedObjects(ObjectIndex<T, K> index) {
+      this.index = requireNonNull(index, "index");
+    }
+
+    /**
+     * Adds the given object to the index, if it is an instance of the index's class.
+     *
+     * @param object The object.
+     */
+    void add(TCSObject<?> object) {
+      if (!index.getObjectClass().isInstance(object)) {
+        return;
+      }
+      objectsByKey.computeIfAbsent(keyOf(object), key -> new ConcurrentHashMap<>())
+          .put(object.getName(), object);
+    }
+
+    /**
+     * Removes the given object from the index.
+     *
+     * @param object The object.
+     */
+    void remove(TCSObject<?> object) {
+      if (!index.getObjectClass().isInstance(object)) {
+        return;
+      }
+      objectsByKey.computeIfPresent(keyOf(object), (key, objects) -> {
+        removeInstance(objects, object);
+        return objects.isEmpty() ? null : objects;
+      });
+    }
+
+    /**
+     * Returns the objects having the given key.
+     *
+     * @param key The key.
+     * @return The objects having the given key.
+     */
+    Collection<TCSObject<?>> getObjects(@Nullable Object key) {
+      Map<String, TCSObject<?>> objects = objectsByKey.get(key == null ? NULL_KEY : key);
+      return objects == null ? Collections.emptySet() : objects.values();
+    }
+
+    private Object keyOf(TCSObject<?> object) {
+      K key = index.getKey(index.getObjectClass().cast(object));
+      return key == null ? NULL_KEY : key;
+    }
+  }
 }
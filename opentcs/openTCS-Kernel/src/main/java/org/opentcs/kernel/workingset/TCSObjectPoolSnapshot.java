@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.components.kernel.services.TCSObjectSnapshot;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable, consistent view of the contents of a {@link TCSObjectPool} at a specific version.
+ * <p>
+ * Since the objects in the pool are never modified in place, a snapshot refers to the pool's
+ * instances without copying them, and it can be read concurrently without any locking.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class TCSObjectPoolSnapshot
+    implements TCSObjectSnapshot {
+
+  /**
+   * The version of the pool's contents this snapshot represents.
+   */
+  private final long version;
+  /**
+   * The objects contained in this snapshot, mapped by their names.
+   */
+  private final Map<String, TCSObject<?>> objectsByName;
+  /**
+   * The objects contained in this snapshot, grouped by their classes.
+   */
+  private final Map<Class<?>, List<TCSObject<?>>> objectsByClass;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param version The version of the pool's contents this snapshot represents.
+   * @param objects The objects contained in the pool.
+   */
+  TCSObjectPoolSnapshot(long version, Collection<TCSObject<?>> objects) {
+    requireNonNull(objects, "objects");
+
+    this.version = version;
+    this.objectsByName = new HashMap<>();
+    this.objectsByClass = new HashMap<>();
+    for (TCSObject<?> object : objects) {
+      objectsByName.put(object.getName(), object);
+      objectsByClass.computeIfAbsent(object.getClass(), clazz -> new ArrayList<>()).add(object);
+    }
+  }
+
+  /**
+   * Returns the version of the pool's contents this snapshot represents.
+   *
+   * @return The version of the pool's contents this snapshot represents.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or <code>null</code>, if no such object exists or if an object
+   * exists but is not an instance of the given class.
+   */
+  @Override
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(@Nonnull Class<T> clazz,
+                                                    @Nonnull TCSObjectReference<T> ref) {
+    requireNonNull(ref, "ref");
+
+    return getObjectOrNull(clazz, ref.getName());
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or <code>null</code>, if no such object exists or if an object
+   * exists but is not an instance of the given class.
+   */
+  @Override
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(@Nonnull Class<T> clazz,
+                                                    @Nonnull String name) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    TCSObject<?> result = objectsByName.get(name);
+    return clazz.isInstance(result) ? clazz.cast(result) : null;
+  }
+
+  /**
+   * Returns the objects in this snapshot belonging to the given class.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return The objects belonging to the given class.
+   */
+  @Override
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(@Nonnull Class<T> clazz) {
+    return getObjects(clazz, obj -> true);
+  }
+
+  /**
+   * Returns the objects in this snapshot belonging to the given class for which the given
+   * predicate is true.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return The objects belonging to the given class for which the given predicate is true.
+   */
+  @Override
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(@Nonnull Class<T> clazz,
+                                                    @Nonnull Predicate<? super T> predicate) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    Set<T> result = new HashSet<>();
+    for (Map.Entry<Class<?>, List<TCSObject<?>>> entry : objectsByClass.entrySet()) {
+      if (!clazz.isAssignableFrom(entry.getKey())) {
+        continue;
+      }
+      for (TCSObject<?> object : entry.getValue()) {
+        T curObject = clazz.cast(object);
+        if (predicate.test(curObject)) {
+          result.add(curObject);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns all objects in this snapshot, mapped by their names.
+   *
+   * @return All objects in this snapshot, mapped by their names.
+   */
+  @Nonnull
+  public Map<String, TCSObject<?>> getObjectsByName() {
+    return Collections.unmodifiableMap(objectsByName);
+  }
+}
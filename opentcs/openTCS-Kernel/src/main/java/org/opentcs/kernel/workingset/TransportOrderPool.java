@@ -8,6 +8,7 @@
 package org.opentcs.kernel.workingset;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.Rejection;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.persistence.OrderPoolJournal;
 import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkState;
 import org.opentcs.util.annotations.ScheduledApiChange;
@@ -59,16 +61,36 @@ public class TransportOrderPool {
    * The system's global object pool.
    */
   private final TCSObjectPool objectPool;
+  /**
+   * The journal recording the modifications of transport orders and order sequences, or
+   * <code>null</code>, if modifications are not journaled.
+   */
+  @Nullable
+  private final OrderPoolJournal journal;
+
+  /**
+   * Creates a new TransportOrderPool that does not journal modifications.
+   *
+   * @param globalPool The object pool serving as the container for this order
+   * pool's data.
+   */
+  public TransportOrderPool(TCSObjectPool globalPool) {
+    objectPool = Objects.requireNonNull(globalPool);
+    journal = null;
+  }
 
   /**
    * Creates a new TransportOrderPool.
    *
    * @param globalPool The object pool serving as the container for this order
    * pool's data.
+   * @param journal The journal recording the modifications of transport orders and order
+   * sequences.
    */
   @Inject
-  public TransportOrderPool(TCSObjectPool globalPool) {
+  public TransportOrderPool(TCSObjectPool globalPool, OrderPoolJournal journal) {
     objectPool = Objects.requireNonNull(globalPool);
+    this.journal = Objects.requireNonNull(journal, "journal");
   }
 
   /**
@@ -83,8 +105,74 @@ public class TransportOrderPool {
     return objectPool;
   }
 
+  /**
+   * Restores the transport orders and order sequences recorded in the journal and starts
+   * journaling modifications, if journaling is enabled.
+   * <p>
+   * Orders that were being processed when the journal was last written are made dispatchable
+   * again, with their unfinished drive orders only and with the vehicle that processed them as
+   * their intended vehicle.
+   * Orders that were being withdrawn are marked as failed.
+   * Orders referencing objects that do not exist in the current model are marked as failed, too.
+   * </p>
+   */
+  public void openJournal() {
+    if (journal == null || !journal.isEnabled() || journal.isOpen()) {
+      return;
+    }
+
+    List<TCSObject<?>> journaledObjects;
+    try {
+      journaledObjects = journal.open();
+    }
+    catch (IllegalStateException exc) {
+      LOG.error("Could not open order pool journal, orders will not be journaled.", exc);
+      return;
+    }
+
+    int restoredCount = 0;
+    for (TCSObject<?> journaledObject : journaledObjects) {
+      TCSObject<?> restoredObject;
+      if (journaledObject instanceof TransportOrder) {
+        restoredObject = restoredOrder((TransportOrder) journaledObject);
+      }
+      else if (journaledObject instanceof OrderSequence) {
+        restoredObject = restoredSequence((OrderSequence) journaledObject);
+      }
+      else {
+        continue;
+      }
+      try {
+        objectPool.addObject(restoredObject);
+      }
+      catch (ObjectExistsException exc) {
+        LOG.warn("Not restoring {}, an object with the same name already exists.",
+                 restoredObject.getName());
+        continue;
+      }
+      objectPool.emitObjectEvent(restoredObject, null, TCSObjectEvent.Type.OBJECT_CREATED);
+      restoredCount++;
+    }
+    // Start with a snapshot of the restored state, which may differ from the journaled one.
+    journal.compact(getJournaledObjects());
+    LOG.info("Restored {} transport orders and order sequences from journal.", restoredCount);
+  }
+
+  /**
+   * Stops journaling modifications of transport orders and order sequences.
+   * Does nothing if modifications are not being journaled.
+   */
+  public void closeJournal() {
+    if (journal == null) {
+      return;
+    }
+    journal.close();
+  }
+
   /**
    * Removes all transport orders from this pool.
+   * Note that the removal is not journaled, so the orders are restored when the journal is opened
+   * the next time.
    */
   public void clear() {
     LOG.debug("method entry");
@@ -127,9 +215,9 @@ public class TransportOrderPool {
       throw new IllegalStateException(
           "Allegedly unique object name already exists: " + orderName, exc);
     }
-    objectPool.emitObjectEvent(newOrder.clone(),
-                               null,
-                               TCSObjectEvent.Type.OBJECT_CREATED);
+    emitObjectEvent(newOrder,
+                    null,
+                    TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
     return newOrder;
   }
@@ -159,14 +247,14 @@ public class TransportOrderPool {
         .withDependencies(getDependencies(to))
         .withProperties(to.getProperties());
     objectPool.addObject(newOrder);
-    objectPool.emitObjectEvent(newOrder.clone(), null, TCSObjectEvent.Type.OBJECT_CREATED);
+    emitObjectEvent(newOrder, null, TCSObjectEvent.Type.OBJECT_CREATED);
 
     if (newOrder.getWrappingSequence() != null) {
       OrderSequence sequence = objectPool.getObject(OrderSequence.class,
                                                     newOrder.getWrappingSequence());
-      OrderSequence prevSeq = sequence.clone();
+      OrderSequence prevSeq = sequence;
       sequence = objectPool.replaceObject(sequence.withOrder(newOrder.getReference()));
-      objectPool.emitObjectEvent(sequence.clone(), prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
+      emitObjectEvent(sequence, prevSeq, TCSObjectEvent.Type.OBJECT_MODIFIED);
     }
 
     // Return the newly created transport order.
@@ -279,11 +367,12 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(ref);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     order.setDeadline(deadline);
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -302,11 +391,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, ref);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withState(newState));
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -331,7 +420,8 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     if (vehicleRef == null) {
       order.setIntendedVehicle(null);
     }
@@ -342,9 +432,9 @@ public class TransportOrderPool {
       }
       order.setIntendedVehicle(vehicle.getReference());
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -369,7 +459,7 @@ public class TransportOrderPool {
       List<DriveOrder> driveOrders)
       throws ObjectUnknownException, IllegalArgumentException {
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     if (vehicleRef == null) {
       order = objectPool.replaceObject(order.withProcessingVehicle(null));
     }
@@ -385,9 +475,9 @@ public class TransportOrderPool {
             order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
       }
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -410,7 +500,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     if (vehicleRef == null) {
       order = objectPool.replaceObject(order.withProcessingVehicle(null));
     }
@@ -418,9 +508,9 @@ public class TransportOrderPool {
       Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
       order = objectPool.replaceObject(order.withProcessingVehicle(vehicle.getReference()));
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -444,11 +534,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException, IllegalArgumentException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withDriveOrders(newOrders));
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -476,15 +566,15 @@ public class TransportOrderPool {
     checkState(order.getCurrentDriveOrderIndex() < 0, "currentDriveOrder already set");
     checkState(!order.getAllDriveOrders().isEmpty(), "driveOrders is empty");
 
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withCurrentDriveOrderIndex(0));
     if (order.getCurrentDriveOrder() != null) {
       order = objectPool.replaceObject(
           order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -506,37 +596,34 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, ref);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     // First, mark the current drive order as FINISHED and send an event.
     // Then, shift drive orders and send a second event.
     // Then, mark the current drive order as TRAVELLING and send another event.
     if (order.getCurrentDriveOrder() != null) {
       order = objectPool.replaceObject(order.withCurrentDriveOrderState(DriveOrder.State.FINISHED));
-      TransportOrder newState = order.clone();
-      objectPool.emitObjectEvent(newState,
-                                 previousState,
-                                 TCSObjectEvent.Type.OBJECT_MODIFIED);
-      previousState = newState;
+      emitObjectEvent(order,
+                      previousState,
+                      TCSObjectEvent.Type.OBJECT_MODIFIED);
+      previousState = order;
       order = objectPool.replaceObject(
           order.withCurrentDriveOrderIndex(order.getCurrentDriveOrderIndex() + 1));
-      newState = order.clone();
-      objectPool.emitObjectEvent(newState,
-                                 previousState,
-                                 TCSObjectEvent.Type.OBJECT_MODIFIED);
-      previousState = newState;
+      emitObjectEvent(order,
+                      previousState,
+                      TCSObjectEvent.Type.OBJECT_MODIFIED);
+      previousState = order;
       if (order.getCurrentDriveOrder() != null) {
         order = objectPool.replaceObject(
             order.withCurrentDriveOrderState(DriveOrder.State.TRAVELLING));
-        newState = order.clone();
-        objectPool.emitObjectEvent(newState,
-                                   previousState,
-                                   TCSObjectEvent.Type.OBJECT_MODIFIED);
-        previousState = newState;
+        emitObjectEvent(order,
+                        previousState,
+                        TCSObjectEvent.Type.OBJECT_MODIFIED);
+        previousState = order;
       }
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -561,16 +648,17 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     TransportOrder newDep = objectPool.getObjectOrNull(TransportOrder.class,
                                                        newDepRef);
     if (newDep == null) {
       throw new ObjectUnknownException(newDepRef);
     }
     order.addDependency(newDep.getReference());
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -596,15 +684,16 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     TransportOrder rmDep = objectPool.getObjectOrNull(TransportOrder.class, rmDepRef);
     if (rmDep == null) {
       throw new ObjectUnknownException(rmDepRef);
     }
     order.removeDependency(rmDep.getReference());
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -624,11 +713,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     TransportOrder order = objectPool.getObject(TransportOrder.class, orderRef);
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
     order = objectPool.replaceObject(order.withRejection(newRejection));
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -653,7 +742,8 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     if (seqRef == null) {
       order.setWrappingSequence(null);
     }
@@ -665,9 +755,9 @@ public class TransportOrderPool {
       }
       order.setWrappingSequence(orderSequence.getReference());
     }
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -691,11 +781,12 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    TransportOrder previousState = order.clone();
+    TransportOrder previousState = order;
+    order = objectPool.replaceObject(order.clone());
     order.setDispensable(dispensable);
-    objectPool.emitObjectEvent(order.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return order;
   }
 
@@ -717,9 +808,9 @@ public class TransportOrderPool {
                   "Transport order %s is being processed.",
                   order.getName());
     objectPool.removeObject(ref);
-    objectPool.emitObjectEvent(null,
-                               order.clone(),
-                               TCSObjectEvent.Type.OBJECT_REMOVED);
+    emitObjectEvent(null,
+                    order,
+                    TCSObjectEvent.Type.OBJECT_REMOVED);
     return order;
   }
 
@@ -745,9 +836,9 @@ public class TransportOrderPool {
       throw new IllegalStateException(
           "Allegedly unique object name already exists: " + orderName);
     }
-    objectPool.emitObjectEvent(newSequence.clone(),
-                               null,
-                               TCSObjectEvent.Type.OBJECT_CREATED);
+    emitObjectEvent(newSequence,
+                    null,
+                    TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
     return newSequence;
   }
@@ -769,9 +860,9 @@ public class TransportOrderPool {
         .withFailureFatal(to.isFailureFatal())
         .withProperties(to.getProperties());
     objectPool.addObject(newSequence);
-    objectPool.emitObjectEvent(newSequence.clone(),
-                               null,
-                               TCSObjectEvent.Type.OBJECT_CREATED);
+    emitObjectEvent(newSequence,
+                    null,
+                    TCSObjectEvent.Type.OBJECT_CREATED);
     // Return the newly created transport order.
     return newSequence;
   }
@@ -877,18 +968,20 @@ public class TransportOrderPool {
           + " and transport order " + order.getName()
           + " have different intended vehicles.");
     }
-    OrderSequence previousSeqState = sequence.clone();
-    TransportOrder previousOrderState = order.clone();
+    OrderSequence previousSeqState = sequence;
+    sequence = objectPool.replaceObject(sequence.clone());
+    TransportOrder previousOrderState = order;
+    order = objectPool.replaceObject(order.clone());
     // Add the order's reference to the sequence.
     sequence.addOrder(order.getReference());
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousSeqState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousSeqState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     // Set the back reference to the sequence in the order, too.
     order.setWrappingSequence(sequence.getReference());
-    objectPool.emitObjectEvent(order.clone(),
-                               previousOrderState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(order,
+                    previousOrderState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -916,11 +1009,12 @@ public class TransportOrderPool {
     if (order == null) {
       throw new ObjectUnknownException(orderRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = objectPool.replaceObject(sequence.clone());
     sequence.removeOrder(orderRef);
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -939,11 +1033,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withFinishedIndex(index));
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -961,11 +1055,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withComplete(true));
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -982,11 +1076,11 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     sequence = objectPool.replaceObject(sequence.withFinished(true));
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -1011,11 +1105,12 @@ public class TransportOrderPool {
     if (sequence == null) {
       throw new ObjectUnknownException(seqRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = objectPool.replaceObject(sequence.clone());
     sequence.setFailureFatal(fatal);
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -1041,7 +1136,8 @@ public class TransportOrderPool {
     if (sequence == null) {
       throw new ObjectUnknownException(seqRef);
     }
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
+    sequence = objectPool.replaceObject(sequence.clone());
     if (vehicleRef == null) {
       sequence.setIntendedVehicle(vehicleRef);
     }
@@ -1052,9 +1148,9 @@ public class TransportOrderPool {
       }
       sequence.setIntendedVehicle(vehicle.getReference());
     }
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -1074,7 +1170,7 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, seqRef);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     if (vehicleRef == null) {
       sequence = objectPool.replaceObject(sequence.withProcessingVehicle(null));
     }
@@ -1082,9 +1178,9 @@ public class TransportOrderPool {
       Vehicle vehicle = objectPool.getObject(Vehicle.class, vehicleRef);
       sequence = objectPool.replaceObject(sequence.withProcessingVehicle(vehicle.getReference()));
     }
-    objectPool.emitObjectEvent(sequence.clone(),
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_MODIFIED);
+    emitObjectEvent(sequence,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_MODIFIED);
     return sequence;
   }
 
@@ -1100,12 +1196,12 @@ public class TransportOrderPool {
       throws ObjectUnknownException {
     LOG.debug("method entry");
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, ref);
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     // XXX Any sanity checks here?
     objectPool.removeObject(ref);
-    objectPool.emitObjectEvent(null,
-                               previousState,
-                               TCSObjectEvent.Type.OBJECT_REMOVED);
+    emitObjectEvent(null,
+                    previousState,
+                    TCSObjectEvent.Type.OBJECT_REMOVED);
     return sequence;
   }
 
@@ -1121,15 +1217,119 @@ public class TransportOrderPool {
       throws ObjectUnknownException, IllegalArgumentException {
     OrderSequence sequence = objectPool.getObject(OrderSequence.class, ref);
     checkArgument(sequence.isFinished(), "Order sequence %s is not finished", sequence.getName());
-    OrderSequence previousState = sequence.clone();
+    OrderSequence previousState = sequence;
     objectPool.removeObject(ref);
-    objectPool.emitObjectEvent(null, previousState, TCSObjectEvent.Type.OBJECT_REMOVED);
+    emitObjectEvent(null, previousState, TCSObjectEvent.Type.OBJECT_REMOVED);
     // Also remove all orders in the sequence.
     for (TCSObjectReference<TransportOrder> orderRef : sequence.getOrders()) {
       removeTransportOrder(orderRef);
     }
   }
 
+  /**
+   * Emits an event for the given object and records the modification in the journal.
+   *
+   * @param currentObjectState The current state of the object, or <code>null</code>, if it was
+   * removed.
+   * @param previousObjectState The previous state of the object, or <code>null</code>, if it was
+   * created.
+   * @param evtType The event's type.
+   */
+  private void emitObjectEvent(TCSObject<?> currentObjectState,
+                               TCSObject<?> previousObjectState,
+                               TCSObjectEvent.Type evtType) {
+    if (journal != null && journal.isOpen()) {
+      if (evtType == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        journal.recordRemoval(previousObjectState);
+      }
+      else {
+        journal.recordUpdate(currentObjectState);
+      }
+      if (journal.isCompactionDue()) {
+        journal.compact(getJournaledObjects());
+      }
+    }
+    objectPool.emitObjectEvent(currentObjectState, previousObjectState, evtType);
+  }
+
+  private List<TCSObject<?>> getJournaledObjects() {
+    List<TCSObject<?>> result = new ArrayList<>();
+    result.addAll(objectPool.getObjects(OrderSequence.class));
+    result.addAll(objectPool.getObjects(TransportOrder.class));
+    return result;
+  }
+
+  private TransportOrder restoredOrder(TransportOrder order) {
+    if (order.getState().isFinalState()) {
+      return order;
+    }
+    if (referencesUnknownObjects(order)) {
+      LOG.warn("{} references objects not in the current model, marking it as failed.",
+               order.getName());
+      return order.withProcessingVehicle(null).withState(TransportOrder.State.FAILED);
+    }
+    switch (order.getState()) {
+      case BEING_PROCESSED:
+        return resumableOrder(order);
+      case WITHDRAWN:
+        return order.withProcessingVehicle(null).withState(TransportOrder.State.FAILED);
+      default:
+        return order;
+    }
+  }
+
+  /**
+   * Returns a copy of the given order being processed that can be dispatched again.
+   * As the vehicle's actual progress is unknown, its current drive order is processed again.
+   *
+   * @param order The order.
+   * @return The dispatchable copy.
+   */
+  private TransportOrder resumableOrder(TransportOrder order) {
+    List<DriveOrder> allDriveOrders = order.getAllDriveOrders();
+    List<DriveOrder> unfinishedDriveOrders = new ArrayList<>();
+    for (DriveOrder driveOrder : allDriveOrders.subList(
+        Math.max(0, order.getCurrentDriveOrderIndex()), allDriveOrders.size())) {
+      unfinishedDriveOrders.add(driveOrder.withRoute(null).withState(DriveOrder.State.PRISTINE));
+    }
+    if (unfinishedDriveOrders.isEmpty()) {
+      return order.withState(TransportOrder.State.FINISHED);
+    }
+    LOG.info("Resuming {} with {} of {} drive orders for {}.",
+             order.getName(),
+             unfinishedDriveOrders.size(),
+             allDriveOrders.size(),
+             order.getProcessingVehicle());
+    return order.withDriveOrders(unfinishedDriveOrders)
+        .withCurrentDriveOrderIndex(-1)
+        .withIntendedVehicle(order.getProcessingVehicle())
+        .withProcessingVehicle(null)
+        .withState(TransportOrder.State.DISPATCHABLE);
+  }
+
+  private boolean referencesUnknownObjects(TransportOrder order) {
+    for (DriveOrder driveOrder : order.getAllDriveOrders()) {
+      if (!objectPool.contains(driveOrder.getDestination().getDestination().getName())) {
+        return true;
+      }
+    }
+    return (order.getIntendedVehicle() != null
+            && objectPool.getObjectOrNull(Vehicle.class, order.getIntendedVehicle()) == null)
+        || (order.getProcessingVehicle() != null
+            && objectPool.getObjectOrNull(Vehicle.class, order.getProcessingVehicle()) == null);
+  }
+
+  private OrderSequence restoredSequence(OrderSequence sequence) {
+    if (sequence.getProcessingVehicle() != null
+        && objectPool.getObjectOrNull(Vehicle.class, sequence.getProcessingVehicle()) == null) {
+      LOG.warn("{} references unknown vehicle {}, resetting its processing vehicle.",
+               sequence.getName(),
+               sequence.getProcessingVehicle().getName());
+      return sequence.withProcessingVehicle(null);
+    }
+    return sequence;
+  }
+
   private Set<TCSObjectReference<TransportOrder>> getDependencies(TransportOrderCreationTO to)
       throws ObjectUnknownException {
     Set<TCSObjectReference<TransportOrder>> result = new HashSet<>();
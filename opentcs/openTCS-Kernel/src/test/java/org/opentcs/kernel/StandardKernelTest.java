@@ -24,6 +24,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
+import org.opentcs.kernel.util.DefaultKernelExecutorLanes;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -68,6 +69,7 @@ public class StandardKernelTest {
     kernel = new StandardKernel(eventHub,
                                 new SimpleEventBus(),
                                 mock(ScheduledExecutorService.class),
+                                mock(DefaultKernelExecutorLanes.class),
                                 stateMap);
   }
 
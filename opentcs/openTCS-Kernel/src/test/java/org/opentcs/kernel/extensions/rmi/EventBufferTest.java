@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.rmi;
+
+import java.util.List;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class EventBufferTest {
+
+  private Point pointA;
+
+  private Point pointB;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("PointA");
+    pointB = new Point("PointB");
+  }
+
+  @Test
+  public void coalesceModificationsOfSameObject() {
+    EventBuffer buffer = new EventBuffer(event -> true, 10, EventBuffer.OverflowPolicy.DROP_OLDEST);
+    Point pointA1 = pointA.withProperty("key", "1");
+    Point pointA2 = pointA.withProperty("key", "2");
+
+    buffer.onEvent(modified(pointA1, pointA));
+    buffer.onEvent(modified(pointB, pointB));
+    buffer.onEvent(modified(pointA2, pointA1));
+
+    List<Object> events = buffer.getEvents(0);
+    assertThat(events.size(), is(2));
+    TCSObjectEvent merged = (TCSObjectEvent) events.get(1);
+    assertThat(merged.getPreviousObjectState().getProperty("key"), is((String) null));
+    assertThat(((Point) merged.getCurrentObjectState()).getProperty("key"), is("2"));
+  }
+
+  @Test
+  public void doNotCoalesceAcrossOtherEventsForSameObject() {
+    EventBuffer buffer = new EventBuffer(event -> true, 10, EventBuffer.OverflowPolicy.DROP_OLDEST);
+    TCSObjectEvent modification = modified(pointA, pointA);
+    TCSObjectEvent removal = new TCSObjectEvent(null, pointA, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent creation = new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent secondModification = modified(pointA, pointA);
+
+    buffer.onEvent(modification);
+    buffer.onEvent(removal);
+    buffer.onEvent(creation);
+    buffer.onEvent(secondModification);
+
+    assertThat(buffer.getEvents(0), contains(modification, removal, creation, secondModification));
+  }
+
+  @Test
+  public void dropOldestModificationsOnOverflow() {
+    EventBuffer buffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DROP_OLDEST);
+    TCSObjectEvent creation = new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modificationA = modified(pointA, pointA);
+    TCSObjectEvent modificationB = modified(pointB, pointB);
+
+    buffer.onEvent(creation);
+    buffer.onEvent(modificationA);
+    buffer.onEvent(modificationB);
+
+    assertThat(buffer.getDroppedEventCount(), is(1L));
+    assertFalse(buffer.isOverflowed());
+    assertThat(buffer.getEvents(0), contains(creation, modificationB));
+  }
+
+  @Test
+  public void dropNewestModificationsOnOverflow() {
+    EventBuffer buffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DROP_NEWEST);
+    TCSObjectEvent creation = new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent modificationA = modified(pointA, pointA);
+    TCSObjectEvent modificationB = modified(pointB, pointB);
+
+    buffer.onEvent(creation);
+    buffer.onEvent(modificationA);
+    buffer.onEvent(modificationB);
+
+    assertThat(buffer.getDroppedEventCount(), is(1L));
+    assertFalse(buffer.isOverflowed());
+    assertThat(buffer.getEvents(0), contains(creation, modificationA));
+  }
+
+  @Test
+  public void overflowWhenOldestEventsCannotBeDropped() {
+    EventBuffer buffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DROP_OLDEST);
+
+    buffer.onEvent(new TCSObjectEvent(pointA, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    buffer.onEvent(new TCSObjectEvent(pointB, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    buffer.onEvent(new TCSObjectEvent(null, pointA, TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertTrue(buffer.isOverflowed());
+    assertThat(buffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  public void overflowWhenNewestEventCannotBeDropped() {
+    EventBuffer buffer = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DROP_NEWEST);
+
+    buffer.onEvent(modified(pointA, pointA));
+    buffer.onEvent(modified(pointB, pointB));
+    buffer.onEvent(new TCSObjectEvent(null, pointA, TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertTrue(buffer.isOverflowed());
+    assertThat(buffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  public void discardAllEventsOnOverflowWhenDisconnectingClient() {
+    EventBuffer buffer
+        = new EventBuffer(event -> true, 2, EventBuffer.OverflowPolicy.DISCONNECT_CLIENT);
+
+    buffer.onEvent("event1");
+    buffer.onEvent("event2");
+    assertFalse(buffer.isOverflowed());
+    buffer.onEvent("event3");
+    buffer.onEvent("event4");
+
+    assertTrue(buffer.isOverflowed());
+    assertThat(buffer.getSize(), is(0));
+    assertThat(buffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  public void coalescingDoesNotCountAsOverflow() {
+    EventBuffer buffer = new EventBuffer(event -> true, 1, EventBuffer.OverflowPolicy.DROP_NEWEST);
+
+    for (int i = 0; i < 10; i++) {
+      buffer.onEvent(modified(pointA, pointA));
+    }
+
+    assertThat(buffer.getSize(), is(1));
+    assertThat(buffer.getDroppedEventCount(), is(0L));
+  }
+
+  private TCSObjectEvent modified(Point current, Point previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.order;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.NamedTransport;
+import org.opentcs.kernel.extensions.servicewebapi.v1.order.binding.TransportResult;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class OrderHandlerTest {
+
+  private TransportOrderService orderService;
+
+  private DispatcherService dispatcherService;
+
+  private ExecutorService kernelExecutor;
+
+  private OrderHandler orderHandler;
+
+  @Before
+  public void setUp() {
+    orderService = mock(TransportOrderService.class);
+    dispatcherService = mock(DispatcherService.class);
+    kernelExecutor = Executors.newSingleThreadExecutor();
+    orderHandler = new OrderHandler(orderService,
+                                    mock(VehicleService.class),
+                                    dispatcherService,
+                                    kernelExecutor);
+
+    when(orderService.fetchObject(Location.class, "someLocation"))
+        .thenReturn(new Location("someLocation",
+                                 new LocationType("someLocationType").getReference()));
+  }
+
+  @After
+  public void tearDown() {
+    kernelExecutor.shutdownNow();
+  }
+
+  @Test
+  public void createValidOrdersAndDispatchOnce() {
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", "someLocation"),
+                                                  transport("order2", "someLocation")));
+
+    assertEquals(2, results.size());
+    assertTrue(results.get(0).isCreated());
+    assertTrue(results.get(1).isCreated());
+    verify(orderService, times(2)).createTransportOrder(any(TransportOrderCreationTO.class));
+    verify(dispatcherService, times(1)).dispatch();
+  }
+
+  @Test
+  public void reportInvalidOrdersWithoutAffectingOthers() {
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", "unknownLocation"),
+                                                  transport("order2", "someLocation"),
+                                                  transport("order2", "someLocation")));
+
+    assertEquals("order1", results.get(0).getName());
+    assertFalse(results.get(0).isCreated());
+    assertNotNull(results.get(0).getError());
+    assertTrue(results.get(1).isCreated());
+    assertFalse(results.get(2).isCreated());
+    verify(orderService, times(1)).createTransportOrder(any(TransportOrderCreationTO.class));
+  }
+
+  @Test
+  public void reportFailedCreation() {
+    when(orderService.createTransportOrder(argThat(to -> to.getName().equals("order1"))))
+        .thenThrow(new ObjectUnknownException("Unknown dependency"));
+
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", "someLocation"),
+                                                  transport("order2", "someLocation")));
+
+    assertFalse(results.get(0).isCreated());
+    assertEquals("Unknown dependency", results.get(0).getError());
+    assertTrue(results.get(1).isCreated());
+    verify(orderService).createTransportOrder(argThat(to -> to.getName().equals("order2")));
+  }
+
+  @Test
+  public void rejectMissingLocationNames() {
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", null),
+                                                  transport("order2", " "),
+                                                  transport("order3", "someLocation")));
+
+    assertFalse(results.get(0).isCreated());
+    assertFalse(results.get(1).isCreated());
+    assertTrue(results.get(2).isCreated());
+    verify(orderService, times(1)).createTransportOrder(any(TransportOrderCreationTO.class));
+  }
+
+  @Test
+  public void validateDependenciesBeforeCreation() {
+    NamedTransport dependent = transport("order2", "someLocation");
+    dependent.setDependencies(Arrays.asList("order1"));
+    NamedTransport unknownDependency = transport("order3", "someLocation");
+    unknownDependency.setDependencies(Arrays.asList("unknownOrder"));
+
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", "someLocation"),
+                                                  dependent,
+                                                  unknownDependency));
+
+    assertTrue(results.get(0).isCreated());
+    assertTrue(results.get(1).isCreated());
+    assertFalse(results.get(2).isCreated());
+    assertEquals("Unknown dependency: unknownOrder", results.get(2).getError());
+    verify(orderService, times(2)).createTransportOrder(any(TransportOrderCreationTO.class));
+  }
+
+  @Test
+  public void reportAllOutcomesAndDispatchWhenCreationFailsUnexpectedly() {
+    when(orderService.createTransportOrder(argThat(to -> to.getName().equals("order2"))))
+        .thenThrow(new IllegalStateException());
+
+    List<TransportResult> results
+        = orderHandler.createOrders(Arrays.asList(transport("order1", "someLocation"),
+                                                  transport("order2", "someLocation"),
+                                                  transport("order3", "someLocation")));
+
+    assertTrue(results.get(0).isCreated());
+    assertFalse(results.get(1).isCreated());
+    assertNotNull(results.get(1).getError());
+    assertTrue(results.get(2).isCreated());
+    verify(dispatcherService, times(1)).dispatch();
+  }
+
+  @Test
+  public void skipDispatchingWhenNothingWasCreated() {
+    orderHandler.createOrders(Arrays.asList(transport("order1", "unknownLocation")));
+
+    verify(dispatcherService, times(0)).dispatch();
+    verify(orderService, times(0)).createTransportOrder(eq(null));
+  }
+
+  private NamedTransport transport(String name, String locationName) {
+    Destination destination = new Destination();
+    destination.setLocationName(locationName);
+    destination.setOperation("NOP");
+    NamedTransport transport = new NamedTransport();
+    transport.setName(name);
+    transport.setDestinations(Arrays.asList(destination));
+    return transport;
+  }
+}
@@ -37,7 +37,10 @@ public class StatusEventDispatcherTest {
   public void setUp() {
     configuration = mock(ServiceWebApiConfiguration.class);
     eventSource = new SimpleEventBus();
-    statusEventDispatcher = new StatusEventDispatcher(configuration, eventSource);
+    statusEventDispatcher
+        = new StatusEventDispatcher(configuration,
+                                    eventSource,
+                                    new StatusEventStream(configuration, Runnable::run));
   }
 
   @Test
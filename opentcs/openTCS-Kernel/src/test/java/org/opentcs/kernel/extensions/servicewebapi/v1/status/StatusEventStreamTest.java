@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.extensions.servicewebapi.v1.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.ServiceWebApiConfiguration;
+import org.opentcs.kernel.extensions.servicewebapi.v1.status.binding.OrderStatusMessage;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class StatusEventStreamTest {
+
+  private static final Pattern EVENT_ID = Pattern.compile("^id: (\\d+)$", Pattern.MULTILINE);
+
+  private ServiceWebApiConfiguration configuration;
+
+  private StatusEventStream eventStream;
+
+  private TransportOrder order;
+
+  @Before
+  public void setUp() {
+    configuration = mock(ServiceWebApiConfiguration.class);
+    when(configuration.statusEventsCapacity()).thenReturn(5);
+    eventStream = new StatusEventStream(configuration, Runnable::run);
+    eventStream.initialize();
+    order = new TransportOrder("SomeOrder", new ArrayList<>());
+  }
+
+  @After
+  public void tearDown() {
+    eventStream.terminate();
+  }
+
+  @Test
+  public void writeBufferedAndNewEventsToSubscriber()
+      throws IOException {
+    publish(0, 3);
+    CapturingOutputStream output = subscribe(0);
+    publish(3, 5);
+
+    assertThat(output.eventIds(), contains(0L, 1L, 2L, 3L, 4L));
+  }
+
+  @Test
+  public void resumeFromGivenSequenceNumber()
+      throws IOException {
+    publish(0, 4);
+    CapturingOutputStream output = subscribe(2);
+
+    assertThat(output.eventIds(), contains(2L, 3L));
+  }
+
+  @Test
+  public void skipEventsNoLongerBuffered()
+      throws IOException {
+    publish(0, 8);
+    CapturingOutputStream output = subscribe(0);
+
+    assertThat(output.eventIds(), contains(3L, 4L, 5L, 6L, 7L));
+  }
+
+  @Test
+  public void writeEachEventToAllSubscribers()
+      throws IOException {
+    CapturingOutputStream output1 = subscribe(0);
+    CapturingOutputStream output2 = subscribe(0);
+    publish(0, 2);
+
+    assertThat(output1.eventIds(), contains(0L, 1L));
+    assertThat(output2.eventIds(), contains(0L, 1L));
+    assertThat(eventStream.getSubscriberCount(), is(2));
+  }
+
+  @Test
+  public void serializeAndWriteEventsOnPublishingExecutor()
+      throws IOException {
+    List<Runnable> tasks = new ArrayList<>();
+    Executor capturingExecutor = tasks::add;
+    eventStream = new StatusEventStream(configuration, capturingExecutor);
+    eventStream.initialize();
+    CapturingOutputStream output = subscribe(0);
+
+    publish(0, 2);
+    assertThat(output.eventIds(), is(empty()));
+
+    tasks.forEach(Runnable::run);
+    assertThat(output.eventIds(), contains(0L, 1L));
+  }
+
+  @Test
+  public void removeSubscribersOnTermination()
+      throws IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    AsyncContext context = mock(AsyncContext.class);
+    when(request.startAsync()).thenReturn(context);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    when(response.getOutputStream()).thenReturn(new CapturingOutputStream());
+    eventStream.subscribe(request, response, 0);
+
+    eventStream.terminate();
+
+    verify(context).complete();
+    assertThat(eventStream.getSubscriberCount(), is(0));
+  }
+
+  private void publish(long fromSequenceNo, long toSequenceNo) {
+    for (long i = fromSequenceNo; i < toSequenceNo; i++) {
+      eventStream.publish(OrderStatusMessage.fromTransportOrder(order, i));
+    }
+  }
+
+  private CapturingOutputStream subscribe(long minSequenceNo)
+      throws IOException {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.startAsync()).thenReturn(mock(AsyncContext.class));
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    CapturingOutputStream output = new CapturingOutputStream();
+    when(response.getOutputStream()).thenReturn(output);
+
+    eventStream.subscribe(request, response, minSequenceNo);
+    return output;
+  }
+
+  /**
+   * An output stream that is always ready and captures everything written to it.
+   */
+  private static class CapturingOutputStream
+      extends ServletOutputStream {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      try {
+        writeListener.onWritePossible();
+      }
+      catch (IOException exc) {
+        writeListener.onError(exc);
+      }
+    }
+
+    @Override
+    public void write(int b) {
+      bytes.write(b);
+    }
+
+    public List<Long> eventIds() {
+      List<Long> result = new ArrayList<>();
+      Matcher matcher = EVENT_ID.matcher(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+      while (matcher.find()) {
+        result.add(Long.parseLong(matcher.group(1)));
+      }
+      return result;
+    }
+  }
+}
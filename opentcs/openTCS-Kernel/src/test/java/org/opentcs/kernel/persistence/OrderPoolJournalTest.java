@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.OrderPoolConfiguration;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class OrderPoolJournalTest {
+
+  @Rule
+  public TemporaryFolder homeDirectory = new TemporaryFolder();
+
+  private OrderPoolConfiguration configuration;
+
+  private OrderPoolJournal journal;
+
+  @Before
+  public void setUp() {
+    configuration = mock(OrderPoolConfiguration.class);
+    when(configuration.journalEnabled()).thenReturn(true);
+    when(configuration.journalCompactionSize()).thenReturn(1024 * 1024);
+    journal = new OrderPoolJournal(homeDirectory.getRoot(), configuration);
+  }
+
+  @After
+  public void tearDown() {
+    journal.close();
+  }
+
+  @Test
+  public void restoreLatestStatesOfJournaledObjects() {
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    OrderSequence sequence = new OrderSequence("SomeSequence");
+    TransportOrder otherOrder = new TransportOrder("OtherOrder", new ArrayList<>());
+    assertThat(journal.open(), is(empty()));
+
+    journal.recordUpdate(order);
+    journal.recordUpdate(sequence);
+    journal.recordUpdate(otherOrder);
+    journal.recordUpdate(order.withState(TransportOrder.State.DISPATCHABLE));
+    journal.recordRemoval(otherOrder);
+
+    List<TCSObject<?>> objects = reopen();
+    assertThat(names(objects), contains("SomeOrder", "SomeSequence"));
+    assertThat(((TransportOrder) objects.get(0)).getState(), is(TransportOrder.State.DISPATCHABLE));
+  }
+
+  @Test
+  public void restoreSnapshotAndRecordsAppendedAfterCompaction() {
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    TransportOrder otherOrder = new TransportOrder("OtherOrder", new ArrayList<>());
+    journal.open();
+    for (int i = 0; i < 10; i++) {
+      journal.recordUpdate(order);
+    }
+
+    journal.compact(Arrays.asList(order));
+    assertThat(journal.getJournalSize(), is(0L));
+    journal.recordUpdate(otherOrder);
+
+    assertThat(names(reopen()), contains("SomeOrder", "OtherOrder"));
+  }
+
+  @Test
+  public void ignoreRecordsOfPreviousGenerations() {
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    TransportOrder otherOrder = new TransportOrder("OtherOrder", new ArrayList<>());
+    journal.open();
+    journal.recordUpdate(order);
+    journal.recordUpdate(otherOrder);
+
+    // The new generation's first record does not overwrite all records of the previous one.
+    journal.compact(Arrays.asList(order));
+    journal.recordRemoval(order);
+
+    assertThat(reopen(), is(empty()));
+  }
+
+  @Test
+  public void discardCorruptedRecordAtEnd()
+      throws IOException {
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    TransportOrder otherOrder = new TransportOrder("OtherOrder", new ArrayList<>());
+    journal.open();
+    journal.recordUpdate(order);
+    long corruptedRecordOffset = journal.getJournalSize();
+    journal.recordUpdate(otherOrder);
+    journal.close();
+
+    File journalFile = new File(homeDirectory.getRoot(), "data/orderpool.journal");
+    try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+      file.seek(corruptedRecordOffset + 30);
+      file.write(~file.read());
+    }
+
+    assertThat(names(journal.open()), contains("SomeOrder"));
+    assertThat(journal.getJournalSize(), is(corruptedRecordOffset));
+  }
+
+  @Test
+  public void discardRecordWithLengthExceedingJournal()
+      throws IOException {
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    journal.open();
+    journal.recordUpdate(order);
+    long corruptedRecordOffset = journal.getJournalSize();
+    journal.recordUpdate(new TransportOrder("OtherOrder", new ArrayList<>()));
+    journal.close();
+
+    File journalFile = new File(homeDirectory.getRoot(), "data/orderpool.journal");
+    try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+      file.seek(corruptedRecordOffset);
+      file.writeInt(Integer.MAX_VALUE);
+    }
+
+    assertThat(names(journal.open()), contains("SomeOrder"));
+    assertThat(journal.getJournalSize(), is(corruptedRecordOffset));
+  }
+
+  @Test
+  public void signalCompactionOnceJournalExceedsConfiguredSize() {
+    when(configuration.journalCompactionSize()).thenReturn(1);
+    journal = new OrderPoolJournal(homeDirectory.getRoot(), configuration);
+    journal.open();
+    assertFalse(journal.isCompactionDue());
+
+    journal.recordUpdate(new TransportOrder("SomeOrder", new ArrayList<>()));
+
+    assertTrue(journal.isCompactionDue());
+  }
+
+  private List<TCSObject<?>> reopen() {
+    journal.close();
+    journal = new OrderPoolJournal(homeDirectory.getRoot(), configuration);
+    return journal.open();
+  }
+
+  private List<String> names(List<TCSObject<?>> objects) {
+    List<String> result = new ArrayList<>();
+    for (TCSObject<?> object : objects) {
+      result.add(object.getName());
+    }
+    return result;
+  }
+}
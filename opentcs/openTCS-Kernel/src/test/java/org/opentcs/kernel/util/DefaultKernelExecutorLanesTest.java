@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+/**
+ * Test cases for the {@link DefaultKernelExecutorLanes}.
+ *
+ * @author agent (agent@local)
+ */
+public class DefaultKernelExecutorLanesTest {
+
+  private DefaultKernelExecutorLanes executorLanes;
+
+  @Before
+  public void setUp() {
+    executorLanes = new DefaultKernelExecutorLanes(4);
+  }
+
+  @After
+  public void tearDown() {
+    executorLanes.shutdown();
+  }
+
+  @Test
+  public void executeTasksOfSameLaneInSubmissionOrder()
+      throws InterruptedException {
+    List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch done = new CountDownLatch(100);
+    for (int i = 0; i < 100; i++) {
+      int taskNumber = i;
+      executorLanes.getVehicleLane("vehicle").execute(() -> {
+        executed.add(taskNumber);
+        done.countDown();
+      });
+    }
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), executed);
+  }
+
+  @Test
+  public void executeTasksOfDifferentLanesConcurrently()
+      throws InterruptedException {
+    CountDownLatch blockingTaskStarted = new CountDownLatch(1);
+    CountDownLatch blockingTaskReleased = new CountDownLatch(1);
+    CountDownLatch otherTaskDone = new CountDownLatch(1);
+    executorLanes.getVehicleLane("vehicle1").execute(() -> {
+      blockingTaskStarted.countDown();
+      try {
+        blockingTaskReleased.await(5, TimeUnit.SECONDS);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertTrue(blockingTaskStarted.await(5, TimeUnit.SECONDS));
+
+    executorLanes.getVehicleLane("vehicle2").execute(otherTaskDone::countDown);
+
+    assertTrue(otherTaskDone.await(5, TimeUnit.SECONDS));
+    blockingTaskReleased.countDown();
+  }
+
+  @Test
+  public void continueLaneAfterFailingTask()
+      throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    executorLanes.getVehicleLane("vehicle").execute(() -> {
+      throw new IllegalStateException("Failing on purpose");
+    });
+    executorLanes.getVehicleLane("vehicle").execute(done::countDown);
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void useKernelExecutorAsLanesIfNotConcurrent() {
+    ScheduledExecutorService kernelExecutor = Executors.newSingleThreadScheduledExecutor();
+    DefaultKernelExecutorLanes serialLanes = new DefaultKernelExecutorLanes(kernelExecutor, 2);
+
+    assertSame(kernelExecutor, serialLanes.getVehicleLane("vehicle1"));
+    assertSame(kernelExecutor, serialLanes.getVehicleLane("vehicle2"));
+    assertSame(kernelExecutor, serialLanes.getDispatcherLane());
+
+    serialLanes.shutdown();
+    assertFalse(kernelExecutor.isShutdown());
+    kernelExecutor.shutdown();
+  }
+}
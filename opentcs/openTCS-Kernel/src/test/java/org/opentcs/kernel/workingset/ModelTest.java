@@ -11,17 +11,23 @@
  */
 package org.opentcs.kernel.workingset;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import org.opentcs.access.to.model.BlockCreationTO;
 import org.opentcs.access.to.model.PathCreationTO;
 import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -87,4 +93,50 @@ public class ModelTest {
     assertTrue("globalPool is not empty after removing all objects",
                globalPool.isEmpty());
   }
+
+  /**
+   * Verify that resources are expanded to the members of the blocks they are members of, also after
+   * blocks have been changed.
+   */
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testExpandResourcesWithBlocks()
+      throws ObjectUnknownException, ObjectExistsException {
+    Point pointA = model.createPoint(new PointCreationTO("A"));
+    Point pointB = model.createPoint(new PointCreationTO("B"));
+    Point pointC = model.createPoint(new PointCreationTO("C"));
+    Point pointD = model.createPoint(new PointCreationTO("D"));
+    Block block1 = model.createBlock(new BlockCreationTO("block1")
+        .withMemberNames(new HashSet<>(Arrays.asList("A", "B"))));
+
+    assertEquals(resources(pointA, pointB), model.expandResources(references(pointA)));
+    assertEquals(resources(pointC), model.expandResources(references(pointC)));
+
+    model.createBlock(new BlockCreationTO("block2")
+        .withMemberNames(new HashSet<>(Arrays.asList("B", "C"))));
+    assertEquals(resources(pointA, pointB, pointC), model.expandResources(references(pointB)));
+    assertEquals(resources(pointB, pointC), model.expandResources(references(pointC)));
+
+    model.addBlockMember(block1.getReference(), pointD.getReference());
+    assertEquals(resources(pointA, pointB, pointD), model.expandResources(references(pointA)));
+
+    model.removeBlockMember(block1.getReference(), pointA.getReference());
+    assertEquals(resources(pointA), model.expandResources(references(pointA)));
+
+    model.removeBlock(block1.getReference());
+    assertEquals(resources(pointD), model.expandResources(references(pointD)));
+    assertEquals(resources(pointB, pointC), model.expandResources(references(pointB)));
+  }
+
+  private Set<TCSResource<?>> resources(TCSResource<?>... resources) {
+    return new HashSet<>(Arrays.asList(resources));
+  }
+
+  private Set<TCSResourceReference<?>> references(TCSResource<?>... resources) {
+    Set<TCSResourceReference<?>> result = new HashSet<>();
+    for (TCSResource<?> resource : resources) {
+      result.add(resource.getReference());
+    }
+    return result;
+  }
 }
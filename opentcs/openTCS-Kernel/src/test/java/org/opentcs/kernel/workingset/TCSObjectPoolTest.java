@@ -17,13 +17,19 @@ import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.junit.*;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -187,6 +193,136 @@ public class TCSObjectPoolTest {
     assertEquals(1, receivedEvents.size());
   }
 
+  @Test
+  public void shouldEmitPoolInstancesForModifiedObject() {
+    EventBus eventBus = new SimpleEventBus();
+
+    List<TCSObjectEvent> receivedEvents = new LinkedList<>();
+
+    eventBus.subscribe((event) -> {
+      receivedEvents.add((TCSObjectEvent) event);
+    });
+
+    pool = new TCSObjectPool(eventBus);
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+
+    pool.setObjectProperty(point1.getReference(), "key", "value");
+
+    assertEquals(1, receivedEvents.size());
+    assertSame(point1, receivedEvents.get(0).getPreviousObjectState());
+    assertSame(pool.getObjectOrNull("Point-00001"),
+               receivedEvents.get(0).getCurrentObjectState());
+    assertNull(point1.getProperty("key"));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void shouldNotModifyPreviousStateWhenRenaming() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+
+    pool.renameObject(point1.getReference(), "Point-00002");
+
+    assertEquals("Point-00001", point1.getName());
+    assertEquals("Point-00002", pool.getObjectOrNull("Point-00002").getName());
+  }
+
+  @Test
+  public void shouldReuseSnapshotUntilModified() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+
+    TCSObjectPoolSnapshot snapshot = pool.createSnapshot();
+    assertSame(snapshot, pool.getCurrentSnapshot());
+    assertSame(snapshot, pool.createSnapshot());
+
+    pool.replaceObject(point1.withProperty("key", "value"));
+
+    assertNull(pool.getCurrentSnapshot());
+    assertNotSame(snapshot, pool.createSnapshot());
+  }
+
+  @Test
+  public void shouldKeepSnapshotUnaffectedByModifications() {
+    Point point1 = new Point("Point-00001");
+    pool.addObject(point1);
+    Path path1 = new Path("Path-00001", point1.getReference(), point1.getReference());
+    pool.addObject(path1);
+
+    TCSObjectPoolSnapshot snapshot = pool.createSnapshot();
+    pool.replaceObject(point1.withProperty("key", "value"));
+    pool.addObject(new Point("Point-00002"));
+
+    assertSame(point1, snapshot.getObjectOrNull(Point.class, "Point-00001"));
+    assertEquals(1, snapshot.getObjects(Point.class).size());
+    assertEquals(1, snapshot.getObjects(Path.class).size());
+    assertNull(snapshot.getObjectOrNull(Path.class, "Point-00001"));
+    assertEquals(2, pool.createSnapshot().getObjects(Point.class).size());
+  }
+
+  @Test
+  public void shouldMaintainIndexesOnModifications() {
+    TransportOrder order1 = new TransportOrder("TOrder-00001", new LinkedList<>());
+    pool.addObject(order1);
+    TransportOrder order2 = new TransportOrder("TOrder-00002", new LinkedList<>());
+    pool.addObject(order2);
+    pool.addObject(new Point("Point-00001"));
+
+    assertThat(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.RAW),
+               containsInAnyOrder(order1, order2));
+
+    TransportOrder order1Dispatchable
+        = pool.replaceObject(order1.withState(TransportOrder.State.DISPATCHABLE));
+    assertThat(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.RAW),
+               containsInAnyOrder(order2));
+    assertThat(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE,
+                               TransportOrder.State.DISPATCHABLE),
+               containsInAnyOrder(order1Dispatchable));
+    assertThat(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_INTENDED_VEHICLE, null),
+               containsInAnyOrder(order1Dispatchable, order2));
+
+    pool.removeObject(order2.getReference());
+    assertTrue(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE,
+                               TransportOrder.State.RAW).isEmpty());
+    assertThat(pool.getObjects(TransportOrder.class), containsInAnyOrder(order1Dispatchable));
+  }
+
+  @Test
+  public void shouldReturnOnlyCurrentStateAfterReplacingWithSameKey() {
+    TransportOrder order1 = new TransportOrder("TOrder-00001", new LinkedList<>());
+    pool.addObject(order1);
+
+    TransportOrder order1Modified = pool.replaceObject(order1.withProperty("key", "value"));
+
+    assertThat(pool.getObjects(TransportOrder.class), containsInAnyOrder(order1Modified));
+    assertThat(pool.getObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.RAW),
+               containsInAnyOrder(order1Modified));
+    assertNull(pool.getCurrentSnapshot());
+  }
+
+  @Test
+  public void shouldBuildIndexFromExistingObjects() {
+    TransportOrder order1 = new TransportOrder("TOrder-00001", new LinkedList<>());
+    pool.addObject(order1);
+    ObjectIndex<TransportOrder, String> ordersByName
+        = new ObjectIndex<>("ordersByName", TransportOrder.class, TransportOrder::getName);
+
+    pool.addIndex(ordersByName);
+
+    assertThat(pool.getObjects(ordersByName, "TOrder-00001"), containsInAnyOrder(order1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldThrowIfQueryingIndexNotMaintained() {
+    ObjectIndex<TransportOrder, TransportOrder.State> ordersByState
+        = new ObjectIndex<>("transportOrdersByState",
+                            TransportOrder.class,
+                            TransportOrder::getState);
+
+    pool.getObjects(ordersByState, TransportOrder.State.RAW);
+  }
+
   @Test(expected = ObjectExistsException.class)
   public void shouldThrowIfAddingExistingName() {
     // A few initial objects
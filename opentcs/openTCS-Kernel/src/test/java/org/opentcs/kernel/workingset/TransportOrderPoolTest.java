@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.kernel.workingset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import org.junit.*;
+import static org.junit.Assert.assertThat;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.data.ObjectExistsException;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.OrderPoolConfiguration;
+import org.opentcs.kernel.persistence.OrderPoolJournal;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Tests restoring a {@link TransportOrderPool}'s contents from its journal.
+ *
+ * @author agent (agent@local)
+ */
+public class TransportOrderPoolTest {
+
+  @Rule
+  public TemporaryFolder homeDirectory = new TemporaryFolder();
+
+  private OrderPoolConfiguration configuration;
+
+  private TCSObjectPool objectPool;
+
+  private TransportOrderPool orderPool;
+
+  private Vehicle vehicle;
+
+  private Location locationA;
+
+  private Location locationB;
+
+  @Before
+  public void setUp()
+      throws ObjectExistsException {
+    configuration = mock(OrderPoolConfiguration.class);
+    when(configuration.journalEnabled()).thenReturn(true);
+    when(configuration.journalCompactionSize()).thenReturn(1024 * 1024);
+    objectPool = new TCSObjectPool(new SimpleEventBus());
+    LocationType locationType = new LocationType("SomeLocationType");
+    vehicle = new Vehicle("SomeVehicle");
+    locationA = new Location("LocationA", locationType.getReference());
+    locationB = new Location("LocationB", locationType.getReference());
+    objectPool.addObject(locationType);
+    objectPool.addObject(vehicle);
+    objectPool.addObject(locationA);
+    objectPool.addObject(locationB);
+    orderPool = new TransportOrderPool(objectPool,
+                                       new OrderPoolJournal(homeDirectory.getRoot(),
+                                                            configuration));
+  }
+
+  @After
+  public void tearDown() {
+    orderPool.closeJournal();
+  }
+
+  @Test
+  public void restoreJournaledModifications()
+      throws ObjectExistsException {
+    orderPool.openJournal();
+    TransportOrder order = new TransportOrder("SomeOrder", new ArrayList<>());
+    objectPool.addObject(order);
+    orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.DISPATCHABLE);
+
+    restart();
+
+    assertThat(orderPool.getTransportOrder("SomeOrder").getState(),
+               is(TransportOrder.State.DISPATCHABLE));
+  }
+
+  @Test
+  public void resumeOrderBeingProcessedWithUnfinishedDriveOrders()
+      throws ObjectExistsException {
+    orderPool.openJournal();
+    TransportOrder order = new TransportOrder("SomeOrder",
+                                              Arrays.asList(driveOrder(locationA),
+                                                            driveOrder(locationB)));
+    objectPool.addObject(order);
+    orderPool.setTransportOrderProcessingVehicle(order.getReference(), vehicle.getReference());
+    orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.BEING_PROCESSED);
+    orderPool.setTransportOrderInitialDriveOrder(order.getReference());
+    orderPool.setTransportOrderNextDriveOrder(order.getReference());
+
+    restart();
+
+    TransportOrder restoredOrder = orderPool.getTransportOrder("SomeOrder");
+    assertThat(restoredOrder.getState(), is(TransportOrder.State.DISPATCHABLE));
+    assertThat(restoredOrder.getProcessingVehicle(), is(nullValue()));
+    assertThat(restoredOrder.getIntendedVehicle(), is(vehicle.getReference()));
+    assertThat(restoredOrder.getCurrentDriveOrder(), is(nullValue()));
+    assertThat(restoredOrder.getFutureDriveOrders().size(), is(1));
+    assertThat(restoredOrder.getFutureDriveOrders().get(0).getState(),
+               is(DriveOrder.State.PRISTINE));
+    assertThat(restoredOrder.getFutureDriveOrders().get(0).getDestination().getDestination(),
+               is(locationB.getReference()));
+  }
+
+  @Test
+  public void failOrderReferencingUnknownLocation()
+      throws ObjectExistsException {
+    orderPool.openJournal();
+    TransportOrder order = new TransportOrder("SomeOrder",
+                                              Arrays.asList(driveOrder(locationA)));
+    objectPool.addObject(order);
+    orderPool.setTransportOrderState(order.getReference(), TransportOrder.State.DISPATCHABLE);
+    objectPool.removeObject(locationA.getReference());
+
+    restart();
+
+    assertThat(orderPool.getTransportOrders(TransportOrder.State.FAILED),
+               contains(orderPool.getTransportOrder("SomeOrder")));
+  }
+
+  private void restart() {
+    orderPool.closeJournal();
+    orderPool.clear();
+    orderPool = new TransportOrderPool(objectPool,
+                                       new OrderPoolJournal(homeDirectory.getRoot(),
+                                                            configuration));
+    orderPool.openJournal();
+  }
+
+  private DriveOrder driveOrder(Location location) {
+    return new DriveOrder(new DriveOrder.Destination(location.getReference(), "NOP"));
+  }
+}
@@ -9,6 +9,7 @@
  */
 package org.opentcs.guing.components.properties.type;
 
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import org.opentcs.guing.model.ModelComponent;
 
@@ -56,7 +57,14 @@ public class StringProperty
    * @param text
    */
   public void setText(String text) {
+    String oldText = fText;
     fText = text;
+    ModelComponent model = getModel();
+    if (model != null
+        && model.getProperty(ModelComponent.NAME) == this
+        && !Objects.equals(oldText, text)) {
+      model.nameChanged(oldText);
+    }
   }
 
   /**
@@ -98,8 +98,8 @@ public class PathLockAdapter
         // Update the path in the kernel if it exists and its locked state is different.
         Path path = portal.getPlantModelService().fetchObject(Path.class, model.getName());
         if (path != null && path.isLocked() != locked) {
+          // The kernel applies the change to the routing topology itself.
           portal.getRouterService().updatePathLock(path.getReference(), locked);
-          portal.getRouterService().updateRoutingTopology();
         }
       }
 
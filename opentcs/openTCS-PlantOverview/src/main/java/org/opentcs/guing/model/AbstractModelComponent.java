@@ -148,6 +148,17 @@ public abstract class AbstractModelComponent
     getPropertyName().setText(name);
   }
 
+  @Override
+  public void nameChanged(String oldName) {
+    // A PropertiesCollection is only a temporary parent, so skip it.
+    ModelComponent parent = getParent() instanceof PropertiesCollection
+        ? getActualParent()
+        : getParent();
+    if (parent instanceof CompositeModelComponent) {
+      ((CompositeModelComponent) parent).componentRenamed(this, oldName);
+    }
+  }
+
   @Override
   public Property getProperty(String name) {
     return fProperties.get(name);
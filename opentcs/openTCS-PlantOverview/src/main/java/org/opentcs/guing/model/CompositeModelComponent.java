@@ -51,6 +51,7 @@ public abstract class CompositeModelComponent
   public void add(ModelComponent component) {
     getChildComponents().add(component);
     component.setParent(this);
+    componentAdded(component);
   }
 
   @Override // AbstractModelComponent
@@ -64,7 +65,9 @@ public abstract class CompositeModelComponent
 
   @Override // AbstractModelComponent
   public void remove(ModelComponent component) {
-    getChildComponents().remove(component);
+    if (getChildComponents().remove(component)) {
+      componentRemoved(component);
+    }
   }
 
   @Override // AbstractModelComponent
@@ -84,6 +87,44 @@ public abstract class CompositeModelComponent
     return getChildComponents().contains(component);
   }
 
+  /**
+   * Called when a component has been added to this composite or to one of its descendants.
+   * By default, forwards the notification to this composite's parent.
+   *
+   * @param component The component that has been added.
+   */
+  protected void componentAdded(ModelComponent component) {
+    if (getParent() instanceof CompositeModelComponent) {
+      ((CompositeModelComponent) getParent()).componentAdded(component);
+    }
+  }
+
+  /**
+   * Called when a component has been removed from this composite or from one of its descendants.
+   * By default, forwards the notification to this composite's parent.
+   *
+   * @param component The component that has been removed.
+   */
+  protected void componentRemoved(ModelComponent component) {
+    if (getParent() instanceof CompositeModelComponent) {
+      ((CompositeModelComponent) getParent()).componentRemoved(component);
+    }
+  }
+
+  /**
+   * Called when a component contained in this composite or in one of its descendants has been
+   * renamed.
+   * By default, forwards the notification to this composite's parent.
+   *
+   * @param component The component that has been renamed.
+   * @param oldName The component's previous name.
+   */
+  protected void componentRenamed(ModelComponent component, String oldName) {
+    if (getParent() instanceof CompositeModelComponent) {
+      ((CompositeModelComponent) getParent()).componentRenamed(component, oldName);
+    }
+  }
+
   @Override
   public CompositeModelComponent clone()
       throws CloneNotSupportedException {
@@ -111,6 +111,14 @@ public interface ModelComponent
    */
   void setParent(ModelComponent parent);
 
+  /**
+   * Called after the text of this component's name property has changed.
+   *
+   * @param oldName The component's previous name.
+   */
+  default void nameChanged(String oldName) {
+  }
+
   /**
    * Liefert true zurück, wenn die Komponente im TreeView dargestellt werden
    * soll, ansonsten false.
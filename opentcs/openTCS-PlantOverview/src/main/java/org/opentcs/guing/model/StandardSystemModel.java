@@ -92,6 +92,15 @@ class StandardSystemModel
    * Die für das Modell verwendete Zeichenmethode.
    */
   private final DrawingMethod fDrawingMethod = new CoordinateBasedDrawingMethod();
+  /**
+   * The (non-composite) components of the model, mapped by their names.
+   */
+  private final Map<String, ModelComponent> fComponentsByName = new HashMap<>();
+  /**
+   * Whether the name index needs to be rebuilt before it can be used again, because components
+   * were removed.
+   */
+  private boolean fComponentsByNameStale;
 
   private final CourseObjectFactory crsObjFactory;
 
@@ -176,14 +185,12 @@ class StandardSystemModel
 
   @Override
   public ModelComponent getModelComponent(String name) {
-    for (ModelComponent folder : fMainFolders.values()) {
-      ModelComponent component = getModelComponent(name, folder);
-      if (component != null) {
-        return component;
+    synchronized (fComponentsByName) {
+      if (fComponentsByNameStale) {
+        rebuildNameIndex();
       }
+      return fComponentsByName.get(name);
     }
-
-    return null;
   }
 
   @Override // SystemModel
@@ -419,19 +426,57 @@ class StandardSystemModel
     return result;
   }
 
-  private ModelComponent getModelComponent(String name, ModelComponent root) {
-    if (root instanceof CompositeModelComponent) {
-      for (ModelComponent subComponent : root.getChildComponents()) {
-        ModelComponent result = getModelComponent(name, subComponent);
-        if (result != null) {
-          return result;
-        }
+  @Override // CompositeModelComponent
+  protected void componentAdded(ModelComponent component) {
+    synchronized (fComponentsByName) {
+      if (!fComponentsByNameStale) {
+        indexComponent(component);
       }
     }
-    else if (Objects.equals(name, root.getName())) {
-      return root;
+  }
+
+  @Override // CompositeModelComponent
+  protected void componentRemoved(ModelComponent component) {
+    // The component may still be contained in other folders (e.g. in blocks or groups), so simply
+    // rebuild the index when it is needed next.
+    synchronized (fComponentsByName) {
+      fComponentsByNameStale = true;
+    }
+  }
+
+  @Override // CompositeModelComponent
+  protected void componentRenamed(ModelComponent component, String oldName) {
+    if (component instanceof CompositeModelComponent) {
+      return;
+    }
+    synchronized (fComponentsByName) {
+      if (fComponentsByNameStale) {
+        return;
+      }
+      if (fComponentsByName.get(oldName) == component) {
+        fComponentsByName.remove(oldName);
+      }
+      indexComponent(component);
+    }
+  }
+
+  private void rebuildNameIndex() {
+    fComponentsByName.clear();
+    for (ModelComponent folder : fMainFolders.values()) {
+      indexComponent(folder);
+    }
+    fComponentsByNameStale = false;
+  }
+
+  private void indexComponent(ModelComponent component) {
+    if (component instanceof CompositeModelComponent) {
+      for (ModelComponent subComponent : component.getChildComponents()) {
+        indexComponent(subComponent);
+      }
+    }
+    else {
+      fComponentsByName.putIfAbsent(component.getName(), component);
     }
-    return null;
   }
 
   private void mapLayoutElement(TCSObjectReference<?> reference,
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.HashSet;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.SynchronousEventHandler;
+
+/**
+ * An event listener that keeps track of the vehicles and transport orders that changed since the
+ * previous dispatch run, and that triggers dispatching for them.
+ * <p>
+ * Only changes that may affect dispatching decisions are tracked, e.g. of a vehicle's state or a
+ * transport order's state.
+ * Changes made by a dispatch run itself are ignored.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class ChangedObjectsTracker
+    implements SynchronousEventHandler {
+
+  /**
+   * The dispatcher in use.
+   */
+  private final Dispatcher dispatcher;
+  /**
+   * The names of the vehicles and transport orders that changed since the previous dispatch run,
+   * or that are related to changed objects.
+   */
+  private final Set<String> changedObjectNames = new HashSet<>();
+  /**
+   * Whether the next dispatch run should include all objects.
+   */
+  private boolean fullRunRequested;
+  /**
+   * The thread executing the current dispatch run, or <code>null</code>, if no dispatch run is
+   * being executed.
+   */
+  private volatile Thread dispatchingThread;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param dispatcher The dispatcher in use.
+   */
+  public ChangedObjectsTracker(Dispatcher dispatcher) {
+    this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+    // Changes made by the dispatch run itself have already been taken into account by it.
+    if (Thread.currentThread() == dispatchingThread) {
+      return;
+    }
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    boolean lifecycleEvent = objectEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED;
+    if (object instanceof Vehicle) {
+      if (!lifecycleEvent
+          && !relevantChange((Vehicle) objectEvent.getPreviousObjectState(),
+                             (Vehicle) objectEvent.getCurrentObjectState())) {
+        return;
+      }
+      markChanged(object.getName());
+    }
+    else if (object instanceof TransportOrder) {
+      if (!lifecycleEvent
+          && !relevantChange((TransportOrder) objectEvent.getPreviousObjectState(),
+                             (TransportOrder) objectEvent.getCurrentObjectState())) {
+        return;
+      }
+      // Changes to an order may also affect the vehicles it is intended for or processed by.
+      TransportOrder order = (TransportOrder) object;
+      markChanged(order.getName(), order.getIntendedVehicle(), order.getProcessingVehicle());
+    }
+    else if (object instanceof OrderSequence) {
+      if (!lifecycleEvent
+          && !relevantChange((OrderSequence) objectEvent.getPreviousObjectState(),
+                             (OrderSequence) objectEvent.getCurrentObjectState())) {
+        return;
+      }
+      // A sequence's processing vehicle may be waiting for orders added to the sequence.
+      OrderSequence sequence = (OrderSequence) object;
+      markChanged(null, sequence.getIntendedVehicle(), sequence.getProcessingVehicle());
+    }
+    else {
+      return;
+    }
+    dispatcher.dispatch();
+  }
+
+  /**
+   * Marks the beginning of a dispatch run executed by the calling thread.
+   * Until {@link #dispatchRunFinished()} is called, events delivered to this tracker by the calling
+   * thread are considered to be caused by the dispatch run and are ignored.
+   */
+  public void dispatchRunStarted() {
+    dispatchingThread = Thread.currentThread();
+  }
+
+  /**
+   * Marks the end of the dispatch run executed by the calling thread.
+   */
+  public void dispatchRunFinished() {
+    dispatchingThread = null;
+  }
+
+  /**
+   * Requests the next dispatch run to include all objects, e.g. because something changed that
+   * may affect the outcome of evaluations done before.
+   */
+  public synchronized void requestFullRun() {
+    fullRunRequested = true;
+  }
+
+  /**
+   * Returns the scope for the next dispatch run and starts tracking changes for the run after it.
+   *
+   * @return The scope for the next dispatch run.
+   */
+  @Nonnull
+  public synchronized DispatchScope nextScope() {
+    DispatchScope scope = fullRunRequested
+        ? DispatchScope.full()
+        : DispatchScope.of(changedObjectNames);
+    changedObjectNames.clear();
+    fullRunRequested = false;
+    return scope;
+  }
+
+  private boolean relevantChange(Vehicle oldVehicle, Vehicle newVehicle) {
+    // Energy level and position changes are only relevant for idle vehicles, which may have to be
+    // sent to recharge or park, or may be assigned orders.
+    boolean idle = newVehicle.hasProcState(Vehicle.ProcState.IDLE);
+    return oldVehicle.getIntegrationLevel() != newVehicle.getIntegrationLevel()
+        || oldVehicle.getState() != newVehicle.getState()
+        || oldVehicle.getProcState() != newVehicle.getProcState()
+        || !Objects.equals(oldVehicle.getTransportOrder(), newVehicle.getTransportOrder())
+        || !Objects.equals(oldVehicle.getOrderSequence(), newVehicle.getOrderSequence())
+        || !Objects.equals(oldVehicle.getProcessableCategories(),
+                           newVehicle.getProcessableCategories())
+        || !Objects.equals(oldVehicle.getRechargeOperation(), newVehicle.getRechargeOperation())
+        || (idle && oldVehicle.getEnergyLevel() != newVehicle.getEnergyLevel())
+        || (idle && !Objects.equals(oldVehicle.getCurrentPosition(),
+                                    newVehicle.getCurrentPosition()));
+  }
+
+  private boolean relevantChange(TransportOrder oldOrder, TransportOrder newOrder) {
+    return oldOrder.getState() != newOrder.getState()
+        || !Objects.equals(oldOrder.getIntendedVehicle(), newOrder.getIntendedVehicle())
+        || !Objects.equals(oldOrder.getProcessingVehicle(), newOrder.getProcessingVehicle())
+        || oldOrder.getDeadline() != newOrder.getDeadline()
+        || oldOrder.isDispensable() != newOrder.isDispensable();
+  }
+
+  private boolean relevantChange(OrderSequence oldSequence, OrderSequence newSequence) {
+    return oldSequence.getOrders().size() != newSequence.getOrders().size()
+        || oldSequence.getFinishedIndex() != newSequence.getFinishedIndex()
+        || oldSequence.isComplete() != newSequence.isComplete()
+        || oldSequence.isFinished() != newSequence.isFinished()
+        || !Objects.equals(oldSequence.getIntendedVehicle(), newSequence.getIntendedVehicle())
+        || !Objects.equals(oldSequence.getProcessingVehicle(), newSequence.getProcessingVehicle());
+  }
+
+  private synchronized void markChanged(@Nullable String objectName,
+                                        TCSObjectReference<?>... relatedObjects) {
+    if (objectName != null) {
+      changedObjectNames.add(objectName);
+    }
+    for (TCSObjectReference<?> ref : relatedObjects) {
+      if (ref != null) {
+        changedObjectNames.add(ref.getName());
+      }
+    }
+  }
+}
@@ -8,10 +8,13 @@
 package org.opentcs.strategies.basic.dispatching;
 
 import static com.google.common.base.Preconditions.checkState;
+import java.util.HashSet;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import org.opentcs.components.kernel.Dispatcher;
@@ -19,6 +22,8 @@ import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.RerouteTrigger.TOPOLOGY_CHANGE;
@@ -59,9 +64,9 @@ public class DefaultDispatcher
    */
   private final EventSource eventSource;
   /**
-   * The kernel's executor.
+   * Executes dispatching tasks one after another.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final ScheduledExecutorService dispatcherLane;
 
   private final FullDispatchTask fullDispatchTask;
 
@@ -70,10 +75,22 @@ public class DefaultDispatcher
   private final DefaultDispatcherConfiguration configuration;
 
   private final RerouteTask rerouteTask;
+  /**
+   * Stores routes computed in advance for the next orders in sequences.
+   */
+  private final SuccessorRoutePool successorRoutePool;
   /**
    *
    */
   private ImplicitDispatchTrigger implicitDispatchTrigger;
+  /**
+   * Keeps track of the objects to be evaluated in the next dispatch run.
+   */
+  private final ChangedObjectsTracker changedObjectsTracker = new ChangedObjectsTracker(this);
+  /**
+   * Indicates whether a dispatch run has been scheduled but not started, yet.
+   */
+  private final AtomicBoolean dispatchPending = new AtomicBoolean();
 
   private ScheduledFuture<?> periodicDispatchTaskFuture;
   /**
@@ -89,7 +106,12 @@ public class DefaultDispatcher
    * @param transportOrderService The transport order service.
    * @param vehicleService The vehicle service.
    * @param eventSource Where this instance registers for application events.
-   * @param kernelExecutor Executes dispatching tasks.
+   * @param executorLanes Provides the lane executing dispatching tasks.
+   * @param fullDispatchTask The task performing a dispatch run.
+   * @param periodicDispatchTaskProvider Provides the task triggering periodic redispatching.
+   * @param configuration The dispatcher's configuration.
+   * @param rerouteTask The task rerouting vehicles.
+   * @param successorRoutePool Stores routes computed in advance for the next orders in sequences.
    */
   @Inject
   public DefaultDispatcher(OrderReservationPool orderReservationPool,
@@ -97,22 +119,61 @@ public class DefaultDispatcher
                            InternalTransportOrderService transportOrderService,
                            InternalVehicleService vehicleService,
                            @ApplicationEventBus EventSource eventSource,
-                           @KernelExecutor ScheduledExecutorService kernelExecutor,
+                           KernelExecutorLanes executorLanes,
                            FullDispatchTask fullDispatchTask,
                            Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
                            DefaultDispatcherConfiguration configuration,
-                           RerouteTask rerouteTask) {
+                           RerouteTask rerouteTask,
+                           SuccessorRoutePool successorRoutePool) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.eventSource = requireNonNull(eventSource, "eventSource");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.dispatcherLane = requireNonNull(executorLanes, "executorLanes").getDispatcherLane();
     this.fullDispatchTask = requireNonNull(fullDispatchTask, "fullDispatchTask");
     this.periodicDispatchTaskProvider = requireNonNull(periodicDispatchTaskProvider,
                                                        "periodicDispatchTaskProvider");
     this.configuration = requireNonNull(configuration, "configuration");
     this.rerouteTask = requireNonNull(rerouteTask, "rerouteTask");
+    this.successorRoutePool = requireNonNull(successorRoutePool, "successorRoutePool");
+  }
+
+  /**
+   * Creates a new instance executing dispatching tasks with the given kernel executor.
+   *
+   * @param orderReservationPool Stores reservations of transport orders for vehicles.
+   * @param transportOrderUtil Provides services for working with transport orders.
+   * @param transportOrderService The transport order service.
+   * @param vehicleService The vehicle service.
+   * @param eventSource Where this instance registers for application events.
+   * @param kernelExecutor Executes dispatching tasks.
+   * @param fullDispatchTask The task performing a dispatch run.
+   * @param periodicDispatchTaskProvider Provides the task triggering periodic redispatching.
+   * @param configuration The dispatcher's configuration.
+   * @param rerouteTask The task rerouting vehicles.
+   */
+  public DefaultDispatcher(OrderReservationPool orderReservationPool,
+                           TransportOrderUtil transportOrderUtil,
+                           InternalTransportOrderService transportOrderService,
+                           InternalVehicleService vehicleService,
+                           @ApplicationEventBus EventSource eventSource,
+                           @KernelExecutor ScheduledExecutorService kernelExecutor,
+                           FullDispatchTask fullDispatchTask,
+                           Provider<PeriodicVehicleRedispatchingTask> periodicDispatchTaskProvider,
+                           DefaultDispatcherConfiguration configuration,
+                           RerouteTask rerouteTask) {
+    this(orderReservationPool,
+         transportOrderUtil,
+         transportOrderService,
+         vehicleService,
+         eventSource,
+         KernelExecutorLanes.of(kernelExecutor),
+         fullDispatchTask,
+         periodicDispatchTaskProvider,
+         configuration,
+         rerouteTask,
+         new SuccessorRoutePool());
   }
 
   @Override
@@ -125,16 +186,27 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    successorRoutePool.clear();
 
     fullDispatchTask.initialize();
 
     implicitDispatchTrigger = new ImplicitDispatchTrigger(this);
     eventSource.subscribe(implicitDispatchTrigger);
+    if (configuration.incrementalDispatching()) {
+      eventSource.subscribe(changedObjectsTracker);
+    }
+    // Make sure the first dispatch run evaluates everything.
+    changedObjectsTracker.requestFullRun();
 
     LOG.debug("Scheduling periodic dispatch task with interval of {} ms...",
               configuration.idleVehicleRedispatchingInterval());
-    periodicDispatchTaskFuture = kernelExecutor.scheduleAtFixedRate(
-        periodicDispatchTaskProvider.get(),
+    PeriodicVehicleRedispatchingTask periodicDispatchTask = periodicDispatchTaskProvider.get();
+    periodicDispatchTaskFuture = dispatcherLane.scheduleAtFixedRate(
+        () -> {
+          // Periodic dispatch runs evaluate everything, catching changes not reflected by events.
+          changedObjectsTracker.requestFullRun();
+          periodicDispatchTask.run();
+        },
         configuration.idleVehicleRedispatchingInterval(),
         configuration.idleVehicleRedispatchingInterval(),
         TimeUnit.MILLISECONDS
@@ -156,6 +228,7 @@ public class DefaultDispatcher
 
     eventSource.unsubscribe(implicitDispatchTrigger);
     implicitDispatchTrigger = null;
+    eventSource.unsubscribe(changedObjectsTracker);
 
     fullDispatchTask.terminate();
 
@@ -169,9 +242,27 @@ public class DefaultDispatcher
 
   @Override
   public void dispatch() {
+    // Coalesce requests: If a dispatch run is already pending, it will see all changes up to now.
+    if (!dispatchPending.compareAndSet(false, true)) {
+      LOG.debug("Dispatch task already pending, not scheduling another one.");
+      return;
+    }
     LOG.debug("Scheduling dispatch task...");
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(fullDispatchTask);
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
+      dispatchPending.set(false);
+      if (!configuration.incrementalDispatching()) {
+        fullDispatchTask.run(DispatchScope.full());
+        return;
+      }
+      changedObjectsTracker.dispatchRunStarted();
+      try {
+        fullDispatchTask.run(changedObjectsTracker.nextScope());
+      }
+      finally {
+        changedObjectsTracker.dispatchRunFinished();
+      }
+    });
   }
 
   @Override
@@ -211,7 +302,7 @@ public class DefaultDispatcher
     }
 
     LOG.debug("Scheduling dispatch task for transport order {}...", order);
-    // Schedule this to be executed by the kernel executor.
+    // Schedule this to be executed by the dispatcher lane.
     dispatch();
   }
 
@@ -220,8 +311,8 @@ public class DefaultDispatcher
     requireNonNull(order, "order");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
       LOG.debug("Scheduling withdrawal for transport order '{}' (immediate={})...",
                 order.getName(),
                 immediateAbort);
@@ -234,8 +325,8 @@ public class DefaultDispatcher
     requireNonNull(vehicle, "vehicle");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
       LOG.debug("Scheduling withdrawal for vehicle '{}' (immediate={})...",
                 vehicle.getName(),
                 immediateAbort);
@@ -249,8 +340,8 @@ public class DefaultDispatcher
     requireNonNull(order, "order");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
       LOG.debug("Scheduling withdrawal for transport order '{}' (immediate={}, disable={})...",
                 order.getName(),
                 immediateAbort,
@@ -265,8 +356,8 @@ public class DefaultDispatcher
     requireNonNull(vehicle, "vehicle");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
       LOG.debug("Scheduling withdrawal for vehicle '{}' (immediate={}, disable={})...",
                 vehicle.getName(),
                 immediateAbort,
@@ -281,8 +372,8 @@ public class DefaultDispatcher
     requireNonNull(vehicle, "vehicle");
     checkState(isInitialized(), "Not initialized");
 
-    // Schedule this to be executed by the kernel executor.
-    kernelExecutor.submit(() -> {
+    // Schedule this to be executed by the dispatcher lane.
+    dispatcherLane.submit(() -> {
       LOG.debug("Scheduling release for vehicle '{}'...", vehicle.getName());
       transportOrderUtil.abortOrder(vehicle, true, true, true);
     });
@@ -290,9 +381,24 @@ public class DefaultDispatcher
 
   @Override
   public void topologyChanged() {
+    successorRoutePool.clear();
     if (configuration.rerouteTrigger() == TOPOLOGY_CHANGE) {
       LOG.debug("Scheduling reroute task...");
-      kernelExecutor.submit(rerouteTask);
+      changedObjectsTracker.requestFullRun();
+      dispatcherLane.submit(rerouteTask);
+    }
+  }
+
+  @Override
+  public void topologyChanged(Set<Path> paths) {
+    requireNonNull(paths, "paths");
+
+    successorRoutePool.clear();
+    if (configuration.rerouteTrigger() == TOPOLOGY_CHANGE) {
+      LOG.debug("Scheduling reroute task for changed paths {}...", paths);
+      Set<Path> changedPaths = new HashSet<>(paths);
+      changedObjectsTracker.requestFullRun();
+      dispatcherLane.submit(() -> rerouteTask.run(changedPaths));
     }
   }
 
@@ -69,6 +69,19 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "0_assign")
   List<String> orderCandidatePriorities();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+        "The strategy to use when assigning free transport orders to vehicles.",
+        "Possible values:",
+        "GREEDY: Assign orders one after another, each to its best candidate according to the "
+        + "configured priorities.",
+        "MIN_COST_MATCHING: Assign orders all at once, minimizing the sum of the routing costs to "
+        + "the orders' first destinations."
+      },
+      orderKey = "0_assign_0")
+  AssignmentStrategy assignmentStrategy();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The time window (in ms) before its deadline in which an order becomes urgent.",
@@ -138,6 +151,20 @@ public interface DefaultDispatcherConfiguration {
       orderKey = "9_misc")
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to evaluate only vehicles and transport orders that changed since the previous "
+        + "dispatch run.",
+        "Periodic redispatching still evaluates all of them."},
+      orderKey = "9_misc_1")
+  boolean incrementalDispatching();
+
+  enum AssignmentStrategy {
+    GREEDY,
+    MIN_COST_MATCHING;
+  }
+
   enum RerouteTrigger {
     NONE,
     DRIVE_ORDER_FINISHED,
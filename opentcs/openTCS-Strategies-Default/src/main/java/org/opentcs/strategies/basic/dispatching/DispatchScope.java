@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.Collections;
+import java.util.HashSet;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Describes which vehicles and transport orders a dispatch run needs to evaluate.
+ * <p>
+ * A full scope includes all objects.
+ * A partial scope includes only the objects that changed since the previous dispatch run; other
+ * objects have been evaluated before and did not lead to any assignment then.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public final class DispatchScope {
+
+  /**
+   * The scope including all objects.
+   */
+  private static final DispatchScope FULL = new DispatchScope(true, Collections.emptySet());
+  /**
+   * Whether this scope includes all objects.
+   */
+  private final boolean full;
+  /**
+   * The names of the objects included in this scope, if it is not a full one.
+   */
+  private final Set<String> objectNames;
+
+  private DispatchScope(boolean full, Set<String> objectNames) {
+    this.full = full;
+    this.objectNames = objectNames;
+  }
+
+  /**
+   * Returns the scope including all objects.
+   *
+   * @return The scope including all objects.
+   */
+  @Nonnull
+  public static DispatchScope full() {
+    return FULL;
+  }
+
+  /**
+   * Returns a scope including only the objects with the given names.
+   *
+   * @param objectNames The names of the objects to be included.
+   * @return A scope including only the objects with the given names.
+   */
+  @Nonnull
+  public static DispatchScope of(@Nonnull Set<String> objectNames) {
+    requireNonNull(objectNames, "objectNames");
+
+    return new DispatchScope(false, Collections.unmodifiableSet(new HashSet<>(objectNames)));
+  }
+
+  /**
+   * Indicates whether this scope includes all objects.
+   *
+   * @return <code>true</code> if, and only if, this scope includes all objects.
+   */
+  public boolean isFull() {
+    return full;
+  }
+
+  /**
+   * Indicates whether this scope includes the given object.
+   *
+   * @param object The object.
+   * @return <code>true</code> if, and only if, this scope is a full one or includes the given
+   * object.
+   */
+  public boolean includes(@Nonnull TCSObject<?> object) {
+    requireNonNull(object, "object");
+
+    return full || objectNames.contains(object.getName());
+  }
+
+  @Override
+  public String toString() {
+    return "DispatchScope{" + "full=" + full + ", objectNames=" + objectNames + '}';
+  }
+}
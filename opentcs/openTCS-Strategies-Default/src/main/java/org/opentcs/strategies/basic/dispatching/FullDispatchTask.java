@@ -114,20 +114,29 @@ public class FullDispatchTask
 
   @Override
   public void run() {
-    LOG.debug("Starting full dispatch run...");
+    run(DispatchScope.full());
+  }
 
-    checkNewOrdersPhase.run();
+  /**
+   * Performs a dispatch run, evaluating only the vehicles and transport orders in the given scope
+   * where possible.
+   *
+   * @param scope The vehicles and transport orders to be evaluated.
+   */
+  public void run(DispatchScope scope) {
+    LOG.debug("Starting dispatch run with {}...", scope);
+
+    checkNewOrdersPhase.run(scope);
     // Check what vehicles involved in a process should do.
-    finishWithdrawalsPhase.run();
-    assignNextDriveOrdersPhase.run();
-    assignReservedOrdersPhase.run();
-    assignSequenceSuccessorsPhase.run();
+    finishWithdrawalsPhase.run(scope);
+    assignNextDriveOrdersPhase.run(scope);
+    assignReservedOrdersPhase.run(scope);
+    assignSequenceSuccessorsPhase.run(scope);
     // Check what vehicles not already in a process should do.
-    assignFreeOrdersPhase.run();
-    rechargeIdleVehiclesPhase.run();
-    parkIdleVehiclesPhase.run();
+    assignFreeOrdersPhase.run(scope);
+    rechargeIdleVehiclesPhase.run(scope);
+    parkIdleVehiclesPhase.run(scope);
 
-    LOG.debug("Finished full dispatch run.");
+    LOG.debug("Finished dispatch run.");
   }
-
 }
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
+
+/**
+ * Evaluates candidates concurrently, e.g. for computing routing costs for many vehicles.
+ * <p>
+ * The results are returned in the order of the evaluated elements, so callers merging them get
+ * the same outcome regardless of the order in which the evaluations actually finished.
+ * Functions passed to this class must be safe to be called concurrently, i.e. they should only read
+ * data and not modify anything.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class ParallelEvaluator {
+
+  /**
+   * Executes the evaluations.
+   */
+  private final Executor executor;
+
+  /**
+   * Creates a new instance that evaluates candidates using the kernel's pool for read-only queries.
+   *
+   * @param executorLanes Provides the pool for read-only queries.
+   */
+  @Inject
+  public ParallelEvaluator(@Nonnull KernelExecutorLanes executorLanes) {
+    this(requireNonNull(executorLanes, "executorLanes").getQueryPool());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the evaluations.
+   */
+  public ParallelEvaluator(@Nonnull Executor executor) {
+    this.executor = requireNonNull(executor, "executor");
+  }
+
+  /**
+   * Returns an instance that evaluates candidates one after another in the calling thread.
+   *
+   * @return An instance that evaluates candidates in the calling thread.
+   */
+  @Nonnull
+  public static ParallelEvaluator sequential() {
+    return new ParallelEvaluator(Runnable::run);
+  }
+
+  /**
+   * Applies the given function to all given elements.
+   * Blocks until all results are available.
+   *
+   * @param <T> The type of the elements.
+   * @param <R> The type of the results.
+   * @param elements The elements to be evaluated.
+   * @param function The function to be applied to each element.
+   * @return The results, in the order of the elements they were computed for.
+   * @throws RuntimeException If the function threw one for any element.
+   */
+  @Nonnull
+  public <T, R> List<R> evaluate(@Nonnull List<T> elements,
+                                 @Nonnull Function<? super T, ? extends R> function) {
+    requireNonNull(elements, "elements");
+    requireNonNull(function, "function");
+
+    List<R> results = new ArrayList<>(elements.size());
+    // Do not bother handing over a single element to other threads.
+    if (elements.size() == 1) {
+      results.add(function.apply(elements.get(0)));
+      return results;
+    }
+
+    List<FutureTask<R>> tasks = new ArrayList<>(elements.size());
+    for (T element : elements) {
+      FutureTask<R> task = new FutureTask<>(() -> function.apply(element));
+      tasks.add(task);
+      executor.execute(task);
+    }
+    try {
+      for (FutureTask<R> task : tasks) {
+        results.add(task.get());
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while evaluating candidates", exc);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new IllegalStateException("Exception evaluating candidates", exc.getCause());
+    }
+    finally {
+      for (FutureTask<R> task : tasks) {
+        task.cancel(false);
+      }
+    }
+    return results;
+  }
+}
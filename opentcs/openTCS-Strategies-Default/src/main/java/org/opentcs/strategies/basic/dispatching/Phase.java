@@ -18,4 +18,14 @@ public interface Phase
     extends Runnable,
             Lifecycle {
 
+  /**
+   * Runs this phase, evaluating only the vehicles and transport orders in the given scope where
+   * possible.
+   * The default implementation ignores the scope and evaluates all objects.
+   *
+   * @param scope The vehicles and transport orders to be evaluated.
+   */
+  default void run(DispatchScope scope) {
+    run();
+  }
 }
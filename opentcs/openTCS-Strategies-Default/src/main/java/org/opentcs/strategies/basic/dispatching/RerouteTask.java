@@ -7,10 +7,15 @@
  */
 package org.opentcs.strategies.basic.dispatching;
 
+import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,4 +67,48 @@ public class RerouteTask
       rerouteUtil.reroute(vehicle);
     }
   }
+
+  /**
+   * Performs a re-routing of vehicles affected by changes to the given paths.
+   * <p>
+   * If any of the paths became unlocked, all vehicles may benefit from it, so all of them are
+   * re-routed.
+   * Otherwise, only vehicles whose future route contains any of the paths are re-routed.
+   * </p>
+   *
+   * @param changedPaths The changed paths, in their current state.
+   */
+  public void run(Set<Path> changedPaths) {
+    requireNonNull(changedPaths, "changedPaths");
+
+    if (changedPaths.stream().anyMatch(path -> !path.isLocked())) {
+      run();
+      return;
+    }
+
+    Set<String> changedPathNames = changedPaths.stream()
+        .map(path -> path.getName())
+        .collect(Collectors.toSet());
+
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
+      // Ignore vehicles that don't process any order
+      if (!vehicle.isProcessingOrder()) {
+        LOG.debug("{}: Not processing any transport order, ignoring.", vehicle.getName());
+        continue;
+      }
+      if (!routeContainsAnyPath(rerouteUtil.getFutureSteps(vehicle), changedPathNames)) {
+        LOG.debug("{}: Route not affected by topology change, ignoring.", vehicle.getName());
+        continue;
+      }
+
+      LOG.debug("{}: Rerouting due to topology change.", vehicle.getName());
+      rerouteUtil.reroute(vehicle);
+    }
+  }
+
+  private boolean routeContainsAnyPath(List<Route.Step> steps, Set<String> pathNames) {
+    return steps.stream()
+        .filter(step -> step.getPath() != null)
+        .anyMatch(step -> pathNames.contains(step.getPath().getName()));
+  }
 }
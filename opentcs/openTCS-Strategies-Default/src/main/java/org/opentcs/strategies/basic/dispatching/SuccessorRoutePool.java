@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Stores routes computed in advance for the transport orders that vehicles will process next in
+ * their order sequences.
+ * <p>
+ * A stored route is only handed out if the vehicle is at the point the route was computed from and
+ * the transport order's destinations did not change in the meantime.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class SuccessorRoutePool {
+
+  /**
+   * The routes computed in advance, mapped by the vehicles they were computed for.
+   */
+  private final Map<TCSObjectReference<Vehicle>, SuccessorRoute> successorRoutes
+      = Collections.synchronizedMap(new HashMap<>());
+
+  /**
+   * Creates a new instance.
+   */
+  @Inject
+  public SuccessorRoutePool() {
+  }
+
+  /**
+   * Clears all routes, e.g. because the topology changed and they may no longer be valid.
+   */
+  public void clear() {
+    successorRoutes.clear();
+  }
+
+  /**
+   * Stores a route for the given vehicle, replacing any route stored for it before.
+   *
+   * @param vehicleRef A reference to the vehicle.
+   * @param order The transport order the route was computed for.
+   * @param sourcePointRef A reference to the point the route was computed from.
+   * @param driveOrders The drive orders containing the computed route.
+   */
+  public void addRoute(@Nonnull TCSObjectReference<Vehicle> vehicleRef,
+                       @Nonnull TransportOrder order,
+                       @Nonnull TCSObjectReference<Point> sourcePointRef,
+                       @Nonnull List<DriveOrder> driveOrders) {
+    requireNonNull(vehicleRef, "vehicleRef");
+    requireNonNull(order, "order");
+    requireNonNull(sourcePointRef, "sourcePointRef");
+    requireNonNull(driveOrders, "driveOrders");
+
+    successorRoutes.put(vehicleRef, new SuccessorRoute(order, sourcePointRef, driveOrders));
+  }
+
+  /**
+   * Checks whether there is a route stored for the given vehicle and transport order.
+   *
+   * @param vehicleRef A reference to the vehicle.
+   * @param orderRef A reference to the transport order.
+   * @return <code>true</code> if, and only if, there is a route stored.
+   */
+  public boolean hasRoute(@Nonnull TCSObjectReference<Vehicle> vehicleRef,
+                          @Nonnull TCSObjectReference<TransportOrder> orderRef) {
+    requireNonNull(vehicleRef, "vehicleRef");
+    requireNonNull(orderRef, "orderRef");
+
+    SuccessorRoute route = successorRoutes.get(vehicleRef);
+    return route != null && route.orderRef.equals(orderRef);
+  }
+
+  /**
+   * Removes the route stored for the given vehicle and returns it, if it is still valid for the
+   * vehicle's current position and the given transport order.
+   *
+   * @param vehicle The vehicle.
+   * @param order The transport order.
+   * @return The drive orders containing the stored route, or an empty optional, if there is no
+   * valid route stored.
+   */
+  @Nonnull
+  public Optional<List<DriveOrder>> takeRoute(@Nonnull Vehicle vehicle,
+                                              @Nonnull TransportOrder order) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(order, "order");
+
+    SuccessorRoute route = successorRoutes.remove(vehicle.getReference());
+    if (route == null
+        || !route.orderRef.equals(order.getReference())
+        || !route.sourcePointRef.equals(vehicle.getCurrentPosition())
+        || !route.destinations.equals(destinations(order))) {
+      return Optional.empty();
+    }
+    return Optional.of(route.driveOrders);
+  }
+
+  private static List<DriveOrder.Destination> destinations(TransportOrder order) {
+    return order.getAllDriveOrders().stream()
+        .map(DriveOrder::getDestination)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * A route computed in advance.
+   */
+  private static class SuccessorRoute {
+
+    /**
+     * A reference to the transport order the route was computed for.
+     */
+    private final TCSObjectReference<TransportOrder> orderRef;
+    /**
+     * The transport order's destinations at the time the route was computed.
+     */
+    private final List<DriveOrder.Destination> destinations;
+    /**
+     * A reference to the point the route was computed from.
+     */
+    private final TCSObjectReference<Point> sourcePointRef;
+    /**
+     * The drive orders containing the computed route.
+     */
+    private final List<DriveOrder> driveOrders;
+
+    SuccessorRoute(TransportOrder order,
+                   TCSObjectReference<Point> sourcePointRef,
+                   List<DriveOrder> driveOrders) {
+      this.orderRef = order.getReference();
+      this.destinations = destinations(order);
+      this.sourcePointRef = sourcePointRef;
+      this.driveOrders = new ArrayList<>(driveOrders);
+    }
+  }
+}
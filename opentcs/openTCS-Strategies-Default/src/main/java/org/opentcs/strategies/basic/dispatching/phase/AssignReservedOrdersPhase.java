@@ -15,6 +15,7 @@ import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
@@ -89,7 +90,13 @@ public class AssignReservedOrdersPhase
 
   @Override
   public void run() {
-    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class, this::available)) {
+    run(DispatchScope.full());
+  }
+
+  @Override
+  public void run(DispatchScope scope) {
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class,
+                                                      v -> scope.includes(v) && available(v))) {
       checkForReservedOrder(vehicle);
     }
   }
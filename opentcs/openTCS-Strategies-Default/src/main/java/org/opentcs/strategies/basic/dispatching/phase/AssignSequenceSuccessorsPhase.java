@@ -12,17 +12,26 @@ import java.util.Optional;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
+import org.opentcs.strategies.basic.dispatching.SuccessorRoutePool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 
 /**
  * Assigns vehicles to the next transport orders in their respective order sequences, if any.
+ * <p>
+ * As soon as a vehicle is processing the last drive order of a transport order in a sequence, the
+ * route for the sequence's next transport order is computed in advance, so it can be assigned
+ * without delay once the vehicle has finished its current transport order.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -43,6 +52,10 @@ public class AssignSequenceSuccessorsPhase
   private final ProcessabilityChecker processabilityChecker;
 
   private final TransportOrderUtil transportOrderUtil;
+  /**
+   * Stores the routes computed in advance.
+   */
+  private final SuccessorRoutePool successorRoutePool;
   /**
    * Indicates whether this component is initialized.
    */
@@ -52,11 +65,13 @@ public class AssignSequenceSuccessorsPhase
   public AssignSequenceSuccessorsPhase(TCSObjectService objectService,
                                        Router router,
                                        ProcessabilityChecker processabilityChecker,
-                                       TransportOrderUtil transportOrderUtil) {
+                                       TransportOrderUtil transportOrderUtil,
+                                       SuccessorRoutePool successorRoutePool) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
     this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
+    this.successorRoutePool = requireNonNull(successorRoutePool, "successorRoutePool");
   }
 
   @Override
@@ -82,15 +97,28 @@ public class AssignSequenceSuccessorsPhase
 
   @Override
   public void run() {
-    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class,
-                                                      this::readyForNextInSequence)) {
+    run(DispatchScope.full());
+  }
+
+  @Override
+  public void run(DispatchScope scope) {
+    for (Vehicle vehicle : objectService.fetchObjects(
+        Vehicle.class,
+        v -> scope.includes(v) && readyForNextInSequence(v))) {
       tryAssignNextOrderInSequence(vehicle);
     }
+    for (Vehicle vehicle : objectService.fetchObjects(
+        Vehicle.class,
+        v -> scope.includes(v) && processingOrderInSequence(v))) {
+      routeSuccessorInAdvance(vehicle);
+    }
   }
 
   private void tryAssignNextOrderInSequence(Vehicle vehicle) {
     nextOrderInCurrentSequence(vehicle)
-        .map(order -> computeCandidate(vehicle, order))
+        .map(order -> successorRoutePool.takeRoute(vehicle, order)
+            .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders))
+            .orElseGet(() -> computeCandidate(vehicle, order)))
         .filter(candidate -> processabilityChecker.checkProcessability(vehicle,
                                                                        candidate.getTransportOrder()))
         .ifPresent(candidate -> transportOrderUtil.assignTransportOrder(vehicle,
@@ -106,6 +134,38 @@ public class AssignSequenceSuccessorsPhase
         .orElse(null);
   }
 
+  private void routeSuccessorInAdvance(Vehicle vehicle) {
+    TransportOrder currentOrder = objectService.fetchObject(TransportOrder.class,
+                                                            vehicle.getTransportOrder());
+    DriveOrder currentDriveOrder = currentOrder.getCurrentDriveOrder();
+    // Wait until the vehicle processes the last drive order, which is when its final position is
+    // known for sure.
+    if (currentDriveOrder == null
+        || currentDriveOrder.getRoute() == null
+        || !currentOrder.getFutureDriveOrders().isEmpty()) {
+      return;
+    }
+
+    OrderSequence seq = objectService.fetchObject(OrderSequence.class, vehicle.getOrderSequence());
+    int successorIndex = seq.getOrders().indexOf(currentOrder.getReference()) + 1;
+    // If the successor is not available, yet, it will be routed when the vehicle is ready for it.
+    if (successorIndex == 0 || successorIndex >= seq.getOrders().size()) {
+      return;
+    }
+    TCSObjectReference<TransportOrder> successorRef = seq.getOrders().get(successorIndex);
+    if (successorRoutePool.hasRoute(vehicle.getReference(), successorRef)) {
+      return;
+    }
+
+    TransportOrder successor = objectService.fetchObject(TransportOrder.class, successorRef);
+    Point sourcePoint = currentDriveOrder.getRoute().getFinalDestinationPoint();
+    router.getRoute(vehicle, sourcePoint, successor)
+        .ifPresent(driveOrders -> successorRoutePool.addRoute(vehicle.getReference(),
+                                                              successor,
+                                                              sourcePoint.getReference(),
+                                                              driveOrders));
+  }
+
   private Optional<TransportOrder> nextOrderInCurrentSequence(Vehicle vehicle) {
     OrderSequence seq = objectService.fetchObject(OrderSequence.class, vehicle.getOrderSequence());
 
@@ -127,4 +187,10 @@ public class AssignSequenceSuccessorsPhase
         && vehicle.getOrderSequence() != null;
   }
 
+  private boolean processingOrderInSequence(Vehicle vehicle) {
+    return vehicle.getIntegrationLevel() == Vehicle.IntegrationLevel.TO_BE_UTILIZED
+        && vehicle.getOrderSequence() != null
+        && vehicle.getTransportOrder() != null;
+  }
+
 }
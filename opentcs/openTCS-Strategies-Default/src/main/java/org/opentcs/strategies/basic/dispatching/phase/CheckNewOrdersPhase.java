@@ -10,6 +10,7 @@ package org.opentcs.strategies.basic.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
@@ -77,7 +78,8 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(TransportOrder.class, this::inRawState).stream()
+    objectService.fetchObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE, TransportOrder.State.RAW)
+        .stream()
         .forEach(order -> checkRawTransportOrder(order));
   }
 
@@ -100,8 +102,4 @@ public class CheckNewOrdersPhase
                                                    TransportOrder.State.DISPATCHABLE);
     }
   }
-
-  private boolean inRawState(TransportOrder order) {
-    return order.hasState(TransportOrder.State.RAW);
-  }
 }
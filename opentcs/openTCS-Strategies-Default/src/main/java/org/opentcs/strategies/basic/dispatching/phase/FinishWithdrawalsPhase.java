@@ -12,6 +12,7 @@ import javax.inject.Inject;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 
@@ -63,7 +64,12 @@ public class FinishWithdrawalsPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(Vehicle.class).stream()
+    run(DispatchScope.full());
+  }
+
+  @Override
+  public void run(DispatchScope scope) {
+    objectService.fetchObjects(Vehicle.class, scope::includes).stream()
         .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
         .filter(vehicle -> hasWithdrawnTransportOrder(vehicle))
         .forEach(vehicle -> transportOrderUtil.finishAbortion(vehicle));
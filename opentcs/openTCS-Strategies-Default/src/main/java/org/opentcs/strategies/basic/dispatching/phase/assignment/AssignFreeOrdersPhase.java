@@ -7,22 +7,34 @@
  */
 package org.opentcs.strategies.basic.dispatching.phase.assignment;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.ObjectIndex;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
 import org.opentcs.strategies.basic.dispatching.CompositeTransportOrderSelectionVeto;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.AssignmentStrategy.MIN_COST_MATCHING;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.ParallelEvaluator;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -86,6 +98,10 @@ public class AssignFreeOrdersPhase
   private final TransportOrderUtil transportOrderUtil;
 
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Computes routes for multiple vehicles or orders concurrently.
+   */
+  private final ParallelEvaluator parallelEvaluator;
   /**
    * Indicates whether this component is initialized.
    */
@@ -103,7 +119,8 @@ public class AssignFreeOrdersPhase
       CompositeVehicleCandidateComparator vehicleCandidateComparator,
       CompositeTransportOrderSelectionVeto transportOrderSelectionVeto,
       TransportOrderUtil transportOrderUtil,
-      DefaultDispatcherConfiguration configuration) {
+      DefaultDispatcherConfiguration configuration,
+      ParallelEvaluator parallelEvaluator) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
     this.processabilityChecker = requireNonNull(processabilityChecker, "processabilityChecker");
@@ -118,6 +135,7 @@ public class AssignFreeOrdersPhase
     this.transportOrderSelectionVeto = requireNonNull(transportOrderSelectionVeto,
                                                       "transportOrderSelectionVeto");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.parallelEvaluator = requireNonNull(parallelEvaluator, "parallelEvaluator");
   }
 
   @Override
@@ -149,36 +167,85 @@ public class AssignFreeOrdersPhase
       LOG.debug("No vehicles available, skipping potentially expensive fetching of orders.");
       return;
     }
-    Set<TransportOrder> availableOrders = objectService.fetchObjects(TransportOrder.class,
-                                                                     this::dispatchable);
+    Set<TransportOrder> availableOrders = fetchDispatchableOrders(this::dispatchable);
 
     LOG.debug("Available for dispatching: {} transport orders and {} vehicles.",
               availableOrders.size(),
               availableVehicles.size());
 
-    if (availableVehicles.size() < availableOrders.size()) {
-      availableVehicles.stream()
-          .sorted(vehicleComparator)
-          .forEach(vehicle -> tryAssignOrder(vehicle));
+    if (configuration.assignmentStrategy() == MIN_COST_MATCHING) {
+      assignByMinCostMatching(availableVehicles, availableOrders);
+    }
+    else if (availableVehicles.size() < availableOrders.size()) {
+      assignOrdersToVehicles(availableVehicles, availableOrders);
     }
     else {
-      availableOrders.stream()
-          .sorted(orderComparator)
-          .forEach(order -> tryAssignVehicle(order));
+      assignVehiclesToOrders(availableOrders, availableVehicles);
     }
   }
 
-  private void tryAssignOrder(Vehicle vehicle) {
-    LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
+  @Override
+  public void run(DispatchScope scope) {
+    // A matching is only optimal if it is computed for all available vehicles and orders.
+    if (scope.isFull() || configuration.assignmentStrategy() == MIN_COST_MATCHING) {
+      run();
+      return;
+    }
+
+    // Vehicles and orders that did not change have been evaluated against each other before, so
+    // only pairs with at least one changed partner need to be considered.
+    Set<Vehicle> changedVehicles = objectService.fetchObjects(
+        Vehicle.class,
+        vehicle -> scope.includes(vehicle) && availableForAnyOrder(vehicle));
+    if (!changedVehicles.isEmpty()) {
+      assignOrdersToVehicles(changedVehicles, fetchDispatchableOrders(this::dispatchable));
+    }
 
-    Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+    // Fetch the orders only now, as some of them may have been assigned above.
+    Set<TransportOrder> changedOrders
+        = fetchDispatchableOrders(order -> scope.includes(order) && dispatchable(order));
+    if (!changedOrders.isEmpty()) {
+      assignVehiclesToOrders(changedOrders,
+                             objectService.fetchObjects(Vehicle.class,
+                                                        this::availableForAnyOrder));
+    }
+  }
+
+  private void assignOrdersToVehicles(Set<Vehicle> availableVehicles,
+                                      Set<TransportOrder> availableOrders) {
+    List<Vehicle> vehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .collect(Collectors.toList());
+    // Compute the routes for all vehicles concurrently before assigning anything. Assignments only
+    // reduce the set of orders still available for the following vehicles.
+    List<Map<TransportOrder, Optional<List<DriveOrder>>>> routes
+        = computeRoutesFromVehicles(vehicles, availableOrders);
+    for (int i = 0; i < vehicles.size(); i++) {
+      tryAssignOrder(vehicles.get(i), routes.get(i));
+    }
+  }
+
+  private void assignVehiclesToOrders(Set<TransportOrder> availableOrders,
+                                      Set<Vehicle> availableVehicles) {
+    List<TransportOrder> orders = availableOrders.stream()
+        .sorted(orderComparator)
+        .collect(Collectors.toList());
+    // Compute the routes for all orders concurrently before assigning anything. Assignments only
+    // reduce the set of vehicles still available for the following orders.
+    List<Map<Vehicle, Optional<List<DriveOrder>>>> routes
+        = computeRoutesToOrders(orders, availableVehicles);
+    for (int i = 0; i < orders.size(); i++) {
+      tryAssignVehicle(orders.get(i), routes.get(i));
+    }
+  }
 
-    objectService.fetchObjects(TransportOrder.class,
-                               order -> dispatchableForVehicle(order, vehicle))
-        .stream()
-        .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-        .filter(optCandidate -> optCandidate.isPresent())
-        .map(optCandidate -> optCandidate.get())
+  private void tryAssignOrder(Vehicle vehicle,
+                              Map<TransportOrder, Optional<List<DriveOrder>>> routesByOrder) {
+    LOG.debug("Trying to find transport order for vehicle '{}'...", vehicle.getName());
+
+    fetchDispatchableOrders(order -> dispatchableForVehicle(order, vehicle)).stream()
+        .filter(order -> routesByOrder.getOrDefault(order, Optional.empty()).isPresent())
+        .map(order -> new AssignmentCandidate(vehicle, order, routesByOrder.get(order).get()))
         .filter(candidate -> processabilityChecker.checkProcessability(vehicle,
                                                                        candidate.getTransportOrder()))
         .sorted(orderCandidateComparator)
@@ -186,15 +253,13 @@ public class AssignFreeOrdersPhase
         .ifPresent(candidate -> assignOrder(candidate));
   }
 
-  private void tryAssignVehicle(TransportOrder order) {
+  private void tryAssignVehicle(TransportOrder order,
+                                Map<Vehicle, Optional<List<DriveOrder>>> routesByVehicle) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
-    objectService.fetchObjects(Vehicle.class,
-                               vehicle -> availableForOrder(vehicle, order))
-        .stream()
-        .map(vehicle -> computeCandidate(vehicle, order))
-        .filter(optCandidate -> optCandidate.isPresent())
-        .map(optCandidate -> optCandidate.get())
+    objectService.fetchObjects(Vehicle.class, vehicle -> availableForOrder(vehicle, order)).stream()
+        .filter(vehicle -> routesByVehicle.getOrDefault(vehicle, Optional.empty()).isPresent())
+        .map(vehicle -> new AssignmentCandidate(vehicle, order, routesByVehicle.get(vehicle).get()))
         .filter(candidate -> processabilityChecker.checkProcessability(candidate.getVehicle(),
                                                                        order))
         .sorted(vehicleCandidateComparator)
@@ -202,6 +267,141 @@ public class AssignFreeOrdersPhase
         .ifPresent(candidate -> assignOrder(candidate));
   }
 
+  /**
+   * Computes the routes from each of the given vehicles' positions for the orders assignable to it.
+   *
+   * @param vehicles The vehicles.
+   * @param orders The orders.
+   * @return The routes for each vehicle, in the order of the given vehicles.
+   */
+  private List<Map<TransportOrder, Optional<List<DriveOrder>>>> computeRoutesFromVehicles(
+      List<Vehicle> vehicles,
+      Collection<TransportOrder> orders) {
+    // Collect the input on this thread, and only let the router computations run concurrently.
+    List<VehicleRoutingRequest> requests = new ArrayList<>(vehicles.size());
+    for (Vehicle vehicle : vehicles) {
+      requests.add(new VehicleRoutingRequest(
+          vehicle,
+          objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
+          orders.stream()
+              .filter(order -> orderAssignableToVehicle(order, vehicle))
+              .collect(Collectors.toSet())
+      ));
+    }
+    // Let the router compute the routes for all orders of a vehicle in one go, which allows it to
+    // share the search from the vehicle's position among them.
+    return parallelEvaluator.evaluate(requests,
+                                      request -> router.getRoutes(request.vehicle,
+                                                                  request.vehiclePosition,
+                                                                  request.orders));
+  }
+
+  /**
+   * Computes the routes to each of the given orders from the positions of the vehicles it is
+   * assignable to.
+   *
+   * @param orders The orders.
+   * @param vehicles The vehicles.
+   * @return The routes for each order, in the order of the given orders.
+   */
+  private List<Map<Vehicle, Optional<List<DriveOrder>>>> computeRoutesToOrders(
+      List<TransportOrder> orders,
+      Collection<Vehicle> vehicles) {
+    Map<Vehicle, Point> positionsByVehicle = new HashMap<>();
+    for (Vehicle vehicle : vehicles) {
+      positionsByVehicle.put(vehicle,
+                             objectService.fetchObject(Point.class, vehicle.getCurrentPosition()));
+    }
+    List<OrderRoutingRequest> requests = new ArrayList<>(orders.size());
+    for (TransportOrder order : orders) {
+      Map<Vehicle, Point> orderPositionsByVehicle = new HashMap<>(positionsByVehicle);
+      orderPositionsByVehicle.keySet()
+          .removeIf(vehicle -> !orderAssignableToVehicle(order, vehicle));
+      requests.add(new OrderRoutingRequest(order, orderPositionsByVehicle));
+    }
+    // Let the router compute the routes for all vehicles of an order in one go, which allows it to
+    // share the search towards the order's destinations among them.
+    return parallelEvaluator.evaluate(requests,
+                                      request -> router.getRoutes(request.positionsByVehicle,
+                                                                  request.order));
+  }
+
+  private void assignByMinCostMatching(Set<Vehicle> availableVehicles,
+                                       Set<TransportOrder> availableOrders) {
+    List<Vehicle> vehicles = availableVehicles.stream()
+        .sorted(vehicleComparator)
+        .collect(Collectors.toList());
+    List<TransportOrder> orders = availableOrders.stream()
+        .sorted(orderComparator)
+        .collect(Collectors.toList());
+    AssignmentCandidate[][] candidates = computeCandidates(vehicles, orders);
+
+    // Consider only as many orders as there are vehicles, in the order of their priorities, so
+    // that orders that are expensive to reach cannot be postponed indefinitely.
+    List<Integer> columns = new ArrayList<>();
+    for (int order = 0; order < orders.size() && columns.size() < vehicles.size(); order++) {
+      for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+        if (candidates[vehicle][order] != null) {
+          columns.add(order);
+          break;
+        }
+      }
+    }
+
+    // Use the routing costs to the first destination as the primary costs, and the vehicle's
+    // preferences according to the configured candidate priorities to break ties.
+    long[][] costs = new long[vehicles.size()][columns.size()];
+    for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+      List<AssignmentCandidate> rankedCandidates = new ArrayList<>();
+      for (int column = 0; column < columns.size(); column++) {
+        AssignmentCandidate candidate = candidates[vehicle][columns.get(column)];
+        costs[vehicle][column] = MinCostMatching.INFEASIBLE;
+        if (candidate != null) {
+          rankedCandidates.add(candidate);
+        }
+      }
+      rankedCandidates.sort(orderCandidateComparator);
+      for (int column = 0; column < columns.size(); column++) {
+        AssignmentCandidate candidate = candidates[vehicle][columns.get(column)];
+        if (candidate != null) {
+          costs[vehicle][column] = candidate.getInitialRoutingCosts() * columns.size()
+              + rankedCandidates.indexOf(candidate);
+        }
+      }
+    }
+
+    int[] matching = MinCostMatching.solve(costs);
+    for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+      if (matching[vehicle] >= 0) {
+        assignOrder(candidates[vehicle][columns.get(matching[vehicle])]);
+      }
+    }
+  }
+
+  private AssignmentCandidate[][] computeCandidates(List<Vehicle> vehicles,
+                                                    List<TransportOrder> orders) {
+    List<Map<TransportOrder, Optional<List<DriveOrder>>>> routes
+        = computeRoutesFromVehicles(vehicles, orders);
+
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+      for (int order = 0; order < orders.size(); order++) {
+        Optional<List<DriveOrder>> route = routes.get(vehicle).get(orders.get(order));
+        if (route == null || !route.isPresent()) {
+          continue;
+        }
+        AssignmentCandidate candidate = new AssignmentCandidate(vehicles.get(vehicle),
+                                                                orders.get(order),
+                                                                route.get());
+        if (processabilityChecker.checkProcessability(vehicles.get(vehicle),
+                                                      orders.get(order))) {
+          candidates[vehicle][order] = candidate;
+        }
+      }
+    }
+    return candidates;
+  }
+
   private void assignOrder(AssignmentCandidate candidate) {
     // If the vehicle currently has a (dispensable) order, we may not assign the new one here
     // directly, but must abort the old one (DefaultDispatcher.abortOrder()) and wait for the
@@ -225,17 +425,11 @@ public class AssignFreeOrdersPhase
     }
   }
 
-  private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle, TransportOrder order) {
-    return computeCandidate(vehicle, objectService.fetchObject(Point.class,
-                                                               vehicle.getCurrentPosition()),
-                            order);
-  }
-
-  private Optional<AssignmentCandidate> computeCandidate(Vehicle vehicle,
-                                                         Point vehiclePosition,
-                                                         TransportOrder order) {
-    return router.getRoute(vehicle, vehiclePosition, order)
-        .map(driveOrders -> new AssignmentCandidate(vehicle, order, driveOrders));
+  private Set<TransportOrder> fetchDispatchableOrders(Predicate<TransportOrder> predicate) {
+    return objectService.fetchObjects(ObjectIndex.TRANSPORT_ORDERS_BY_STATE,
+                                      TransportOrder.State.DISPATCHABLE).stream()
+        .filter(predicate)
+        .collect(Collectors.toSet());
   }
 
   private boolean dispatchableForVehicle(TransportOrder order, Vehicle vehicle) {
@@ -311,4 +505,37 @@ public class AssignFreeOrdersPhase
     return !orderReservationPool.findReservations(vehicle.getReference()).isEmpty();
   }
 
+
+  /**
+   * The input for computing the routes from a vehicle's position.
+   */
+  private static class VehicleRoutingRequest {
+
+    private final Vehicle vehicle;
+
+    private final Point vehiclePosition;
+
+    private final Set<TransportOrder> orders;
+
+    VehicleRoutingRequest(Vehicle vehicle, Point vehiclePosition, Set<TransportOrder> orders) {
+      this.vehicle = vehicle;
+      this.vehiclePosition = vehiclePosition;
+      this.orders = orders;
+    }
+  }
+
+  /**
+   * The input for computing the routes to an order's destinations.
+   */
+  private static class OrderRoutingRequest {
+
+    private final TransportOrder order;
+
+    private final Map<Vehicle, Point> positionsByVehicle;
+
+    OrderRoutingRequest(TransportOrder order, Map<Vehicle, Point> positionsByVehicle) {
+      this.order = order;
+      this.positionsByVehicle = positionsByVehicle;
+    }
+  }
 }
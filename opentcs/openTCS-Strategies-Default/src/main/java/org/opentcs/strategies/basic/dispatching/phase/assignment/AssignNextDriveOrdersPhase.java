@@ -18,6 +18,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import static org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration.RerouteTrigger.DRIVE_ORDER_FINISHED;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.RerouteTask;
 import org.opentcs.strategies.basic.dispatching.RerouteUtil;
@@ -102,7 +103,12 @@ public class AssignNextDriveOrdersPhase
 
   @Override
   public void run() {
-    transportOrderService.fetchObjects(Vehicle.class).stream()
+    run(DispatchScope.full());
+  }
+
+  @Override
+  public void run(DispatchScope scope) {
+    transportOrderService.fetchObjects(Vehicle.class, scope::includes).stream()
         .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
         .forEach(vehicle -> checkForNextDriveOrder(vehicle));
   }
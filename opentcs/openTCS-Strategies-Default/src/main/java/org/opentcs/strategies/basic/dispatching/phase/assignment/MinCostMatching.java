@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * Solves the assignment problem for a rectangular cost matrix using the Hungarian method.
+ * <p>
+ * Each row is matched with at most one column and vice versa, so that as many rows as possible are
+ * matched with feasible columns and the sum of the costs of all matched pairs is minimal.
+ * The time complexity is <i>O(n<sup>2</sup> m)</i> for <i>n</i> rows and <i>m</i> columns with
+ * <i>n &lt;= m</i>.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class MinCostMatching {
+
+  /**
+   * Marks a pair of row and column that must not be matched.
+   */
+  static final long INFEASIBLE = Long.MAX_VALUE;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostMatching() {
+  }
+
+  /**
+   * Computes a matching with minimal costs.
+   *
+   * @param costs The costs of matching the rows with the columns, indexed by row first.
+   * Costs must not be negative, and all rows must have the same length. {@link #INFEASIBLE} marks
+   * pairs that must not be matched.
+   * @return The index of the column matched with each row, or -1 for rows left unmatched.
+   */
+  static int[] solve(long[][] costs) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    if (rowCount == 0) {
+      return new int[0];
+    }
+    int columnCount = costs[0].length;
+    long bigM = 1;
+    for (long[] row : costs) {
+      checkArgument(row.length == columnCount, "Rows have different lengths.");
+      for (long cost : row) {
+        checkArgument(cost >= 0, "Negative costs: %s", cost);
+        if (cost != INFEASIBLE) {
+          bigM = Math.addExact(bigM, cost);
+        }
+      }
+    }
+
+    if (rowCount <= columnCount) {
+      return solve(costs, rowCount, columnCount, false, bigM);
+    }
+    // The method below requires at least as many columns as rows, so solve the transposed problem.
+    int[] rowsByColumn = solve(costs, columnCount, rowCount, true, bigM);
+    int[] result = new int[rowCount];
+    Arrays.fill(result, -1);
+    for (int column = 0; column < columnCount; column++) {
+      if (rowsByColumn[column] >= 0) {
+        result[rowsByColumn[column]] = column;
+      }
+    }
+    return result;
+  }
+
+  private static int[] solve(long[][] costs,
+                             int n,
+                             int m,
+                             boolean transposed,
+                             long bigM) {
+    // Potentials for rows and columns, and the row matched with each column, all indexed from 1.
+    // Column 0 is a virtual one used as the starting point for augmenting paths.
+    long[] rowPotentials = new long[n + 1];
+    long[] columnPotentials = new long[m + 1];
+    int[] rowOfColumn = new int[m + 1];
+    int[] predecessors = new int[m + 1];
+    long[] minSlacks = new long[m + 1];
+    boolean[] visited = new boolean[m + 1];
+
+    for (int row = 1; row <= n; row++) {
+      rowOfColumn[0] = row;
+      int currentColumn = 0;
+      Arrays.fill(minSlacks, Long.MAX_VALUE);
+      Arrays.fill(visited, false);
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowOfColumn[currentColumn];
+        long delta = Long.MAX_VALUE;
+        int nextColumn = 0;
+        for (int column = 1; column <= m; column++) {
+          if (visited[column]) {
+            continue;
+          }
+          long slack = cost(costs, currentRow - 1, column - 1, transposed, bigM)
+              - rowPotentials[currentRow] - columnPotentials[column];
+          if (slack < minSlacks[column]) {
+            minSlacks[column] = slack;
+            predecessors[column] = currentColumn;
+          }
+          if (minSlacks[column] < delta) {
+            delta = minSlacks[column];
+            nextColumn = column;
+          }
+        }
+        for (int column = 0; column <= m; column++) {
+          if (visited[column]) {
+            rowPotentials[rowOfColumn[column]] += delta;
+            columnPotentials[column] -= delta;
+          }
+          else {
+            minSlacks[column] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowOfColumn[currentColumn] != 0);
+      // Augment the matching along the path found.
+      do {
+        int previousColumn = predecessors[currentColumn];
+        rowOfColumn[currentColumn] = rowOfColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] result = new int[n];
+    Arrays.fill(result, -1);
+    for (int column = 1; column <= m; column++) {
+      int row = rowOfColumn[column];
+      if (row != 0
+          && cost(costs, row - 1, column - 1, transposed, bigM) != bigM) {
+        result[row - 1] = column - 1;
+      }
+    }
+    return result;
+  }
+
+  private static long cost(long[][] costs, int row, int column, boolean transposed, long bigM) {
+    long cost = transposed ? costs[column][row] : costs[row][column];
+    // Infeasible pairs cost more than all feasible ones together, so they are only matched when
+    // there is no alternative. They are removed from the result afterwards.
+    return cost == INFEASIBLE ? bigM : cost;
+  }
+}
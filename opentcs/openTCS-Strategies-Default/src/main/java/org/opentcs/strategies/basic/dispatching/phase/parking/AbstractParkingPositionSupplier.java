@@ -7,11 +7,14 @@
  */
 package org.opentcs.strategies.basic.dispatching.phase.parking;
 
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -19,6 +22,7 @@ import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.dispatching.ParallelEvaluator;
 
 /**
  * An abstract base class for parking position suppliers.
@@ -37,6 +41,10 @@ public abstract class AbstractParkingPositionSupplier
    * A router for computing distances to parking positions.
    */
   private final Router router;
+  /**
+   * Computes the costs to multiple points concurrently.
+   */
+  private final ParallelEvaluator parallelEvaluator;
   /**
    * A map containing all points in the model that are parking positions as keys
    * and sets of all points sharing the same block(s) as values.
@@ -55,8 +63,22 @@ public abstract class AbstractParkingPositionSupplier
    */
   protected AbstractParkingPositionSupplier(final TCSObjectService objectService,
                                             final Router router) {
+    this(objectService, router, ParallelEvaluator.sequential());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The system's kernel.
+   * @param router A router for computing distances to parking positions.
+   * @param parallelEvaluator Computes the costs to multiple points concurrently.
+   */
+  protected AbstractParkingPositionSupplier(final TCSObjectService objectService,
+                                            final Router router,
+                                            final ParallelEvaluator parallelEvaluator) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.router = requireNonNull(router, "router");
+    this.parallelEvaluator = requireNonNull(parallelEvaluator, "parallelEvaluator");
   }
 
   @Override
@@ -142,13 +164,21 @@ public abstract class AbstractParkingPositionSupplier
 
     Point vehiclePos = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    // Sort the points so that ties are always resolved the same way.
+    List<Point> sortedPoints = points.stream()
+        .sorted(Comparator.comparing(Point::getName))
+        .collect(Collectors.toList());
+    List<Long> costs = parallelEvaluator.evaluate(
+        sortedPoints,
+        point -> router.getCosts(vehicle, vehiclePos, point)
+    );
+
     long lowestCost = Long.MAX_VALUE;
     Point nearestPoint = null;
-    for (Point curPoint : points) {
-      long curCost = router.getCosts(vehicle, vehiclePos, curPoint);
-      if (curCost < lowestCost) {
-        nearestPoint = curPoint;
-        lowestCost = curCost;
+    for (int i = 0; i < sortedPoints.size(); i++) {
+      if (costs.get(i) < lowestCost) {
+        nearestPoint = sortedPoints.get(i);
+        lowestCost = costs.get(i);
       }
     }
     return nearestPoint;
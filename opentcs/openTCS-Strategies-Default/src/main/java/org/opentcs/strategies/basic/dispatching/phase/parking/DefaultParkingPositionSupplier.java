@@ -20,6 +20,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.dispatching.ParallelEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,11 +46,24 @@ public class DefaultParkingPositionSupplier
    * @param objectService The object service.
    * @param router A router for computing travel costs to parking positions.
    */
-  @Inject
   public DefaultParkingPositionSupplier(TCSObjectService objectService, Router router) {
     super(objectService, router);
   }
 
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param router A router for computing travel costs to parking positions.
+   * @param parallelEvaluator Computes the costs to multiple parking positions concurrently.
+   */
+  @Inject
+  public DefaultParkingPositionSupplier(TCSObjectService objectService,
+                                        Router router,
+                                        ParallelEvaluator parallelEvaluator) {
+    super(objectService, router, parallelEvaluator);
+  }
+
   @Override
   public Optional<Point> findParkingPosition(final Vehicle vehicle) {
     requireNonNull(vehicle, "vehicle");
@@ -9,6 +9,7 @@ package org.opentcs.strategies.basic.dispatching.phase.recharging;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import static org.opentcs.components.kernel.Dispatcher.PROPKEY_ASSIGNED_RECHARGE_LOCATION;
@@ -29,6 +31,7 @@ import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
+import org.opentcs.strategies.basic.dispatching.ParallelEvaluator;
 
 /**
  * Finds assigned, preferred or (routing-wise) cheapest recharge locations for vehicles.
@@ -46,6 +49,10 @@ public class DefaultRechargePositionSupplier
    * Our router.
    */
   private final Router router;
+  /**
+   * Computes the costs to multiple locations concurrently.
+   */
+  private final ParallelEvaluator parallelEvaluator;
   /**
    * Maps locations' access points to points sharing the same block(s).
    */
@@ -61,11 +68,25 @@ public class DefaultRechargePositionSupplier
    * @param objectService The object service.
    * @param router The router to use.
    */
-  @Inject
   public DefaultRechargePositionSupplier(final TCSObjectService objectService,
                                          final Router router) {
+    this(objectService, router, ParallelEvaluator.sequential());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param router The router to use.
+   * @param parallelEvaluator Computes the costs to multiple locations concurrently.
+   */
+  @Inject
+  public DefaultRechargePositionSupplier(final TCSObjectService objectService,
+                                         final Router router,
+                                         final ParallelEvaluator parallelEvaluator) {
     this.objectService = requireNonNull(objectService, "kernel");
     this.router = requireNonNull(router, "router");
+    this.parallelEvaluator = requireNonNull(parallelEvaluator, "parallelEvaluator");
   }
 
   @Override
@@ -145,14 +166,21 @@ public class DefaultRechargePositionSupplier
   private Location findCheapestLocation(Map<Location, Set<Point>> locations, Vehicle vehicle) {
     Point curPos = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    // Sort the locations so that ties are always resolved the same way.
+    List<Location> sortedLocations = locations.keySet().stream()
+        .sorted(Comparator.comparing(Location::getName))
+        .collect(Collectors.toList());
+    List<Long> costs = parallelEvaluator.evaluate(
+        sortedLocations,
+        location -> getMinimumAccessPointCosts(vehicle, curPos, locations.get(location))
+    );
+
     Location cheapestLocation = null;
     long cheapestCosts = Long.MAX_VALUE;
-    for (Map.Entry<Location, Set<Point>> entry : locations.entrySet()) {
-      long costs = getMinimumAccessPointCosts(vehicle, curPos, entry.getValue());
-
-      if (costs < cheapestCosts) {
-        cheapestCosts = costs;
-        cheapestLocation = entry.getKey();
+    for (int i = 0; i < sortedLocations.size(); i++) {
+      if (costs.get(i) < cheapestCosts) {
+        cheapestCosts = costs.get(i);
+        cheapestLocation = sortedLocations.get(i);
       }
     }
 
@@ -22,6 +22,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.DispatchScope;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.ProcessabilityChecker;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -113,11 +114,18 @@ public class RechargeIdleVehiclesPhase
 
   @Override
   public void run() {
+    run(DispatchScope.full());
+  }
+
+  @Override
+  public void run(DispatchScope scope) {
     if (!configuration.rechargeIdleVehicles()) {
       return;
     }
 
-    for (Vehicle vehicle : orderService.fetchObjects(Vehicle.class, this::idleAndDegraded)) {
+    for (Vehicle vehicle : orderService.fetchObjects(
+        Vehicle.class,
+        v -> scope.includes(v) && idleAndDegraded(v))) {
       createRechargeOrder(vehicle);
     }
   }
@@ -17,15 +17,20 @@ import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.inject.Inject;
+import org.opentcs.access.RouteCacheStatistics;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Location.Link;
 import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
@@ -48,6 +53,11 @@ public class DefaultRouter
    * The default value of a vehicle's routing group.
    */
   private static final int DEFAULT_ROUTING_GROUP = 0;
+  /**
+   * The time (in ms) after which the reservation table is rebuilt, so that vehicle positions
+   * reported meanwhile are taken into account.
+   */
+  private static final long RESERVATION_TABLE_MAX_AGE = 1000;
   /**
    * This class's Logger.
    */
@@ -72,10 +82,33 @@ public class DefaultRouter
    * The point routers by vehicle routing group.
    */
   private final Map<Integer, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  /**
+   * The times (in ms) it took to create the current point routers, by vehicle routing group.
+   */
+  private final Map<Integer, Long> creationTimesByVehicleGroup = new ConcurrentHashMap<>();
   /**
    * Prevents reading from the routing tables and planned routes while updating them.
    */
   private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+  /**
+   * Caches point-to-point routes computed by the point routers.
+   */
+  private final RouteCache routeCache;
+  /**
+   * Plans routes avoiding conflicts with other vehicles, or <code>null</code>, if conflict-aware
+   * routing is disabled.
+   */
+  private volatile TimeWindowRoutePlanner timeWindowRoutePlanner;
+  /**
+   * The reservations of the selected routes, shared by all conflict-aware route computations
+   * until a route is selected, or <code>null</code>, if it has to be built.
+   */
+  private volatile ReservationTable reservationTable;
+  /**
+   * Creates point routers for distinct routing groups concurrently while this router is
+   * initialized.
+   */
+  private volatile ForkJoinPool constructionPool;
   /**
    * Indicates whether this component is enabled.
    */
@@ -95,6 +128,8 @@ public class DefaultRouter
     this.objectService = requireNonNull(objectService, "objectService");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.routeCache = new RouteCache(configuration.routeCacheCapacity(),
+                                     configuration.routeCacheTimeToLive());
   }
 
   @Override
@@ -105,6 +140,7 @@ public class DefaultRouter
     try {
       rwLock.writeLock().lock();
       routesByVehicle.clear();
+      constructionPool = new ForkJoinPool(routerConstructionParallelism());
       updateRoutingTables();
       initialized = true;
     }
@@ -127,6 +163,12 @@ public class DefaultRouter
       rwLock.writeLock().lock();
       routesByVehicle.clear();
       pointRoutersByVehicleGroup.clear();
+      creationTimesByVehicleGroup.clear();
+      routeCache.clear();
+      timeWindowRoutePlanner = null;
+      reservationTable = null;
+      constructionPool.shutdownNow();
+      constructionPool = null;
       initialized = false;
     }
     finally {
@@ -137,17 +179,62 @@ public class DefaultRouter
   @Override
   @Deprecated
   public void updateRoutingTables() {
+    // Fetch the model data once, so the point routers can be built without accessing the object
+    // service (which may be locked by the calling thread) concurrently.
+    Set<Point> points = objectService.fetchObjects(Point.class);
+    Set<Path> paths = objectService.fetchObjects(Path.class);
+    Map<Integer, Vehicle> vehiclesByRoutingGroup = new HashMap<>();
+    for (Vehicle curVehicle : objectService.fetchObjects(Vehicle.class)) {
+      vehiclesByRoutingGroup.putIfAbsent(getRoutingGroupOfVehicle(curVehicle), curVehicle);
+    }
+
+    long timeStampBefore = System.currentTimeMillis();
+    Map<Integer, Long> newCreationTimes = new ConcurrentHashMap<>();
+    Map<Integer, PointRouter> newPointRouters
+        = createPointRouters(vehiclesByRoutingGroup, points, paths, newCreationTimes);
+    LOG.info("Created {} point routers in {} milliseconds.",
+             newPointRouters.size(),
+             System.currentTimeMillis() - timeStampBefore);
+
     try {
       rwLock.writeLock().lock();
       pointRoutersByVehicleGroup.clear();
-      for (Vehicle curVehicle : objectService.fetchObjects(Vehicle.class)) {
-        int currentGroup = getRoutingGroupOfVehicle(curVehicle);
-        if (!pointRoutersByVehicleGroup.containsKey(currentGroup)) {
-          pointRoutersByVehicleGroup.put(currentGroup,
-                                         pointRouterFactory.createPointRouter(curVehicle));
+      pointRoutersByVehicleGroup.putAll(newPointRouters);
+      creationTimesByVehicleGroup.clear();
+      creationTimesByVehicleGroup.putAll(newCreationTimes);
+      routeCache.clear();
+      timeWindowRoutePlanner = configuration.conflictAwareRouting()
+          ? new TimeWindowRoutePlanner(points, paths)
+          : null;
+      reservationTable = null;
+    }
+    finally {
+      rwLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void topologyChanged(Set<Path> paths) {
+    requireNonNull(paths, "paths");
+
+    try {
+      rwLock.writeLock().lock();
+      routeCache.clear();
+      if (timeWindowRoutePlanner != null) {
+        for (Path path : paths) {
+          timeWindowRoutePlanner.updatePath(path);
         }
       }
-      LOG.debug("Number of point routers created: {}", pointRoutersByVehicleGroup.size());
+      for (PointRouter pointRouter : pointRoutersByVehicleGroup.values()) {
+        for (Path path : paths) {
+          if (!pointRouter.updatePath(path)) {
+            LOG.debug("Point router does not support incremental updates, rebuilding all.");
+            updateRoutingTables();
+            return;
+          }
+        }
+      }
+      LOG.debug("Updated point routers for {} changed path(s).", paths.size());
     }
     finally {
       rwLock.writeLock().unlock();
@@ -194,13 +281,175 @@ public class DefaultRouter
       rwLock.readLock().lock();
       List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
       DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRoutersByVehicleGroup.get(getRoutingGroupOfVehicle(vehicle));
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
+      int routingGroup = getRoutingGroupOfVehicle(vehicle);
+      PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders,
+                                                                       routingGroup,
+                                                                       pointRouter);
       OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
       computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
+      if (resultStruct.bestCosts == Long.MAX_VALUE) {
+        return Optional.empty();
+      }
+      if (timeWindowRoutePlanner != null && resultStruct.bestRoute.length > 0) {
+        return toDriveOrders(vehicle,
+                             params,
+                             resultStruct.bestRoute,
+                             sourcePoint,
+                             resultStruct.bestRoute[0].getRoute().getFinalDestinationPoint());
+      }
+      return Optional.of(Arrays.asList(resultStruct.bestRoute));
+    }
+    finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Map<TransportOrder, Optional<List<DriveOrder>>> getRoutes(
+      Vehicle vehicle,
+      Point sourcePoint,
+      Set<TransportOrder> transportOrders) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(transportOrders, "transportOrders");
+
+    try {
+      rwLock.readLock().lock();
+      int routingGroup = getRoutingGroupOfVehicle(vehicle);
+      PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+
+      // Collect the first destination points of all orders, so the costs for travelling to them
+      // can be computed in a single batch.
+      Map<TransportOrder, DriveOrder[]> driveOrdersByOrder = new HashMap<>();
+      Map<TransportOrder, Set<Point>> firstHopPointsByOrder = new HashMap<>();
+      Set<Point> allFirstHopPoints = new HashSet<>();
+      for (TransportOrder transportOrder : transportOrders) {
+        List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+        DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+        driveOrdersByOrder.put(transportOrder, driveOrders);
+        if (driveOrders.length > 0) {
+          Set<Point> firstHopPoints = getHopPoints(sourcePoint, driveOrders[0]);
+          firstHopPointsByOrder.put(transportOrder, firstHopPoints);
+          allFirstHopPoints.addAll(firstHopPoints);
+        }
+      }
+      Map<Point, Long> firstHopCosts
+          = pointRouter.getCostsToDestinations(sourcePoint, allFirstHopPoints);
+
+      Map<TransportOrder, Optional<List<DriveOrder>>> result = new HashMap<>();
+      for (TransportOrder transportOrder : transportOrders) {
+        DriveOrder[] driveOrders = driveOrdersByOrder.get(transportOrder);
+        if (driveOrders.length == 0) {
+          result.put(transportOrder, Optional.of(new ArrayList<>()));
+          continue;
+        }
+        OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders,
+                                                                         routingGroup,
+                                                                         pointRouter);
+        OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrders.length);
+        Point bestFirstHopPoint = null;
+        for (Point firstHopPoint : firstHopPointsByOrder.get(transportOrder)) {
+          long costs = firstHopCosts.get(firstHopPoint);
+          if (costs == INFINITE_COSTS) {
+            continue;
+          }
+          long bestCostsBefore = resultStruct.bestCosts;
+          resultStruct.currentCosts = costs;
+          computeCheapestOrderRoute(firstHopPoint, params, 1, resultStruct);
+          if (resultStruct.bestCosts < bestCostsBefore) {
+            bestFirstHopPoint = firstHopPoint;
+          }
+        }
+        result.put(transportOrder,
+                   toDriveOrders(vehicle,
+                                 params,
+                                 resultStruct.bestRoute,
+                                 sourcePoint,
+                                 bestFirstHopPoint));
+      }
+      return result;
+    }
+    finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Map<Vehicle, Optional<List<DriveOrder>>> getRoutes(Map<Vehicle, Point> sourcePoints,
+                                                            TransportOrder transportOrder) {
+    requireNonNull(sourcePoints, "sourcePoints");
+    requireNonNull(transportOrder, "transportOrder");
+
+    try {
+      rwLock.readLock().lock();
+      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+      Map<Vehicle, Optional<List<DriveOrder>>> result = new HashMap<>();
+      if (driveOrders.length == 0) {
+        for (Vehicle vehicle : sourcePoints.keySet()) {
+          result.put(vehicle, Optional.of(new ArrayList<>()));
+        }
+        return result;
+      }
+
+      Map<Integer, Map<Vehicle, Point>> sourcePointsByRoutingGroup = new HashMap<>();
+      for (Map.Entry<Vehicle, Point> entry : sourcePoints.entrySet()) {
+        sourcePointsByRoutingGroup
+            .computeIfAbsent(getRoutingGroupOfVehicle(entry.getKey()), group -> new HashMap<>())
+            .put(entry.getKey(), entry.getValue());
+      }
+
+      Set<Point> firstHopPoints = getDestinationPoints(driveOrders[0]);
+      for (Map.Entry<Integer, Map<Vehicle, Point>> entry : sourcePointsByRoutingGroup.entrySet()) {
+        int routingGroup = entry.getKey();
+        PointRouter pointRouter = pointRoutersByVehicleGroup.get(routingGroup);
+        OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders,
+                                                                         routingGroup,
+                                                                         pointRouter);
+        Set<Point> vehiclePoints = new HashSet<>(entry.getValue().values());
+
+        // The remaining route from every first destination point is the same for all vehicles, so
+        // compute it only once, and the costs for reaching it from all vehicles in a single batch.
+        Map<Point, OrderRouteResultStruct> remainingRoutes = new HashMap<>();
+        Map<Point, Map<Point, Long>> firstHopCosts = new HashMap<>();
+        for (Point firstHopPoint : firstHopPoints) {
+          OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrders.length);
+          computeCheapestOrderRoute(firstHopPoint, params, 1, resultStruct);
+          if (resultStruct.bestCosts == Long.MAX_VALUE) {
+            continue;
+          }
+          remainingRoutes.put(firstHopPoint, resultStruct);
+          firstHopCosts.put(firstHopPoint,
+                            pointRouter.getCostsFromSources(vehiclePoints, firstHopPoint));
+        }
+
+        for (Map.Entry<Vehicle, Point> vehicleEntry : entry.getValue().entrySet()) {
+          Point sourcePoint = vehicleEntry.getValue();
+          Point bestFirstHopPoint = null;
+          long bestCosts = Long.MAX_VALUE;
+          for (Point firstHopPoint : getHopPoints(sourcePoint, firstHopPoints)) {
+            OrderRouteResultStruct remainingRoute = remainingRoutes.get(firstHopPoint);
+            if (remainingRoute == null) {
+              continue;
+            }
+            long costs = firstHopCosts.get(firstHopPoint).get(sourcePoint);
+            if (costs != INFINITE_COSTS && costs + remainingRoute.bestCosts < bestCosts) {
+              bestCosts = costs + remainingRoute.bestCosts;
+              bestFirstHopPoint = firstHopPoint;
+            }
+          }
+          result.put(vehicleEntry.getKey(),
+                     bestFirstHopPoint == null
+                         ? Optional.empty()
+                         : toDriveOrders(vehicleEntry.getKey(),
+                                         params,
+                                         remainingRoutes.get(bestFirstHopPoint).bestRoute,
+                                         sourcePoint,
+                                         bestFirstHopPoint));
+        }
+      }
+      return result;
     }
     finally {
       rwLock.readLock().unlock();
@@ -217,18 +466,12 @@ public class DefaultRouter
 
     try {
       rwLock.readLock().lock();
-      PointRouter pointRouter = pointRoutersByVehicleGroup.get(getRoutingGroupOfVehicle(vehicle));
-      long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
-      if (costs == INFINITE_COSTS) {
-        return Optional.empty();
-      }
-      List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
-      if (steps.isEmpty()) {
-        // If the list of steps is empty, we're already at the destination point
-        // Create a single step without a path.
-        steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
-      }
-      return Optional.of(new Route(steps, costs));
+      int routingGroup = getRoutingGroupOfVehicle(vehicle);
+      return getRoute(vehicle,
+                      routingGroup,
+                      pointRoutersByVehicleGroup.get(routingGroup),
+                      sourcePoint,
+                      destinationPoint);
     }
     finally {
       rwLock.readLock().unlock();
@@ -316,6 +559,7 @@ public class DefaultRouter
       else {
         routesByVehicle.put(vehicle, driveOrders);
       }
+      reservationTable = null;
     }
     finally {
       rwLock.writeLock().unlock();
@@ -333,6 +577,22 @@ public class DefaultRouter
     }
   }
 
+  @Override
+  public RouteCacheStatistics getRouteCacheStatistics() {
+    return routeCache.getStatistics();
+  }
+
+  @Override
+  public Map<Integer, Long> getRoutingTableCreationTimes() {
+    try {
+      rwLock.readLock().lock();
+      return new HashMap<>(creationTimesByVehicleGroup);
+    }
+    finally {
+      rwLock.readLock().unlock();
+    }
+  }
+
   @Override
   public Set<Point> getTargetedPoints() {
     try {
@@ -410,35 +670,19 @@ public class DefaultRouter
       // ...try every possible destination point of the current drive order as
       // the next checkpoint and recursively route from there.
       final long currentRouteCosts = result.currentCosts;
-      Set<Point> destPoints = getDestinationPoints(params.driveOrders[hopIndex]);
       // If the set of destination points contains the starting point, keep only
       // that one. This is just a shortcut - it is the cheapest way to go.
-      if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
-        LOG.debug("Shortcutting route to {}", startPoint);
-        destPoints.clear();
-        destPoints.add(startPoint);
-      }
+      Set<Point> destPoints = getHopPoints(startPoint, params.driveOrders[hopIndex]);
       boolean routable = false;
       for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
+        Optional<Route> optHopRoute = getRoute(params.routingGroup,
+                                               params.pointRouter,
+                                               startPoint,
+                                               curDestPoint);
+        if (!optHopRoute.isPresent()) {
           continue;
         }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null,
-                                   null,
-                                   startPoint,
-                                   Vehicle.Orientation.UNDEFINED,
-                                   0));
-        }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps, hopCosts);
+        Route hopRoute = optHopRoute.get();
         // Copy the current drive order, add the computed route to it and
         // place it in the result struct.
         DriveOrder hopOrder = params.driveOrders[hopIndex].withRoute(hopRoute);
@@ -464,6 +708,181 @@ public class DefaultRouter
     }
   }
 
+  /**
+   * Returns the points a vehicle at the given point could process the given drive order at.
+   *
+   * @param startPoint The point the vehicle starts at.
+   * @param driveOrder The drive order to be processed.
+   * @return The acceptable destination points.
+   */
+  private Set<Point> getHopPoints(Point startPoint, DriveOrder driveOrder) {
+    return getHopPoints(startPoint, getDestinationPoints(driveOrder));
+  }
+
+  /**
+   * Returns the given destination points, or only the start point, if it is one of them and the
+   * configuration allows shortcutting routes to it.
+   *
+   * @param startPoint The point the vehicle starts at.
+   * @param destPoints The acceptable destination points.
+   * @return The destination points to be considered.
+   */
+  private Set<Point> getHopPoints(Point startPoint, Set<Point> destPoints) {
+    if (!configuration.routeToCurrentPosition() && destPoints.contains(startPoint)) {
+      LOG.debug("Shortcutting route to {}", startPoint);
+      Set<Point> result = new HashSet<>();
+      result.add(startPoint);
+      return result;
+    }
+    return destPoints;
+  }
+
+  /**
+   * Completes the given route, which lacks the drive order for the first hop, with the route from
+   * the source point to the given first destination point.
+   *
+   * @param vehicle The vehicle the route is computed for.
+   * @param params The parameters the route was computed with.
+   * @param route The route, with every drive order but the first one set.
+   * @param sourcePoint The source point of the route.
+   * @param firstHopPoint The first destination point, or <code>null</code>, if no route exists.
+   * @return The complete route, or the empty optional, if no route exists.
+   */
+  private Optional<List<DriveOrder>> toDriveOrders(Vehicle vehicle,
+                                                   OrderRouteParameterStruct params,
+                                                   DriveOrder[] route,
+                                                   Point sourcePoint,
+                                                   Point firstHopPoint) {
+    if (firstHopPoint == null) {
+      return Optional.empty();
+    }
+    Optional<Route> firstHopRoute = getRoute(vehicle,
+                                             params.routingGroup,
+                                             params.pointRouter,
+                                             sourcePoint,
+                                             firstHopPoint);
+    if (!firstHopRoute.isPresent()) {
+      return Optional.empty();
+    }
+    DriveOrder[] result = Arrays.copyOf(route, route.length);
+    result[0] = params.driveOrders[0].withRoute(firstHopRoute.get());
+    return Optional.of(Arrays.asList(result));
+  }
+
+  /**
+   * Returns the route from the given source point to the given destination point, looking it up in
+   * the route cache first.
+   *
+   * @param routingGroup The routing group the point router belongs to.
+   * @param pointRouter The point router to use for computing the route.
+   * @param sourcePoint The source point.
+   * @param destinationPoint The destination point.
+   * @return The route, or the empty optional, if no route exists.
+   */
+  private Optional<Route> getRoute(int routingGroup,
+                                   PointRouter pointRouter,
+                                   Point sourcePoint,
+                                   Point destinationPoint) {
+    return routeCache.getRoute(routingGroup,
+                               sourcePoint,
+                               destinationPoint,
+                               () -> computeRoute(pointRouter, sourcePoint, destinationPoint));
+  }
+
+  /**
+   * Returns the route the given vehicle should take from its current position to the given
+   * destination point.
+   * <p>
+   * With conflict-aware routing enabled, this is the route with the earliest expected arrival,
+   * considering the routes selected for the other vehicles.
+   * Otherwise, or if no such route exists, it is the cheapest route.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @param routingGroup The routing group the point router belongs to.
+   * @param pointRouter The point router to use for computing the route.
+   * @param sourcePoint The source point, i.e. the vehicle's current position.
+   * @param destinationPoint The destination point.
+   * @return The route, or the empty optional, if no route exists.
+   */
+  private Optional<Route> getRoute(Vehicle vehicle,
+                                   int routingGroup,
+                                   PointRouter pointRouter,
+                                   Point sourcePoint,
+                                   Point destinationPoint) {
+    TimeWindowRoutePlanner planner = timeWindowRoutePlanner;
+    if (planner == null || sourcePoint.equals(destinationPoint)) {
+      return getRoute(routingGroup, pointRouter, sourcePoint, destinationPoint);
+    }
+
+    ReservationTable reservations = getReservationTable(planner);
+    Optional<List<Route.Step>> steps = planner.computeRouteSteps(vehicle,
+                                                                 sourcePoint,
+                                                                 destinationPoint,
+                                                                 reservations);
+    if (!steps.isPresent()) {
+      LOG.debug("No conflict-free route from {} to {} for {}, using cheapest route.",
+                sourcePoint.getName(),
+                destinationPoint.getName(),
+                vehicle.getName());
+      return getRoute(routingGroup, pointRouter, sourcePoint, destinationPoint);
+    }
+
+    // Rate the route the same way as routes computed by the point router.
+    long costs = 0;
+    for (Route.Step step : steps.get()) {
+      long stepCosts = pointRouter.getCosts(step.getSourcePoint(), step.getDestinationPoint());
+      if (stepCosts == INFINITE_COSTS) {
+        // The vehicle's routing group may not use this path - fall back to the cheapest route.
+        return getRoute(routingGroup, pointRouter, sourcePoint, destinationPoint);
+      }
+      costs += stepCosts;
+    }
+    return Optional.of(new Route(steps.get(), costs));
+  }
+
+  /**
+   * Returns the reservations of the selected routes, building them only if no route was selected
+   * since they were last built.
+   *
+   * @param planner The route planner.
+   * @return The reservations of the selected routes.
+   */
+  private ReservationTable getReservationTable(TimeWindowRoutePlanner planner) {
+    ReservationTable result = reservationTable;
+    if (result == null || result.getElapsedTime() > RESERVATION_TABLE_MAX_AGE) {
+      result = planner.createReservationTable(routesByVehicle,
+                                              objectService.fetchObjects(Vehicle.class));
+      reservationTable = result;
+    }
+    return result;
+  }
+
+  /**
+   * Computes the route from the given source point to the given destination point.
+   *
+   * @param pointRouter The point router to use.
+   * @param sourcePoint The source point.
+   * @param destinationPoint The destination point.
+   * @return The route, or the empty optional, if no route exists.
+   */
+  private Optional<Route> computeRoute(PointRouter pointRouter,
+                                       Point sourcePoint,
+                                       Point destinationPoint) {
+    long costs = pointRouter.getCosts(sourcePoint, destinationPoint);
+    if (costs == INFINITE_COSTS) {
+      return Optional.empty();
+    }
+    List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point - create a single
+      // step without a path.
+      steps = new ArrayList<>(1);
+      steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0));
+    }
+    return Optional.of(new Route(steps, costs));
+  }
+
   /**
    * Returns all points at which a vehicle could process the given drive order.
    *
@@ -520,6 +939,84 @@ public class DefaultRouter
     }
   }
 
+  /**
+   * Creates point routers for the given routing groups, concurrently if this router is
+   * initialized.
+   *
+   * @param vehiclesByRoutingGroup A representative vehicle for each routing group.
+   * @param points The points of the model.
+   * @param paths The paths of the model.
+   * @param creationTimes Receives the time (in ms) it took to create each point router, mapped by
+   * routing group.
+   * @return The created point routers, mapped by routing group.
+   */
+  private Map<Integer, PointRouter> createPointRouters(Map<Integer, Vehicle> vehiclesByRoutingGroup,
+                                                       Set<Point> points,
+                                                       Set<Path> paths,
+                                                       Map<Integer, Long> creationTimes) {
+    Map<Integer, PointRouter> result = new HashMap<>();
+    ForkJoinPool pool = constructionPool;
+    if (pool == null) {
+      for (Map.Entry<Integer, Vehicle> entry : vehiclesByRoutingGroup.entrySet()) {
+        result.put(entry.getKey(),
+                   createPointRouter(entry.getKey(),
+                                     entry.getValue(),
+                                     points,
+                                     paths,
+                                     creationTimes));
+      }
+      return result;
+    }
+
+    try {
+      Map<Integer, Future<PointRouter>> futures = new HashMap<>();
+      for (Map.Entry<Integer, Vehicle> entry : vehiclesByRoutingGroup.entrySet()) {
+        futures.put(entry.getKey(),
+                    pool.submit(() -> createPointRouter(entry.getKey(),
+                                                        entry.getValue(),
+                                                        points,
+                                                        paths,
+                                                        creationTimes)));
+      }
+      for (Map.Entry<Integer, Future<PointRouter>> entry : futures.entrySet()) {
+        result.put(entry.getKey(), entry.getValue().get());
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while creating point routers", exc);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new IllegalStateException("Exception creating point routers", exc.getCause());
+    }
+
+    return result;
+  }
+
+  private PointRouter createPointRouter(int routingGroup,
+                                        Vehicle vehicle,
+                                        Set<Point> points,
+                                        Set<Path> paths,
+                                        Map<Integer, Long> creationTimes) {
+    long timeStampBefore = System.currentTimeMillis();
+    PointRouter pointRouter = pointRouterFactory.createPointRouter(vehicle, points, paths);
+    long creationTime = System.currentTimeMillis() - timeStampBefore;
+    creationTimes.put(routingGroup, creationTime);
+    LOG.info("Created point router for routing group {} in {} milliseconds.",
+             routingGroup,
+             creationTime);
+    return pointRouter;
+  }
+
+  private int routerConstructionParallelism() {
+    return configuration.routerConstructionParallelism() > 0
+        ? configuration.routerConstructionParallelism()
+        : Runtime.getRuntime().availableProcessors();
+  }
+
   /**
    * Returns all vehicles within the given routing group.
    *
@@ -566,6 +1063,10 @@ public class DefaultRouter
      * The drive orders containing the route's checkpoints.
      */
     private final DriveOrder[] driveOrders;
+    /**
+     * The routing group of the vehicle.
+     */
+    private final int routingGroup;
     /**
      * The point router for the vehicle type.
      */
@@ -576,11 +1077,14 @@ public class DefaultRouter
      *
      * @param driveOrders A list of drive orders to be processed as checkpoints
      * of the route to be computed.
+     * @param routingGroup The routing group of the vehicle.
      * @param pointRouter The point router for the vehicle type.
      */
     public OrderRouteParameterStruct(DriveOrder[] driveOrders,
+                                     int routingGroup,
                                      PointRouter pointRouter) {
       this.driveOrders = requireNonNull(driveOrders, "driveOrders");
+      this.routingGroup = routingGroup;
       this.pointRouter = requireNonNull(pointRouter, "pointRouter");
     }
   }
@@ -28,4 +28,31 @@ public interface DefaultRouterConfiguration {
       description = "Whether to compute a route even if the vehicle is already at the destination.")
   boolean routeToCurrentPosition();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of point-to-point routes to be cached.",
+        "If the cache is full, the least recently used route is evicted. 0 disables caching."})
+  int routeCacheCapacity();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The time (in ms) after which a cached route is evicted.")
+  long routeCacheTimeToLive();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum number of point routers (one per routing group) to be created concurrently.",
+        "0 uses the number of available processors."})
+  int routerConstructionParallelism();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to route vehicles around the expected positions of other vehicles.",
+        "Expected positions are derived from the vehicles' selected routes and estimated travel "
+        + "times. Applies to the first drive order of a transport order only."})
+  boolean conflictAwareRouting();
+
 }
@@ -7,9 +7,13 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.order.Route;
 
@@ -65,4 +69,66 @@ public interface PointRouter {
 
     return getCosts(srcPoint.getReference(), destPoint.getReference());
   }
+
+  /**
+   * Returns the costs for travelling the shortest routes from one point to each of the given
+   * points.
+   * <p>
+   * Implementations may compute all costs in a single search.
+   * This default implementation calls {@link #getCosts(Point, Point)} for each destination point.
+   * </p>
+   *
+   * @param srcPoint The starting point.
+   * @param destPoints The destination points.
+   * @return The costs for travelling the shortest routes, mapped by destination point.
+   * If no route to a destination point exists, {@link #INFINITE_COSTS INFINITE_COSTS} is mapped to
+   * it.
+   */
+  default Map<Point, Long> getCostsToDestinations(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    Map<Point, Long> result = new HashMap<>();
+    for (Point destPoint : destPoints) {
+      result.put(destPoint, getCosts(srcPoint, destPoint));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the costs for travelling the shortest routes from each of the given points to one
+   * point.
+   * <p>
+   * Implementations may compute all costs in a single search.
+   * This default implementation calls {@link #getCosts(Point, Point)} for each starting point.
+   * </p>
+   *
+   * @param srcPoints The starting points.
+   * @param destPoint The destination point.
+   * @return The costs for travelling the shortest routes, mapped by starting point.
+   * If no route from a starting point exists, {@link #INFINITE_COSTS INFINITE_COSTS} is mapped to
+   * it.
+   */
+  default Map<Point, Long> getCostsFromSources(Set<Point> srcPoints, Point destPoint) {
+    requireNonNull(srcPoints, "srcPoints");
+    requireNonNull(destPoint, "destPoint");
+
+    Map<Point, Long> result = new HashMap<>();
+    for (Point srcPoint : srcPoints) {
+      result.put(srcPoint, getCosts(srcPoint, destPoint));
+    }
+    return result;
+  }
+
+  /**
+   * Updates this router's routing data for the given path in place, e.g. after the path's lock
+   * state or costs changed.
+   *
+   * @param path The path, in its current state.
+   * @return <code>true</code> if the routing data was updated, or <code>false</code>, if this
+   * router does not support incremental updates and needs to be recreated instead.
+   */
+  default boolean updatePath(Path path) {
+    return false;
+  }
 }
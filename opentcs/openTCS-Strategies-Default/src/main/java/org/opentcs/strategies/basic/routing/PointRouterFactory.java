@@ -7,6 +7,9 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 
 /**
@@ -23,4 +26,22 @@ public interface PointRouterFactory {
    * @return The point router.
    */
   PointRouter createPointRouter(Vehicle vehicle);
+
+  /**
+   * Creates a point router for the given vehicle and the given model data.
+   * <p>
+   * Implementations should not access the kernel's object service here, as this method may be
+   * called concurrently from threads other than the kernel's.
+   * This default implementation ignores the given model data and delegates to
+   * {@link #createPointRouter(org.opentcs.data.model.Vehicle)}.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @param points The points of the model.
+   * @param paths The paths of the model.
+   * @return The point router.
+   */
+  default PointRouter createPointRouter(Vehicle vehicle, Set<Point> points, Set<Path> paths) {
+    return createPointRouter(vehicle);
+  }
 }
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * A table of time windows in which resources (points and paths, identified by their names) are
+ * expected to be occupied by vehicles (identified by their names).
+ * <p>
+ * Times are given in milliseconds, relative to the point in time the table was created at.
+ * This class is not thread-safe for reservations, but once all reservations are made, the table
+ * may be read concurrently.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+class ReservationTable {
+
+  /**
+   * Marks the end of a time window that does not end.
+   */
+  static final long INFINITE_TIME = Long.MAX_VALUE;
+  /**
+   * The reserved time windows, mapped by resource name and sorted by their start times.
+   */
+  private final Map<String, List<TimeWindow>> timeWindowsByResource = new HashMap<>();
+  /**
+   * The point in time this table was created at.
+   */
+  private final long creationTime = System.currentTimeMillis();
+
+  /**
+   * Creates a new instance.
+   */
+  ReservationTable() {
+  }
+
+  /**
+   * Returns the time that has passed since this table was created.
+   *
+   * @return The time that has passed since this table was created.
+   */
+  public long getElapsedTime() {
+    return System.currentTimeMillis() - creationTime;
+  }
+
+  /**
+   * Reserves the given resource for the given vehicle and time window.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @param resourceName The name of the resource.
+   * @param start The start of the time window (inclusive).
+   * @param end The end of the time window (exclusive), or {@link #INFINITE_TIME}.
+   */
+  public void reserve(String vehicleName, String resourceName, long start, long end) {
+    requireNonNull(vehicleName, "vehicleName");
+    requireNonNull(resourceName, "resourceName");
+    checkArgument(start <= end, "start %s > end %s", start, end);
+
+    if (start == end) {
+      return;
+    }
+    List<TimeWindow> timeWindows = timeWindowsByResource.computeIfAbsent(resourceName,
+                                                                         name -> new ArrayList<>());
+    int index = timeWindows.size();
+    while (index > 0 && timeWindows.get(index - 1).start > start) {
+      index--;
+    }
+    timeWindows.add(index, new TimeWindow(vehicleName, start, end));
+  }
+
+  /**
+   * Returns the earliest point in time not before the given one at which the given resource is
+   * free for the given vehicle for the given duration, ignoring the vehicle's own reservations.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @param resourceName The name of the resource.
+   * @param earliestStart The earliest point in time to be considered.
+   * @param duration The duration the resource is required for.
+   * @return The earliest point in time the resource is free for the given duration, or
+   * {@link #INFINITE_TIME}, if it is never free for that long.
+   */
+  public long getEarliestFreeTime(String vehicleName,
+                                  String resourceName,
+                                  long earliestStart,
+                                  long duration) {
+    requireNonNull(vehicleName, "vehicleName");
+    requireNonNull(resourceName, "resourceName");
+
+    long result = earliestStart;
+    for (TimeWindow timeWindow : timeWindowsByResource.getOrDefault(resourceName,
+                                                                     Collections.emptyList())) {
+      if (timeWindow.vehicleName.equals(vehicleName)) {
+        continue;
+      }
+      if (timeWindow.start >= add(result, duration)) {
+        break;
+      }
+      if (timeWindow.end > result) {
+        result = timeWindow.end;
+        if (result == INFINITE_TIME) {
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the earliest point in time not before the given one at which all of the given
+   * resources are free for the given vehicle for the given duration, ignoring the vehicle's own
+   * reservations.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @param resourceNames The names of the resources.
+   * @param earliestStart The earliest point in time to be considered.
+   * @param duration The duration the resources are required for.
+   * @return The earliest point in time the resources are free for the given duration, or
+   * {@link #INFINITE_TIME}, if they are never free for that long at the same time.
+   */
+  public long getEarliestFreeTime(String vehicleName,
+                                  List<String> resourceNames,
+                                  long earliestStart,
+                                  long duration) {
+    requireNonNull(vehicleName, "vehicleName");
+    requireNonNull(resourceNames, "resourceNames");
+
+    long result = earliestStart;
+    boolean changed = true;
+    while (changed && result != INFINITE_TIME) {
+      changed = false;
+      for (String resourceName : resourceNames) {
+        long freeTime = getEarliestFreeTime(vehicleName, resourceName, result, duration);
+        if (freeTime != result) {
+          result = freeTime;
+          changed = true;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Adds the given times, saturating at {@link #INFINITE_TIME}.
+   *
+   * @param time The first time.
+   * @param duration The second time.
+   * @return The sum of the given times.
+   */
+  static long add(long time, long duration) {
+    return (time > INFINITE_TIME - duration) ? INFINITE_TIME : time + duration;
+  }
+
+  /**
+   * A time window in which a resource is reserved.
+   */
+  private static final class TimeWindow {
+
+    /**
+     * The name of the vehicle the resource is reserved for.
+     */
+    private final String vehicleName;
+    /**
+     * The start of the time window (inclusive).
+     */
+    private final long start;
+    /**
+     * The end of the time window (exclusive).
+     */
+    private final long end;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param vehicleName The name of the vehicle the resource is reserved for.
+     * @param start The start of the time window (inclusive).
+     * @param end The end of the time window (exclusive).
+     */
+    TimeWindow(String vehicleName, long start, long end) {
+      this.vehicleName = vehicleName;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
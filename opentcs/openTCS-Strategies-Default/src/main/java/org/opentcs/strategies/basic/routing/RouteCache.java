@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.opentcs.access.RouteCacheStatistics;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import static org.opentcs.util.Assertions.checkArgument;
+
+/**
+ * A bounded cache for point-to-point routes, keyed by routing group, source and destination point.
+ * <p>
+ * Evicts the least recently used route when its capacity is exceeded and routes that have been
+ * cached for longer than a given time to live.
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+class RouteCache {
+
+  /**
+   * The cached routes, in order of their last access.
+   */
+  private final Map<CacheKey, CacheEntry> entries;
+  /**
+   * The time (in ms) after which a cached route is evicted.
+   */
+  private final long timeToLive;
+  /**
+   * The number of lookups answered from the cache.
+   */
+  private long hitCount;
+  /**
+   * The number of lookups that required a route to be computed.
+   */
+  private long missCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of routes to be cached.
+   * @param timeToLive The time (in ms) after which a cached route is evicted.
+   */
+  RouteCache(int capacity, long timeToLive) {
+    checkArgument(capacity >= 0, "capacity < 0: %s", capacity);
+    this.timeToLive = timeToLive;
+    this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the route from the given source point to the given destination point for the given
+   * routing group, computing and caching it if necessary.
+   *
+   * @param routingGroup The routing group.
+   * @param sourcePoint The source point.
+   * @param destinationPoint The destination point.
+   * @param routeComputation Computes the route if it is not cached.
+   * @return The route, or the empty optional, if no route exists.
+   */
+  public Optional<Route> getRoute(int routingGroup,
+                                  Point sourcePoint,
+                                  Point destinationPoint,
+                                  Supplier<Optional<Route>> routeComputation) {
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoint, "destinationPoint");
+    requireNonNull(routeComputation, "routeComputation");
+
+    CacheKey key = new CacheKey(routingGroup, sourcePoint.getName(), destinationPoint.getName());
+    synchronized (entries) {
+      CacheEntry entry = entries.get(key);
+      if (entry != null && !isExpired(entry)) {
+        hitCount++;
+        return entry.route;
+      }
+      missCount++;
+    }
+
+    // Compute the route without holding the lock, so other lookups are not blocked by it.
+    Optional<Route> route = routeComputation.get();
+    synchronized (entries) {
+      entries.put(key, new CacheEntry(route, System.currentTimeMillis()));
+    }
+    return route;
+  }
+
+  /**
+   * Removes all cached routes.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Returns the current statistics of this cache.
+   *
+   * @return The current statistics of this cache.
+   */
+  public RouteCacheStatistics getStatistics() {
+    synchronized (entries) {
+      return new RouteCacheStatistics(hitCount, missCount, entries.size());
+    }
+  }
+
+  private boolean isExpired(CacheEntry entry) {
+    return System.currentTimeMillis() - entry.creationTime >= timeToLive;
+  }
+
+  /**
+   * The key of a cached route.
+   */
+  private static final class CacheKey {
+
+    private final int routingGroup;
+    private final String sourcePointName;
+    private final String destinationPointName;
+
+    CacheKey(int routingGroup, String sourcePointName, String destinationPointName) {
+      this.routingGroup = routingGroup;
+      this.sourcePointName = sourcePointName;
+      this.destinationPointName = destinationPointName;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) obj;
+      return routingGroup == other.routingGroup
+          && sourcePointName.equals(other.sourcePointName)
+          && destinationPointName.equals(other.destinationPointName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(routingGroup, sourcePointName, destinationPointName);
+    }
+  }
+
+  /**
+   * A cached route along with the time it was cached.
+   */
+  private static final class CacheEntry {
+
+    private final Optional<Route> route;
+    private final long creationTime;
+
+    CacheEntry(Optional<Route> route, long creationTime) {
+      this.route = route;
+      this.creationTime = creationTime;
+    }
+  }
+}
@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
+import static org.opentcs.strategies.basic.routing.ReservationTable.INFINITE_TIME;
+import static org.opentcs.strategies.basic.routing.ReservationTable.add;
+import org.opentcs.strategies.basic.routing.jgrapht.EdgeEvaluatorTravelTime;
+import org.opentcs.strategies.basic.routing.jgrapht.ModelEdge;
+
+/**
+ * Plans routes that avoid conflicts with the routes of other vehicles, using a
+ * {@link ReservationTable} of the time windows in which points and paths are expected to be
+ * occupied.
+ * <p>
+ * A vehicle is expected to occupy a path while travelling along it, and a point from the moment it
+ * starts travelling to it until it has travelled to the next point of its route.
+ * Vehicles without a route, and vehicles at the end of their routes, are expected to occupy their
+ * points indefinitely.
+ * Travel times are estimated by {@link EdgeEvaluatorTravelTime}.
+ * </p>
+ * <p>
+ * Routes are computed with a search for the earliest arrival at the destination point, allowing the
+ * vehicle to wait at points for resources to become free.
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+class TimeWindowRoutePlanner {
+
+  /**
+   * Estimates the travel times.
+   */
+  private final EdgeEvaluatorTravelTime travelTimeEvaluator = new EdgeEvaluatorTravelTime();
+  /**
+   * The points of the model, mapped by name.
+   */
+  private final Map<String, Point> pointsByName = new HashMap<>();
+  /**
+   * The paths of the model, in their current state, mapped by name.
+   */
+  private final Map<String, Path> pathsByName = new HashMap<>();
+  /**
+   * The edges leaving each point, mapped by the point's name.
+   */
+  private volatile Map<String, List<ModelEdge>> edgesBySourcePoint;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param points The points of the model.
+   * @param paths The paths of the model.
+   */
+  TimeWindowRoutePlanner(Collection<Point> points, Collection<Path> paths) {
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+
+    for (Point point : points) {
+      pointsByName.put(point.getName(), point);
+    }
+    for (Path path : paths) {
+      pathsByName.put(path.getName(), path);
+    }
+    edgesBySourcePoint = createEdges();
+  }
+
+  /**
+   * Updates the state of the given path.
+   *
+   * @param path The path, in its current state.
+   */
+  public synchronized void updatePath(Path path) {
+    requireNonNull(path, "path");
+
+    pathsByName.put(path.getName(), path);
+    edgesBySourcePoint = createEdges();
+  }
+
+  /**
+   * Creates a reservation table from the given routes and positions of vehicles.
+   *
+   * The table can be shared by route computations for all of the vehicles, as a vehicle's own
+   * reservations are ignored when computing its route.
+   *
+   * @param routesByVehicle The routes selected for the vehicles.
+   * @param vehicles The vehicles, in their current state.
+   * @return The reservation table.
+   */
+  public ReservationTable createReservationTable(Map<Vehicle, List<DriveOrder>> routesByVehicle,
+                                                 Collection<Vehicle> vehicles) {
+    requireNonNull(routesByVehicle, "routesByVehicle");
+    requireNonNull(vehicles, "vehicles");
+
+    ReservationTable result = new ReservationTable();
+    for (Vehicle vehicle : vehicles) {
+      if (vehicle.getCurrentPosition() == null) {
+        continue;
+      }
+      reserveRoute(result, vehicle, routesByVehicle.getOrDefault(vehicle,
+                                                                 Collections.emptyList()));
+    }
+    return result;
+  }
+
+  /**
+   * Computes the route with the earliest expected arrival at the destination point for the given
+   * vehicle, starting now.
+   *
+   * @param vehicle The vehicle.
+   * @param sourcePoint The source point.
+   * @param destinationPoint The destination point.
+   * @param reservations The time windows in which resources are occupied by other vehicles.
+   * @return The steps of the route, or the empty optional, if the destination point cannot be
+   * reached.
+   */
+  public Optional<List<Route.Step>> computeRouteSteps(Vehicle vehicle,
+                                                      Point sourcePoint,
+                                                      Point destinationPoint,
+                                                      ReservationTable reservations) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(sourcePoint, "sourcePoint");
+    requireNonNull(destinationPoint, "destinationPoint");
+    requireNonNull(reservations, "reservations");
+
+    Map<String, List<ModelEdge>> currentEdges = edgesBySourcePoint;
+    Map<String, Long> arrivalTimes = new HashMap<>();
+    Map<String, ModelEdge> predecessorEdges = new HashMap<>();
+    Set<String> settledPoints = new HashSet<>();
+    PriorityQueue<Arrival> queue = new PriorityQueue<>();
+
+    // The reservations' times are relative to the table's creation.
+    long startTime = reservations.getElapsedTime();
+    arrivalTimes.put(sourcePoint.getName(), startTime);
+    queue.add(new Arrival(sourcePoint.getName(), startTime));
+    while (!queue.isEmpty()) {
+      Arrival current = queue.poll();
+      if (!settledPoints.add(current.pointName)) {
+        continue;
+      }
+      if (current.pointName.equals(destinationPoint.getName())) {
+        break;
+      }
+
+      for (ModelEdge edge : currentEdges.getOrDefault(current.pointName,
+                                                      Collections.emptyList())) {
+        String targetName = targetPoint(edge).getName();
+        long travelTime = travelTimeEvaluator.estimateTravelTime(edge, vehicle);
+        if (settledPoints.contains(targetName) || travelTime == INFINITE_COSTS) {
+          continue;
+        }
+        long departure = reservations.getEarliestFreeTime(
+            vehicle.getName(),
+            Arrays.asList(edge.getModelPath().getName(), targetName),
+            current.time,
+            travelTime);
+        long arrival = add(departure, travelTime);
+        if (arrival < arrivalTimes.getOrDefault(targetName, INFINITE_TIME)) {
+          arrivalTimes.put(targetName, arrival);
+          predecessorEdges.put(targetName, edge);
+          queue.add(new Arrival(targetName, arrival));
+        }
+      }
+    }
+
+    if (!settledPoints.contains(destinationPoint.getName())) {
+      return Optional.empty();
+    }
+
+    List<ModelEdge> edges = new ArrayList<>();
+    for (ModelEdge edge = predecessorEdges.get(destinationPoint.getName());
+         edge != null;
+         edge = predecessorEdges.get(sourcePoint(edge).getName())) {
+      edges.add(edge);
+    }
+    Collections.reverse(edges);
+
+    List<Route.Step> result = new ArrayList<>(edges.size());
+    for (ModelEdge edge : edges) {
+      result.add(new Route.Step(edge.getModelPath(),
+                                sourcePoint(edge),
+                                targetPoint(edge),
+                                edge.isTravellingReverse()
+                                ? Vehicle.Orientation.BACKWARD
+                                : Vehicle.Orientation.FORWARD,
+                                result.size()));
+    }
+    return Optional.of(result);
+  }
+
+  /**
+   * Reserves the resources the given vehicle is expected to occupy on its way along the given
+   * route.
+   *
+   * @param reservations The reservation table.
+   * @param vehicle The vehicle, in its current state.
+   * @param driveOrders The drive orders of the route selected for the vehicle.
+   */
+  private void reserveRoute(ReservationTable reservations,
+                            Vehicle vehicle,
+                            List<DriveOrder> driveOrders) {
+    List<Route.Step> steps = new ArrayList<>();
+    for (DriveOrder driveOrder : driveOrders) {
+      if (driveOrder.getRoute() == null) {
+        continue;
+      }
+      for (Route.Step step : driveOrder.getRoute().getSteps()) {
+        if (step.getPath() != null) {
+          steps.add(step);
+        }
+      }
+    }
+
+    // Skip the steps the vehicle has already travelled.
+    String currentPointName = vehicle.getCurrentPosition().getName();
+    int firstStep = 0;
+    while (firstStep < steps.size()
+        && !currentPointName.equals(steps.get(firstStep).getSourcePoint().getName())) {
+      firstStep++;
+    }
+
+    long time = 0;
+    long currentPointOccupiedSince = 0;
+    for (int i = firstStep; i < steps.size(); i++) {
+      Route.Step step = steps.get(i);
+      long travelTime = estimateTravelTime(step, vehicle);
+      long arrival = add(time, travelTime);
+      reservations.reserve(vehicle.getName(), step.getPath().getName(), time, arrival);
+      reservations.reserve(vehicle.getName(), currentPointName, currentPointOccupiedSince, arrival);
+      currentPointName = step.getDestinationPoint().getName();
+      currentPointOccupiedSince = time;
+      time = arrival;
+    }
+    reservations.reserve(vehicle.getName(),
+                         currentPointName,
+                         currentPointOccupiedSince,
+                         INFINITE_TIME);
+  }
+
+  private long estimateTravelTime(Route.Step step, Vehicle vehicle) {
+    boolean travellingReverse = Objects.equals(step.getPath().getDestinationPoint(),
+                                               step.getSourcePoint().getReference());
+    long travelTime = travelTimeEvaluator.estimateTravelTime(new ModelEdge(step.getPath(),
+                                                                           travellingReverse),
+                                                             vehicle);
+    return travelTime == INFINITE_COSTS ? 0 : travelTime;
+  }
+
+  private Map<String, List<ModelEdge>> createEdges() {
+    Map<String, List<ModelEdge>> result = new HashMap<>();
+    for (Path path : pathsByName.values()) {
+      if (path.isNavigableForward()) {
+        result.computeIfAbsent(path.getSourcePoint().getName(), name -> new ArrayList<>())
+            .add(new ModelEdge(path, false));
+      }
+      if (path.isNavigableReverse()) {
+        result.computeIfAbsent(path.getDestinationPoint().getName(), name -> new ArrayList<>())
+            .add(new ModelEdge(path, true));
+      }
+    }
+    return result;
+  }
+
+  private Point sourcePoint(ModelEdge edge) {
+    return pointsByName.get(edge.isTravellingReverse()
+        ? edge.getModelPath().getDestinationPoint().getName()
+        : edge.getModelPath().getSourcePoint().getName());
+  }
+
+  private Point targetPoint(ModelEdge edge) {
+    return pointsByName.get(edge.isTravellingReverse()
+        ? edge.getModelPath().getSourcePoint().getName()
+        : edge.getModelPath().getDestinationPoint().getName());
+  }
+
+  /**
+   * The expected arrival of a vehicle at a point.
+   */
+  private static final class Arrival
+      implements Comparable<Arrival> {
+
+    /**
+     * The name of the point.
+     */
+    private final String pointName;
+    /**
+     * The expected time of arrival.
+     */
+    private final long time;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param pointName The name of the point.
+     * @param time The expected time of arrival.
+     */
+    Arrival(String pointName, long time) {
+      this.pointName = pointName;
+      this.time = time;
+    }
+
+    @Override
+    public int compareTo(Arrival other) {
+      return Long.compare(time, other.time);
+    }
+  }
+}
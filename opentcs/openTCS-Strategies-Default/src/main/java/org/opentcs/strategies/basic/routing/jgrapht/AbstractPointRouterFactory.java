@@ -42,31 +42,62 @@ public abstract class AbstractPointRouterFactory
    * Maps the plant model to a graph.
    */
   private final ModelGraphMapper mapper;
+  /**
+   * The configuration.
+   */
+  private final ShortestPathConfiguration configuration;
 
   /**
    * Creates a new instance.
    *
    * @param objectService The object service providing model data.
    * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
    */
   public AbstractPointRouterFactory(@Nonnull TCSObjectService objectService,
-                                    @Nonnull ModelGraphMapper mapper) {
+                                    @Nonnull ModelGraphMapper mapper,
+                                    @Nonnull ShortestPathConfiguration configuration) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.mapper = requireNonNull(mapper, "mapper");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
   public PointRouter createPointRouter(Vehicle vehicle) {
     requireNonNull(vehicle, "vehicle");
 
+    return createPointRouter(vehicle,
+                             objectService.fetchObjects(Point.class),
+                             objectService.fetchObjects(Path.class));
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle, Set<Point> points, Set<Path> paths) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+
     long timeStampBefore = System.currentTimeMillis();
 
-    Set<Point> points = objectService.fetchObjects(Point.class);
-    Graph<String, ModelEdge> graph = mapper.translateModel(points,
-                                                           objectService.fetchObjects(Path.class),
-                                                           vehicle);
+    Graph<String, ModelEdge> graph = mapper.translateModel(points, paths, vehicle);
 
-    PointRouter router = new ShortestPathPointRouter(createShortestPathAlgorithm(graph), points);
+    PointRouter router;
+    if (useCostTable(points.size(), vehicle)) {
+      router = new CostTablePointRouter(graph, points, paths, mapper, vehicle);
+    }
+    else if (useIndexedGraph()) {
+      boolean goalDirected
+          = configuration.algorithm() == ShortestPathConfiguration.Algorithm.ASTAR;
+      router = new IndexedShortestPathPointRouter(graph, points, goalDirected, mapper, vehicle);
+    }
+    else {
+      router = new ShortestPathPointRouter(graph,
+                                           graphToSearch
+                                           -> createShortestPathAlgorithm(graphToSearch, points),
+                                           points,
+                                           mapper,
+                                           vehicle);
+    }
     // Make a single request for a route from one point to a different one to make sure the
     // point router is primed. (Some implementations are initialized lazily.)
     if (points.size() >= 2) {
@@ -81,6 +112,53 @@ public abstract class AbstractPointRouterFactory
     return router;
   }
 
+  /**
+   * Checks whether a precomputed cost table should be used for the given number of points.
+   *
+   * @param pointCount The number of points in the model.
+   * @param vehicle The vehicle the point router is created for.
+   * @return <code>true</code> if, and only if, a cost table is enabled, applicable for the
+   * configured algorithm and fits into the configured memory budget and the maximum array size.
+   */
+  private boolean useCostTable(int pointCount, Vehicle vehicle) {
+    if (!configuration.precomputeCostTable()
+        || configuration.algorithm().isHandlingNegativeCosts()) {
+      return false;
+    }
+
+    if (!CostTablePointRouter.isApplicable(pointCount)) {
+      LOG.warn("Cost table for {} would exceed the maximum array size with {} points, computing "
+          + "routes on demand instead.",
+               vehicle.getName(),
+               pointCount);
+      return false;
+    }
+
+    long requiredMemory = CostTablePointRouter.requiredMemory(pointCount);
+    long maxMemory = configuration.costTableMaxMemory() * 1024L * 1024L;
+    if (requiredMemory > maxMemory) {
+      LOG.warn("Cost table for {} would require {} bytes (maximum is {}), computing routes on "
+          + "demand instead.",
+               vehicle.getName(),
+               requiredMemory,
+               maxMemory);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether routes should be computed on an {@link IndexedModelGraph}.
+   *
+   * @return <code>true</code> if, and only if, this is enabled and the configured algorithm is
+   * available for indexed graphs.
+   */
+  private boolean useIndexedGraph() {
+    return configuration.indexedGraph()
+        && (configuration.algorithm() == ShortestPathConfiguration.Algorithm.DIJKSTRA
+            || configuration.algorithm() == ShortestPathConfiguration.Algorithm.ASTAR);
+  }
+
   /**
    * Returns a shortest path algorithm implementation working on the given graph.
    *
@@ -89,4 +167,22 @@ public abstract class AbstractPointRouterFactory
    */
   protected abstract ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
       Graph<String, ModelEdge> graph);
+
+  /**
+   * Returns a shortest path algorithm implementation working on the given graph.
+   * <p>
+   * This default implementation ignores the points and delegates to
+   * {@link #createShortestPathAlgorithm(org.jgrapht.Graph)}.
+   * Subclasses may override it to make use of the points' properties, e.g. their positions.
+   * </p>
+   *
+   * @param graph The graph.
+   * @param points The points of the model.
+   * @return A shortest path algorithm implementation working on the given graph.
+   */
+  protected ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
+      Graph<String, ModelEdge> graph,
+      Set<Point> points) {
+    return createShortestPathAlgorithm(graph);
+  }
 }
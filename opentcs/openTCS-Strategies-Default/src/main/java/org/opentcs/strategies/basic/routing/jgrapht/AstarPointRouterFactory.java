@@ -7,41 +7,86 @@
  */
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import java.util.Collections;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.AStarAdmissibleHeuristic;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.jgrapht.alg.shortestpath.AStarShortestPath;
-import org.jgrapht.alg.shortestpath.BidirectionalDijkstraShortestPath;
-import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
 
 /**
+ * Creates {@link PointRouter} instances based on the A* algorithm, guided by the positions of the
+ * points.
  *
  * @author zisha
+ * @see PointPositionHeuristic
  */
-public class AstarPointRouterFactory extends AbstractPointRouterFactory {
+public class AstarPointRouterFactory
+    extends AbstractPointRouterFactory {
 
   /**
    * Creates a new instance.
    *
    * @param objectService The object service providing model data.
    * @param mapper Maps the plant model to a graph.
+   * @param configuration The configuration.
    */
   @Inject
   public AstarPointRouterFactory(@Nonnull TCSObjectService objectService,
-                                    @Nonnull ModelGraphMapper mapper) {
-    super(objectService, mapper);
+                                 @Nonnull ModelGraphMapper mapper,
+                                 @Nonnull ShortestPathConfiguration configuration) {
+    super(objectService, mapper, configuration);
   }
 
   @Override
   protected ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
       Graph<String, ModelEdge> graph) {
-    
-   return new DijkstraShortestPath<>(graph);
-  // return new AStarShortestPath<>(graph);
+    return createShortestPathAlgorithm(graph, Collections.emptySet());
+  }
 
+  @Override
+  protected ShortestPathAlgorithm<String, ModelEdge> createShortestPathAlgorithm(
+      Graph<String, ModelEdge> graph,
+      Set<Point> points) {
+    return new ThreadSafeAStarShortestPath(graph, new PointPositionHeuristic(graph, points));
   }
 
+  /**
+   * Creates a new {@link AStarShortestPath} instance for every request, as its search state is kept
+   * in the instance and routes may be requested concurrently.
+   */
+  private static class ThreadSafeAStarShortestPath
+      implements ShortestPathAlgorithm<String, ModelEdge> {
+
+    private final Graph<String, ModelEdge> graph;
+
+    private final AStarAdmissibleHeuristic<String> heuristic;
+
+    ThreadSafeAStarShortestPath(Graph<String, ModelEdge> graph,
+                                AStarAdmissibleHeuristic<String> heuristic) {
+      this.graph = graph;
+      this.heuristic = heuristic;
+    }
+
+    @Override
+    public GraphPath<String, ModelEdge> getPath(String source, String sink) {
+      return new AStarShortestPath<>(graph, heuristic).getPath(source, sink);
+    }
+
+    @Override
+    public double getPathWeight(String source, String sink) {
+      return new AStarShortestPath<>(graph, heuristic).getPathWeight(source, sink);
+    }
+
+    @Override
+    public SingleSourcePaths<String, ModelEdge> getPaths(String source) {
+      return new AStarShortestPath<>(graph, heuristic).getPaths(source);
+    }
+  }
 }
@@ -0,0 +1,658 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import org.jgrapht.Graph;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using a contraction hierarchy.
+ * <p>
+ * During construction, all points are ordered by importance and contracted one after the other.
+ * Whenever contracting a point would remove the only shortest connection between two of its
+ * neighbours, a shortcut edge replacing it is added.
+ * Queries then consist of two small Dijkstra searches, one from the source and one from the
+ * destination, that only follow edges leading to more important points.
+ * This keeps the memory requirements close to the size of the graph while answering queries
+ * considerably faster than a plain Dijkstra search on large graphs.
+ * </p>
+ * <p>
+ * <em>Note that the graph must not contain edges with negative weights, and that this
+ * implementation does not support incremental updates of the graph.</em>
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class ContractionHierarchyPointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(ContractionHierarchyPointRouter.class);
+  /**
+   * Marks a missing edge.
+   */
+  private static final int NO_EDGE = IndexedModelGraph.NO_EDGE;
+  /**
+   * The maximum number of points a witness search settles before giving up.
+   * Giving up early only results in superfluous shortcuts, not in wrong routes.
+   */
+  private static final int WITNESS_SEARCH_SETTLED_LIMIT = 500;
+  /**
+   * The compact graph the contraction hierarchy is computed for.
+   */
+  private final IndexedModelGraph indexedGraph;
+  /**
+   * The number of points.
+   */
+  private final int pointCount;
+  /**
+   * The IDs of the edges in the indexed graph, indexed by edge IDs, or {@link #NO_EDGE} for
+   * shortcuts.
+   */
+  private int[] modelEdgeIds;
+  /**
+   * The IDs of the source points of the edges, indexed by edge IDs.
+   */
+  private int[] edgeSources;
+  /**
+   * The IDs of the target points of the edges, indexed by edge IDs.
+   */
+  private int[] edgeTargets;
+  /**
+   * The weights of the edges, indexed by edge IDs.
+   */
+  private double[] edgeWeights;
+  /**
+   * For shortcuts, the ID of the first edge replaced by it, indexed by edge IDs.
+   */
+  private int[] firstReplacedEdges;
+  /**
+   * For shortcuts, the ID of the second edge replaced by it, indexed by edge IDs.
+   */
+  private int[] secondReplacedEdges;
+  /**
+   * The number of edges (including shortcuts).
+   */
+  private int edgeCount;
+  /**
+   * The order in which the points were contracted, indexed by point IDs.
+   */
+  private final int[] ranks;
+  /**
+   * For every point ID, the index of its first edge in {@link #upwardEdges}, plus the total
+   * number of upward edges as the last element.
+   */
+  private int[] firstUpwardEdge;
+  /**
+   * The IDs of all edges leading to a higher ranked point, grouped by their source points.
+   */
+  private int[] upwardEdges;
+  /**
+   * For every point ID, the index of its first edge in {@link #downwardEdges}, plus the total
+   * number of downward edges as the last element.
+   */
+  private int[] firstDownwardEdge;
+  /**
+   * The IDs of all edges coming from a higher ranked point, grouped by their target points.
+   */
+  private int[] downwardEdges;
+  /**
+   * The working memory for queries, one per thread as routes may be requested concurrently.
+   */
+  private final ThreadLocal<QueryState> queryStates;
+
+  /**
+   * Creates a new instance, computing the contraction hierarchy for the given graph.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points of the model.
+   * @throws IllegalArgumentException If the graph contains an edge with a negative weight.
+   */
+  public ContractionHierarchyPointRouter(Graph<String, ModelEdge> graph, Collection<Point> points)
+      throws IllegalArgumentException {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    this.indexedGraph = new IndexedModelGraph(graph, points);
+    indexedGraph.checkNonNegativeWeights();
+    this.pointCount = indexedGraph.getPointCount();
+
+    int initialCapacity = Math.max(16, indexedGraph.getEdgeCount() * 2);
+    this.modelEdgeIds = new int[initialCapacity];
+    this.edgeSources = new int[initialCapacity];
+    this.edgeTargets = new int[initialCapacity];
+    this.edgeWeights = new double[initialCapacity];
+    this.firstReplacedEdges = new int[initialCapacity];
+    this.secondReplacedEdges = new int[initialCapacity];
+    for (int edge = 0; edge < indexedGraph.getEdgeCount(); edge++) {
+      int source = indexedGraph.getEdgeSource(edge);
+      int target = indexedGraph.getEdgeTarget(edge);
+      // Loops are never part of a shortest route.
+      if (source != target) {
+        addEdge(source, target, indexedGraph.getEdgeWeight(edge), edge, NO_EDGE, NO_EDGE);
+      }
+    }
+    int originalEdgeCount = edgeCount;
+
+    this.ranks = new int[pointCount];
+    contractPoints();
+    buildSearchGraphs();
+    this.queryStates = ThreadLocal.withInitial(() -> new QueryState(pointCount));
+
+    LOG.debug("Contracted {} points with {} edges in {} milliseconds, adding {} shortcuts.",
+              pointCount,
+              originalEdgeCount,
+              System.currentTimeMillis() - timeStampBefore,
+              edgeCount - originalEdgeCount);
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    QueryState state = queryStates.get();
+    int meetingPoint = search(indexedGraph.getPointId(srcPoint.getName()),
+                              indexedGraph.getPointId(destPoint.getName()),
+                              state);
+    if (meetingPoint == -1) {
+      return null;
+    }
+
+    return indexedGraph.createRouteSteps(unpackRoute(meetingPoint, state));
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    QueryState state = queryStates.get();
+    int meetingPoint = search(indexedGraph.getPointId(srcPointRef.getName()),
+                              indexedGraph.getPointId(destPointRef.getName()),
+                              state);
+    if (meetingPoint == -1) {
+      return INFINITE_COSTS;
+    }
+
+    return (long) (state.forwardDistances[meetingPoint] + state.backwardDistances[meetingPoint]);
+  }
+
+  /**
+   * Returns the number of shortcut edges added during the contraction.
+   *
+   * @return The number of shortcut edges added during the contraction.
+   */
+  public int getShortcutCount() {
+    int result = 0;
+    for (int i = 0; i < edgeCount; i++) {
+      if (modelEdgeIds[i] == NO_EDGE) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Adds an edge to the edge arrays, growing them if necessary.
+   *
+   * @return The ID of the added edge.
+   */
+  private int addEdge(int source,
+                      int target,
+                      double weight,
+                      int modelEdgeId,
+                      int firstReplacedEdge,
+                      int secondReplacedEdge) {
+    if (edgeCount == modelEdgeIds.length) {
+      int newLength = edgeCount * 2;
+      modelEdgeIds = Arrays.copyOf(modelEdgeIds, newLength);
+      edgeSources = Arrays.copyOf(edgeSources, newLength);
+      edgeTargets = Arrays.copyOf(edgeTargets, newLength);
+      edgeWeights = Arrays.copyOf(edgeWeights, newLength);
+      firstReplacedEdges = Arrays.copyOf(firstReplacedEdges, newLength);
+      secondReplacedEdges = Arrays.copyOf(secondReplacedEdges, newLength);
+    }
+    modelEdgeIds[edgeCount] = modelEdgeId;
+    edgeSources[edgeCount] = source;
+    edgeTargets[edgeCount] = target;
+    edgeWeights[edgeCount] = weight;
+    firstReplacedEdges[edgeCount] = firstReplacedEdge;
+    secondReplacedEdges[edgeCount] = secondReplacedEdge;
+    return edgeCount++;
+  }
+
+  /**
+   * Contracts all points, least important first, adding shortcuts as necessary.
+   * A point's importance is estimated by the number of shortcuts its contraction requires in
+   * relation to the number of edges it removes, and updated lazily.
+   */
+  private void contractPoints() {
+    ContractionState state = new ContractionState(pointCount);
+    for (int i = 0; i < edgeCount; i++) {
+      state.outgoingEdges[edgeSources[i]].add(i);
+      state.incomingEdges[edgeTargets[i]].add(i);
+    }
+
+    DistanceHeap queue = new DistanceHeap(pointCount);
+    for (int point = 0; point < pointCount; point++) {
+      queue.push(point, priority(point, state));
+    }
+
+    int nextRank = 0;
+    while (!queue.isEmpty()) {
+      int point = queue.pop();
+      double priority = priority(point, state);
+      if (!queue.isEmpty() && priority > queue.peekDistance()) {
+        // The point became more important since it was queued - check again later.
+        queue.push(point, priority);
+        continue;
+      }
+
+      processShortcuts(point, state, true);
+      state.contracted[point] = true;
+      ranks[point] = nextRank++;
+      for (int i = 0; i < state.outgoingEdges[point].size(); i++) {
+        state.contractedNeighbours[edgeTargets[state.outgoingEdges[point].get(i)]]++;
+      }
+      for (int i = 0; i < state.incomingEdges[point].size(); i++) {
+        state.contractedNeighbours[edgeSources[state.incomingEdges[point].get(i)]]++;
+      }
+    }
+  }
+
+  private double priority(int point, ContractionState state) {
+    int removedEdges = 0;
+    for (int i = 0; i < state.outgoingEdges[point].size(); i++) {
+      if (!state.contracted[edgeTargets[state.outgoingEdges[point].get(i)]]) {
+        removedEdges++;
+      }
+    }
+    for (int i = 0; i < state.incomingEdges[point].size(); i++) {
+      if (!state.contracted[edgeSources[state.incomingEdges[point].get(i)]]) {
+        removedEdges++;
+      }
+    }
+    return processShortcuts(point, state, false) - removedEdges
+        + state.contractedNeighbours[point];
+  }
+
+  /**
+   * Determines the shortcuts required for contracting the given point and optionally adds them.
+   *
+   * @param point The point to be contracted.
+   * @param state The contraction state.
+   * @param addShortcuts Whether to actually add the shortcuts.
+   * @return The number of shortcuts required.
+   */
+  private int processShortcuts(int point, ContractionState state, boolean addShortcuts) {
+    int result = 0;
+    IntList incoming = state.incomingEdges[point];
+    IntList outgoing = state.outgoingEdges[point];
+
+    for (int i = 0; i < incoming.size(); i++) {
+      int inEdge = incoming.get(i);
+      int source = edgeSources[inEdge];
+      if (state.contracted[source]) {
+        continue;
+      }
+
+      double maxCosts = -1.0;
+      for (int j = 0; j < outgoing.size(); j++) {
+        int target = edgeTargets[outgoing.get(j)];
+        if (!state.contracted[target] && target != source) {
+          maxCosts = Math.max(maxCosts, edgeWeights[inEdge] + edgeWeights[outgoing.get(j)]);
+        }
+      }
+      if (maxCosts < 0.0) {
+        continue;
+      }
+
+      state.witnessSearch(source, point, maxCosts);
+
+      for (int j = 0; j < outgoing.size(); j++) {
+        int outEdge = outgoing.get(j);
+        int target = edgeTargets[outEdge];
+        if (state.contracted[target] || target == source) {
+          continue;
+        }
+        double costsViaPoint = edgeWeights[inEdge] + edgeWeights[outEdge];
+        if (state.distances[target] <= costsViaPoint) {
+          // There is a witness route not using the point, so no shortcut is required.
+          continue;
+        }
+        result++;
+        if (addShortcuts) {
+          int shortcut = addEdge(source, target, costsViaPoint, NO_EDGE, inEdge, outEdge);
+          state.outgoingEdges[source].add(shortcut);
+          state.incomingEdges[target].add(shortcut);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Groups the edges for the upward searches from the source and the destination point (compressed
+   * sparse row layout).
+   */
+  private void buildSearchGraphs() {
+    int[] upwardDegrees = new int[pointCount];
+    int[] downwardDegrees = new int[pointCount];
+    for (int i = 0; i < edgeCount; i++) {
+      if (ranks[edgeTargets[i]] > ranks[edgeSources[i]]) {
+        upwardDegrees[edgeSources[i]]++;
+      }
+      else {
+        downwardDegrees[edgeTargets[i]]++;
+      }
+    }
+
+    firstUpwardEdge = new int[pointCount + 1];
+    firstDownwardEdge = new int[pointCount + 1];
+    for (int i = 0; i < pointCount; i++) {
+      firstUpwardEdge[i + 1] = firstUpwardEdge[i] + upwardDegrees[i];
+      firstDownwardEdge[i + 1] = firstDownwardEdge[i] + downwardDegrees[i];
+    }
+
+    upwardEdges = new int[firstUpwardEdge[pointCount]];
+    downwardEdges = new int[firstDownwardEdge[pointCount]];
+    int[] upwardFillPositions = Arrays.copyOf(firstUpwardEdge, pointCount);
+    int[] downwardFillPositions = Arrays.copyOf(firstDownwardEdge, pointCount);
+    for (int i = 0; i < edgeCount; i++) {
+      if (ranks[edgeTargets[i]] > ranks[edgeSources[i]]) {
+        upwardEdges[upwardFillPositions[edgeSources[i]]++] = i;
+      }
+      else {
+        downwardEdges[downwardFillPositions[edgeTargets[i]]++] = i;
+      }
+    }
+  }
+
+  /**
+   * Searches the cheapest route from the source to the destination point.
+   *
+   * @return The ID of the highest ranked point on the cheapest route, or -1, if there is no route.
+   */
+  private int search(int source, int dest, QueryState state) {
+    state.reset();
+    state.visitForward(source, 0.0, NO_EDGE);
+    state.visitBackward(dest, 0.0, NO_EDGE);
+
+    double bestCosts = Double.POSITIVE_INFINITY;
+    int meetingPoint = -1;
+    while (true) {
+      boolean forwardDone = state.forwardHeap.isEmpty()
+          || state.forwardHeap.peekDistance() >= bestCosts;
+      boolean backwardDone = state.backwardHeap.isEmpty()
+          || state.backwardHeap.peekDistance() >= bestCosts;
+      if (forwardDone && backwardDone) {
+        break;
+      }
+
+      if (!forwardDone
+          && (backwardDone
+              || state.forwardHeap.peekDistance() <= state.backwardHeap.peekDistance())) {
+        double distance = state.forwardHeap.peekDistance();
+        int current = state.forwardHeap.pop();
+        if (distance > state.forwardDistances[current]) {
+          continue;
+        }
+        if (distance + state.backwardDistances[current] < bestCosts) {
+          bestCosts = distance + state.backwardDistances[current];
+          meetingPoint = current;
+        }
+        for (int i = firstUpwardEdge[current]; i < firstUpwardEdge[current + 1]; i++) {
+          int edge = upwardEdges[i];
+          int target = edgeTargets[edge];
+          double newDistance = distance + edgeWeights[edge];
+          if (newDistance < state.forwardDistances[target]) {
+            state.visitForward(target, newDistance, edge);
+          }
+        }
+      }
+      else {
+        double distance = state.backwardHeap.peekDistance();
+        int current = state.backwardHeap.pop();
+        if (distance > state.backwardDistances[current]) {
+          continue;
+        }
+        if (distance + state.forwardDistances[current] < bestCosts) {
+          bestCosts = distance + state.forwardDistances[current];
+          meetingPoint = current;
+        }
+        for (int i = firstDownwardEdge[current]; i < firstDownwardEdge[current + 1]; i++) {
+          int edge = downwardEdges[i];
+          int target = edgeSources[edge];
+          double newDistance = distance + edgeWeights[edge];
+          if (newDistance < state.backwardDistances[target]) {
+            state.visitBackward(target, newDistance, edge);
+          }
+        }
+      }
+    }
+
+    return meetingPoint;
+  }
+
+  /**
+   * Returns the IDs of the indexed graph's edges on the route found by the last search, with all
+   * shortcuts replaced.
+   */
+  private List<Integer> unpackRoute(int meetingPoint, QueryState state) {
+    List<Integer> routeEdges = new ArrayList<>();
+    for (int current = meetingPoint; state.forwardPredecessors[current] != NO_EDGE;) {
+      int edge = state.forwardPredecessors[current];
+      routeEdges.add(edge);
+      current = edgeSources[edge];
+    }
+    Collections.reverse(routeEdges);
+    for (int current = meetingPoint; state.backwardPredecessors[current] != NO_EDGE;) {
+      int edge = state.backwardPredecessors[current];
+      routeEdges.add(edge);
+      current = edgeTargets[edge];
+    }
+
+    List<Integer> result = new ArrayList<>();
+    Deque<Integer> pendingEdges = new ArrayDeque<>();
+    for (int routeEdge : routeEdges) {
+      pendingEdges.push(routeEdge);
+      while (!pendingEdges.isEmpty()) {
+        int edge = pendingEdges.pop();
+        if (modelEdgeIds[edge] != NO_EDGE) {
+          result.add(modelEdgeIds[edge]);
+        }
+        else {
+          pendingEdges.push(secondReplacedEdges[edge]);
+          pendingEdges.push(firstReplacedEdges[edge]);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * A growable list of point or edge IDs.
+   */
+  private static final class IntList {
+
+    private int[] elements = new int[4];
+    private int size;
+
+    void add(int element) {
+      if (size == elements.length) {
+        elements = Arrays.copyOf(elements, size * 2);
+      }
+      elements[size++] = element;
+    }
+
+    int get(int index) {
+      return elements[index];
+    }
+
+    int size() {
+      return size;
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+
+  /**
+   * The working memory for contracting points.
+   */
+  private final class ContractionState {
+
+    private final IntList[] outgoingEdges;
+    private final IntList[] incomingEdges;
+    private final boolean[] contracted;
+    private final int[] contractedNeighbours;
+    private final double[] distances;
+    private final IntList visitedPoints = new IntList();
+    private final DistanceHeap heap;
+
+    ContractionState(int pointCount) {
+      outgoingEdges = new IntList[pointCount];
+      incomingEdges = new IntList[pointCount];
+      for (int i = 0; i < pointCount; i++) {
+        outgoingEdges[i] = new IntList();
+        incomingEdges[i] = new IntList();
+      }
+      contracted = new boolean[pointCount];
+      contractedNeighbours = new int[pointCount];
+      distances = new double[pointCount];
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      heap = new DistanceHeap(64);
+    }
+
+    /**
+     * Computes the distances from the given source point to its (uncontracted) surroundings,
+     * without passing the given point.
+     */
+    void witnessSearch(int source, int ignoredPoint, double maxCosts) {
+      for (int i = 0; i < visitedPoints.size(); i++) {
+        distances[visitedPoints.get(i)] = Double.POSITIVE_INFINITY;
+      }
+      visitedPoints.clear();
+      heap.clear();
+
+      distances[source] = 0.0;
+      visitedPoints.add(source);
+      heap.push(source, 0.0);
+      int settledPoints = 0;
+      while (!heap.isEmpty() && heap.peekDistance() <= maxCosts) {
+        double distance = heap.peekDistance();
+        int current = heap.pop();
+        if (distance > distances[current]) {
+          continue;
+        }
+        if (++settledPoints > WITNESS_SEARCH_SETTLED_LIMIT) {
+          break;
+        }
+        for (int i = 0; i < outgoingEdges[current].size(); i++) {
+          int edge = outgoingEdges[current].get(i);
+          int target = edgeTargets[edge];
+          if (target == ignoredPoint || contracted[target]) {
+            continue;
+          }
+          double newDistance = distance + edgeWeights[edge];
+          if (newDistance < distances[target]) {
+            if (distances[target] == Double.POSITIVE_INFINITY) {
+              visitedPoints.add(target);
+            }
+            distances[target] = newDistance;
+            heap.push(target, newDistance);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * The working memory for a query.
+   */
+  private static final class QueryState {
+
+    private final double[] forwardDistances;
+    private final double[] backwardDistances;
+    private final int[] forwardPredecessors;
+    private final int[] backwardPredecessors;
+    private final IntList visitedPoints = new IntList();
+    private final DistanceHeap forwardHeap = new DistanceHeap(64);
+    private final DistanceHeap backwardHeap = new DistanceHeap(64);
+
+    QueryState(int pointCount) {
+      forwardDistances = new double[pointCount];
+      backwardDistances = new double[pointCount];
+      forwardPredecessors = new int[pointCount];
+      backwardPredecessors = new int[pointCount];
+      Arrays.fill(forwardDistances, Double.POSITIVE_INFINITY);
+      Arrays.fill(backwardDistances, Double.POSITIVE_INFINITY);
+      Arrays.fill(forwardPredecessors, NO_EDGE);
+      Arrays.fill(backwardPredecessors, NO_EDGE);
+    }
+
+    /**
+     * Resets the state of the points visited by the previous query.
+     */
+    void reset() {
+      for (int i = 0; i < visitedPoints.size(); i++) {
+        int point = visitedPoints.get(i);
+        forwardDistances[point] = Double.POSITIVE_INFINITY;
+        backwardDistances[point] = Double.POSITIVE_INFINITY;
+        forwardPredecessors[point] = NO_EDGE;
+        backwardPredecessors[point] = NO_EDGE;
+      }
+      visitedPoints.clear();
+      forwardHeap.clear();
+      backwardHeap.clear();
+    }
+
+    void visitForward(int point, double distance, int predecessor) {
+      visitedPoints.add(point);
+      forwardDistances[point] = distance;
+      forwardPredecessors[point] = predecessor;
+      forwardHeap.push(point, distance);
+    }
+
+    void visitBackward(int point, double distance, int predecessor) {
+      visitedPoints.add(point);
+      backwardDistances[point] = distance;
+      backwardPredecessors[point] = predecessor;
+      backwardHeap.push(point, distance);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.inject.Inject;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates {@link ContractionHierarchyPointRouter} instances.
+ *
+ * @author agent (agent@local)
+ */
+public class ContractionHierarchyPointRouterFactory
+    implements PointRouterFactory {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG
+      = LoggerFactory.getLogger(ContractionHierarchyPointRouterFactory.class);
+  /**
+   * The object service providing the model data.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Maps the plant model to a graph.
+   */
+  private final ModelGraphMapper mapper;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service providing model data.
+   * @param mapper Maps the plant model to a graph.
+   */
+  @Inject
+  public ContractionHierarchyPointRouterFactory(@Nonnull TCSObjectService objectService,
+                                                @Nonnull ModelGraphMapper mapper) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.mapper = requireNonNull(mapper, "mapper");
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle) {
+    requireNonNull(vehicle, "vehicle");
+
+    return createPointRouter(vehicle,
+                             objectService.fetchObjects(Point.class),
+                             objectService.fetchObjects(Path.class));
+  }
+
+  @Override
+  public PointRouter createPointRouter(Vehicle vehicle, Set<Point> points, Set<Path> paths) {
+    requireNonNull(vehicle, "vehicle");
+    requireNonNull(points, "points");
+    requireNonNull(paths, "paths");
+
+    long timeStampBefore = System.currentTimeMillis();
+
+    Graph<String, ModelEdge> graph = mapper.translateModel(points, paths, vehicle);
+    PointRouter router = new ContractionHierarchyPointRouter(graph, points);
+
+    LOG.debug("Created point router for {} in {} milliseconds.",
+              vehicle.getName(),
+              System.currentTimeMillis() - timeStampBefore);
+
+    return router;
+  }
+}
@@ -0,0 +1,389 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+import static org.opentcs.util.Assertions.checkArgument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes between points using tables of costs and predecessors that are precomputed for
+ * all pairs of points.
+ * <p>
+ * The tables are computed on an {@link IndexedModelGraph} and stored as flat primitive arrays, with
+ * the entry for a pair of points located at <code>sourceId * pointCount + destinationId</code>.
+ * This makes cost lookups constant-time operations, at the expense of memory growing with the
+ * square of the number of points.
+ * (See {@link #requiredMemory(int)}.)
+ * </p>
+ * <p>
+ * <em>Note that the tables are computed using Dijkstra's algorithm, i.e. the graph must not
+ * contain edges with negative weights.</em>
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class CostTablePointRouter
+    implements PointRouter {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CostTablePointRouter.class);
+  /**
+   * Marks a missing predecessor edge.
+   */
+  private static final int NO_EDGE = IndexedModelGraph.NO_EDGE;
+  /**
+   * The number of bytes required per table entry (one <code>long</code> and one
+   * <code>int</code>).
+   */
+  private static final long BYTES_PER_ENTRY = Long.BYTES + Integer.BYTES;
+  /**
+   * The maximum number of entries per table, limited by the maximum size of an array.
+   */
+  private static final long MAX_ENTRY_COUNT = Integer.MAX_VALUE - 8;
+  /**
+   * The graph the tables are computed for.
+   */
+  private final Graph<String, ModelEdge> graph;
+  /**
+   * The points of the model.
+   */
+  private final Collection<Point> points;
+  /**
+   * The paths for which edges are reserved in the indexed graph.
+   */
+  private final List<Path> reservedPaths;
+  /**
+   * Updates the graph for changed paths, or <code>null</code>, if updates are not supported.
+   */
+  private final ModelGraphMapper mapper;
+  /**
+   * The vehicle for which the graph was built.
+   */
+  private final Vehicle vehicle;
+  /**
+   * The compact graph the tables are computed on.
+   * Every path has at most one edge ID per direction, which is kept when the path is updated.
+   */
+  private IndexedModelGraph indexedGraph;
+  /**
+   * The costs for travelling from one point to another, indexed by
+   * <code>sourceId * pointCount + destinationId</code>.
+   */
+  private final long[] costs;
+  /**
+   * The ID of the last edge on the shortest route from one point to another, indexed by
+   * <code>sourceId * pointCount + destinationId</code>.
+   */
+  private final int[] predecessorEdges;
+
+  /**
+   * Creates a new instance, computing the cost and predecessor tables for the given graph.
+   * The created instance does not support incremental updates.
+   *
+   * @param graph The graph to compute the tables for.
+   * @param points The points of the model.
+   * @throws IllegalArgumentException If the graph contains an edge with a negative weight.
+   */
+  public CostTablePointRouter(Graph<String, ModelEdge> graph, Collection<Point> points)
+      throws IllegalArgumentException {
+    this(graph, points, Collections.emptySet(), null, null);
+  }
+
+  /**
+   * Creates a new instance, computing the cost and predecessor tables for the given graph.
+   *
+   * @param graph The graph to compute the tables for.
+   * @param points The points of the model.
+   * @param paths The paths of the model. Edges are reserved for both directions of these, so that
+   * updates of them do not require rebuilding the indexed graph.
+   * @param mapper Updates the graph for changed paths. If <code>null</code>, incremental updates
+   * are not supported.
+   * @param vehicle The vehicle for which the graph was built.
+   * @throws IllegalArgumentException If the graph contains an edge with a negative weight, or if
+   * there are too many points for the tables (see {@link #isApplicable(int)}).
+   */
+  public CostTablePointRouter(Graph<String, ModelEdge> graph,
+                              Collection<Point> points,
+                              Collection<Path> paths,
+                              @Nullable ModelGraphMapper mapper,
+                              @Nullable Vehicle vehicle)
+      throws IllegalArgumentException {
+    this.graph = requireNonNull(graph, "graph");
+    this.points = requireNonNull(points, "points");
+    this.reservedPaths = new ArrayList<>(requireNonNull(paths, "paths"));
+    this.mapper = mapper;
+    this.vehicle = vehicle;
+
+    this.indexedGraph = new IndexedModelGraph(graph, points, reservedPaths);
+    indexedGraph.checkNonNegativeWeights();
+
+    int pointCount = indexedGraph.getPointCount();
+    checkArgument(isApplicable(pointCount), "Too many points for a cost table: %s", pointCount);
+    this.costs = new long[pointCount * pointCount];
+    this.predecessorEdges = new int[pointCount * pointCount];
+
+    SearchState state = new SearchState(pointCount, indexedGraph.getEdgeCount());
+    for (int source = 0; source < pointCount; source++) {
+      computeRow(source, state);
+    }
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    int source = indexedGraph.getPointId(srcPoint.getName());
+    int dest = indexedGraph.getPointId(destPoint.getName());
+    if (costs[tableIndex(source, dest)] == INFINITE_COSTS) {
+      return null;
+    }
+
+    List<Integer> routeEdges = new ArrayList<>();
+    for (int current = dest; current != source;) {
+      int edge = predecessorEdges[tableIndex(source, current)];
+      routeEdges.add(edge);
+      current = indexedGraph.getEdgeSource(edge);
+    }
+    Collections.reverse(routeEdges);
+
+    return indexedGraph.createRouteSteps(routeEdges);
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    return costs[tableIndex(indexedGraph.getPointId(srcPointRef.getName()),
+                            indexedGraph.getPointId(destPointRef.getName()))];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Only the table rows of source points whose shortest routes may be affected by the change are
+   * recomputed.
+   * </p>
+   */
+  @Override
+  public boolean updatePath(Path path) {
+    requireNonNull(path, "path");
+
+    if (mapper == null) {
+      return false;
+    }
+
+    mapper.updatePath(graph, path, vehicle);
+
+    IndexedModelGraph previousGraph = indexedGraph;
+    IndexedModelGraph updatedGraph = previousGraph.withUpdatedPath(graph, path);
+    if (updatedGraph == null) {
+      // The path is now travelled in a direction no edge was reserved for.
+      reservedPaths.add(path);
+      indexedGraph = new IndexedModelGraph(graph, points, reservedPaths);
+      indexedGraph.checkNonNegativeWeights();
+      SearchState state = new SearchState(indexedGraph.getPointCount(),
+                                          indexedGraph.getEdgeCount());
+      for (int source = 0; source < indexedGraph.getPointCount(); source++) {
+        computeRow(source, state);
+      }
+      LOG.debug("Rebuilt cost table for new edges of path {}.", path.getName());
+      return true;
+    }
+    updatedGraph.checkNonNegativeWeights();
+    indexedGraph = updatedGraph;
+
+    // Edges that became more expensive (including removed ones) and edges that became cheaper
+    // (including added ones).
+    List<Integer> removedEdges = new ArrayList<>();
+    List<Integer> addedEdges = new ArrayList<>();
+    for (boolean reverse : new boolean[] {false, true}) {
+      int edge = updatedGraph.getEdgeId(path.getName(), reverse);
+      if (edge == NO_EDGE) {
+        continue;
+      }
+      if (updatedGraph.getEdgeWeight(edge) > previousGraph.getEdgeWeight(edge)) {
+        removedEdges.add(edge);
+      }
+      else if (updatedGraph.getEdgeWeight(edge) < previousGraph.getEdgeWeight(edge)) {
+        addedEdges.add(edge);
+      }
+    }
+
+    SearchState state = new SearchState(indexedGraph.getPointCount(),
+                                        indexedGraph.getEdgeCount());
+    int recomputedRows = 0;
+    for (int source = 0; source < indexedGraph.getPointCount(); source++) {
+      if (isRowAffected(source, removedEdges, addedEdges)) {
+        computeRow(source, state);
+        recomputedRows++;
+      }
+    }
+    LOG.debug("Updated cost table for path {}, recomputed {} of {} rows.",
+              path.getName(),
+              recomputedRows,
+              indexedGraph.getPointCount());
+
+    return true;
+  }
+
+  /**
+   * Returns the number of edge IDs in use, including the ones of removed edges.
+   *
+   * @return The number of edge IDs in use.
+   */
+  int getEdgeIdCount() {
+    return indexedGraph.getEdgeCount();
+  }
+
+  /**
+   * Returns the amount of memory (in bytes) the tables for the given number of points require.
+   *
+   * @param pointCount The number of points.
+   * @return The amount of memory (in bytes) the tables for the given number of points require.
+   */
+  public static long requiredMemory(int pointCount) {
+    return (long) pointCount * pointCount * BYTES_PER_ENTRY;
+  }
+
+  /**
+   * Checks whether the tables for the given number of points can be created at all, i.e. whether
+   * the number of entries per table does not exceed the maximum size of an array.
+   *
+   * @param pointCount The number of points.
+   * @return <code>true</code> if, and only if, the tables for the given number of points can be
+   * created.
+   */
+  public static boolean isApplicable(int pointCount) {
+    return (long) pointCount * pointCount <= MAX_ENTRY_COUNT;
+  }
+
+  /**
+   * Checks whether the shortest routes from the given source point may be affected by the removal
+   * or addition of the given edges.
+   *
+   * @param source The ID of the source point.
+   * @param removedEdges The IDs of the removed edges, or of edges that became more expensive.
+   * @param addedEdges The IDs of the added edges, or of edges that became cheaper.
+   * @return <code>true</code> if, and only if, the table row for the source point needs to be
+   * recomputed.
+   */
+  private boolean isRowAffected(int source, List<Integer> removedEdges, List<Integer> addedEdges) {
+    // A removed edge matters only if it is part of the source point's shortest path tree.
+    for (int edge : removedEdges) {
+      if (predecessorEdges[tableIndex(source, indexedGraph.getEdgeTarget(edge))] == edge) {
+        return true;
+      }
+    }
+    // An added edge matters only if it provides a shortcut to its target point.
+    for (int edge : addedEdges) {
+      long costsToEdgeSource = costs[tableIndex(source, indexedGraph.getEdgeSource(edge))];
+      if (costsToEdgeSource == INFINITE_COSTS) {
+        continue;
+      }
+      // Costs in the table are truncated, so compare conservatively.
+      long costsToEdgeTarget = costs[tableIndex(source, indexedGraph.getEdgeTarget(edge))];
+      if (costsToEdgeSource + indexedGraph.getEdgeWeight(edge) < costsToEdgeTarget + 1.0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Fills the table rows for the given source point using Dijkstra's algorithm.
+   */
+  private void computeRow(int source, SearchState state) {
+    state.reset();
+    state.distances[source] = 0.0;
+    state.heap.push(source, 0.0);
+
+    while (!state.heap.isEmpty()) {
+      double distance = state.heap.peekDistance();
+      int current = state.heap.pop();
+      if (distance > state.distances[current]) {
+        // A stale heap entry - the point has already been settled with lower costs.
+        continue;
+      }
+      for (int edge = indexedGraph.getFirstOutEdge(current);
+           edge < indexedGraph.getLastOutEdge(current);
+           edge++) {
+        int target = indexedGraph.getEdgeTarget(edge);
+        double newDistance = distance + indexedGraph.getEdgeWeight(edge);
+        if (newDistance < state.distances[target]) {
+          state.distances[target] = newDistance;
+          state.predecessors[target] = edge;
+          state.heap.push(target, newDistance);
+        }
+      }
+    }
+
+    int rowStart = tableIndex(source, 0);
+    for (int dest = 0; dest < indexedGraph.getPointCount(); dest++) {
+      costs[rowStart + dest] = state.distances[dest] == Double.POSITIVE_INFINITY
+          ? INFINITE_COSTS
+          : (long) state.distances[dest];
+      predecessorEdges[rowStart + dest] = state.predecessors[dest];
+    }
+  }
+
+  private int tableIndex(int source, int dest) {
+    return source * indexedGraph.getPointCount() + dest;
+  }
+
+  /**
+   * Reusable working memory for single-source searches.
+   */
+  private static final class SearchState {
+
+    private final double[] distances;
+    private final int[] predecessors;
+    private final DistanceHeap heap;
+
+    SearchState(int pointCount, int edgeCount) {
+      distances = new double[pointCount];
+      predecessors = new int[pointCount];
+      // Every edge relaxation may add one entry, plus the entry for the source point.
+      heap = new DistanceHeap(edgeCount + 1);
+    }
+
+    void reset() {
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(predecessors, NO_EDGE);
+      heap.clear();
+    }
+  }
+}
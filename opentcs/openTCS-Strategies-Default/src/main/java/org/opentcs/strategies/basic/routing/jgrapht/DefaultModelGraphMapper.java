@@ -8,7 +8,10 @@
 package org.opentcs.strategies.basic.routing.jgrapht;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
 import org.jgrapht.Graph;
@@ -67,49 +70,82 @@ public class DefaultModelGraphMapper
       graph.addVertex(point.getName());
     }
 
-    boolean allowNegativeEdgeWeights = configuration.algorithm().isHandlingNegativeCosts();
-
     for (Path path : paths) {
+      addEdges(graph, path, vehicle);
+    }
 
-      if (shouldAddForwardEdge(path, vehicle)) {
-        ModelEdge edge = new ModelEdge(path, false);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-                   edge,
-                   weight,
-                   configuration.algorithm().name());
-        }
-        else {
-          graph.addEdge(path.getSourcePoint().getName(),
-                        path.getDestinationPoint().getName(),
-                        edge);
-          graph.setEdgeWeight(edge, weight);
-        }
-      }
+    return graph;
+  }
+
+  @Override
+  public void updatePath(Graph<String, ModelEdge> graph, Path path, Vehicle vehicle) {
+    requireNonNull(graph, "graph");
+    requireNonNull(path, "path");
+    requireNonNull(vehicle, "vehicle");
 
-      if (shouldAddReverseEdge(path, vehicle)) {
-        ModelEdge edge = new ModelEdge(path, true);
-        double weight = edgeEvaluator.computeWeight(edge, vehicle);
-
-        if (weight < 0 && !allowNegativeEdgeWeights) {
-          LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
-                   edge,
-                   weight,
-                   configuration.algorithm().name());
-        }
-        else {
-          graph.addEdge(path.getDestinationPoint().getName(),
-                        path.getSourcePoint().getName(),
-                        edge);
-          graph.setEdgeWeight(edge, weight);
-        }
+    String sourceName = path.getSourcePoint().getName();
+    String destName = path.getDestinationPoint().getName();
+    Set<ModelEdge> obsoleteEdges = new HashSet<>();
+    for (ModelEdge edge : graph.getAllEdges(sourceName, destName)) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        obsoleteEdges.add(edge);
+      }
+    }
+    for (ModelEdge edge : graph.getAllEdges(destName, sourceName)) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        obsoleteEdges.add(edge);
       }
+    }
+    graph.removeAllEdges(obsoleteEdges);
+
+    addEdges(graph, path, vehicle);
+  }
 
+  /**
+   * Adds the edges representing the given path to the given graph.
+   *
+   * @param graph The graph.
+   * @param path The path.
+   * @param vehicle The vehicle for which the graph is built.
+   */
+  private void addEdges(Graph<String, ModelEdge> graph, Path path, Vehicle vehicle) {
+    boolean allowNegativeEdgeWeights = configuration.algorithm().isHandlingNegativeCosts();
+
+    if (shouldAddForwardEdge(path, vehicle)) {
+      ModelEdge edge = new ModelEdge(path, false);
+      double weight = edgeEvaluator.computeWeight(edge, vehicle);
+
+      if (weight < 0 && !allowNegativeEdgeWeights) {
+        LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
+                 edge,
+                 weight,
+                 configuration.algorithm().name());
+      }
+      else {
+        graph.addEdge(path.getSourcePoint().getName(),
+                      path.getDestinationPoint().getName(),
+                      edge);
+        graph.setEdgeWeight(edge, weight);
+      }
     }
 
-    return graph;
+    if (shouldAddReverseEdge(path, vehicle)) {
+      ModelEdge edge = new ModelEdge(path, true);
+      double weight = edgeEvaluator.computeWeight(edge, vehicle);
+
+      if (weight < 0 && !allowNegativeEdgeWeights) {
+        LOG.warn("Edge {} with weight {} ignored. Algorithm {} cannot handle negative weights.",
+                 edge,
+                 weight,
+                 configuration.algorithm().name());
+      }
+      else {
+        graph.addEdge(path.getDestinationPoint().getName(),
+                      path.getSourcePoint().getName(),
+                      edge);
+        graph.setEdgeWeight(edge, weight);
+      }
+    }
   }
 
   /**
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of point IDs keyed by distance, backed by primitive arrays.
+ * <p>
+ * The heap does not support decreasing keys. Instead, a point is pushed again with its lower
+ * distance, and callers are expected to skip stale entries when popping them.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+final class DistanceHeap {
+
+  /**
+   * The point IDs in heap order.
+   */
+  private int[] heapPoints;
+  /**
+   * The distances in heap order.
+   */
+  private double[] heapDistances;
+  /**
+   * The number of entries in the heap.
+   */
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param initialCapacity The number of entries the heap can hold before it needs to grow.
+   */
+  DistanceHeap(int initialCapacity) {
+    heapPoints = new int[Math.max(1, initialCapacity)];
+    heapDistances = new double[Math.max(1, initialCapacity)];
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  double peekDistance() {
+    return heapDistances[0];
+  }
+
+  void push(int point, double distance) {
+    if (size == heapPoints.length) {
+      heapPoints = Arrays.copyOf(heapPoints, size * 2);
+      heapDistances = Arrays.copyOf(heapDistances, size * 2);
+    }
+    int pos = size++;
+    while (pos > 0) {
+      int parent = (pos - 1) / 2;
+      if (heapDistances[parent] <= distance) {
+        break;
+      }
+      heapPoints[pos] = heapPoints[parent];
+      heapDistances[pos] = heapDistances[parent];
+      pos = parent;
+    }
+    heapPoints[pos] = point;
+    heapDistances[pos] = distance;
+  }
+
+  int pop() {
+    int result = heapPoints[0];
+    size--;
+    int lastPoint = heapPoints[size];
+    double lastDistance = heapDistances[size];
+    int pos = 0;
+    while (true) {
+      int child = 2 * pos + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heapDistances[child + 1] < heapDistances[child]) {
+        child++;
+      }
+      if (lastDistance <= heapDistances[child]) {
+        break;
+      }
+      heapPoints[pos] = heapPoints[child];
+      heapDistances[pos] = heapDistances[child];
+      pos = child;
+    }
+    heapPoints[pos] = lastPoint;
+    heapDistances[pos] = lastDistance;
+    return result;
+  }
+}
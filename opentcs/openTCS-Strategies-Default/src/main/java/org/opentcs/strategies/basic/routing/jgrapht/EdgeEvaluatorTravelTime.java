@@ -23,14 +23,32 @@ public class EdgeEvaluatorTravelTime
 
   @Override
   public double computeWeight(ModelEdge edge, Vehicle vehicle) {
-    int maxVelocity;
+    int maxVelocity = maxVelocity(edge, vehicle);
+    return (maxVelocity == 0) ? INFINITE_COSTS : edge.getModelPath().getLength() / maxVelocity;
+  }
+
+  /**
+   * Returns the estimated time (in ms) it takes the given vehicle to travel along the given edge.
+   *
+   * @param edge The edge.
+   * @param vehicle The vehicle.
+   * @return The estimated time (in ms), or <code>INFINITE_COSTS</code>, if the vehicle cannot
+   * travel along the edge.
+   */
+  public long estimateTravelTime(ModelEdge edge, Vehicle vehicle) {
+    int maxVelocity = maxVelocity(edge, vehicle);
+    return (maxVelocity == 0)
+        ? INFINITE_COSTS
+        : edge.getModelPath().getLength() * 1000 / maxVelocity;
+  }
+
+  private int maxVelocity(ModelEdge edge, Vehicle vehicle) {
     if (edge.isTravellingReverse()) {
-      maxVelocity = Math.min(vehicle.getMaxReverseVelocity(),
-                             edge.getModelPath().getMaxReverseVelocity());
+      return Math.min(vehicle.getMaxReverseVelocity(),
+                      edge.getModelPath().getMaxReverseVelocity());
     }
     else {
-      maxVelocity = Math.min(vehicle.getMaxVelocity(), edge.getModelPath().getMaxVelocity());
+      return Math.min(vehicle.getMaxVelocity(), edge.getModelPath().getMaxVelocity());
     }
-    return (maxVelocity == 0) ? INFINITE_COSTS : edge.getModelPath().getLength() / maxVelocity;
   }
 }
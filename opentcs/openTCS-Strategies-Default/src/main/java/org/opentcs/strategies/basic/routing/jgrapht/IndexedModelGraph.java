@@ -0,0 +1,497 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * An immutable, compact representation of a routing graph, with points and edges identified by
+ * dense integer IDs.
+ * <p>
+ * The edges are stored in compressed sparse row layout: The outgoing edges of a point have
+ * consecutive IDs, starting at {@link #getFirstOutEdge(int)} (inclusive) and ending at
+ * {@link #getLastOutEdge(int)} (exclusive).
+ * For searches in reverse direction, the incoming edges of a point are available via
+ * {@link #getInEdge(int)} at the indices from {@link #getFirstInEdgeIndex(int)} (inclusive) to
+ * {@link #getLastInEdgeIndex(int)} (exclusive).
+ * Edge weights are taken from the graph the instance is created from, i.e. they are the ones
+ * computed by the configured {@link EdgeEvaluator}s.
+ * </p>
+ * <p>
+ * Edges may be reserved for paths that the graph does not contain edges for (in some direction),
+ * e.g. because they are currently locked. Reserved edges have infinite weights until the path is
+ * updated via {@link #withUpdatedPath(org.jgrapht.Graph, org.opentcs.data.model.Path)}, which
+ * keeps all point and edge IDs.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class IndexedModelGraph {
+
+  /**
+   * Marks a missing edge.
+   */
+  public static final int NO_EDGE = -1;
+  /**
+   * Maps point names to their IDs.
+   */
+  private final Map<String, Integer> pointIdsByName;
+  /**
+   * The points, indexed by their IDs.
+   */
+  private final Point[] points;
+  /**
+   * For every point ID, the ID of its first outgoing edge, plus the total number of edges as the
+   * last element.
+   */
+  private final int[] firstOutEdge;
+  /**
+   * The IDs of the source points of the edges, indexed by edge IDs.
+   */
+  private final int[] edgeSources;
+  /**
+   * The IDs of the target points of the edges, indexed by edge IDs.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weights of the edges, indexed by edge IDs.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The model edges, indexed by edge IDs.
+   */
+  private final ModelEdge[] modelEdges;
+  /**
+   * For every point ID, the index of its first incoming edge in {@link #inEdges}, plus the total
+   * number of edges as the last element.
+   */
+  private final int[] firstInEdgeIndex;
+  /**
+   * The IDs of all edges, grouped by their target points.
+   */
+  private final int[] inEdges;
+  /**
+   * Maps path names to the IDs of the paths' forward and reverse edges.
+   */
+  private final Map<String, int[]> edgeIdsByPathName;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to create the compact representation of.
+   * @param points The points of the model.
+   * @throws IllegalArgumentException If the graph contains a vertex that is not one of the given
+   * points.
+   */
+  public IndexedModelGraph(Graph<String, ModelEdge> graph, Collection<Point> points)
+      throws IllegalArgumentException {
+    this(graph, points, Collections.emptySet());
+  }
+
+  /**
+   * Creates a new instance, reserving edges for both directions of the given paths.
+   *
+   * @param graph The graph to create the compact representation of.
+   * @param points The points of the model.
+   * @param reservedPaths The paths for which edges in both directions are reserved, even if the
+   * graph does not contain them.
+   * @throws IllegalArgumentException If the graph contains a vertex or a path refers to a point
+   * that is not one of the given points.
+   */
+  public IndexedModelGraph(Graph<String, ModelEdge> graph,
+                           Collection<Point> points,
+                           Collection<Path> reservedPaths)
+      throws IllegalArgumentException {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+    requireNonNull(reservedPaths, "reservedPaths");
+
+    this.points = points.toArray(new Point[points.size()]);
+    this.pointIdsByName = new HashMap<>();
+    for (int i = 0; i < this.points.length; i++) {
+      pointIdsByName.put(this.points[i].getName(), i);
+    }
+
+    // Collect the graph's edges first, then the reserved ones missing in the graph.
+    List<ModelEdge> allEdges = new ArrayList<>(graph.edgeSet());
+    Set<ModelEdge> graphEdges = graph.edgeSet();
+    Map<String, boolean[]> presentDirections = new HashMap<>();
+    for (ModelEdge edge : allEdges) {
+      presentDirections.computeIfAbsent(edge.getModelPath().getName(), name -> new boolean[2])
+          [directionIndex(edge.isTravellingReverse())] = true;
+    }
+    for (Path path : reservedPaths) {
+      boolean[] present = presentDirections.computeIfAbsent(path.getName(),
+                                                            name -> new boolean[2]);
+      for (boolean reverse : new boolean[] {false, true}) {
+        if (!present[directionIndex(reverse)]) {
+          present[directionIndex(reverse)] = true;
+          allEdges.add(new ModelEdge(path, reverse));
+        }
+      }
+    }
+
+    int edgeCount = allEdges.size();
+    int[] sources = new int[edgeCount];
+    int[] targets = new int[edgeCount];
+    int[] outDegrees = new int[this.points.length];
+    for (int i = 0; i < edgeCount; i++) {
+      ModelEdge edge = allEdges.get(i);
+      if (graphEdges.contains(edge)) {
+        sources[i] = getPointId(graph.getEdgeSource(edge));
+        targets[i] = getPointId(graph.getEdgeTarget(edge));
+      }
+      else {
+        Path path = edge.getModelPath();
+        sources[i] = getPointId(edge.isTravellingReverse()
+            ? path.getDestinationPoint().getName()
+            : path.getSourcePoint().getName());
+        targets[i] = getPointId(edge.isTravellingReverse()
+            ? path.getSourcePoint().getName()
+            : path.getDestinationPoint().getName());
+      }
+      outDegrees[sources[i]]++;
+    }
+    this.firstOutEdge = new int[this.points.length + 1];
+    for (int i = 0; i < this.points.length; i++) {
+      firstOutEdge[i + 1] = firstOutEdge[i] + outDegrees[i];
+    }
+
+    this.edgeSources = new int[edgeCount];
+    this.edgeTargets = new int[edgeCount];
+    this.edgeWeights = new double[edgeCount];
+    this.modelEdges = new ModelEdge[edgeCount];
+    this.edgeIdsByPathName = new HashMap<>();
+    int[] fillPositions = new int[this.points.length];
+    System.arraycopy(firstOutEdge, 0, fillPositions, 0, this.points.length);
+    for (int i = 0; i < edgeCount; i++) {
+      ModelEdge edge = allEdges.get(i);
+      int edgeId = fillPositions[sources[i]]++;
+      edgeSources[edgeId] = sources[i];
+      edgeTargets[edgeId] = targets[i];
+      edgeWeights[edgeId] = graphEdges.contains(edge)
+          ? graph.getEdgeWeight(edge)
+          : Double.POSITIVE_INFINITY;
+      modelEdges[edgeId] = edge;
+      edgeIdsByPathName.computeIfAbsent(edge.getModelPath().getName(),
+                                        name -> new int[] {NO_EDGE, NO_EDGE})
+          [directionIndex(edge.isTravellingReverse())] = edgeId;
+    }
+
+    int[] inDegrees = new int[this.points.length];
+    for (int i = 0; i < edgeCount; i++) {
+      inDegrees[edgeTargets[i]]++;
+    }
+    this.firstInEdgeIndex = new int[this.points.length + 1];
+    for (int i = 0; i < this.points.length; i++) {
+      firstInEdgeIndex[i + 1] = firstInEdgeIndex[i] + inDegrees[i];
+    }
+    this.inEdges = new int[edgeCount];
+    System.arraycopy(firstInEdgeIndex, 0, fillPositions, 0, this.points.length);
+    for (int i = 0; i < edgeCount; i++) {
+      inEdges[fillPositions[edgeTargets[i]]++] = i;
+    }
+  }
+
+  /**
+   * Creates a copy of the given instance with the given edge weights and model edges.
+   *
+   * @param original The instance to copy the points and edge structure from.
+   * @param edgeWeights The weights of the edges, indexed by edge IDs.
+   * @param modelEdges The model edges, indexed by edge IDs.
+   */
+  private IndexedModelGraph(IndexedModelGraph original,
+                            double[] edgeWeights,
+                            ModelEdge[] modelEdges) {
+    this.pointIdsByName = original.pointIdsByName;
+    this.points = original.points;
+    this.firstOutEdge = original.firstOutEdge;
+    this.edgeSources = original.edgeSources;
+    this.edgeTargets = original.edgeTargets;
+    this.edgeWeights = edgeWeights;
+    this.modelEdges = modelEdges;
+    this.firstInEdgeIndex = original.firstInEdgeIndex;
+    this.inEdges = original.inEdges;
+    this.edgeIdsByPathName = original.edgeIdsByPathName;
+  }
+
+  /**
+   * Returns a copy of this instance with the edges of the given path updated to the ones in the
+   * given graph.
+   * All point and edge IDs remain the same; the path's edges missing in the graph get infinite
+   * weights.
+   *
+   * @param graph The graph containing the path's current edges.
+   * @param path The path.
+   * @return The updated copy, or <code>null</code>, if the graph contains an edge of the path
+   * for which this instance does not have an edge ID.
+   */
+  @Nullable
+  public IndexedModelGraph withUpdatedPath(Graph<String, ModelEdge> graph, Path path) {
+    requireNonNull(graph, "graph");
+    requireNonNull(path, "path");
+
+    int[] edgeIds = edgeIdsByPathName.getOrDefault(path.getName(),
+                                                   new int[] {NO_EDGE, NO_EDGE});
+    ModelEdge[] pathEdges = new ModelEdge[2];
+    for (ModelEdge edge : edgesBetween(graph,
+                                       path.getSourcePoint().getName(),
+                                       path.getDestinationPoint().getName())) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        pathEdges[directionIndex(edge.isTravellingReverse())] = edge;
+      }
+    }
+    for (ModelEdge edge : edgesBetween(graph,
+                                       path.getDestinationPoint().getName(),
+                                       path.getSourcePoint().getName())) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        pathEdges[directionIndex(edge.isTravellingReverse())] = edge;
+      }
+    }
+
+    double[] newEdgeWeights = edgeWeights.clone();
+    ModelEdge[] newModelEdges = modelEdges.clone();
+    for (int direction = 0; direction < 2; direction++) {
+      if (edgeIds[direction] == NO_EDGE) {
+        if (pathEdges[direction] != null) {
+          return null;
+        }
+        continue;
+      }
+      if (pathEdges[direction] == null) {
+        newEdgeWeights[edgeIds[direction]] = Double.POSITIVE_INFINITY;
+      }
+      else {
+        newEdgeWeights[edgeIds[direction]] = graph.getEdgeWeight(pathEdges[direction]);
+        newModelEdges[edgeIds[direction]] = pathEdges[direction];
+      }
+    }
+    return new IndexedModelGraph(this, newEdgeWeights, newModelEdges);
+  }
+
+  /**
+   * Checks that no edge has a negative weight.
+   *
+   * @throws IllegalArgumentException If an edge has a negative weight.
+   */
+  public void checkNonNegativeWeights()
+      throws IllegalArgumentException {
+    for (int i = 0; i < edgeWeights.length; i++) {
+      if (edgeWeights[i] < 0) {
+        throw new IllegalArgumentException("Negative weight for edge " + modelEdges[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of points.
+   *
+   * @return The number of points.
+   */
+  public int getPointCount() {
+    return points.length;
+  }
+
+  /**
+   * Returns the number of edges.
+   *
+   * @return The number of edges.
+   */
+  public int getEdgeCount() {
+    return edgeTargets.length;
+  }
+
+  /**
+   * Returns the ID of the point with the given name.
+   *
+   * @param pointName The name of the point.
+   * @return The ID of the point with the given name.
+   * @throws IllegalArgumentException If there is no point with the given name.
+   */
+  public int getPointId(String pointName)
+      throws IllegalArgumentException {
+    Integer id = pointIdsByName.get(pointName);
+    if (id == null) {
+      throw new IllegalArgumentException("Unknown point: " + pointName);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the point with the given ID.
+   *
+   * @param pointId The ID of the point.
+   * @return The point with the given ID.
+   */
+  public Point getPoint(int pointId) {
+    return points[pointId];
+  }
+
+  /**
+   * Returns the ID of the given point's first outgoing edge.
+   *
+   * @param pointId The ID of the point.
+   * @return The ID of the given point's first outgoing edge.
+   */
+  public int getFirstOutEdge(int pointId) {
+    return firstOutEdge[pointId];
+  }
+
+  /**
+   * Returns the ID following the given point's last outgoing edge.
+   *
+   * @param pointId The ID of the point.
+   * @return The ID following the given point's last outgoing edge.
+   */
+  public int getLastOutEdge(int pointId) {
+    return firstOutEdge[pointId + 1];
+  }
+
+  /**
+   * Returns the index of the given point's first incoming edge.
+   *
+   * @param pointId The ID of the point.
+   * @return The index of the given point's first incoming edge.
+   * @see #getInEdge(int)
+   */
+  public int getFirstInEdgeIndex(int pointId) {
+    return firstInEdgeIndex[pointId];
+  }
+
+  /**
+   * Returns the index following the given point's last incoming edge.
+   *
+   * @param pointId The ID of the point.
+   * @return The index following the given point's last incoming edge.
+   * @see #getInEdge(int)
+   */
+  public int getLastInEdgeIndex(int pointId) {
+    return firstInEdgeIndex[pointId + 1];
+  }
+
+  /**
+   * Returns the ID of the incoming edge at the given index.
+   *
+   * @param index The index.
+   * @return The ID of the incoming edge at the given index.
+   */
+  public int getInEdge(int index) {
+    return inEdges[index];
+  }
+
+  /**
+   * Returns the ID of the given edge's source point.
+   *
+   * @param edgeId The ID of the edge.
+   * @return The ID of the given edge's source point.
+   */
+  public int getEdgeSource(int edgeId) {
+    return edgeSources[edgeId];
+  }
+
+  /**
+   * Returns the ID of the given edge's target point.
+   *
+   * @param edgeId The ID of the edge.
+   * @return The ID of the given edge's target point.
+   */
+  public int getEdgeTarget(int edgeId) {
+    return edgeTargets[edgeId];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edgeId The ID of the edge.
+   * @return The weight of the given edge.
+   */
+  public double getEdgeWeight(int edgeId) {
+    return edgeWeights[edgeId];
+  }
+
+  /**
+   * Returns the model edge with the given ID.
+   *
+   * @param edgeId The ID of the edge.
+   * @return The model edge with the given ID.
+   */
+  public ModelEdge getModelEdge(int edgeId) {
+    return modelEdges[edgeId];
+  }
+
+  /**
+   * Returns the ID of the given path's edge in the given direction.
+   *
+   * @param pathName The name of the path.
+   * @param travellingReverse Whether the edge leads from the path's destination to its source.
+   * @return The ID of the edge, or {@link #NO_EDGE}, if there is no such edge.
+   */
+  public int getEdgeId(String pathName, boolean travellingReverse) {
+    int[] edgeIds = edgeIdsByPathName.get(pathName);
+    return edgeIds == null ? NO_EDGE : edgeIds[directionIndex(travellingReverse)];
+  }
+
+  /**
+   * Returns the route step for travelling along the given edge.
+   *
+   * @param edgeId The ID of the edge.
+   * @param routeIndex The index of the step in the route.
+   * @return The route step for travelling along the given edge.
+   */
+  public Route.Step createRouteStep(int edgeId, int routeIndex) {
+    ModelEdge modelEdge = modelEdges[edgeId];
+    return new Route.Step(modelEdge.getModelPath(),
+                          points[edgeSources[edgeId]],
+                          points[edgeTargets[edgeId]],
+                          modelEdge.isTravellingReverse()
+                          ? Vehicle.Orientation.BACKWARD
+                          : Vehicle.Orientation.FORWARD,
+                          routeIndex);
+  }
+
+  /**
+   * Returns the route steps for travelling along the given edges.
+   *
+   * @param edgeIds The IDs of the edges, in the order they are travelled.
+   * @return The route steps for travelling along the given edges.
+   */
+  public List<Route.Step> createRouteSteps(List<Integer> edgeIds) {
+    List<Route.Step> result = new ArrayList<>(edgeIds.size());
+    for (int edgeId : edgeIds) {
+      result.add(createRouteStep(edgeId, result.size()));
+    }
+    return result;
+  }
+
+  private static int directionIndex(boolean travellingReverse) {
+    return travellingReverse ? 1 : 0;
+  }
+
+  private static Set<ModelEdge> edgesBetween(Graph<String, ModelEdge> graph,
+                                             String sourceName,
+                                             String targetName) {
+    if (!graph.containsVertex(sourceName) || !graph.containsVertex(targetName)) {
+      return Collections.emptySet();
+    }
+    return graph.getAllEdges(sourceName, targetName);
+  }
+}
@@ -0,0 +1,378 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.jgrapht.Graph;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Computes routes between points using Dijkstra's algorithm or A* on an
+ * {@link IndexedModelGraph}.
+ * <p>
+ * Searches work on primitive arrays only, and the working memory is reused by subsequent searches
+ * of the same thread, so looking up costs does not allocate any objects.
+ * If the search is goal-directed, it is guided by the same estimate as
+ * {@link PointPositionHeuristic}.
+ * </p>
+ * <p>
+ * <em>Note that the graph must not contain edges with negative weights.</em>
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class IndexedShortestPathPointRouter
+    implements PointRouter {
+
+  /**
+   * Marks a missing predecessor edge.
+   */
+  private static final int NO_EDGE = IndexedModelGraph.NO_EDGE;
+  /**
+   * The graph the routes are computed on, or <code>null</code>, if updates are not supported.
+   */
+  private final Graph<String, ModelEdge> graph;
+  /**
+   * The points of the model.
+   */
+  private final Collection<Point> points;
+  /**
+   * Updates the graph for changed paths, or <code>null</code>, if updates are not supported.
+   */
+  private final ModelGraphMapper mapper;
+  /**
+   * The vehicle for which the graph was built.
+   */
+  private final Vehicle vehicle;
+  /**
+   * Whether searches are guided by the points' positions.
+   */
+  private final boolean goalDirected;
+  /**
+   * The compact graph searches work on.
+   */
+  private volatile SearchGraph searchGraph;
+  /**
+   * The working memory for searches, one per thread as routes may be requested concurrently.
+   */
+  private final ThreadLocal<SearchState> searchStates;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to compute routes on.
+   * @param points The points of the model.
+   * @param goalDirected Whether searches are guided by the points' positions (A*) or not
+   * (Dijkstra's algorithm).
+   * @param mapper Updates the graph for changed paths, or <code>null</code>, if updates are not
+   * supported.
+   * @param vehicle The vehicle for which the graph was built, or <code>null</code>, if updates are
+   * not supported.
+   * @throws IllegalArgumentException If the graph contains an edge with a negative weight.
+   */
+  public IndexedShortestPathPointRouter(Graph<String, ModelEdge> graph,
+                                        Collection<Point> points,
+                                        boolean goalDirected,
+                                        @Nullable ModelGraphMapper mapper,
+                                        @Nullable Vehicle vehicle)
+      throws IllegalArgumentException {
+    this.graph = requireNonNull(graph, "graph");
+    this.points = requireNonNull(points, "points");
+    this.goalDirected = goalDirected;
+    this.mapper = mapper;
+    this.vehicle = vehicle;
+
+    this.searchGraph = new SearchGraph(graph, points, goalDirected);
+    this.searchStates = ThreadLocal.withInitial(() -> new SearchState(points.size()));
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+
+    if (Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      return new ArrayList<>();
+    }
+
+    SearchGraph currentGraph = searchGraph;
+    SearchState state = searchStates.get();
+    int source = currentGraph.indexedGraph.getPointId(srcPoint.getName());
+    int dest = currentGraph.indexedGraph.getPointId(destPoint.getName());
+    if (!search(currentGraph, source, dest, state)) {
+      return null;
+    }
+
+    int stepCount = 0;
+    for (int current = dest; current != source; stepCount++) {
+      current = currentGraph.indexedGraph.getEdgeSource(state.predecessors[current]);
+    }
+    Route.Step[] steps = new Route.Step[stepCount];
+    int current = dest;
+    for (int routeIndex = stepCount - 1; routeIndex >= 0; routeIndex--) {
+      int edge = state.predecessors[current];
+      steps[routeIndex] = currentGraph.indexedGraph.createRouteStep(edge, routeIndex);
+      current = currentGraph.indexedGraph.getEdgeSource(edge);
+    }
+    return new ArrayList<>(Arrays.asList(steps));
+  }
+
+  @Override
+  public long getCosts(TCSObjectReference<Point> srcPointRef,
+                       TCSObjectReference<Point> destPointRef) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    SearchGraph currentGraph = searchGraph;
+    SearchState state = searchStates.get();
+    int dest = currentGraph.indexedGraph.getPointId(destPointRef.getName());
+    if (!search(currentGraph,
+                currentGraph.indexedGraph.getPointId(srcPointRef.getName()),
+                dest,
+                state)) {
+      return INFINITE_COSTS;
+    }
+    return (long) state.distances[dest];
+  }
+
+  @Override
+  public Map<Point, Long> getCostsToDestinations(Point srcPoint, Set<Point> destPoints) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoints, "destPoints");
+
+    return searchAll(srcPoint, destPoints, false);
+  }
+
+  @Override
+  public Map<Point, Long> getCostsFromSources(Set<Point> srcPoints, Point destPoint) {
+    requireNonNull(srcPoints, "srcPoints");
+    requireNonNull(destPoint, "destPoint");
+
+    return searchAll(destPoint, srcPoints, true);
+  }
+
+  @Override
+  public boolean updatePath(Path path) {
+    requireNonNull(path, "path");
+
+    if (mapper == null || vehicle == null) {
+      return false;
+    }
+
+    mapper.updatePath(graph, path, vehicle);
+    searchGraph = new SearchGraph(graph, points, goalDirected);
+    return true;
+  }
+
+  /**
+   * Searches the cheapest route from the source to the destination point.
+   *
+   * @return <code>true</code> if, and only if, a route was found.
+   */
+  private boolean search(SearchGraph currentGraph, int source, int dest, SearchState state) {
+    IndexedModelGraph indexedGraph = currentGraph.indexedGraph;
+    state.reset();
+    state.visit(source, 0.0, NO_EDGE);
+    state.heap.push(source, currentGraph.estimateCosts(source, dest));
+
+    while (!state.heap.isEmpty()) {
+      int current = state.heap.pop();
+      if (state.settled[current]) {
+        // A stale heap entry - the point has already been settled with lower costs.
+        continue;
+      }
+      if (current == dest) {
+        return true;
+      }
+      state.settled[current] = true;
+
+      double distance = state.distances[current];
+      for (int edge = indexedGraph.getFirstOutEdge(current);
+           edge < indexedGraph.getLastOutEdge(current);
+           edge++) {
+        int target = indexedGraph.getEdgeTarget(edge);
+        double newDistance = distance + indexedGraph.getEdgeWeight(edge);
+        if (!state.settled[target] && newDistance < state.distances[target]) {
+          state.visit(target, newDistance, edge);
+          state.heap.push(target, newDistance + currentGraph.estimateCosts(target, dest));
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Computes the costs between the given origin and all of the given points with a single search.
+   *
+   * @param origin The point to start the search at.
+   * @param points The points to compute the costs for.
+   * @param reverse Whether to search in reverse direction, i.e. compute the costs for travelling
+   * from the points to the origin.
+   * @return The costs, mapped by point.
+   */
+  private Map<Point, Long> searchAll(Point origin, Set<Point> points, boolean reverse) {
+    IndexedModelGraph indexedGraph = searchGraph.indexedGraph;
+    SearchState state = searchStates.get();
+    state.reset();
+
+    int remainingTargets = 0;
+    for (Point point : points) {
+      int pointId = indexedGraph.getPointId(point.getName());
+      if (!state.targets[pointId]) {
+        state.targets[pointId] = true;
+        remainingTargets++;
+      }
+    }
+
+    int originId = indexedGraph.getPointId(origin.getName());
+    state.visit(originId, 0.0, NO_EDGE);
+    state.heap.push(originId, 0.0);
+    while (remainingTargets > 0 && !state.heap.isEmpty()) {
+      int current = state.heap.pop();
+      if (state.settled[current]) {
+        continue;
+      }
+      state.settled[current] = true;
+      if (state.targets[current]) {
+        remainingTargets--;
+      }
+
+      double distance = state.distances[current];
+      int first = reverse
+          ? indexedGraph.getFirstInEdgeIndex(current)
+          : indexedGraph.getFirstOutEdge(current);
+      int last = reverse
+          ? indexedGraph.getLastInEdgeIndex(current)
+          : indexedGraph.getLastOutEdge(current);
+      for (int i = first; i < last; i++) {
+        int edge = reverse ? indexedGraph.getInEdge(i) : i;
+        int neighbour = reverse
+            ? indexedGraph.getEdgeSource(edge)
+            : indexedGraph.getEdgeTarget(edge);
+        double newDistance = distance + indexedGraph.getEdgeWeight(edge);
+        if (!state.settled[neighbour] && newDistance < state.distances[neighbour]) {
+          state.visit(neighbour, newDistance, edge);
+          state.heap.push(neighbour, newDistance);
+        }
+      }
+    }
+
+    Map<Point, Long> result = new HashMap<>();
+    for (Point point : points) {
+      int pointId = indexedGraph.getPointId(point.getName());
+      state.targets[pointId] = false;
+      result.put(point,
+                 state.settled[pointId] ? (long) state.distances[pointId] : INFINITE_COSTS);
+    }
+    return result;
+  }
+
+  /**
+   * The compact graph along with the data for estimating costs.
+   */
+  private static final class SearchGraph {
+
+    private final IndexedModelGraph indexedGraph;
+    private final double costsPerDistance;
+    private final double[] xPositions;
+    private final double[] yPositions;
+    private final double[] zPositions;
+
+    SearchGraph(Graph<String, ModelEdge> graph, Collection<Point> points, boolean goalDirected)
+        throws IllegalArgumentException {
+      indexedGraph = new IndexedModelGraph(graph, points);
+      indexedGraph.checkNonNegativeWeights();
+      costsPerDistance = goalDirected
+          ? new PointPositionHeuristic(graph, points).getCostsPerDistance()
+          : 0.0;
+
+      int pointCount = indexedGraph.getPointCount();
+      xPositions = new double[pointCount];
+      yPositions = new double[pointCount];
+      zPositions = new double[pointCount];
+      for (int i = 0; i < pointCount; i++) {
+        xPositions[i] = indexedGraph.getPoint(i).getPosition().getX();
+        yPositions[i] = indexedGraph.getPoint(i).getPosition().getY();
+        zPositions[i] = indexedGraph.getPoint(i).getPosition().getZ();
+      }
+    }
+
+    double estimateCosts(int source, int dest) {
+      if (costsPerDistance == 0.0) {
+        return 0.0;
+      }
+      double dx = xPositions[dest] - xPositions[source];
+      double dy = yPositions[dest] - yPositions[source];
+      double dz = zPositions[dest] - zPositions[source];
+      return costsPerDistance * Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+  }
+
+  /**
+   * Reusable working memory for searches.
+   * Only the entries of points visited by a search are reset for the next one.
+   */
+  private static final class SearchState {
+
+    private final double[] distances;
+    private final int[] predecessors;
+    private final boolean[] settled;
+    private final boolean[] targets;
+    private final int[] visitedPoints;
+    private int visitedCount;
+    private final DistanceHeap heap;
+
+    SearchState(int pointCount) {
+      distances = new double[pointCount];
+      predecessors = new int[pointCount];
+      settled = new boolean[pointCount];
+      targets = new boolean[pointCount];
+      visitedPoints = new int[pointCount];
+      heap = new DistanceHeap(64);
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(predecessors, NO_EDGE);
+    }
+
+    void reset() {
+      for (int i = 0; i < visitedCount; i++) {
+        int point = visitedPoints[i];
+        distances[point] = Double.POSITIVE_INFINITY;
+        predecessors[point] = NO_EDGE;
+        settled[point] = false;
+      }
+      visitedCount = 0;
+      heap.clear();
+    }
+
+    void visit(int point, double distance, int predecessor) {
+      if (distances[point] == Double.POSITIVE_INFINITY) {
+        visitedPoints[visitedCount++] = point;
+      }
+      distances[point] = distance;
+      predecessors[point] = predecessor;
+    }
+  }
+}
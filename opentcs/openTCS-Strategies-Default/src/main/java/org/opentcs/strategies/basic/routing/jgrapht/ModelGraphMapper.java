@@ -7,7 +7,13 @@
  */
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
 import org.jgrapht.Graph;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -31,4 +37,52 @@ public interface ModelGraphMapper {
   Graph<String, ModelEdge> translateModel(Collection<Point> points,
                                           Collection<Path> paths,
                                           Vehicle vehicle);
+
+  /**
+   * Updates the edges representing the given path in the given graph, e.g. after the path's lock
+   * state or costs changed.
+   * <p>
+   * Any edges previously added for the path are removed from the graph, and edges for the path in
+   * its given state are added to it.
+   * </p>
+   * <p>
+   * The default implementation translates a graph consisting only of the path and its end points
+   * via {@link #translateModel(java.util.Collection, java.util.Collection, Vehicle)} and adds that
+   * graph's edges.
+   * </p>
+   *
+   * @param graph The graph to be updated.
+   * @param path The path, in its current state.
+   * @param vehicle The vehicle for which the graph was built.
+   */
+  default void updatePath(Graph<String, ModelEdge> graph, Path path, Vehicle vehicle) {
+    requireNonNull(graph, "graph");
+    requireNonNull(path, "path");
+    requireNonNull(vehicle, "vehicle");
+
+    String sourceName = path.getSourcePoint().getName();
+    String destName = path.getDestinationPoint().getName();
+    Set<ModelEdge> obsoleteEdges = new HashSet<>();
+    for (ModelEdge edge : graph.getAllEdges(sourceName, destName)) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        obsoleteEdges.add(edge);
+      }
+    }
+    for (ModelEdge edge : graph.getAllEdges(destName, sourceName)) {
+      if (Objects.equals(edge.getModelPath().getName(), path.getName())) {
+        obsoleteEdges.add(edge);
+      }
+    }
+    graph.removeAllEdges(obsoleteEdges);
+
+    Graph<String, ModelEdge> pathGraph
+        = translateModel(Arrays.asList(new Point(sourceName),
+                                       new Point(destName)),
+                         Collections.singleton(path),
+                         vehicle);
+    for (ModelEdge edge : pathGraph.edgeSet()) {
+      graph.addEdge(pathGraph.getEdgeSource(edge), pathGraph.getEdgeTarget(edge), edge);
+      graph.setEdgeWeight(edge, pathGraph.getEdgeWeight(edge));
+    }
+  }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.AStarAdmissibleHeuristic;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+
+/**
+ * Estimates the costs between two points from the straight-line distance between their positions.
+ * <p>
+ * The distance is scaled with the lowest ratio of edge weight to straight-line distance found in
+ * the graph. Since no route can be shorter than the straight line, this makes the estimate
+ * admissible and consistent for any combination of edge evaluators - e.g. for travel time weights,
+ * the ratio reflects the highest velocity the vehicle may drive at on any of the paths.
+ * If the points' positions are not set (or edge weights do not correlate with distances at all),
+ * the estimate degrades to zero, i.e. the search behaves like Dijkstra's algorithm.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+public class PointPositionHeuristic
+    implements AStarAdmissibleHeuristic<String> {
+
+  /**
+   * The positions of the points, mapped by point name.
+   */
+  private final Map<String, Triple> positionsByName = new HashMap<>();
+  /**
+   * The lowest ratio of edge weight to straight-line distance in the graph.
+   */
+  private final double costsPerDistance;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph the estimates are used for.
+   * @param points The points of the model.
+   */
+  public PointPositionHeuristic(Graph<String, ModelEdge> graph, Collection<Point> points) {
+    requireNonNull(graph, "graph");
+    requireNonNull(points, "points");
+
+    for (Point point : points) {
+      positionsByName.put(point.getName(), point.getPosition());
+    }
+    this.costsPerDistance = computeCostsPerDistance(graph);
+  }
+
+  @Override
+  public double getCostEstimate(String sourceVertex, String targetVertex) {
+    if (costsPerDistance == 0.0) {
+      return 0.0;
+    }
+    return costsPerDistance * distance(sourceVertex, targetVertex);
+  }
+
+  /**
+   * Returns the factor the straight-line distance is multiplied with for an estimate.
+   *
+   * @return The factor the straight-line distance is multiplied with for an estimate.
+   */
+  public double getCostsPerDistance() {
+    return costsPerDistance;
+  }
+
+  private double computeCostsPerDistance(Graph<String, ModelEdge> graph) {
+    double result = Double.POSITIVE_INFINITY;
+    for (ModelEdge edge : graph.edgeSet()) {
+      double distance = distance(graph.getEdgeSource(edge), graph.getEdgeTarget(edge));
+      if (distance > 0.0) {
+        result = Math.min(result, graph.getEdgeWeight(edge) / distance);
+      }
+    }
+    // Without any usable edges, or with negative weights, no estimate can be given.
+    return (result == Double.POSITIVE_INFINITY || result < 0.0) ? 0.0 : result;
+  }
+
+  private double distance(String sourceVertex, String targetVertex) {
+    Triple source = positionsByName.get(sourceVertex);
+    Triple target = positionsByName.get(targetVertex);
+    if (source == null || target == null) {
+      return 0.0;
+    }
+    double dx = target.getX() - source.getX();
+    double dy = target.getY() - source.getY();
+    double dz = target.getZ() - source.getZ();
+    return Math.sqrt(dx * dx + dy * dy + dz * dz);
+  }
+}
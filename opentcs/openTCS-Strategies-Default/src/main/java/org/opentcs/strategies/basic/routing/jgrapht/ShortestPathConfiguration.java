@@ -28,10 +28,12 @@ public interface ShortestPathConfiguration {
       type = "Strings",
       description = {
         "The routing algorithm to be used. Valid values:",
-         "'ASTAR': Routes are computed using Dijkstra's algorithm.",
+        "'ASTAR': Routes are computed using the A* algorithm, guided by the points' positions.",
         "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
         "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."})
+        "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+        "'CONTRACTION_HIERARCHY': Routes are computed on a contraction hierarchy that is "
+        + "precomputed for every routing group. Suitable for large plant models."})
   Algorithm algorithm();
 
   @ConfigurationEntry(
@@ -44,11 +46,36 @@ public interface ShortestPathConfiguration {
         "'EXPLICIT': A route's cost is the sum of the explicitly given costs of its paths."})
   List<EvaluatorType> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether to precompute the costs of the routes between all pairs of points for every "
+        + "routing group.",
+        "Speeds up cost lookups at the expense of memory and a longer start-up of the router.",
+        "Not used with algorithms 'BELLMAN_FORD' and 'CONTRACTION_HIERARCHY'."})
+  boolean precomputeCostTable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+        "The maximum amount of memory (in MiB) a single routing group's cost table may occupy.",
+        "If a table would exceed it, routes are computed on demand for that routing group."})
+  int costTableMaxMemory();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+        "Whether routes are computed on a compact, integer-indexed copy of the routing graph.",
+        "Avoids object allocations during route and cost lookups.",
+        "Only used with algorithms 'DIJKSTRA' and 'ASTAR'."})
+  boolean indexedGraph();
+
   enum Algorithm {
     DIJKSTRA(false),
     ASTAR(false),
     BELLMAN_FORD(true),
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    CONTRACTION_HIERARCHY(false);
 
     private final boolean handlingNegativeCosts;
 
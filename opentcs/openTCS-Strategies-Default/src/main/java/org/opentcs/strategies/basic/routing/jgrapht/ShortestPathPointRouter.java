@@ -13,10 +13,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import static java.util.Objects.requireNonNull;
+import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route;
@@ -40,9 +43,26 @@ public class ShortestPathPointRouter
    */
   private static final Logger LOG = LoggerFactory.getLogger(ShortestPathPointRouter.class);
 
-  private final ShortestPathAlgorithm<String, ModelEdge> algo;
+  private ShortestPathAlgorithm<String, ModelEdge> algo;
 
   private final Map<String, Point> points = new HashMap<>();
+  /**
+   * The graph the algorithm works on, or <code>null</code>, if updates are not supported.
+   */
+  private final Graph<String, ModelEdge> graph;
+  /**
+   * Creates the algorithm for the (updated) graph.
+   */
+  private final Function<Graph<String, ModelEdge>, ShortestPathAlgorithm<String, ModelEdge>>
+      algoFactory;
+  /**
+   * Updates the graph for changed paths.
+   */
+  private final ModelGraphMapper mapper;
+  /**
+   * The vehicle for which the graph was built.
+   */
+  private final Vehicle vehicle;
 
   public ShortestPathPointRouter(ShortestPathAlgorithm<String, ModelEdge> algo,
                                  Collection<Point> points) {
@@ -52,7 +72,37 @@ public class ShortestPathPointRouter
     for (Point point : points) {
       this.points.put(point.getName(), point);
     }
+    this.graph = null;
+    this.algoFactory = null;
+    this.mapper = null;
+    this.vehicle = null;
+  }
+
+  /**
+   * Creates a new instance that supports incremental updates of its graph.
+   *
+   * @param graph The graph to compute routes on.
+   * @param algoFactory Creates the shortest path algorithm working on the graph.
+   * @param points The points of the model.
+   * @param mapper Updates the graph for changed paths.
+   * @param vehicle The vehicle for which the graph was built.
+   */
+  public ShortestPathPointRouter(
+      Graph<String, ModelEdge> graph,
+      Function<Graph<String, ModelEdge>, ShortestPathAlgorithm<String, ModelEdge>> algoFactory,
+      Collection<Point> points,
+      ModelGraphMapper mapper,
+      Vehicle vehicle) {
+    this.graph = requireNonNull(graph, "graph");
+    this.algoFactory = requireNonNull(algoFactory, "algoFactory");
+    requireNonNull(points, "points");
+    this.mapper = requireNonNull(mapper, "mapper");
+    this.vehicle = requireNonNull(vehicle, "vehicle");
 
+    for (Point point : points) {
+      this.points.put(point.getName(), point);
+    }
+    this.algo = algoFactory.apply(graph);
   }
 
   @Override
@@ -99,6 +149,20 @@ public class ShortestPathPointRouter
     return (long) graphPath.getWeight();
   }
 
+  @Override
+  public boolean updatePath(Path path) {
+    requireNonNull(path, "path");
+
+    if (graph == null) {
+      return false;
+    }
+
+    mapper.updatePath(graph, path, vehicle);
+    // Some algorithms cache data computed for the graph, so create a new instance.
+    algo = algoFactory.apply(graph);
+    return true;
+  }
+
   private List<Route.Step> translateToSteps(GraphPath<String, ModelEdge> graphPath) {
     List<ModelEdge> edges = graphPath.getEdgeList();
     List<Route.Step> result = new ArrayList<>(edges.size());
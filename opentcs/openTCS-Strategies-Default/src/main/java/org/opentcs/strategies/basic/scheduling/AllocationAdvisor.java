@@ -20,6 +20,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A module implementation that forwards method calls to all submodules.
+ * <p>
+ * Calls to the submodules are serialized, as the submodules are not required to be thread-safe.
+ * Without any submodules, there is no state to protect, so calls do not synchronize at all and may
+ * be made concurrently from the clients' executor lanes.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -34,10 +39,14 @@ public class AllocationAdvisor
    * The submodules.
    */
   private final Set<Scheduler.Module> modules;
+  /**
+   * Serializes calls to the submodules.
+   */
+  private final Object modulesLock = new Object();
   /**
    * This instance's initialized flag.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
 
   /**
    * Creates a new instance.
@@ -50,28 +59,32 @@ public class AllocationAdvisor
   }
 
   @Override
-  public void initialize() {
+  public synchronized void initialize() {
     if (isInitialized()) {
       LOG.debug("Already initialized, doing nothing.");
       return;
     }
 
-    for (Scheduler.Module module : modules) {
-      module.initialize();
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        module.initialize();
+      }
     }
 
     initialized = true;
   }
 
   @Override
-  public void terminate() {
+  public synchronized void terminate() {
     if (!isInitialized()) {
       LOG.debug("Not initialized, doing nothing.");
       return;
     }
 
-    for (Scheduler.Module module : modules) {
-      module.terminate();
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        module.terminate();
+      }
     }
 
     initialized = false;
@@ -87,9 +100,14 @@ public class AllocationAdvisor
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    for (Scheduler.Module module : modules) {
-      LOG.debug("Module {}: Claiming resources {} for client{}.", module, resources, client);
-      module.claim(client, resources);
+    if (modules.isEmpty()) {
+      return;
+    }
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        LOG.debug("Module {}: Claiming resources {} for client{}.", module, resources, client);
+        module.claim(client, resources);
+      }
     }
   }
 
@@ -97,8 +115,13 @@ public class AllocationAdvisor
   public void unclaim(Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    for (Scheduler.Module module : modules) {
-      module.unclaim(client);
+    if (modules.isEmpty()) {
+      return;
+    }
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        module.unclaim(client);
+      }
     }
   }
 
@@ -110,18 +133,28 @@ public class AllocationAdvisor
     requireNonNull(alloc, "alloc");
     requireNonNull(remainingClaim, "remainingClaim");
 
-    for (Scheduler.Module module : modules) {
-      module.setAllocationState(client, alloc, remainingClaim);
+    if (modules.isEmpty()) {
+      return;
+    }
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        module.setAllocationState(client, alloc, remainingClaim);
+      }
     }
   }
 
   @Override
   public boolean mayAllocate(Scheduler.Client client, Set<TCSResource<?>> resources) {
-    boolean result = true;
-    for (Scheduler.Module module : modules) {
-      result = result && module.mayAllocate(client, resources);
+    if (modules.isEmpty()) {
+      return true;
+    }
+    synchronized (modulesLock) {
+      boolean result = true;
+      for (Scheduler.Module module : modules) {
+        result = result && module.mayAllocate(client, resources);
+      }
+      return result;
     }
-    return result;
   }
 
   @Override
@@ -130,35 +163,74 @@ public class AllocationAdvisor
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    for (Scheduler.Module module : modules) {
-      LOG.debug("Module {}: Preparing allocation for resources {} for client {}.",
-                module,
-                resources,
-                client);
-      module.prepareAllocation(client, resources);
+    if (modules.isEmpty()) {
+      return;
+    }
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        LOG.debug("Module {}: Preparing allocation for resources {} for client {}.",
+                  module,
+                  resources,
+                  client);
+        module.prepareAllocation(client, resources);
+      }
+    }
+  }
+
+  /**
+   * Checks whether all submodules allow the allocation of the given resources and, if so, prepares
+   * their allocation - without any other client's calls to the submodules in between.
+   *
+   * @param client The client requesting the resources.
+   * @param resources The requested resources.
+   * @return <code>true</code> if, and only if, the allocation was allowed and is being prepared.
+   */
+  public boolean mayAllocateAndPrepare(Scheduler.Client client, Set<TCSResource<?>> resources) {
+    requireNonNull(client, "client");
+    requireNonNull(resources, "resources");
+
+    if (modules.isEmpty()) {
+      return true;
+    }
+    synchronized (modulesLock) {
+      if (!mayAllocate(client, resources)) {
+        return false;
+      }
+      prepareAllocation(client, resources);
+      return true;
     }
   }
 
   @Override
   public boolean hasPreparedAllocation(Scheduler.Client client,
                                        Set<TCSResource<?>> resources) {
-    boolean result = true;
-    for (Scheduler.Module module : modules) {
-      result = result && module.hasPreparedAllocation(client, resources);
+    if (modules.isEmpty()) {
+      return true;
+    }
+    synchronized (modulesLock) {
+      boolean result = true;
+      for (Scheduler.Module module : modules) {
+        result = result && module.hasPreparedAllocation(client, resources);
+      }
+      return result;
     }
-    return result;
   }
 
   @Override
   public void allocationReleased(Client client, Set<TCSResource<?>> resources) {
     requireNonNull(resources, "resources");
 
-    for (Scheduler.Module module : modules) {
-      LOG.debug("Module {}: Allocation released for resources {} for client {}.",
-                module,
-                resources,
-                client);
-      module.allocationReleased(client, resources);
+    if (modules.isEmpty()) {
+      return;
+    }
+    synchronized (modulesLock) {
+      for (Scheduler.Module module : modules) {
+        LOG.debug("Module {}: Allocation released for resources {} for client {}.",
+                  module,
+                  resources,
+                  client);
+        module.allocationReleased(client, resources);
+      }
     }
   }
 }
@@ -107,18 +107,35 @@ abstract class AllocatorCommand
   }
 
   /**
-   * Indicates the receiving task should retry to grant deferred allocations.
+   * Indicates the receiving task should retry to grant deferred allocations waiting for resources
+   * that have been freed.
    */
   public static class RetryAllocates
       extends AllocatorCommand {
 
+    /**
+     * The resources that have been freed.
+     */
+    private final Set<TCSResource<?>> freedResources;
+
     /**
      * Creates a new instance.
      *
      * @param client The scheduler client this command is associated with.
+     * @param freedResources The resources that have been freed.
      */
-    public RetryAllocates(Client client) {
+    public RetryAllocates(Client client, Set<TCSResource<?>> freedResources) {
       super(3, client);
+      this.freedResources = requireNonNull(freedResources, "freedResources");
+    }
+
+    /**
+     * Returns the resources that have been freed.
+     *
+     * @return The resources that have been freed.
+     */
+    public Set<TCSResource<?>> getFreedResources() {
+      return freedResources;
     }
   }
 
@@ -7,15 +7,15 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.HashSet;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 import org.slf4j.Logger;
@@ -42,15 +42,15 @@ class AllocatorTask
   /**
    * Takes care of (sub)modules.
    */
-  private final Scheduler.Module allocationAdvisor;
+  private final AllocationAdvisor allocationAdvisor;
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations;
+  private final DeferredAllocations deferredAllocations;
   /**
-   * Executes tasks.
+   * Executes tasks in the lanes of the respective clients.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final KernelExecutorLanes executorLanes;
   /**
    * Describes the actual task.
    */
@@ -61,15 +61,15 @@ class AllocatorTask
    */
   public AllocatorTask(@Nonnull InternalPlantModelService plantModelService,
                        @Nonnull ReservationPool reservationPool,
-                       @Nonnull Queue<AllocatorCommand.Allocate> deferredAllocations,
-                       @Nonnull Scheduler.Module allocationAdvisor,
-                       @Nonnull ScheduledExecutorService kernelExecutor,
+                       @Nonnull DeferredAllocations deferredAllocations,
+                       @Nonnull AllocationAdvisor allocationAdvisor,
+                       @Nonnull KernelExecutorLanes executorLanes,
                        @Nonnull AllocatorCommand command) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
     this.deferredAllocations = requireNonNull(deferredAllocations, "deferredAllocations");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.executorLanes = requireNonNull(executorLanes, "executorLanes");
     this.command = requireNonNull(command, "command");
   }
 
@@ -79,7 +79,8 @@ class AllocatorTask
       processAllocate((AllocatorCommand.Allocate) command);
     }
     else if (command instanceof AllocatorCommand.RetryAllocates) {
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(
+          ((AllocatorCommand.RetryAllocates) command).getFreedResources());
     }
     else if (command instanceof AllocatorCommand.CheckAllocationsPrepared) {
       checkAllocationsPrepared((AllocatorCommand.CheckAllocationsPrepared) command);
@@ -94,11 +95,10 @@ class AllocatorTask
 
   private void processAllocate(AllocatorCommand.Allocate command) {
     if (!tryAllocate(command)) {
-      LOG.debug("{}: Resources unavailable, deferring allocation...", command.getClient().getId());
-      deferredAllocations.add(command);
       return;
     }
 
+    deferredAllocations.allocationGranted(command);
     checkAllocationsPrepared(command.getClient(), command.getResources());
   }
 
@@ -123,42 +123,50 @@ class AllocatorTask
                resources);
       undoAllocate(client, resources);
       // See if others want the resources this one didn't, then.
-      scheduleRetryWaitingAllocations();
+      scheduleRetryWaitingAllocations(resources);
     }
   }
 
   /**
-   * Allocates the given set of resources, if possible.
+   * Allocates the given set of resources, if possible, or defers the allocation.
    *
    * @param command Describes the requested allocation.
    * @return <code>true</code> if, and only if, the given resources were allocated.
    */
   private boolean tryAllocate(AllocatorCommand.Allocate command) {
     Set<TCSResource<?>> resourcesExpanded = expandResources(command.getResources());
-    synchronized (reservationPool) {
+    Set<TCSResource<?>> lockedResources = new HashSet<>(resourcesExpanded);
+    lockedResources.addAll(command.getResources());
+    ReservationPool.EntryLocks locks = reservationPool.lockEntries(lockedResources);
+    try {
       LOG.debug("{}: Checking if all resources are available...", command.getClient().getId());
-      if (!reservationPool.resourcesAvailableForUser(resourcesExpanded, command.getClient())) {
-        LOG.debug("{}: Resources unavailable.", command.getClient().getId());
+      Set<TCSResource<?>> unavailableResources
+          = reservationPool.unavailableResources(resourcesExpanded, command.getClient());
+      if (!unavailableResources.isEmpty()) {
+        LOG.debug("{}: Resources unavailable, deferring allocation...",
+                  command.getClient().getId());
+        // Defer while still holding the entries' locks, so releases of the blocking resources
+        // cannot be missed.
+        deferredAllocations.add(command, unavailableResources);
         return false;
       }
 
       LOG.debug("{}: Checking if resources may be allocated...", command.getClient().getId());
-      if (!allocationAdvisor.mayAllocate(command.getClient(), command.getResources())) {
-        LOG.debug("{}: Resource allocation restricted by some modules.", command.getClient());
+      if (!allocationAdvisor.mayAllocateAndPrepare(command.getClient(), command.getResources())) {
+        LOG.debug("{}: Resource allocation restricted by some modules, deferring allocation...",
+                  command.getClient());
+        deferredAllocations.add(command, new HashSet<>());
         return false;
       }
 
-      LOG.debug("{}: Some resources need to be prepared for allocation.", command.getClient().getId());
-      allocationAdvisor.prepareAllocation(command.getClient(), command.getResources());
-
       LOG.debug("{}: All resources available, allocating...", command.getClient().getId());
-      // Allocate resources.
-      for (TCSResource<?> curRes : command.getResources()) {
-        reservationPool.getReservationEntry(curRes).allocate(command.getClient());
-      }
+      reservationPool.allocate(command.getClient(), command.getResources());
 
       return true;
     }
+    finally {
+      locks.unlock();
+    }
   }
 
   private void allocationsReleased(AllocatorCommand.AllocationsReleased command) {
@@ -171,24 +179,29 @@ class AllocatorTask
    * @param command Describes the allocated resources.
    */
   private void undoAllocate(Client client, Set<TCSResource<?>> resources) {
-    synchronized (reservationPool) {
-      reservationPool.free(client, resources);
-    }
+    reservationPool.free(client, resources);
   }
 
   /**
-   * Moves all waiting allocations back into the incoming queue so they can be rechecked.
+   * Moves the waiting allocations that may be granted after the given resources have been freed
+   * back into the incoming queue so they can be rechecked.
+   *
+   * @param freedResources The resources that have been freed.
    */
-  private void scheduleRetryWaitingAllocations() {
-    for (AllocatorCommand.Allocate allocate : deferredAllocations) {
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              allocate));
+  private void scheduleRetryWaitingAllocations(Set<TCSResource<?>> freedResources) {
+    List<AllocatorCommand.Allocate> allocates = deferredAllocations.wakeUp(freedResources);
+    LOG.debug("Retrying {} deferred allocation(s) after freeing {}.",
+              allocates.size(),
+              freedResources);
+    for (AllocatorCommand.Allocate allocate : allocates) {
+      executorLanes.getVehicleLane(allocate.getClient().getId())
+          .execute(new AllocatorTask(plantModelService,
+                                     reservationPool,
+                                     deferredAllocations,
+                                     allocationAdvisor,
+                                     executorLanes,
+                                     allocate));
     }
-    deferredAllocations.clear();
   }
 
   /**
@@ -8,23 +8,23 @@
 package org.opentcs.strategies.basic.scheduling;
 
 import static com.google.common.base.Preconditions.checkPositionIndex;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
-import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.inject.Inject;
+import org.opentcs.access.WaitingTimeHistogram;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.customizations.kernel.KernelExecutorLanes;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.Allocate;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.AllocationsReleased;
@@ -54,11 +54,12 @@ public class DefaultScheduler
   /**
    * Takes care of modules.
    */
-  private final Module allocationAdvisor;
+  private final AllocationAdvisor allocationAdvisor;
   /**
    * All claims.
    */
-  private final Map<Client, List<Set<TCSResource<?>>>> claimsByClient = new HashMap<>();
+  private final Map<Client, List<Set<TCSResource<?>>>> claimsByClient
+      = new ConcurrentHashMap<>();
   /**
    * The reservation pool.
    */
@@ -66,11 +67,11 @@ public class DefaultScheduler
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
-  private final Queue<AllocatorCommand.Allocate> deferredAllocations = new LinkedBlockingQueue<>();
+  private final DeferredAllocations deferredAllocations = new DeferredAllocations();
   /**
-   * Executes scheduling tasks.
+   * Executes scheduling tasks in the lanes of the respective clients.
    */
-  private final ScheduledExecutorService kernelExecutor;
+  private final KernelExecutorLanes executorLanes;
   /**
    * Indicates whether this component is enabled.
    */
@@ -81,15 +82,28 @@ public class DefaultScheduler
    *
    * @param plantModelService The plant model service.
    * @param allocationAdvisor Takes care of modules.
-   * @param kernelExecutor Executes scheduling tasks.
+   * @param executorLanes Executes scheduling tasks in the lanes of the respective clients.
    */
   @Inject
   public DefaultScheduler(InternalPlantModelService plantModelService,
                           AllocationAdvisor allocationAdvisor,
-                          @KernelExecutor ScheduledExecutorService kernelExecutor) {
+                          KernelExecutorLanes executorLanes) {
     this.plantModelService = requireNonNull(plantModelService, "plantModelService");
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
-    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.executorLanes = requireNonNull(executorLanes, "executorLanes");
+  }
+
+  /**
+   * Creates a new instance executing scheduling tasks with the given kernel executor.
+   *
+   * @param plantModelService The plant model service.
+   * @param allocationAdvisor Takes care of modules.
+   * @param kernelExecutor Executes scheduling tasks.
+   */
+  public DefaultScheduler(InternalPlantModelService plantModelService,
+                          AllocationAdvisor allocationAdvisor,
+                          @KernelExecutor ScheduledExecutorService kernelExecutor) {
+    this(plantModelService, allocationAdvisor, KernelExecutorLanes.of(kernelExecutor));
   }
 
   @Override
@@ -99,6 +113,7 @@ public class DefaultScheduler
     }
 
     reservationPool.clear();
+    deferredAllocations.clear();
     allocationAdvisor.initialize();
 
     initialized = true;
@@ -124,14 +139,12 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (reservationPool) {
-      claimsByClient.put(client, resources);
+    claimsByClient.put(client, resources);
 
-      allocationAdvisor.claim(client, resources);
-      allocationAdvisor.setAllocationState(client,
-                                           reservationPool.allocatedResources(client),
-                                           resources);
-    }
+    allocationAdvisor.claim(client, resources);
+    allocationAdvisor.setAllocationState(client,
+                                         reservationPool.allocatedResources(client),
+                                         resources);
   }
 
   @Override
@@ -144,27 +157,23 @@ public class DefaultScheduler
     }
     // XXX Verify that the index is only incremented, never decremented?
 
-    synchronized (reservationPool) {
-      List<Set<TCSResource<?>>> claims = claimsByClient.get(client);
-      List<Set<TCSResource<?>>> remainingClaims = claims.subList(index, claims.size());
-      allocationAdvisor.setAllocationState(client,
-                                           reservationPool.allocatedResources(client),
-                                           remainingClaims);
-    }
+    List<Set<TCSResource<?>>> claims = claimsByClient.get(client);
+    List<Set<TCSResource<?>>> remainingClaims = claims.subList(index, claims.size());
+    allocationAdvisor.setAllocationState(client,
+                                         reservationPool.allocatedResources(client),
+                                         remainingClaims);
   }
 
   @Override
   public void unclaim(Client client) {
     requireNonNull(client, "client");
 
-    synchronized (reservationPool) {
-      claimsByClient.remove(client);
+    claimsByClient.remove(client);
 
-      allocationAdvisor.setAllocationState(client,
-                                           reservationPool.allocatedResources(client),
-                                           new LinkedList<>());
-      allocationAdvisor.unclaim(client);
-    }
+    allocationAdvisor.setAllocationState(client,
+                                         reservationPool.allocatedResources(client),
+                                         new LinkedList<>());
+    allocationAdvisor.unclaim(client);
   }
 
   @Override
@@ -172,12 +181,7 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            new Allocate(client, resources)));
+    submit(new Allocate(client, resources));
   }
 
   @Override
@@ -186,7 +190,8 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (reservationPool) {
+    ReservationPool.EntryLocks locks = reservationPool.lockEntries(resources);
+    try {
       // Check if all resources are available.
       final Set<TCSResource<?>> availableResources = new HashSet<>();
       for (TCSResource<?> curResource : resources) {
@@ -204,9 +209,10 @@ public class DefaultScheduler
       }
       // Allocate all requested resources that are available.
       LOG.debug("{}: Allocating immediately: {}", client.getId(), availableResources);
-      for (TCSResource<?> curResource : availableResources) {
-        reservationPool.getReservationEntry(curResource).allocate(client);
-      }
+      reservationPool.allocate(client, availableResources);
+    }
+    finally {
+      locks.unlock();
     }
   }
 
@@ -215,51 +221,42 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    synchronized (reservationPool) {
-      LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
-      reservationPool.free(client, resources);
-
-      // Check which resources are now completely free
-      Set<TCSResource<?>> completelyFreeResources = resources.stream()
-          .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
-          .collect(Collectors.toCollection(HashSet::new));
-      kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                              reservationPool,
-                                              deferredAllocations,
-                                              allocationAdvisor,
-                                              kernelExecutor,
-                                              new AllocationsReleased(client,
-                                                                      completelyFreeResources)));
-    }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            new RetryAllocates(client)));
+    LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
+    reservationPool.free(client, resources);
+
+    // Check which resources are now completely free
+    Set<TCSResource<?>> completelyFreeResources = resources.stream()
+        .filter(resource -> reservationPool.getReservationEntry(resource).isFree())
+        .collect(Collectors.toCollection(HashSet::new));
+    submit(new AllocationsReleased(client, completelyFreeResources));
+    submit(new RetryAllocates(client, completelyFreeResources));
   }
 
   @Override
   public void freeAll(Client client) {
     requireNonNull(client, "client");
 
-    synchronized (reservationPool) {
-      LOG.debug("{}: Releasing all resources", client.getId());
-      reservationPool.freeAll(client);
-    }
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            new RetryAllocates(client)));
+    LOG.debug("{}: Releasing all resources", client.getId());
+    Set<TCSResource<?>> freedResources = reservationPool.allocatedResources(client);
+    reservationPool.freeAll(client);
+    submit(new RetryAllocates(client, freedResources));
   }
 
   @Override
   public Map<String, Set<TCSResource<?>>> getAllocations() {
-    synchronized (reservationPool) {
-      return reservationPool.getAllocations();
-    }
+    return reservationPool.getAllocations();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * A waiting time is recorded when an allocation that had to be deferred is eventually granted.
+   * It is recorded for every resource that blocked the allocation in the meantime.
+   * </p>
+   */
+  @Override
+  public Map<String, WaitingTimeHistogram> getWaitingTimeHistograms() {
+    return deferredAllocations.getWaitingTimeHistograms();
   }
 
   @Override
@@ -270,11 +267,16 @@ public class DefaultScheduler
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    kernelExecutor.submit(new AllocatorTask(plantModelService,
-                                            reservationPool,
-                                            deferredAllocations,
-                                            allocationAdvisor,
-                                            kernelExecutor,
-                                            new CheckAllocationsPrepared(client, resources)));
+    submit(new CheckAllocationsPrepared(client, resources));
+  }
+
+  private void submit(AllocatorCommand command) {
+    executorLanes.getVehicleLane(command.getClient().getId())
+        .execute(new AllocatorTask(plantModelService,
+                                   reservationPool,
+                                   deferredAllocations,
+                                   allocationAdvisor,
+                                   executorLanes,
+                                   command));
   }
 }
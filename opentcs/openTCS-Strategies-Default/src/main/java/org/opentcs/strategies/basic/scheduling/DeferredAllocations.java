@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.TreeMap;
+import org.opentcs.access.WaitingTimeHistogram;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Allocations deferred because they couldn't be granted, yet, indexed by the resources blocking
+ * them.
+ * <p>
+ * When resources are freed, only the allocations blocked by any of them are woken up, in the order
+ * in which they have been deferred.
+ * Allocations that are not blocked by specific resources (e.g. because they were restricted by a
+ * scheduler module) are woken up whenever any resources are freed.
+ * </p>
+ * <p>
+ * For every resource, a histogram of the times allocations had to wait for it is kept.
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author agent (agent@local)
+ */
+class DeferredAllocations {
+
+  /**
+   * The upper bounds (exclusive, in ms) of the waiting time histograms' buckets.
+   */
+  private static final long[] BUCKET_UPPER_BOUNDS = {100, 1000, 10000, 60000, 600000};
+  /**
+   * The deferred allocations, mapped by the sequence numbers they were deferred with.
+   */
+  private final Map<Long, AllocatorCommand.Allocate> allocationsBySequence = new TreeMap<>();
+  /**
+   * The sequence numbers of the deferred allocations blocked by each resource.
+   */
+  private final Map<TCSResource<?>, Set<Long>> sequencesByResource = new HashMap<>();
+  /**
+   * The sequence numbers of the deferred allocations not blocked by specific resources.
+   */
+  private final Set<Long> unspecificSequences = new LinkedHashSet<>();
+  /**
+   * The resources blocking each deferred allocation, mapped by sequence number.
+   */
+  private final Map<Long, Set<TCSResource<?>>> blockingResourcesBySequence = new HashMap<>();
+  /**
+   * The allocations that have been deferred at least once and not been granted, yet.
+   */
+  private final Map<AllocatorCommand.Allocate, PendingWait> pendingWaits = new HashMap<>();
+  /**
+   * The recorded waiting times, mapped by resource name.
+   */
+  private final Map<String, WaitingTimes> waitingTimesByResource = new HashMap<>();
+  /**
+   * The sequence number for the next deferred allocation.
+   */
+  private long nextSequence;
+
+  /**
+   * Creates a new instance.
+   */
+  DeferredAllocations() {
+  }
+
+  /**
+   * Defers the given allocation until any of the given resources is freed.
+   *
+   * @param allocate The allocation.
+   * @param blockingResources The resources blocking the allocation. If empty, the allocation will
+   * be woken up when any resources are freed.
+   */
+  public synchronized void add(AllocatorCommand.Allocate allocate,
+                               Set<TCSResource<?>> blockingResources) {
+    requireNonNull(allocate, "allocate");
+    requireNonNull(blockingResources, "blockingResources");
+
+    long sequence = nextSequence++;
+    allocationsBySequence.put(sequence, allocate);
+    if (blockingResources.isEmpty()) {
+      unspecificSequences.add(sequence);
+    }
+    else {
+      blockingResourcesBySequence.put(sequence, new HashSet<>(blockingResources));
+      for (TCSResource<?> resource : blockingResources) {
+        sequencesByResource.computeIfAbsent(resource, res -> new LinkedHashSet<>()).add(sequence);
+      }
+    }
+    pendingWaits.computeIfAbsent(allocate, alloc -> new PendingWait(System.currentTimeMillis()))
+        .blockingResources.addAll(blockingResources);
+  }
+
+  /**
+   * Removes and returns the deferred allocations that may be granted after the given resources
+   * have been freed.
+   *
+   * @param freedResources The freed resources.
+   * @return The allocations, in the order in which they have been deferred.
+   */
+  public synchronized List<AllocatorCommand.Allocate> wakeUp(
+      Collection<TCSResource<?>> freedResources) {
+    requireNonNull(freedResources, "freedResources");
+
+    Set<Long> sequences = new HashSet<>(unspecificSequences);
+    for (TCSResource<?> resource : freedResources) {
+      Set<Long> blockedSequences = sequencesByResource.get(resource);
+      if (blockedSequences != null) {
+        sequences.addAll(blockedSequences);
+      }
+    }
+    return remove(sequences);
+  }
+
+  /**
+   * Removes and returns all deferred allocations.
+   *
+   * @return The allocations, in the order in which they have been deferred.
+   */
+  public synchronized List<AllocatorCommand.Allocate> wakeUpAll() {
+    return remove(new HashSet<>(allocationsBySequence.keySet()));
+  }
+
+  /**
+   * Records the waiting times of the given allocation, if it has been deferred before.
+   *
+   * @param allocate The allocation that has been granted.
+   */
+  public synchronized void allocationGranted(AllocatorCommand.Allocate allocate) {
+    requireNonNull(allocate, "allocate");
+
+    PendingWait pendingWait = pendingWaits.remove(allocate);
+    if (pendingWait == null) {
+      return;
+    }
+    long waitingTime = System.currentTimeMillis() - pendingWait.deferredSince;
+    for (TCSResource<?> resource : pendingWait.blockingResources) {
+      waitingTimesByResource.computeIfAbsent(resource.getName(), name -> new WaitingTimes())
+          .record(waitingTime);
+    }
+  }
+
+  /**
+   * Returns the number of deferred allocations.
+   *
+   * @return The number of deferred allocations.
+   */
+  public synchronized int size() {
+    return allocationsBySequence.size();
+  }
+
+  /**
+   * Returns histograms of the recorded waiting times.
+   *
+   * @return Histograms of the recorded waiting times, mapped by resource name.
+   */
+  public synchronized Map<String, WaitingTimeHistogram> getWaitingTimeHistograms() {
+    Map<String, WaitingTimeHistogram> result = new HashMap<>();
+    for (Map.Entry<String, WaitingTimes> entry : waitingTimesByResource.entrySet()) {
+      result.put(entry.getKey(), entry.getValue().toHistogram());
+    }
+    return result;
+  }
+
+  /**
+   * Removes all deferred allocations and waiting time histograms.
+   */
+  public synchronized void clear() {
+    allocationsBySequence.clear();
+    sequencesByResource.clear();
+    unspecificSequences.clear();
+    blockingResourcesBySequence.clear();
+    pendingWaits.clear();
+    waitingTimesByResource.clear();
+  }
+
+  private List<AllocatorCommand.Allocate> remove(Set<Long> sequences) {
+    List<Long> sortedSequences = new ArrayList<>(sequences);
+    sortedSequences.sort(null);
+
+    List<AllocatorCommand.Allocate> result = new ArrayList<>(sortedSequences.size());
+    for (Long sequence : sortedSequences) {
+      result.add(allocationsBySequence.remove(sequence));
+      unspecificSequences.remove(sequence);
+      Set<TCSResource<?>> blockingResources = blockingResourcesBySequence.remove(sequence);
+      if (blockingResources != null) {
+        for (TCSResource<?> resource : blockingResources) {
+          Set<Long> blockedSequences = sequencesByResource.get(resource);
+          blockedSequences.remove(sequence);
+          if (blockedSequences.isEmpty()) {
+            sequencesByResource.remove(resource);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The waiting state of an allocation that has been deferred.
+   */
+  private static final class PendingWait {
+
+    /**
+     * The point of time at which the allocation was deferred first.
+     */
+    private final long deferredSince;
+    /**
+     * All resources that have blocked the allocation.
+     */
+    private final Set<TCSResource<?>> blockingResources = new HashSet<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param deferredSince The point of time at which the allocation was deferred first.
+     */
+    PendingWait(long deferredSince) {
+      this.deferredSince = deferredSince;
+    }
+  }
+
+  /**
+   * The waiting times recorded for a resource.
+   */
+  private static final class WaitingTimes {
+
+    /**
+     * The number of waiting times per bucket.
+     */
+    private final long[] bucketCounts = new long[BUCKET_UPPER_BOUNDS.length + 1];
+    /**
+     * The total of all waiting times (in ms).
+     */
+    private long totalWaitingTime;
+    /**
+     * The longest waiting time (in ms).
+     */
+    private long maxWaitingTime;
+
+    /**
+     * Records the given waiting time.
+     *
+     * @param waitingTime The waiting time (in ms).
+     */
+    void record(long waitingTime) {
+      int bucket = 0;
+      while (bucket < BUCKET_UPPER_BOUNDS.length && waitingTime >= BUCKET_UPPER_BOUNDS[bucket]) {
+        bucket++;
+      }
+      bucketCounts[bucket]++;
+      totalWaitingTime += waitingTime;
+      maxWaitingTime = Math.max(maxWaitingTime, waitingTime);
+    }
+
+    /**
+     * Returns a histogram of the recorded waiting times.
+     *
+     * @return A histogram of the recorded waiting times.
+     */
+    WaitingTimeHistogram toHistogram() {
+      return new WaitingTimeHistogram(BUCKET_UPPER_BOUNDS,
+                                      bucketCounts,
+                                      totalWaitingTime,
+                                      maxWaitingTime);
+    }
+  }
+}
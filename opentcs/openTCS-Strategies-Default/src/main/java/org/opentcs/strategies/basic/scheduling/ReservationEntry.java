@@ -9,6 +9,7 @@ package org.opentcs.strategies.basic.scheduling;
 
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
+import java.util.concurrent.locks.ReentrantLock;
 import org.opentcs.components.kernel.Scheduler.Client;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
@@ -18,6 +19,9 @@ import org.slf4j.LoggerFactory;
  * Contains reservation information for a resource - a reference to the
  * <code>ResourceUser</code> currently holding the resource and a counter
  * for how many times the <code>ResouceUser</code> has allocated the resource.
+ * <p>
+ * The state may be read without locking, but changes of it require holding this entry's lock.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -31,16 +35,20 @@ class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * Guards changes of this entry's state.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
   /**
    * The client for which the resource is currently reserved.
    */
-  private Client client;
+  private volatile Client client;
   /**
    * The reservation counter.
    * With every allocation the counter will be incremented, with every call to <code>free()</code>
    * it will be decremented.
    */
-  private int counter;
+  private volatile int counter;
 
   /**
    * Creates a new instance.
@@ -70,6 +78,20 @@ class ReservationEntry {
     return client;
   }
 
+  /**
+   * Acquires this entry's lock.
+   */
+  void lock() {
+    lock.lock();
+  }
+
+  /**
+   * Releases this entry's lock.
+   */
+  void unlock() {
+    lock.unlock();
+  }
+
   /**
    * Reserves the resource for the given client.
    * Increments the reservation counter for the resource if the user has already allocated this
@@ -78,6 +100,7 @@ class ReservationEntry {
    * @param client The allocating client.
    */
   void allocate(Client client) {
+    checkState(lock.isHeldByCurrentThread(), "lock not held");
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
@@ -101,6 +124,7 @@ class ReservationEntry {
    * is set to <code>null</code>.
    */
   void free() {
+    checkState(lock.isHeldByCurrentThread(), "lock not held");
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
@@ -113,6 +137,7 @@ class ReservationEntry {
    * to <code>null</code>.
    */
   void freeCompletely() {
+    checkState(lock.isHeldByCurrentThread(), "lock not held");
     counter = 0;
     client = null;
   }
@@ -124,7 +149,7 @@ class ReservationEntry {
    * allocated by anyone.
    */
   boolean isFree() {
-    return (client == null) && (counter == 0);
+    return client == null;
   }
 
   /**
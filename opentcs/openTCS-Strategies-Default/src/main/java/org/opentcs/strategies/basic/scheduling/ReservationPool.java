@@ -7,18 +7,31 @@
  */
 package org.opentcs.strategies.basic.scheduling;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.data.model.TCSResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Keeps track of the resources allocated by scheduler clients.
+ * <p>
+ * This class is thread-safe without a global lock:
+ * The state of a reservation entry can be read at any time, and changes of it are guarded by the
+ * entry's own lock.
+ * Operations spanning multiple resources, like checking and allocating a set of resources all at
+ * once, lock the entries involved via {@link #lockEntries(Set)}, which always acquires the locks in
+ * the same order and thus cannot deadlock.
+ * For every client, an index of the resources it has allocated is kept.
+ * </p>
  *
  * @author Stefan Walter (Fraunhofer IML)
  */
@@ -28,10 +41,20 @@ class ReservationPool {
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(ReservationPool.class);
+  /**
+   * The order in which the locks of reservation entries are acquired.
+   */
+  private static final Comparator<ReservationEntry> LOCK_ORDER
+      = Comparator.comparing(entry -> entry.getResource().getName());
   /**
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
-  private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  private final Map<TCSResource<?>, ReservationEntry> reservations = new ConcurrentHashMap<>();
+  /**
+   * The resources allocated by each client.
+   */
+  private final Map<Scheduler.Client, Set<TCSResource<?>>> resourcesByClient
+      = new ConcurrentHashMap<>();
 
   /**
    * Creates a new instance.
@@ -48,12 +71,25 @@ class ReservationPool {
   public ReservationEntry getReservationEntry(TCSResource<?> resource) {
     requireNonNull(resource, "resource");
 
-    ReservationEntry entry = reservations.get(resource);
-    if (entry == null) {
-      entry = new ReservationEntry(resource);
-      reservations.put(resource, entry);
+    return reservations.computeIfAbsent(resource, ReservationEntry::new);
+  }
+
+  /**
+   * Locks the reservation entries of the given resources, so their states cannot be changed by
+   * other threads until the returned locks are unlocked.
+   *
+   * @param resources The resources.
+   * @return The locks, to be unlocked when the entries may be changed again.
+   */
+  public EntryLocks lockEntries(Set<TCSResource<?>> resources) {
+    requireNonNull(resources, "resources");
+
+    List<ReservationEntry> entries = new ArrayList<>(resources.size());
+    for (TCSResource<?> resource : resources) {
+      entries.add(getReservationEntry(resource));
     }
-    return entry;
+    entries.sort(LOCK_ORDER);
+    return new EntryLocks(entries);
   }
 
   /**
@@ -65,58 +101,59 @@ class ReservationPool {
   public Set<TCSResource<?>> allocatedResources(Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toSet());
+    Set<TCSResource<?>> resources = resourcesByClient.get(client);
+    return resources == null ? new HashSet<>() : new HashSet<>(resources);
   }
 
   /**
-   * Checks if all resources in the given set of resources are be available for the given client.
+   * Returns the resources in the given set of resources that are not available for the given
+   * client, i.e. that are allocated by other clients.
    *
    * @param resources The set of resources to be checked.
    * @param client The client for which to check.
-   * @return <code>true</code> if, and only if, all resources in the given set
-   * are available for the given client.
+   * @return The resources that are not available for the given client.
    */
-  public boolean resourcesAvailableForUser(Set<TCSResource<?>> resources, Scheduler.Client client) {
+  public Set<TCSResource<?>> unavailableResources(Set<TCSResource<?>> resources,
+                                                  Scheduler.Client client) {
     requireNonNull(resources, "resources");
     requireNonNull(client, "client");
 
+    Set<TCSResource<?>> result = new HashSet<>();
     for (TCSResource<?> curResource : resources) {
-      // Check if the resource is available.
       ReservationEntry entry = getReservationEntry(curResource);
       if (!entry.isFree() && !entry.isAllocatedBy(client)) {
         LOG.debug("{}: Resource unavailable: {}", client.getId(), entry.getResource());
-        return false;
+        result.add(curResource);
       }
     }
-    return true;
+    return result;
   }
 
   /**
-   * Returns a set of resources that is a subset of the given set of resources and is reserved/could
-   * be released by the given client.
+   * Allocates the given resources for the given client.
+   * <p>
+   * The caller is expected to have checked that the resources are available for the client while
+   * holding the locks of their entries.
+   * </p>
    *
-   * @param resources The set of resources to be filtered for resources that could be released.
-   * @param client The client that should be able to release the returned resources.
-   * @return A set of resources that is a subset of the given set of resources and is reserved/could
-   * be released by the given client.
+   * @param client The client.
+   * @param resources The resources to be allocated.
    */
-  private Set<TCSResource<?>> getFreeableResources(Set<TCSResource<?>> resources,
-                                                   Scheduler.Client client) {
-    // Make sure we're freeing only resources that are allocated by us.
-    final Set<TCSResource<?>> freeableResources = new HashSet<>();
-    for (TCSResource<?> curRes : resources) {
-      ReservationEntry entry = getReservationEntry(curRes);
-      if (!entry.isAllocatedBy(client)) {
-        LOG.warn("{}: Freed resource not reserved: {}, entry: {}", client.getId(), curRes, entry);
+  public void allocate(Scheduler.Client client, Set<TCSResource<?>> resources) {
+    requireNonNull(client, "client");
+    requireNonNull(resources, "resources");
+
+    for (TCSResource<?> curResource : resources) {
+      ReservationEntry entry = getReservationEntry(curResource);
+      entry.lock();
+      try {
+        entry.allocate(client);
+        addToIndex(client, curResource);
       }
-      else {
-        freeableResources.add(curRes);
+      finally {
+        entry.unlock();
       }
     }
-    return freeableResources;
   }
 
   public void free(Scheduler.Client client, Set<TCSResource<?>> resources) {
@@ -124,33 +161,53 @@ class ReservationPool {
     requireNonNull(resources, "resources");
 
     LOG.debug("{}: Releasing resources: {}", client.getId(), resources);
-    Set<TCSResource<?>> freeableResources = getFreeableResources(resources,
-                                                                 client);
-    for (TCSResource<?> curResource : freeableResources) {
-      getReservationEntry(curResource).free();
+    for (TCSResource<?> curResource : resources) {
+      ReservationEntry entry = getReservationEntry(curResource);
+      entry.lock();
+      try {
+        // Make sure we're freeing only resources that are allocated by us.
+        if (!entry.isAllocatedBy(client)) {
+          LOG.warn("{}: Freed resource not reserved: {}, entry: {}",
+                   client.getId(),
+                   curResource,
+                   entry);
+          continue;
+        }
+        entry.free();
+        if (entry.isFree()) {
+          removeFromIndex(client, curResource);
+        }
+      }
+      finally {
+        entry.unlock();
+      }
     }
   }
 
   public void freeAll(Scheduler.Client client) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    for (TCSResource<?> curResource : allocatedResources(client)) {
+      ReservationEntry entry = getReservationEntry(curResource);
+      entry.lock();
+      try {
+        if (entry.isAllocatedBy(client)) {
+          entry.freeCompletely();
+        }
+        removeFromIndex(client, curResource);
+      }
+      finally {
+        entry.unlock();
+      }
+    }
   }
 
   public Map<String, Set<TCSResource<?>>> getAllocations() {
     final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    for (Map.Entry<Scheduler.Client, Set<TCSResource<?>>> curEntry
+             : resourcesByClient.entrySet()) {
+      if (!curEntry.getValue().isEmpty()) {
+        result.put(curEntry.getKey().getId(), new HashSet<>(curEntry.getValue()));
       }
     }
     return result;
@@ -158,5 +215,53 @@ class ReservationPool {
 
   public void clear() {
     reservations.clear();
+    resourcesByClient.clear();
+  }
+
+  private void addToIndex(Scheduler.Client client, TCSResource<?> resource) {
+    resourcesByClient.compute(client, (curClient, resources) -> {
+      Set<TCSResource<?>> result = resources == null ? ConcurrentHashMap.newKeySet() : resources;
+      result.add(resource);
+      return result;
+    });
+  }
+
+  private void removeFromIndex(Scheduler.Client client, TCSResource<?> resource) {
+    resourcesByClient.computeIfPresent(client, (curClient, resources) -> {
+      resources.remove(resource);
+      return resources.isEmpty() ? null : resources;
+    });
+  }
+
+  /**
+   * Holds the locks of a set of reservation entries.
+   */
+  public static final class EntryLocks {
+
+    /**
+     * The locked entries, in the order in which they have been locked.
+     */
+    private final List<ReservationEntry> entries;
+
+    /**
+     * Creates a new instance and locks the given entries.
+     *
+     * @param entries The entries, in the order in which they are to be locked.
+     */
+    private EntryLocks(List<ReservationEntry> entries) {
+      this.entries = entries;
+      for (ReservationEntry entry : entries) {
+        entry.lock();
+      }
+    }
+
+    /**
+     * Unlocks the entries, in the reverse order in which they have been locked.
+     */
+    public void unlock() {
+      for (int i = entries.size() - 1; i >= 0; i--) {
+        entries.get(i).unlock();
+      }
+    }
   }
 }
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.opentcs.components.kernel.Dispatcher;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class ChangedObjectsTrackerTest {
+
+  private Dispatcher dispatcher;
+
+  private ChangedObjectsTracker tracker;
+
+  @Before
+  public void setUp() {
+    dispatcher = mock(Dispatcher.class);
+    tracker = new ChangedObjectsTracker(dispatcher);
+  }
+
+  @Test
+  public void includeOnlyChangedObjectsInScope() {
+    Vehicle changedVehicle = new Vehicle("changedVehicle").withProcState(Vehicle.ProcState.IDLE);
+    Vehicle otherVehicle = new Vehicle("otherVehicle");
+
+    tracker.onEvent(new TCSObjectEvent(changedVehicle.withEnergyLevel(50),
+                                       changedVehicle,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    DispatchScope scope = tracker.nextScope();
+    assertFalse(scope.isFull());
+    assertTrue(scope.includes(changedVehicle));
+    assertFalse(scope.includes(otherVehicle));
+    verify(dispatcher).dispatch();
+  }
+
+  @Test
+  public void includeRelatedVehiclesOfChangedOrders() {
+    Vehicle vehicle = new Vehicle("someVehicle");
+    TransportOrder order = new TransportOrder("someOrder", new ArrayList<>())
+        .withIntendedVehicle(vehicle.getReference());
+
+    tracker.onEvent(new TCSObjectEvent(order, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    DispatchScope scope = tracker.nextScope();
+    assertTrue(scope.includes(order));
+    assertTrue(scope.includes(vehicle));
+  }
+
+  @Test
+  public void ignoreOtherObjects() {
+    Point point = new Point("somePoint");
+
+    tracker.onEvent(new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED));
+
+    assertFalse(tracker.nextScope().includes(point));
+    verify(dispatcher, never()).dispatch();
+  }
+
+  @Test
+  public void ignoreIrrelevantChanges() {
+    Vehicle vehicle = new Vehicle("someVehicle")
+        .withProcState(Vehicle.ProcState.PROCESSING_ORDER);
+    Point point = new Point("somePoint");
+
+    tracker.onEvent(new TCSObjectEvent(vehicle.withCurrentPosition(point.getReference())
+        .withEnergyLevel(50),
+                                       vehicle,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    assertFalse(tracker.nextScope().includes(vehicle));
+    verify(dispatcher, never()).dispatch();
+  }
+
+  @Test
+  public void includeOrdersWithChangedState() {
+    TransportOrder order = new TransportOrder("someOrder", new ArrayList<>());
+
+    tracker.onEvent(new TCSObjectEvent(order.withState(TransportOrder.State.ACTIVE),
+                                       order,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    assertTrue(tracker.nextScope().includes(order));
+    verify(dispatcher).dispatch();
+  }
+
+  @Test
+  public void ignoreChangesMadeByDispatchRun() {
+    TransportOrder order = new TransportOrder("someOrder", new ArrayList<>());
+
+    tracker.dispatchRunStarted();
+    tracker.onEvent(new TCSObjectEvent(order.withState(TransportOrder.State.ACTIVE),
+                                       order,
+                                       TCSObjectEvent.Type.OBJECT_MODIFIED));
+    tracker.dispatchRunFinished();
+
+    assertFalse(tracker.nextScope().includes(order));
+    verify(dispatcher, never()).dispatch();
+  }
+
+  @Test
+  public void resetScopeAfterRetrieval() {
+    Vehicle vehicle = new Vehicle("someVehicle");
+
+    tracker.onEvent(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    tracker.nextScope();
+
+    assertFalse(tracker.nextScope().includes(vehicle));
+  }
+
+  @Test
+  public void includeAllObjectsWhenFullRunRequested() {
+    tracker.requestFullRun();
+
+    assertTrue(tracker.nextScope().isFull());
+    assertFalse(tracker.nextScope().isFull());
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class ParallelEvaluatorTest {
+
+  private ExecutorService executor;
+
+  private ParallelEvaluator evaluator;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+    evaluator = new ParallelEvaluator(executor);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void returnResultsInOrderOfElements() {
+    List<Integer> elements = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      elements.add(i);
+    }
+
+    List<Integer> results = evaluator.evaluate(elements, element -> {
+      sleepRandomly();
+      return element * 2;
+    });
+
+    for (int i = 0; i < 50; i++) {
+      assertThat(results.get(i), is(i * 2));
+    }
+  }
+
+  @Test
+  public void evaluateSequentiallyInCallingThread() {
+    Thread callingThread = Thread.currentThread();
+
+    List<Boolean> results = ParallelEvaluator.sequential()
+        .evaluate(Arrays.asList("a", "b"), element -> Thread.currentThread() == callingThread);
+
+    assertThat(results, contains(true, true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rethrowExceptionsFromEvaluation() {
+    evaluator.evaluate(Arrays.asList(1, 2, 3), element -> {
+      if (element == 2) {
+        throw new IllegalArgumentException("Evaluation failed");
+      }
+      return element;
+    });
+  }
+
+  private void sleepRandomly() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(5));
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
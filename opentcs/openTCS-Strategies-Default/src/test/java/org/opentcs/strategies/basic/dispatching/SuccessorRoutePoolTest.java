@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class SuccessorRoutePoolTest {
+
+  private SuccessorRoutePool pool;
+
+  private Point sourcePoint;
+
+  private Vehicle vehicle;
+
+  private TransportOrder order;
+
+  private List<DriveOrder> driveOrders;
+
+  @Before
+  public void setUp() {
+    pool = new SuccessorRoutePool();
+    sourcePoint = new Point("sourcePoint");
+    vehicle = new Vehicle("someVehicle").withCurrentPosition(sourcePoint.getReference());
+    order = new TransportOrder("someOrder", driveOrdersTo("someLocation"));
+    driveOrders = driveOrdersTo("someLocation");
+  }
+
+  @Test
+  public void handOutRouteForMatchingPositionAndOrder() {
+    pool.addRoute(vehicle.getReference(), order, sourcePoint.getReference(), driveOrders);
+
+    assertTrue(pool.hasRoute(vehicle.getReference(), order.getReference()));
+    assertEquals(Optional.of(driveOrders), pool.takeRoute(vehicle, order));
+    assertFalse(pool.hasRoute(vehicle.getReference(), order.getReference()));
+  }
+
+  @Test
+  public void rejectRouteFromOtherPosition() {
+    pool.addRoute(vehicle.getReference(), order, sourcePoint.getReference(), driveOrders);
+
+    Vehicle movedVehicle = vehicle.withCurrentPosition(new Point("otherPoint").getReference());
+
+    assertFalse(pool.takeRoute(movedVehicle, order).isPresent());
+  }
+
+  @Test
+  public void rejectRouteForChangedDestinations() {
+    pool.addRoute(vehicle.getReference(), order, sourcePoint.getReference(), driveOrders);
+
+    TransportOrder changedOrder = order.withDriveOrders(driveOrdersTo("otherLocation"));
+
+    assertFalse(pool.takeRoute(vehicle, changedOrder).isPresent());
+  }
+
+  @Test
+  public void forgetRoutesWhenCleared() {
+    pool.addRoute(vehicle.getReference(), order, sourcePoint.getReference(), driveOrders);
+
+    pool.clear();
+
+    assertFalse(pool.takeRoute(vehicle, order).isPresent());
+  }
+
+  private List<DriveOrder> driveOrdersTo(String locationName) {
+    Location location = new Location(locationName,
+                                     new LocationType("someLocationType").getReference());
+    return Arrays.asList(new DriveOrder(new DriveOrder.Destination(location.getReference())));
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import org.junit.*;
+import static org.junit.Assert.assertArrayEquals;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostMatching.INFEASIBLE;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class MinCostMatchingTest {
+
+  @Test
+  public void preferGloballyCheapestMatching() {
+    // Greedily matching row 0 with its cheapest column 0 would force row 1 onto column 1 (10 + 100).
+    long[][] costs = {
+      {10, 20},
+      {15, 100}
+    };
+
+    assertArrayEquals(new int[]{1, 0}, MinCostMatching.solve(costs));
+  }
+
+  @Test
+  public void leaveSurplusRowsUnmatched() {
+    long[][] costs = {
+      {5},
+      {3},
+      {8}
+    };
+
+    assertArrayEquals(new int[]{-1, 0, -1}, MinCostMatching.solve(costs));
+  }
+
+  @Test
+  public void leaveSurplusColumnsUnmatched() {
+    long[][] costs = {
+      {7, 2, 9},
+      {1, 4, 6}
+    };
+
+    assertArrayEquals(new int[]{1, 0}, MinCostMatching.solve(costs));
+  }
+
+  @Test
+  public void neverMatchInfeasiblePairs() {
+    long[][] costs = {
+      {INFEASIBLE, INFEASIBLE},
+      {1, INFEASIBLE}
+    };
+
+    assertArrayEquals(new int[]{-1, 0}, MinCostMatching.solve(costs));
+  }
+
+  @Test
+  public void preferMoreMatchesOverLowerCosts() {
+    // Matching row 0 with column 0 would be cheapest, but would leave row 1 unmatched.
+    long[][] costs = {
+      {1, 1000},
+      {2, INFEASIBLE}
+    };
+
+    assertArrayEquals(new int[]{1, 0}, MinCostMatching.solve(costs));
+  }
+
+  @Test
+  public void handleEmptyMatrix() {
+    assertArrayEquals(new int[0], MinCostMatching.solve(new long[0][0]));
+  }
+}
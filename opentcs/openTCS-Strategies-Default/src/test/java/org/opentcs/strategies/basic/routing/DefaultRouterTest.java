@@ -7,13 +7,23 @@
  */
 package org.opentcs.strategies.basic.routing;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.*;
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -22,7 +32,14 @@ import org.mockito.invocation.InvocationOnMock;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.jgrapht.IndexedShortestPathPointRouter;
+import org.opentcs.strategies.basic.routing.jgrapht.ModelEdge;
 
 /**
  * Test cases for the {@link DefaultRouter}.
@@ -77,7 +94,7 @@ public class DefaultRouterTest {
     createVehicle("Vehicle-002", -1);
     router.initialize();
 
-    verify(builder, times(1)).createPointRouter(any());
+    verify(builder, times(1)).createPointRouter(any(), any(), any());
   }
 
   @Test
@@ -87,7 +104,7 @@ public class DefaultRouterTest {
     createVehicle("Vehicle-002", 1);
     router.initialize();
 
-    verify(builder, times(1)).createPointRouter(any());
+    verify(builder, times(1)).createPointRouter(any(), any(), any());
   }
 
   @Test
@@ -97,7 +114,18 @@ public class DefaultRouterTest {
     createVehicle("Vehicle-002", -1);
     router.initialize();
 
-    verify(builder, times(2)).createPointRouter(any());
+    verify(builder, times(2)).createPointRouter(any(), any(), any());
+  }
+
+  @Test
+  public void shouldRecordCreationTimesPerRoutingGroup() {
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 1);
+    createVehicle("Vehicle-002", -1);
+    router.initialize();
+
+    assertEquals(new HashSet<>(Arrays.asList(0, 1)),
+                 router.getRoutingTableCreationTimes().keySet());
   }
 
   @Test
@@ -107,7 +135,71 @@ public class DefaultRouterTest {
     }
     router.initialize();
 
-    verify(builder, times(15)).createPointRouter(any());
+    verify(builder, times(15)).createPointRouter(any(), any(), any());
+  }
+
+  @Test
+  public void shouldCreatePointRoutersWithLimitedParallelism() {
+    when(configuration.routerConstructionParallelism()).thenReturn(1);
+    for (int x = 0; x < 15; x++) {
+      vehicles.add(createVehicle("Vehicle-0" + x, x));
+    }
+    router.initialize();
+
+    verify(builder, times(15)).createPointRouter(any(), any(), any());
+    verify(builder, never()).createPointRouter(any());
+  }
+
+  @Test
+  public void shouldComputeSameRoutesInBatches() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    Map<String, Point> points = new HashMap<>();
+    points.put(pointA.getName(), pointA);
+    points.put(pointB.getName(), pointB);
+    points.put(pointC.getName(), pointC);
+    when(objectService.fetchObject(eq(Point.class), anyString()))
+        .then(o -> points.get((String) o.getArguments()[1]));
+
+    Graph<String, ModelEdge> graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    addEdge(graph, new Path("A-->B", pointA.getReference(), pointB.getReference()), 100);
+    addEdge(graph, new Path("A-->C", pointA.getReference(), pointC.getReference()), 300);
+    addEdge(graph, new Path("B-->C", pointB.getReference(), pointC.getReference()), 100);
+    when(builder.createPointRouter(any(), any(), any()))
+        .thenReturn(new IndexedShortestPathPointRouter(graph, points.values(), false, null, null));
+
+    Vehicle vehicle1 = createVehicle("Vehicle-001", -1);
+    Vehicle vehicle2 = createVehicle("Vehicle-002", -1);
+    router.initialize();
+
+    TransportOrder order1 = new TransportOrder("T1",
+                                               Arrays.asList(createMoveOrder(pointB),
+                                                             createMoveOrder(pointC)));
+    TransportOrder order2 = new TransportOrder("T2", Arrays.asList(createMoveOrder(pointC)));
+    TransportOrder order3 = new TransportOrder("T3", Arrays.asList(createMoveOrder(pointA)));
+
+    Map<TransportOrder, Optional<List<DriveOrder>>> routesByOrder
+        = router.getRoutes(vehicle1, pointA, new HashSet<>(Arrays.asList(order1, order2, order3)));
+    assertEquals(toRoutes(router.getRoute(vehicle1, pointA, order1)),
+                 toRoutes(routesByOrder.get(order1)));
+    assertEquals(toRoutes(router.getRoute(vehicle1, pointA, order2)),
+                 toRoutes(routesByOrder.get(order2)));
+    assertEquals(toRoutes(router.getRoute(vehicle1, pointA, order3)),
+                 toRoutes(routesByOrder.get(order3)));
+    assertEquals(200, routesByOrder.get(order2).get().get(0).getRoute().getCosts());
+
+    Map<Vehicle, Point> sourcePoints = new HashMap<>();
+    sourcePoints.put(vehicle1, pointA);
+    sourcePoints.put(vehicle2, pointC);
+    Map<Vehicle, Optional<List<DriveOrder>>> routesByVehicle = router.getRoutes(sourcePoints,
+                                                                                order1);
+    assertEquals(toRoutes(router.getRoute(vehicle1, pointA, order1)),
+                 toRoutes(routesByVehicle.get(vehicle1)));
+    assertFalse(routesByVehicle.get(vehicle2).isPresent());
   }
 
   /**
@@ -129,6 +221,23 @@ public class DefaultRouterTest {
     return vehicle;
   }
 
+  private DriveOrder createMoveOrder(Point point) {
+    return new DriveOrder(new DriveOrder.Destination(point.getReference())
+        .withOperation(DriveOrder.Destination.OP_MOVE));
+  }
+
+  private Optional<List<Route>> toRoutes(Optional<List<DriveOrder>> driveOrders) {
+    return driveOrders.map(orders -> orders.stream()
+        .map(DriveOrder::getRoute)
+        .collect(Collectors.toList()));
+  }
+
+  private void addEdge(Graph<String, ModelEdge> graph, Path path, double weight) {
+    ModelEdge edge = new ModelEdge(path, false);
+    graph.addEdge(path.getSourcePoint().getName(), path.getDestinationPoint().getName(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+
   /**
    * Creates the router with mocked routing table builder to return a new routing table on each
    * request.
@@ -137,7 +246,7 @@ public class DefaultRouterTest {
    */
   @SuppressWarnings("unchecked")
   private Router createRouter() {
-    when(builder.createPointRouter(any())).thenReturn(mock(PointRouter.class));
+    when(builder.createPointRouter(any(), any(), any())).thenReturn(mock(PointRouter.class));
 
     return new DefaultRouter(objectService, builder, configuration);
   }
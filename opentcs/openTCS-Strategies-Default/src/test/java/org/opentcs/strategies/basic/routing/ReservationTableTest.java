@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.Arrays;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.opentcs.strategies.basic.routing.ReservationTable.INFINITE_TIME;
+
+/**
+ * Test cases for the {@link ReservationTable}.
+ *
+ * @author agent (agent@local)
+ */
+public class ReservationTableTest {
+
+  private ReservationTable reservations;
+
+  @Before
+  public void setUp() {
+    reservations = new ReservationTable();
+  }
+
+  @Test
+  public void returnRequestedTimeForUnreservedResource() {
+    assertEquals(500, reservations.getEarliestFreeTime("W", "A", 500, 1000));
+  }
+
+  @Test
+  public void returnRequestedTimeIfResourceIsFreeLongEnough() {
+    reservations.reserve("V", "A", 2000, 3000);
+
+    assertEquals(0, reservations.getEarliestFreeTime("W", "A", 0, 2000));
+    assertEquals(3000, reservations.getEarliestFreeTime("W", "A", 3000, 1000));
+  }
+
+  @Test
+  public void returnEndOfOverlappingTimeWindow() {
+    reservations.reserve("V", "A", 2000, 3000);
+
+    assertEquals(3000, reservations.getEarliestFreeTime("W", "A", 1500, 1000));
+    assertEquals(3000, reservations.getEarliestFreeTime("W", "A", 2500, 1000));
+  }
+
+  @Test
+  public void skipGapsThatAreTooShort() {
+    reservations.reserve("V", "A", 3500, 5000);
+    reservations.reserve("V", "A", 1000, 3000);
+
+    assertEquals(5000, reservations.getEarliestFreeTime("W", "A", 1000, 1000));
+    assertEquals(3000, reservations.getEarliestFreeTime("W", "A", 1000, 500));
+  }
+
+  @Test
+  public void returnInfiniteTimeForIndefiniteReservation() {
+    reservations.reserve("V", "A", 1000, INFINITE_TIME);
+
+    assertEquals(INFINITE_TIME, reservations.getEarliestFreeTime("W", "A", 0, 2000));
+  }
+
+  @Test
+  public void ignoreOwnReservations() {
+    reservations.reserve("V", "A", 0, INFINITE_TIME);
+
+    assertEquals(500, reservations.getEarliestFreeTime("V", "A", 500, 1000));
+    assertEquals(INFINITE_TIME, reservations.getEarliestFreeTime("W", "A", 500, 1000));
+  }
+
+  @Test
+  public void returnTimeAllResourcesAreFree() {
+    reservations.reserve("V", "A", 0, 1000);
+    reservations.reserve("V", "B", 1500, 2500);
+
+    assertEquals(2500, reservations.getEarliestFreeTime("W", Arrays.asList("A", "B"), 0, 1000));
+  }
+}
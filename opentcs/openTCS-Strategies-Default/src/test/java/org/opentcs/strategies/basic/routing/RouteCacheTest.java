@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route;
+
+/**
+ * Test cases for the {@link RouteCache}.
+ *
+ * @author agent (agent@local)
+ */
+public class RouteCacheTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  private Route routeAB;
+
+  private AtomicInteger computationCount;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    routeAB = new Route(Arrays.asList(new Route.Step(pathAB,
+                                                     pointA,
+                                                     pointB,
+                                                     Vehicle.Orientation.FORWARD,
+                                                     0)),
+                        1000);
+
+    computationCount = new AtomicInteger();
+  }
+
+  @Test
+  public void computeRouteOnlyOnceForSamePoints() {
+    RouteCache cache = new RouteCache(10, Long.MAX_VALUE);
+
+    assertEquals(Optional.of(routeAB), cache.getRoute(0, pointA, pointB, countingComputation()));
+    assertEquals(Optional.of(routeAB), cache.getRoute(0, pointA, pointB, countingComputation()));
+
+    assertEquals(1, computationCount.get());
+    assertEquals(1, cache.getStatistics().getHitCount());
+    assertEquals(1, cache.getStatistics().getMissCount());
+    assertEquals(1, cache.getStatistics().getSize());
+  }
+
+  @Test
+  public void distinguishRoutingGroups() {
+    RouteCache cache = new RouteCache(10, Long.MAX_VALUE);
+
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    cache.getRoute(1, pointA, pointB, countingComputation());
+
+    assertEquals(2, computationCount.get());
+  }
+
+  @Test
+  public void cacheNonExistingRoutes() {
+    RouteCache cache = new RouteCache(10, Long.MAX_VALUE);
+
+    cache.getRoute(0, pointA, pointC, () -> {
+                 computationCount.incrementAndGet();
+                 return Optional.empty();
+               });
+    assertFalse(cache.getRoute(0, pointA, pointC, countingComputation()).isPresent());
+
+    assertEquals(1, computationCount.get());
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedRoute() {
+    RouteCache cache = new RouteCache(2, Long.MAX_VALUE);
+
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    cache.getRoute(0, pointA, pointC, countingComputation());
+    // Touch A-->B so A-->C becomes the least recently used route.
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    cache.getRoute(0, pointB, pointC, countingComputation());
+    assertEquals(3, computationCount.get());
+
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    assertEquals(3, computationCount.get());
+    cache.getRoute(0, pointA, pointC, countingComputation());
+    assertEquals(4, computationCount.get());
+    assertEquals(2, cache.getStatistics().getSize());
+  }
+
+  @Test
+  public void evictExpiredRoutes() {
+    RouteCache cache = new RouteCache(10, 0);
+
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    cache.getRoute(0, pointA, pointB, countingComputation());
+
+    assertEquals(2, computationCount.get());
+    assertEquals(0, cache.getStatistics().getHitCount());
+  }
+
+  @Test
+  public void recomputeRoutesAfterClearing() {
+    RouteCache cache = new RouteCache(10, Long.MAX_VALUE);
+
+    cache.getRoute(0, pointA, pointB, countingComputation());
+    cache.clear();
+    cache.getRoute(0, pointA, pointB, countingComputation());
+
+    assertEquals(2, computationCount.get());
+  }
+
+  private Supplier<Optional<Route>> countingComputation() {
+    return () -> {
+      computationCount.incrementAndGet();
+      return Optional.of(routeAB);
+    };
+  }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+
+/**
+ * Test cases for the {@link TimeWindowRoutePlanner}.
+ *
+ * @author agent (agent@local)
+ */
+public class TimeWindowRoutePlannerTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Point pointE;
+
+  private Path pathAB;
+  private Path pathBD;
+  private Path pathAC;
+  private Path pathCD;
+  private Path pathBE;
+
+  private Vehicle vehicle;
+  private Vehicle otherVehicle;
+
+  private TimeWindowRoutePlanner planner;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+    pointE = new Point("E");
+
+    // A-->B-->D is shorter than A-->C-->D.
+    pathAB = createPath(pointA, pointB, 1000);
+    pathBD = createPath(pointB, pointD, 1000);
+    pathAC = createPath(pointA, pointC, 1500);
+    pathCD = createPath(pointC, pointD, 1500);
+    pathBE = createPath(pointB, pointE, 1000);
+
+    vehicle = new Vehicle("vehicle")
+        .withMaxVelocity(1000)
+        .withCurrentPosition(pointA.getReference());
+    otherVehicle = new Vehicle("otherVehicle")
+        .withMaxVelocity(100)
+        .withCurrentPosition(pointB.getReference());
+
+    planner = new TimeWindowRoutePlanner(Arrays.asList(pointA, pointB, pointC, pointD, pointE),
+                                         Arrays.asList(pathAB, pathBD, pathAC, pathCD, pathBE));
+  }
+
+  @Test
+  public void chooseFastestRouteWithoutOtherVehicles() {
+    ReservationTable reservations = planner.createReservationTable(new HashMap<>(),
+                                                                   Arrays.asList(vehicle));
+
+    List<Route.Step> steps = planner.computeRouteSteps(vehicle, pointA, pointD, reservations)
+        .get();
+
+    assertEquals(2, steps.size());
+    assertEquals(pathAB, steps.get(0).getPath());
+    assertEquals(pathBD, steps.get(1).getPath());
+  }
+
+  @Test
+  public void avoidPointOccupiedByStandingVehicle() {
+    ReservationTable reservations
+        = planner.createReservationTable(new HashMap<>(),
+                                         Arrays.asList(vehicle, otherVehicle));
+
+    List<Route.Step> steps = planner.computeRouteSteps(vehicle, pointA, pointD, reservations)
+        .get();
+
+    assertEquals(2, steps.size());
+    assertEquals(pathAC, steps.get(0).getPath());
+    assertEquals(pathCD, steps.get(1).getPath());
+  }
+
+  @Test
+  public void avoidPointOnSlowVehiclesRoute() {
+    // The other vehicle needs 10 seconds for leaving B towards E.
+    Map<Vehicle, List<DriveOrder>> routes = new HashMap<>();
+    routes.put(otherVehicle, Arrays.asList(createDriveOrder(pathBE, pointB, pointE)));
+    ReservationTable reservations
+        = planner.createReservationTable(routes, Arrays.asList(vehicle, otherVehicle));
+
+    List<Route.Step> steps = planner.computeRouteSteps(vehicle, pointA, pointD, reservations)
+        .get();
+
+    assertEquals(pathAC, steps.get(0).getPath());
+  }
+
+  @Test
+  public void waitForSlowVehicleIfThereIsNoAlternative() {
+    planner.updatePath(pathAC.withLocked(true));
+    Map<Vehicle, List<DriveOrder>> routes = new HashMap<>();
+    routes.put(otherVehicle, Arrays.asList(createDriveOrder(pathBE, pointB, pointE)));
+    ReservationTable reservations
+        = planner.createReservationTable(routes, Arrays.asList(vehicle, otherVehicle));
+
+    List<Route.Step> steps = planner.computeRouteSteps(vehicle, pointA, pointD, reservations)
+        .get();
+
+    assertEquals(pathAB, steps.get(0).getPath());
+    assertEquals(pathBD, steps.get(1).getPath());
+  }
+
+  @Test
+  public void returnEmptyOptionalIfDestinationIsBlocked() {
+    ReservationTable reservations
+        = planner.createReservationTable(new HashMap<>(),
+                                         Arrays.asList(vehicle, otherVehicle));
+
+    Optional<List<Route.Step>> steps
+        = planner.computeRouteSteps(vehicle, pointA, pointB, reservations);
+
+    assertFalse(steps.isPresent());
+  }
+
+  @Test
+  public void ignoreLockedPaths() {
+    planner.updatePath(pathAC.withLocked(true));
+    ReservationTable reservations
+        = planner.createReservationTable(new HashMap<>(),
+                                         Arrays.asList(vehicle, otherVehicle));
+
+    assertFalse(planner.computeRouteSteps(vehicle, pointA, pointD, reservations).isPresent());
+  }
+
+  private Path createPath(Point source, Point destination, long length) {
+    return new Path(source.getName() + "-->" + destination.getName(),
+                    source.getReference(),
+                    destination.getReference())
+        .withLength(length)
+        .withMaxVelocity(1000);
+  }
+
+  private DriveOrder createDriveOrder(Path path, Point source, Point destination) {
+    return new DriveOrder(new DriveOrder.Destination(destination.getReference()))
+        .withRoute(new Route(Arrays.asList(new Route.Step(path,
+                                                          source,
+                                                          destination,
+                                                          Vehicle.Orientation.FORWARD,
+                                                          0)),
+                             1000));
+  }
+}
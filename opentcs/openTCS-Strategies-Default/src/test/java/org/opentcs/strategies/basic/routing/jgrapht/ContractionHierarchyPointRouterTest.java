@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.empty;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class ContractionHierarchyPointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Path pathAC;
+  private Path pathAD;
+  private Path pathDC;
+
+  private Graph<String, ModelEdge> graph;
+
+  private ContractionHierarchyPointRouter pointRouter;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathDC = new Path("D-->C", pointD.getReference(), pointC.getReference());
+
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    graph.addVertex(pointD.getName());
+
+    addEdge(pathAC, false, 1234);
+    addEdge(pathAD, false, 100);
+    // D-->C is travelled in reverse direction, too.
+    addEdge(pathDC, false, 200);
+    addEdge(pathDC, true, 200);
+
+    pointRouter = new ContractionHierarchyPointRouter(graph,
+                                           new HashSet<>(Arrays.asList(pointA,
+                                                                       pointB,
+                                                                       pointC,
+                                                                       pointD)));
+  }
+
+  @Test
+  public void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnEmptyRouteIfDestinationIsSource() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  public void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 pointRouter.getCosts(pointA.getReference(), pointB.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 pointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  public void returnCostsOfCheapestRoute() {
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(200, pointRouter.getCosts(pointC.getReference(), pointD.getReference()));
+  }
+
+  @Test
+  public void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+    assertNotNull(steps);
+    assertEquals(2, steps.size());
+    assertEquals(pathAD, steps.get(0).getPath());
+    assertEquals(pointA, steps.get(0).getSourcePoint());
+    assertEquals(pointD, steps.get(0).getDestinationPoint());
+    assertEquals(0, steps.get(0).getRouteIndex());
+    assertEquals(pathDC, steps.get(1).getPath());
+    assertEquals(pointD, steps.get(1).getSourcePoint());
+    assertEquals(pointC, steps.get(1).getDestinationPoint());
+    assertEquals(1, steps.get(1).getRouteIndex());
+  }
+
+  @Test
+  public void returnBackwardStepsForReverseEdges() {
+    List<Step> steps = pointRouter.getRouteSteps(pointC, pointD);
+    assertNotNull(steps);
+    assertEquals(1, steps.size());
+    assertEquals(pointC, steps.get(0).getSourcePoint());
+    assertEquals(pointD, steps.get(0).getDestinationPoint());
+    assertEquals(Vehicle.Orientation.BACKWARD, steps.get(0).getVehicleOrientation());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectNegativeEdgeWeights() {
+    Path pathBA = new Path("B-->A", pointB.getReference(), pointA.getReference());
+    addEdge(pathBA, false, -1);
+    new ContractionHierarchyPointRouter(graph, Arrays.asList(pointA, pointB, pointC, pointD));
+  }
+
+  @Test
+  public void returnSameCostsAsDijkstraOnGrid() {
+    Random random = new Random(4711);
+    int gridSize = 12;
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    List<Point> gridPoints = new ArrayList<>();
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        Point point = new Point("P-" + x + "-" + y);
+        gridPoints.add(point);
+        graph.addVertex(point.getName());
+      }
+    }
+    for (int x = 0; x < gridSize; x++) {
+      for (int y = 0; y < gridSize; y++) {
+        Point point = gridPoints.get(x * gridSize + y);
+        if (x + 1 < gridSize) {
+          Point neighbour = gridPoints.get((x + 1) * gridSize + y);
+          Path path = new Path(point.getName() + "--" + neighbour.getName(),
+                               point.getReference(),
+                               neighbour.getReference());
+          addEdge(path, false, 1 + random.nextInt(100));
+          if (random.nextBoolean()) {
+            addEdge(path, true, 1 + random.nextInt(100));
+          }
+        }
+        if (y + 1 < gridSize) {
+          Point neighbour = gridPoints.get(x * gridSize + y + 1);
+          Path path = new Path(point.getName() + "--" + neighbour.getName(),
+                               point.getReference(),
+                               neighbour.getReference());
+          addEdge(path, random.nextBoolean(), 1 + random.nextInt(100));
+          addEdge(path, false, 1 + random.nextInt(100));
+        }
+      }
+    }
+
+    pointRouter = new ContractionHierarchyPointRouter(graph, gridPoints);
+    DijkstraShortestPath<String, ModelEdge> dijkstra = new DijkstraShortestPath<>(graph);
+
+    for (int i = 0; i < 500; i++) {
+      Point source = gridPoints.get(random.nextInt(gridPoints.size()));
+      Point dest = gridPoints.get(random.nextInt(gridPoints.size()));
+      GraphPath<String, ModelEdge> expected = dijkstra.getPath(source.getName(), dest.getName());
+      long expectedCosts = expected == null ? PointRouter.INFINITE_COSTS
+          : (long) expected.getWeight();
+
+      assertEquals(expectedCosts,
+                   pointRouter.getCosts(source.getReference(), dest.getReference()));
+
+      List<Step> steps = pointRouter.getRouteSteps(source, dest);
+      if (expected == null) {
+        assertNull(steps);
+      }
+      else {
+        assertNotNull(steps);
+        long stepCosts = 0;
+        Point current = source;
+        for (Step step : steps) {
+          assertEquals(current, step.getSourcePoint());
+          stepCosts += (long) graph.getEdgeWeight(findCheapestEdge(step));
+          current = step.getDestinationPoint();
+        }
+        assertEquals(dest, current);
+        assertEquals(expectedCosts, stepCosts);
+      }
+    }
+  }
+
+  private ModelEdge findCheapestEdge(Step step) {
+    return graph.getAllEdges(step.getSourcePoint().getName(),
+                             step.getDestinationPoint().getName()).stream()
+        .filter(edge -> edge.getModelPath().equals(step.getPath()))
+        .filter(edge -> edge.isTravellingReverse()
+            == (step.getVehicleOrientation() == Vehicle.Orientation.BACKWARD))
+        .min(Comparator.comparingDouble(edge -> graph.getEdgeWeight(edge)))
+        .get();
+  }
+
+  private void addEdge(Path path, boolean reverse, double weight) {
+    ModelEdge edge = new ModelEdge(path, reverse);
+    if (reverse) {
+      graph.addEdge(path.getDestinationPoint().getName(), path.getSourcePoint().getName(), edge);
+    }
+    else {
+      graph.addEdge(path.getSourcePoint().getName(), path.getDestinationPoint().getName(), edge);
+    }
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.empty;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.Route.Step;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class CostTablePointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+
+  private Path pathAC;
+  private Path pathAD;
+  private Path pathDC;
+
+  private Graph<String, ModelEdge> graph;
+
+  private CostTablePointRouter pointRouter;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    pathAC = new Path("A-->C", pointA.getReference(), pointC.getReference());
+    pathAD = new Path("A-->D", pointA.getReference(), pointD.getReference());
+    pathDC = new Path("D-->C", pointD.getReference(), pointC.getReference());
+
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    graph.addVertex(pointD.getName());
+
+    addEdge(pathAC, false, 1234);
+    addEdge(pathAD, false, 100);
+    // D-->C is travelled in reverse direction, too.
+    addEdge(pathDC, false, 200);
+    addEdge(pathDC, true, 200);
+
+    pointRouter = new CostTablePointRouter(graph,
+                                           new HashSet<>(Arrays.asList(pointA,
+                                                                       pointB,
+                                                                       pointC,
+                                                                       pointD)));
+  }
+
+  @Test
+  public void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnEmptyRouteIfDestinationIsSource() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointA);
+    assertNotNull(steps);
+    assertThat(steps, is(empty()));
+  }
+
+  @Test
+  public void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 pointRouter.getCosts(pointA.getReference(), pointB.getReference()));
+    assertEquals(PointRouter.INFINITE_COSTS,
+                 pointRouter.getCosts(pointC.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  public void returnNullIfNoRouteExists() {
+    assertNull(pointRouter.getRouteSteps(pointA, pointB));
+  }
+
+  @Test
+  public void returnCostsOfCheapestRoute() {
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(200, pointRouter.getCosts(pointC.getReference(), pointD.getReference()));
+  }
+
+  @Test
+  public void returnStepsOfCheapestRoute() {
+    List<Step> steps = pointRouter.getRouteSteps(pointA, pointC);
+    assertNotNull(steps);
+    assertEquals(2, steps.size());
+    assertEquals(pathAD, steps.get(0).getPath());
+    assertEquals(pointA, steps.get(0).getSourcePoint());
+    assertEquals(pointD, steps.get(0).getDestinationPoint());
+    assertEquals(0, steps.get(0).getRouteIndex());
+    assertEquals(pathDC, steps.get(1).getPath());
+    assertEquals(pointD, steps.get(1).getSourcePoint());
+    assertEquals(pointC, steps.get(1).getDestinationPoint());
+    assertEquals(1, steps.get(1).getRouteIndex());
+  }
+
+  @Test
+  public void returnBackwardStepsForReverseEdges() {
+    List<Step> steps = pointRouter.getRouteSteps(pointC, pointD);
+    assertNotNull(steps);
+    assertEquals(1, steps.size());
+    assertEquals(pointC, steps.get(0).getSourcePoint());
+    assertEquals(pointD, steps.get(0).getDestinationPoint());
+    assertEquals(Vehicle.Orientation.BACKWARD, steps.get(0).getVehicleOrientation());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectNegativeEdgeWeights() {
+    Path pathBA = new Path("B-->A", pointB.getReference(), pointA.getReference());
+    addEdge(pathBA, false, -1);
+    new CostTablePointRouter(graph, Arrays.asList(pointA, pointB, pointC, pointD));
+  }
+
+  @Test
+  public void computeRequiredMemory() {
+    assertEquals(12L * 4000 * 4000, CostTablePointRouter.requiredMemory(4000));
+  }
+
+  @Test
+  public void rejectTablesExceedingMaximumArraySize() {
+    assertTrue(CostTablePointRouter.isApplicable(46340));
+    assertFalse(CostTablePointRouter.isApplicable(46341));
+    assertFalse(CostTablePointRouter.isApplicable(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void updateCostsWhenPathIsLocked() {
+    ModelGraphMapper mapper = mock(ModelGraphMapper.class);
+    Vehicle vehicle = new Vehicle("someVehicle");
+    pointRouter = new CostTablePointRouter(graph,
+                                           Arrays.asList(pointA, pointB, pointC, pointD),
+                                           Arrays.asList(pathAC, pathAD, pathDC),
+                                           mapper,
+                                           vehicle);
+    doAnswer(invocation -> graph.removeAllEdges(new HashSet<>(graph.getAllEdges("A", "D"))))
+        .when(mapper).updatePath(graph, pathAD, vehicle);
+
+    assertTrue(pointRouter.updatePath(pathAD));
+
+    assertEquals(1234, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    // A-->D is now only reachable via C.
+    assertEquals(1434, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+    assertEquals(200, pointRouter.getCosts(pointC.getReference(), pointD.getReference()));
+  }
+
+  @Test
+  public void updateCostsWhenPathIsUnlocked() {
+    ModelGraphMapper mapper = mock(ModelGraphMapper.class);
+    Vehicle vehicle = new Vehicle("someVehicle");
+    Path pathBA = new Path("B-->A", pointB.getReference(), pointA.getReference());
+    pointRouter = new CostTablePointRouter(graph,
+                                           Arrays.asList(pointA, pointB, pointC, pointD),
+                                           Arrays.asList(pathAC, pathAD, pathDC),
+                                           mapper,
+                                           vehicle);
+    doAnswer(invocation -> {
+      addEdge(pathBA, false, 10);
+      return null;
+    }).when(mapper).updatePath(graph, pathBA, vehicle);
+
+    assertTrue(pointRouter.updatePath(pathBA));
+
+    assertEquals(310, pointRouter.getCosts(pointB.getReference(), pointC.getReference()));
+    assertEquals(300, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+  }
+
+  @Test
+  public void updateCostsInPlaceWhenPathLockedOnCreationIsUnlocked() {
+    ModelGraphMapper mapper = mock(ModelGraphMapper.class);
+    Vehicle vehicle = new Vehicle("someVehicle");
+    Path pathBA = new Path("B-->A", pointB.getReference(), pointA.getReference());
+    pointRouter = new CostTablePointRouter(graph,
+                                           Arrays.asList(pointA, pointB, pointC, pointD),
+                                           Arrays.asList(pathAC, pathAD, pathDC, pathBA),
+                                           mapper,
+                                           vehicle);
+    int edgeIdCount = pointRouter.getEdgeIdCount();
+    doAnswer(invocation -> {
+      addEdge(pathBA, false, 10);
+      return null;
+    }).when(mapper).updatePath(graph, pathBA, vehicle);
+
+    assertTrue(pointRouter.updatePath(pathBA));
+
+    assertEquals(310, pointRouter.getCosts(pointB.getReference(), pointC.getReference()));
+    assertEquals(edgeIdCount, pointRouter.getEdgeIdCount());
+  }
+
+  @Test
+  public void reuseEdgeIdsWhenPathIsRepeatedlyLockedAndUnlocked() {
+    ModelGraphMapper mapper = mock(ModelGraphMapper.class);
+    Vehicle vehicle = new Vehicle("someVehicle");
+    pointRouter = new CostTablePointRouter(graph,
+                                           Arrays.asList(pointA, pointB, pointC, pointD),
+                                           Arrays.asList(pathAC, pathAD, pathDC),
+                                           mapper,
+                                           vehicle);
+    int edgeIdCount = pointRouter.getEdgeIdCount();
+    doAnswer(invocation -> {
+      if (graph.getAllEdges("A", "D").isEmpty()) {
+        addEdge(pathAD, false, 100);
+      }
+      else {
+        graph.removeAllEdges(new HashSet<>(graph.getAllEdges("A", "D")));
+      }
+      return null;
+    }).when(mapper).updatePath(graph, pathAD, vehicle);
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(pointRouter.updatePath(pathAD));
+      assertEquals(1434, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+      assertTrue(pointRouter.updatePath(pathAD));
+      assertEquals(100, pointRouter.getCosts(pointA.getReference(), pointD.getReference()));
+    }
+
+    assertEquals(edgeIdCount, pointRouter.getEdgeIdCount());
+  }
+
+  @Test
+  public void refuseUpdateWithoutMapper() {
+    assertFalse(pointRouter.updatePath(pathAD));
+  }
+
+  private void addEdge(Path path, boolean reverse, double weight) {
+    ModelEdge edge = new ModelEdge(path, reverse);
+    if (reverse) {
+      graph.addEdge(path.getDestinationPoint().getName(), path.getSourcePoint().getName(), edge);
+    }
+    else {
+      graph.addEdge(path.getSourcePoint().getName(), path.getDestinationPoint().getName(), edge);
+    }
+    graph.setEdgeWeight(edge, weight);
+  }
+}
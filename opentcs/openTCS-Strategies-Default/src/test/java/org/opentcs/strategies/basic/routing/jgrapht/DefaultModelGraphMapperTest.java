@@ -185,4 +185,59 @@ public class DefaultModelGraphMapperTest {
                      .count());
   }
 
+  @Test
+  public void removeEdgesOfLockedPath() {
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+    Vehicle vehicle = new Vehicle("someVehicle");
+
+    Graph<String, ModelEdge> graph
+        = mapper.translateModel(new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD)),
+                                new HashSet<>(Arrays.asList(pathAB, pathAD)),
+                                vehicle);
+    assertEquals("Number of edges", 3, graph.edgeSet().size());
+
+    mapper.updatePath(graph, pathAD.withLocked(true), vehicle);
+    assertEquals("Number of edges", 1, graph.edgeSet().size());
+    assertEquals("Edges for path " + pathAD.getName(),
+                 0,
+                 graph.edgeSet().stream()
+                     .filter(edge -> edge.getModelPath().getName().equals(pathAD.getName()))
+                     .count());
+  }
+
+  @Test
+  public void restoreEdgesOfUnlockedPath() {
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+    Vehicle vehicle = new Vehicle("someVehicle");
+
+    Graph<String, ModelEdge> graph
+        = mapper.translateModel(new HashSet<>(Arrays.asList(pointA, pointB, pointC, pointD)),
+                                new HashSet<>(Arrays.asList(pathAB, pathAD.withLocked(true))),
+                                vehicle);
+    assertEquals("Number of edges", 1, graph.edgeSet().size());
+
+    mapper.updatePath(graph, pathAD, vehicle);
+    assertEquals("Number of edges", 3, graph.edgeSet().size());
+  }
+
+  @Test
+  public void updateEdgesViaDefaultImplementation() {
+    when(configuration.algorithm()).thenReturn(ShortestPathConfiguration.Algorithm.DIJKSTRA);
+    Vehicle vehicle = new Vehicle("someVehicle");
+    ModelGraphMapper translatingMapper = mapper::translateModel;
+
+    Graph<String, ModelEdge> graph
+        = translatingMapper.translateModel(new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+                                           new HashSet<>(Arrays.asList(pathAB, pathBC)),
+                                           vehicle);
+    assertEquals("Number of edges", 2, graph.edgeSet().size());
+
+    translatingMapper.updatePath(graph, pathBC.withLocked(true), vehicle);
+    assertEquals("Number of edges", 1, graph.edgeSet().size());
+
+    translatingMapper.updatePath(graph, pathBC, vehicle);
+    assertEquals("Number of edges", 2, graph.edgeSet().size());
+    assertEquals("Vertex count", 3, graph.vertexSet().size());
+  }
+
 }
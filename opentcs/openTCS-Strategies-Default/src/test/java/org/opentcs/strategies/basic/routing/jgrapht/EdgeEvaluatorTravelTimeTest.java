@@ -52,6 +52,25 @@ public class EdgeEvaluatorTravelTimeTest {
     assertEquals(20.0, edgeEvaluator.computeWeight(reverseEdge, vehicle), 0.0);
   }
 
+  @Test
+  public void estimateTravelTimeInMilliseconds() {
+    ModelEdge edge = new ModelEdge(
+        new Path("pathName",
+                 new Point("srcPoint").getReference(),
+                 new Point("dstPoint").getReference())
+            .withLength(1500)
+            .withMaxVelocity(1000)
+            .withMaxReverseVelocity(0),
+        false);
+    Vehicle vehicle = new Vehicle("someVehicle");
+
+    // Length is 1.5 meters, maximum velocity is 1 m/s. -> The travel time should be 1500 ms.
+    assertEquals(1500, edgeEvaluator.estimateTravelTime(edge, vehicle));
+    assertEquals(INFINITE_COSTS,
+                 edgeEvaluator.estimateTravelTime(new ModelEdge(edge.getModelPath(), true),
+                                                  vehicle));
+  }
+
   @Test
   public void infiniteCostsForUntraversablePaths() {
     ModelEdge edge = new ModelEdge(
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.*;
+import static org.junit.Assert.*;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Triple;
+
+/**
+ *
+ * @author agent (agent@local)
+ */
+public class PointPositionHeuristicTest {
+
+  private static final double DELTA = 0.0001;
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  private Graph<String, ModelEdge> graph;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A").withPosition(new Triple(0, 0, 0));
+    pointB = new Point("B").withPosition(new Triple(3000, 0, 0));
+    pointC = new Point("C").withPosition(new Triple(3000, 4000, 0));
+
+    graph = new DirectedWeightedMultigraph<>(ModelEdge.class);
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+  }
+
+  @Test
+  public void scaleDistanceWithLowestCostsPerDistance() {
+    // 3000 mm for costs of 6 and 4000 mm for costs of 4 (e.g. a higher maximum velocity).
+    addEdge(new Path("A-->B", pointA.getReference(), pointB.getReference()), 6);
+    addEdge(new Path("B-->C", pointB.getReference(), pointC.getReference()), 4);
+
+    PointPositionHeuristic heuristic
+        = new PointPositionHeuristic(graph, Arrays.asList(pointA, pointB, pointC));
+
+    assertEquals(0.001, heuristic.getCostsPerDistance(), DELTA);
+    assertEquals(5.0, heuristic.getCostEstimate(pointA.getName(), pointC.getName()), DELTA);
+    assertEquals(0.0, heuristic.getCostEstimate(pointA.getName(), pointA.getName()), DELTA);
+  }
+
+  @Test
+  public void neverOverestimateCostsOfEdges() {
+    addEdge(new Path("A-->B", pointA.getReference(), pointB.getReference()), 6);
+    addEdge(new Path("B-->C", pointB.getReference(), pointC.getReference()), 4);
+
+    PointPositionHeuristic heuristic
+        = new PointPositionHeuristic(graph, Arrays.asList(pointA, pointB, pointC));
+
+    for (ModelEdge edge : graph.edgeSet()) {
+      assertTrue(heuristic.getCostEstimate(graph.getEdgeSource(edge), graph.getEdgeTarget(edge))
+          <= graph.getEdgeWeight(edge));
+    }
+  }
+
+  @Test
+  public void estimateZeroWithoutPositions() {
+    Point pointD = new Point("D");
+    Point pointE = new Point("E");
+    graph.addVertex(pointD.getName());
+    graph.addVertex(pointE.getName());
+    addEdge(new Path("D-->E", pointD.getReference(), pointE.getReference()), 10);
+
+    PointPositionHeuristic heuristic
+        = new PointPositionHeuristic(graph, Arrays.asList(pointD, pointE));
+
+    assertEquals(0.0, heuristic.getCostEstimate(pointD.getName(), pointE.getName()), DELTA);
+  }
+
+  @Test
+  public void estimateZeroForUnknownPoints() {
+    addEdge(new Path("A-->B", pointA.getReference(), pointB.getReference()), 6);
+
+    PointPositionHeuristic heuristic
+        = new PointPositionHeuristic(graph, Arrays.asList(pointA, pointB, pointC));
+
+    assertEquals(0.0, heuristic.getCostEstimate(pointA.getName(), "unknown"), DELTA);
+  }
+
+  private void addEdge(Path path, double weight) {
+    ModelEdge edge = new ModelEdge(path, false);
+    graph.addEdge(path.getSourcePoint().getName(), path.getDestinationPoint().getName(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
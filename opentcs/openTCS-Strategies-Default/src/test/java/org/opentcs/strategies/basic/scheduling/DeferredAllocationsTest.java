@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Test cases for the {@link DeferredAllocations}.
+ *
+ * @author agent (agent@local)
+ */
+public class DeferredAllocationsTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  private AllocatorCommand.Allocate allocateA;
+  private AllocatorCommand.Allocate allocateB;
+  private AllocatorCommand.Allocate allocateAB;
+
+  private DeferredAllocations deferredAllocations;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+
+    Scheduler.Client client = mock(Scheduler.Client.class);
+    allocateA = new AllocatorCommand.Allocate(client, resources(pointA));
+    allocateB = new AllocatorCommand.Allocate(client, resources(pointB));
+    allocateAB = new AllocatorCommand.Allocate(client, resources(pointA, pointB));
+
+    deferredAllocations = new DeferredAllocations();
+  }
+
+  @Test
+  public void wakeUpOnlyAllocationsBlockedByFreedResources() {
+    deferredAllocations.add(allocateA, resources(pointA));
+    deferredAllocations.add(allocateB, resources(pointB));
+
+    assertThat(deferredAllocations.wakeUp(resources(pointB)), contains(allocateB));
+    assertThat(deferredAllocations.wakeUp(resources(pointC)), is(empty()));
+    assertEquals(1, deferredAllocations.size());
+  }
+
+  @Test
+  public void wakeUpAllocationsInOrderOfDeferral() {
+    deferredAllocations.add(allocateB, resources(pointB));
+    deferredAllocations.add(allocateAB, resources(pointA, pointB));
+    deferredAllocations.add(allocateA, resources(pointA));
+
+    assertThat(deferredAllocations.wakeUp(resources(pointA, pointB)),
+               contains(allocateB, allocateAB, allocateA));
+    assertEquals(0, deferredAllocations.size());
+  }
+
+  @Test
+  public void wakeUpUnspecificAllocationsOnAnyRelease() {
+    deferredAllocations.add(allocateA, resources(pointA));
+    deferredAllocations.add(allocateB, Collections.emptySet());
+
+    assertThat(deferredAllocations.wakeUp(resources(pointC)), contains(allocateB));
+  }
+
+  @Test
+  public void wakeUpAll() {
+    deferredAllocations.add(allocateA, resources(pointA));
+    deferredAllocations.add(allocateB, resources(pointB));
+
+    assertThat(deferredAllocations.wakeUpAll(), contains(allocateA, allocateB));
+    assertEquals(0, deferredAllocations.size());
+  }
+
+  @Test
+  public void recordWaitingTimesForBlockingResources() {
+    deferredAllocations.add(allocateAB, resources(pointA));
+    deferredAllocations.wakeUp(resources(pointA));
+    deferredAllocations.add(allocateAB, resources(pointB));
+    deferredAllocations.wakeUp(resources(pointB));
+    deferredAllocations.allocationGranted(allocateAB);
+    deferredAllocations.allocationGranted(allocateA);
+
+    assertEquals(new HashSet<>(Arrays.asList("A", "B")),
+                 deferredAllocations.getWaitingTimeHistograms().keySet());
+    assertEquals(1, deferredAllocations.getWaitingTimeHistograms().get("A").getCount());
+    assertEquals(1, deferredAllocations.getWaitingTimeHistograms().get("B").getCount());
+  }
+
+  private Set<TCSResource<?>> resources(TCSResource<?>... resources) {
+    return new HashSet<>(Arrays.asList(resources));
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) The openTCS Authors.
+ *
+ * This program is free software and subject to the MIT license. (For details,
+ * see the licensing information (LICENSE.txt) you should have received with
+ * this copy of the software.)
+ */
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Test cases for the {@link ReservationPool}.
+ *
+ * @author agent (agent@local)
+ */
+public class ReservationPoolTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+
+  private Scheduler.Client client1;
+  private Scheduler.Client client2;
+
+  private ReservationPool reservationPool;
+
+  @Before
+  public void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+
+    client1 = mock(Scheduler.Client.class);
+    when(client1.getId()).thenReturn("client1");
+    client2 = mock(Scheduler.Client.class);
+    when(client2.getId()).thenReturn("client2");
+
+    reservationPool = new ReservationPool();
+  }
+
+  @Test
+  public void keepTrackOfResourcesAllocatedByClient() {
+    reservationPool.allocate(client1, resources(pointA, pointB));
+    reservationPool.allocate(client2, resources(pointC));
+
+    assertEquals(resources(pointA, pointB), reservationPool.allocatedResources(client1));
+    assertEquals(resources(pointC), reservationPool.allocatedResources(client2));
+  }
+
+  @Test
+  public void keepResourceAllocatedUntilFreedAsOftenAsAllocated() {
+    reservationPool.allocate(client1, resources(pointA));
+    reservationPool.allocate(client1, resources(pointA));
+
+    reservationPool.free(client1, resources(pointA));
+    assertEquals(resources(pointA), reservationPool.allocatedResources(client1));
+    assertFalse(reservationPool.getReservationEntry(pointA).isFree());
+
+    reservationPool.free(client1, resources(pointA));
+    assertTrue(reservationPool.allocatedResources(client1).isEmpty());
+    assertTrue(reservationPool.getReservationEntry(pointA).isFree());
+  }
+
+  @Test
+  public void ignoreResourcesFreedByOtherClients() {
+    reservationPool.allocate(client1, resources(pointA));
+
+    reservationPool.free(client2, resources(pointA));
+
+    assertTrue(reservationPool.getReservationEntry(pointA).isAllocatedBy(client1));
+    assertEquals(resources(pointA), reservationPool.allocatedResources(client1));
+  }
+
+  @Test
+  public void freeAllResourcesOfClient() {
+    reservationPool.allocate(client1, resources(pointA, pointB));
+    reservationPool.allocate(client1, resources(pointA));
+    reservationPool.allocate(client2, resources(pointC));
+
+    reservationPool.freeAll(client1);
+
+    assertTrue(reservationPool.allocatedResources(client1).isEmpty());
+    assertTrue(reservationPool.getReservationEntry(pointA).isFree());
+    assertTrue(reservationPool.getReservationEntry(pointB).isFree());
+    assertFalse(reservationPool.getAllocations().containsKey("client1"));
+    assertEquals(resources(pointC), reservationPool.getAllocations().get("client2"));
+  }
+
+  @Test
+  public void reportResourcesAllocatedByOtherClientsAsUnavailable() {
+    reservationPool.allocate(client1, resources(pointA));
+    reservationPool.allocate(client2, resources(pointB));
+
+    assertEquals(resources(pointB),
+                 reservationPool.unavailableResources(resources(pointA, pointB, pointC),
+                                                      client1));
+  }
+
+  @Test
+  public void blockChangesOfLockedEntries()
+      throws InterruptedException {
+    CountDownLatch allocated = new CountDownLatch(1);
+    Thread allocatingThread;
+    ReservationPool.EntryLocks locks = reservationPool.lockEntries(resources(pointA, pointB));
+    try {
+      allocatingThread = new Thread(() -> {
+        reservationPool.allocate(client2, resources(pointB));
+        allocated.countDown();
+      });
+      allocatingThread.start();
+
+      assertFalse(allocated.await(100, TimeUnit.MILLISECONDS));
+      assertTrue(reservationPool.getReservationEntry(pointB).isFree());
+    }
+    finally {
+      locks.unlock();
+    }
+
+    assertTrue(allocated.await(5, TimeUnit.SECONDS));
+    allocatingThread.join();
+    assertTrue(reservationPool.getReservationEntry(pointB).isAllocatedBy(client2));
+  }
+
+  private Set<TCSResource<?>> resources(TCSResource<?>... resources) {
+    return new HashSet<>(Arrays.asList(resources));
+  }
+}